@@ -0,0 +1,115 @@
+package com.findit.server.infrastructure.persistence.bulk;
+
+import com.findit.server.domain.founditem.FoundItem;
+import com.findit.server.infrastructure.metrics.IngestionMetrics;
+import com.findit.server.infrastructure.persistence.founditem.FoundItemJpaRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 습득물 대량 적재 벤치마크 (PostgreSQL 필요)
+ *
+ * <p>같은 행을 빈 {@code found_items}에 기존 JDBC 배치 업서트({@code upsertBatch}), unnest 배열 업서트
+ * ({@code upsertBatchWithResult}), {@link PgCopyLoader} COPY + 병합 경로로 각각 적재해 비교한다. 매 반복 전에
+ * 테이블을 비우므로 버려도 되는 DB를 지정해야 한다.
+ * 실행: {@code ./gradlew jmh -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/findit_bench -Dbench.jdbc.username=... -Dbench.jdbc.password=...}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class ItemUpsertBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private FoundItemJpaRepositoryImpl batchRepository;
+    private FoundItemJpaRepositoryImpl copyRepository;
+    private List<FoundItem> items;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/findit_bench"),
+            System.getProperty("bench.jdbc.username", "postgres"),
+            System.getProperty("bench.jdbc.password", "postgres"), true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+        StaticListableBeanFactory withLoader = new StaticListableBeanFactory();
+        withLoader.addBean("pgCopyLoader", new PgCopyLoader(jdbcTemplate, true, 1));
+        batchRepository = new FoundItemJpaRepositoryImpl(jdbcTemplate, noBeans.getBeanProvider(MeterRegistry.class),
+            noBeans.getBeanProvider(PgCopyLoader.class), noBeans.getBeanProvider(IngestionMetrics.class));
+        copyRepository = new FoundItemJpaRepositoryImpl(jdbcTemplate, noBeans.getBeanProvider(MeterRegistry.class),
+            withLoader.getBeanProvider(PgCopyLoader.class), noBeans.getBeanProvider(IngestionMetrics.class));
+
+        items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            items.add(FoundItem.builder()
+                .atcId(String.format("F2024%08d", i))
+                .fdPrdtNm("검정색 가죽 지갑")
+                .prdtClNm("지갑 > 남성용 지갑")
+                .fdYmd("2024-05-01")
+                .fdSbjt("검정색 가죽 지갑을 습득하여 보관하고 있습니다.")
+                .fdFilePathImg("https://www.lost112.go.kr/lostnfs/images/sub/img02_no_img.gif")
+                .depPlace("서울강남경찰서")
+                .clrNm("검정색")
+                .fdSn(String.valueOf(i % 3 + 1))
+                .build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE found_items");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    /** 기존 경로: 행마다 INSERT ... ON CONFLICT 문장을 JDBC 배치로 전송 */
+    @Benchmark
+    public void jdbcBatchUpsert() {
+        transactionTemplate.executeWithoutResult(status -> batchRepository.upsertBatch(items));
+    }
+
+    /** 배열 파라미터 unnest 한 문장 업서트 (행별 신규/갱신 결과 반환) */
+    @Benchmark
+    public Object unnestUpsert() {
+        return transactionTemplate.execute(status -> batchRepository.upsertBatchWithResult(items));
+    }
+
+    /** COPY로 임시 스테이징 테이블에 싣고 한 문장으로 병합 */
+    @Benchmark
+    public Object copyUpsert() {
+        return transactionTemplate.execute(status -> copyRepository.upsertBatchWithResult(items));
+    }
+}
@@ -0,0 +1,126 @@
+package com.findit.server.infrastructure.police.decoder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 경찰청 API 응답 디코딩 벤치마크
+ *
+ * <p>기존 경로(본문 문자열 버퍼링 + BOM 치환 + 호출마다 JAXBContext 생성 / 호출마다 ObjectMapper 트리 파싱)와
+ * {@link PoliceApiResponseDecoder} 스트리밍 경로를 같은 페이지 데이터로 비교한다. 실행: {@code ./gradlew jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoliceApiDecoderBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private byte[] xmlPage;
+    private byte[] jsonPage;
+    private JAXBContext sharedContext;
+    private PoliceApiResponseDecoder decoder;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        xmlPage = ("\uFEFF" + buildXml(rows)).getBytes(StandardCharsets.UTF_8);
+        jsonPage = ("\uFEFF" + buildJson(rows)).getBytes(StandardCharsets.UTF_8);
+        sharedContext = JAXBContext.newInstance(PoliceApiFoundItemResponse.class);
+        decoder = new PoliceApiResponseDecoder();
+    }
+
+    /** 기존 PoliceApiClient XML 경로: 문자열 버퍼링 + 호출마다 JAXBContext 생성 */
+    @Benchmark
+    public PoliceApiFoundItemResponse xmlJaxbContextPerCall() throws JAXBException {
+        String body = new String(xmlPage, StandardCharsets.UTF_8).replace("\uFEFF", "").trim();
+        JAXBContext context = JAXBContext.newInstance(PoliceApiFoundItemResponse.class);
+        return (PoliceApiFoundItemResponse) context.createUnmarshaller().unmarshal(new StringReader(body));
+    }
+
+    /** JAXBContext만 공유하고 문자열 버퍼링은 유지한 경로 (차이 분해용) */
+    @Benchmark
+    public PoliceApiFoundItemResponse xmlJaxbSharedContext() throws JAXBException {
+        String body = new String(xmlPage, StandardCharsets.UTF_8).replace("\uFEFF", "").trim();
+        return (PoliceApiFoundItemResponse) sharedContext.createUnmarshaller().unmarshal(new StringReader(body));
+    }
+
+    @Benchmark
+    public PoliceApiFoundItemResponse xmlStreaming() {
+        return decoder.decodeFoundItems(new ByteArrayInputStream(xmlPage));
+    }
+
+    /** 기존 PoliceApiClient JSON 경로: 문자열 버퍼링 + 호출마다 ObjectMapper 생성 + 트리 변환 */
+    @Benchmark
+    public List<PoliceApiFoundItem> jsonObjectMapperTree() throws Exception {
+        String body = new String(jsonPage, StandardCharsets.UTF_8).replace("\uFEFF", "").trim();
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode root = objectMapper.readTree(body);
+        JsonNode itemsNode = root.path("response").path("body").path("items").path("item");
+        List<PoliceApiFoundItem> items = new ArrayList<>();
+        for (JsonNode itemNode : itemsNode) {
+            items.add(objectMapper.treeToValue(itemNode, PoliceApiFoundItem.class));
+        }
+        return items;
+    }
+
+    @Benchmark
+    public PoliceApiFoundItemResponse jsonStreaming() {
+        return decoder.decodeFoundItems(new ByteArrayInputStream(jsonPage));
+    }
+
+    private static String buildXml(int rows) {
+        StringBuilder xml = new StringBuilder(rows * 400);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>00</resultCode>")
+            .append("<resultMsg>NORMAL SERVICE.</resultMsg></header><body><items>");
+        for (int i = 0; i < rows; i++) {
+            xml.append("<item><atcId>F2024").append(String.format("%07d", i)).append("</atcId>")
+                .append("<clrNm>검정색</clrNm><depPlace>서울강남경찰서</depPlace>")
+                .append("<fdFilePathImg>https://www.lost112.go.kr/lostnfs/images/sub/img02_no_img.gif</fdFilePathImg>")
+                .append("<fdPrdtNm>검정색 가죽 지갑</fdPrdtNm><fdSbjt>검정색 가죽 지갑을 습득하여 보관하고 있습니다.</fdSbjt>")
+                .append("<fdSn>").append(i % 3 + 1).append("</fdSn><fdYmd>2024-05-01</fdYmd>")
+                .append("<prdtClNm>지갑 &gt; 남성용 지갑</prdtClNm><rnum>").append(i + 1).append("</rnum></item>");
+        }
+        xml.append("</items><numOfRows>").append(rows).append("</numOfRows><pageNo>1</pageNo><totalCount>")
+            .append(rows).append("</totalCount></body></response>");
+        return xml.toString();
+    }
+
+    private static String buildJson(int rows) {
+        StringBuilder json = new StringBuilder(rows * 400);
+        json.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},")
+            .append("\"body\":{\"items\":{\"item\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"atcId\":\"F2024").append(String.format("%07d", i)).append("\",")
+                .append("\"clrNm\":\"검정색\",\"depPlace\":\"서울강남경찰서\",")
+                .append("\"fdFilePathImg\":\"https://www.lost112.go.kr/lostnfs/images/sub/img02_no_img.gif\",")
+                .append("\"fdPrdtNm\":\"검정색 가죽 지갑\",\"fdSbjt\":\"검정색 가죽 지갑을 습득하여 보관하고 있습니다.\",")
+                .append("\"fdSn\":").append(i % 3 + 1).append(",\"fdYmd\":\"2024-05-01\",")
+                .append("\"prdtClNm\":\"지갑 > 남성용 지갑\",\"rnum\":").append(i + 1).append('}');
+        }
+        json.append("]},\"numOfRows\":").append(rows).append(",\"pageNo\":1,\"totalCount\":").append(rows)
+            .append("}}}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.findit.server.infrastructure.police.mapper;
+
+import com.findit.server.domain.founditem.FoundDate;
+import com.findit.server.domain.founditem.FoundItem;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.shared.DateScanner;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 100건 페이지 매핑 벤치마크
+ *
+ * <p>일자 정규화만 떼어 기존 경로(정규식 Matcher 최대 4개 + 부분 문자열 parseInt + 포매터 출력 후 값 객체에서
+ * 정규식·{@code LocalDate.parse}로 다시 파싱)와 {@link DateScanner} 경로를 비교하고, 매퍼 전체 변환 시간도 잰다.
+ * 실행: {@code ./gradlew jmh}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemMapperBenchmark {
+
+    private static final int ROWS = 100;
+    private static final String[] DATES = {"20240501", "2024-05-02", "2024.5.3", " 2024/05/04 "};
+
+    private static final Pattern YYYY_MM_DD_PATTERN = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})");
+    private static final Pattern YYYY_MM_PATTERN = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-]?");
+    private static final Pattern YYYYMMDD_PATTERN = Pattern.compile("(\\d{4})(\\d{2})(\\d{2})");
+    private static final Pattern YYYYMM_PATTERN = Pattern.compile("(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter TARGET_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private List<PoliceApiFoundItem> foundPage;
+    private List<PoliceApiLostItem> lostPage;
+    private FoundItemMapper foundItemMapper;
+    private LostItemMapper lostItemMapper;
+
+    @Setup
+    public void setUp() {
+        foundPage = new ArrayList<>(ROWS);
+        lostPage = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            PoliceApiFoundItem found = new PoliceApiFoundItem();
+            found.setAtcId(String.format("F2024%07d", i));
+            found.setFdPrdtNm("검정색 가죽 지갑");
+            found.setPrdtClNm("지갑 > 남성용 지갑");
+            found.setDepPlace("서울강남경찰서");
+            found.setFdYmd(DATES[i % DATES.length]);
+            found.setFdSbjt("검정색 가죽 지갑을 습득하여 보관하고 있습니다.");
+            found.setClrNm("검정색");
+            found.setFdSn(String.valueOf(i % 3 + 1));
+            foundPage.add(found);
+
+            PoliceApiLostItem lost = new PoliceApiLostItem();
+            lost.setLostItemId(String.format("L2024%07d", i));
+            lost.setLostItemName("아이폰 14");
+            lost.setLostItemCategory("전자기기 > 휴대폰");
+            lost.setLostPlace("강남역");
+            lost.setLostDate(DATES[i % 2]);
+            lostPage.add(lost);
+        }
+        foundItemMapper = new FoundItemMapper();
+        lostItemMapper = new LostItemMapper();
+    }
+
+    /** 기존 FoundItemMapper.normalizeDateString + FoundDate.of(String) 경로 */
+    @Benchmark
+    public void legacyDateNormalization(Blackhole blackhole) {
+        for (PoliceApiFoundItem item : foundPage) {
+            String trimmed = item.getFdYmd().trim();
+            LocalDate date = legacyTryParse(trimmed);
+            String normalized = date != null ? date.format(TARGET_DATE_FORMATTER) : trimmed;
+            blackhole.consume(legacyFoundDate(normalized).format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+    }
+
+    @Benchmark
+    public void scannerDateNormalization(Blackhole blackhole) {
+        for (PoliceApiFoundItem item : foundPage) {
+            int packed = DateScanner.scanLenient(item.getFdYmd());
+            blackhole.consume(FoundDate.of(DateScanner.toLocalDate(packed)).asDatabaseValue());
+        }
+    }
+
+    @Benchmark
+    public List<FoundItem> mapFoundItemsPage() {
+        return foundItemMapper.mapList(foundPage);
+    }
+
+    @Benchmark
+    public List<LostItem> mapLostItemsPage() {
+        return lostItemMapper.mapList(lostPage);
+    }
+
+    private static LocalDate legacyTryParse(String raw) {
+        Matcher ymdMatcher = YYYY_MM_DD_PATTERN.matcher(raw);
+        if (ymdMatcher.matches()) {
+            return LocalDate.of(Integer.parseInt(ymdMatcher.group(1)), Integer.parseInt(ymdMatcher.group(2)),
+                Integer.parseInt(ymdMatcher.group(3)));
+        }
+        Matcher ymMatcher = YYYY_MM_PATTERN.matcher(raw);
+        if (ymMatcher.matches()) {
+            return LocalDate.of(Integer.parseInt(ymMatcher.group(1)), Integer.parseInt(ymMatcher.group(2)), 1);
+        }
+        Matcher compactMatcher = YYYYMMDD_PATTERN.matcher(raw);
+        if (compactMatcher.matches()) {
+            return LocalDate.of(Integer.parseInt(compactMatcher.group(1)), Integer.parseInt(compactMatcher.group(2)),
+                Integer.parseInt(compactMatcher.group(3)));
+        }
+        Matcher compactYmMatcher = YYYYMM_PATTERN.matcher(raw);
+        if (compactYmMatcher.matches()) {
+            return LocalDate.of(Integer.parseInt(compactYmMatcher.group(1)),
+                Integer.parseInt(compactYmMatcher.group(2)), 1);
+        }
+        return LocalDate.parse(raw, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    private static LocalDate legacyFoundDate(String raw) {
+        if (raw.matches("\\d{8}")) {
+            return LocalDate.parse(raw, DateTimeFormatter.BASIC_ISO_DATE);
+        }
+        return LocalDate.parse(raw, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+}
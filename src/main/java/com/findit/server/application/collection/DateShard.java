@@ -0,0 +1,45 @@
+package com.findit.server.application.collection;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 기간을 나눈 하루 단위 샤드
+ *
+ * <p>경찰청 API는 조회 기간을 일(yyyyMMdd) 단위로만 받으므로 하루가 가장 작은 샤드 단위다.</p>
+ *
+ * @param date 샤드 날짜
+ */
+public record DateShard(LocalDate date) {
+
+    private static final DateTimeFormatter API_DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * @return API 조회 파라미터 형식(yyyyMMdd)의 날짜
+     */
+    public String ymd() {
+        return date.format(API_DATE_FORMATTER);
+    }
+
+    /**
+     * 기간을 하루 단위 샤드로 분할 (양 끝 포함, 최신 날짜부터)
+     *
+     * @param from 시작일
+     * @param to   종료일
+     * @return 샤드 목록. from이 to보다 늦으면 빈 목록
+     */
+    public static List<DateShard> daily(LocalDate from, LocalDate to) {
+        List<DateShard> shards = new ArrayList<>();
+        for (LocalDate date = to; !date.isBefore(from); date = date.minusDays(1)) {
+            shards.add(new DateShard(date));
+        }
+        return shards;
+    }
+
+    @Override
+    public String toString() {
+        return ymd();
+    }
+}
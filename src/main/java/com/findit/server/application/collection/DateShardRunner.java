@@ -0,0 +1,147 @@
+package com.findit.server.application.collection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜 샤드 병렬 처리기
+ *
+ * <p>수집 기간을 {@link DateShard} 단위로 나눠 샤드마다 독립적으로 끝까지 페이지를 조회·저장하도록 하고,
+ * 동시에 처리하는 샤드 수는 {@code collection.shard.workers}로 제한한다. 한 샤드가 실패해도 나머지 샤드는
+ * 계속 처리하며, 샤드별 진행 상황은 로그와 Micrometer 메트릭({@code collection.shard.*})으로 남긴다.</p>
+ */
+@Component
+public class DateShardRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DateShardRunner.class);
+
+    private final int workers;
+    private final ExecutorService executor;
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> remainingShards = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param registry       메트릭 레지스트리
+     * @param workers        동시에 처리할 샤드 수 (1 이하이면 순차 처리)
+     * @param virtualThreads 가상 스레드 사용 여부 (false면 고정 크기 스레드 풀)
+     */
+    public DateShardRunner(MeterRegistry registry,
+        @Value("${collection.shard.workers:4}") int workers,
+        @Value("${collection.shard.virtual-threads:true}") boolean virtualThreads) {
+        this.registry = registry;
+        this.workers = Math.max(1, workers);
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("date-shard-", 0).factory())
+            : Executors.newFixedThreadPool(this.workers, platformThreadFactory());
+    }
+
+    /**
+     * 샤드를 병렬로 처리
+     *
+     * @param collection 수집 대상 이름 (로그/메트릭 태그, 예: lost_items)
+     * @param shards     처리할 샤드
+     * @param worker     샤드 하나를 끝까지 처리하고 저장한 건수를 반환하는 함수
+     * @return 저장 건수의 합과 실패한 샤드
+     */
+    public ShardRunResult run(String collection, List<DateShard> shards, ToIntFunction<DateShard> worker) {
+        AtomicInteger remaining = remainingShards.computeIfAbsent(collection, name -> {
+            AtomicInteger gauge = new AtomicInteger();
+            registry.gauge("collection.shard.remaining", List.of(Tag.of("collection", name)), gauge);
+            return gauge;
+        });
+        remaining.addAndGet(shards.size());
+        AtomicInteger completed = new AtomicInteger();
+
+        Semaphore slots = new Semaphore(workers);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(shards.size());
+        try {
+            for (DateShard shard : shards) {
+                slots.acquire();
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return runShard(collection, shard, worker, completed, shards.size());
+                    } finally {
+                        remaining.decrementAndGet();
+                        slots.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("[{}] 샤드 처리 중 인터럽트 발생, {}번째 샤드 이후 요청을 중단합니다.", collection, futures.size());
+        }
+
+        int savedItems = 0;
+        List<DateShard> failedShards = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                savedItems += futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedShards.add(shards.get(i));
+            } catch (ExecutionException | CancellationException e) {
+                failedShards.add(shards.get(i));
+            }
+        }
+        for (int i = futures.size(); i < shards.size(); i++) {
+            remaining.decrementAndGet();
+            failedShards.add(shards.get(i));
+        }
+        logger.info("[{}] 샤드 {}개 처리 완료 (동시 {}): {}건, 실패 샤드: {}",
+            collection, shards.size(), workers, savedItems, failedShards);
+        return new ShardRunResult(savedItems, failedShards);
+    }
+
+    private int runShard(String collection, DateShard shard, ToIntFunction<DateShard> worker,
+        AtomicInteger completed, int total) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            int size = worker.applyAsInt(shard);
+            sample.stop(registry.timer("collection.shard.duration", "collection", collection, "outcome", "success"));
+            registry.counter("collection.shard.items", "collection", collection).increment(size);
+            logger.info("[{}] 샤드 {} 완료: {}건 ({}/{})", collection, shard, size, completed.incrementAndGet(), total);
+            return size;
+        } catch (RuntimeException e) {
+            sample.stop(registry.timer("collection.shard.duration", "collection", collection, "outcome", "failure"));
+            registry.counter("collection.shard.failed", "collection", collection).increment();
+            logger.error("[{}] 샤드 {} 처리 실패 ({}/{}): {}", collection, shard, completed.incrementAndGet(), total,
+                e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "date-shard-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,323 @@
+package com.findit.server.application.collection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단계별 수집 파이프라인 (조회 → 변환(매핑·검증) → 저장)
+ *
+ * <p>조회 스레드가 페이지를 {@link Run#submit(Object)}으로 넘기면 변환 워커가 엔티티로 매핑·검증하고, 저장 워커가
+ * 배치 업서트를 수행한다. 단계 사이는 크기가 정해진 큐({@code collection.pipeline.queue-capacity})로 연결되어
+ * 저장이 밀리면 변환이, 변환이 밀리면 조회가 {@code put}에서 대기한다(역압). 덕분에 네트워크 대기와 DB 쓰기가
+ * 서로 겹쳐 진행된다. 단계별 큐 깊이/처리량/지연은 {@code collection.pipeline.*} 메트릭으로 남긴다.</p>
+ */
+@Component
+public class IngestionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngestionPipeline.class);
+
+    static final String TRANSFORM_STAGE = "transform";
+    static final String WRITE_STAGE = "write";
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int transformWorkers;
+    private final int writeWorkers;
+    private final ExecutorService executor;
+    private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param registry         메트릭 레지스트리
+     * @param enabled          false면 단계를 나누지 않고 호출 스레드에서 변환·저장
+     * @param queueCapacity    단계 사이 큐 크기 (배치 단위)
+     * @param transformWorkers 변환 단계 동시 워커 수
+     * @param writeWorkers     저장 단계 동시 워커 수
+     */
+    @Autowired
+    public IngestionPipeline(MeterRegistry registry,
+        @Value("${collection.pipeline.enabled:true}") boolean enabled,
+        @Value("${collection.pipeline.queue-capacity:8}") int queueCapacity,
+        @Value("${collection.pipeline.transform-workers:2}") int transformWorkers,
+        @Value("${collection.pipeline.write-workers:2}") int writeWorkers) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.transformWorkers = Math.max(1, transformWorkers);
+        this.writeWorkers = Math.max(1, writeWorkers);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ingest-", 0).factory());
+    }
+
+    /**
+     * 파이프라인 실행을 시작 (단계 워커 기동)
+     *
+     * @param collection 수집 대상 이름 (로그/메트릭 태그, 예: lost_items)
+     * @param transform  입력 배치 하나를 저장할 엔티티 목록으로 변환하는 함수 (매핑 + 유효성 검증)
+     * @param sink       엔티티 목록을 저장하는 함수 (배치 업서트)
+     * @param <S>        입력 배치 타입 (예: 페이지 응답)
+     * @param <T>        저장 엔티티 타입
+     * @return 실행 핸들. 모든 배치를 넘긴 뒤 {@link Run#close()}로 단계를 정리해야 한다.
+     */
+    public <S, T> Run<S, T> start(String collection, Function<S, List<T>> transform, Consumer<List<T>> sink) {
+        return new Run<>(collection, transform, sink);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private AtomicInteger queueDepth(String collection, String stage) {
+        return queueDepths.computeIfAbsent(collection + ":" + stage, key -> {
+            AtomicInteger gauge = new AtomicInteger();
+            registry.gauge("collection.pipeline.queue.depth",
+                List.of(Tag.of("collection", collection), Tag.of("stage", stage)), gauge);
+            return gauge;
+        });
+    }
+
+    /**
+     * 파이프라인 실행 하나
+     *
+     * @param <S> 입력 배치 타입
+     * @param <T> 저장 엔티티 타입
+     */
+    public final class Run<S, T> implements AutoCloseable {
+
+        private final String collection;
+        private final Function<S, List<T>> transform;
+        private final Consumer<List<T>> sink;
+        private final BlockingQueue<Batch<S, T>> transformQueue;
+        private final BlockingQueue<Batch<S, T>> writeQueue;
+        private final AtomicInteger transformDepth;
+        private final AtomicInteger writeDepth;
+        private final CountDownLatch transformDone;
+        private final CountDownLatch writeDone;
+        private volatile boolean closed;
+
+        private Run(String collection, Function<S, List<T>> transform, Consumer<List<T>> sink) {
+            this.collection = collection;
+            this.transform = transform;
+            this.sink = sink;
+            this.transformQueue = new ArrayBlockingQueue<>(queueCapacity);
+            this.writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+            this.transformDepth = queueDepth(collection, TRANSFORM_STAGE);
+            this.writeDepth = queueDepth(collection, WRITE_STAGE);
+            this.transformDone = new CountDownLatch(enabled ? transformWorkers : 0);
+            this.writeDone = new CountDownLatch(enabled ? writeWorkers : 0);
+            if (enabled) {
+                for (int i = 0; i < transformWorkers; i++) {
+                    executor.execute(this::transformLoop);
+                }
+                for (int i = 0; i < writeWorkers; i++) {
+                    executor.execute(this::writeLoop);
+                }
+            }
+        }
+
+        /**
+         * 입력 배치를 파이프라인에 넘김. 변환 큐가 가득 차 있으면 자리가 날 때까지 대기한다.
+         *
+         * @param input 입력 배치
+         * @return 배치가 저장되면 저장된 엔티티 목록으로 완료. 변환/저장 실패 시 예외 완료
+         */
+        public CompletableFuture<List<T>> submit(S input) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("이미 종료된 파이프라인입니다: " + collection));
+            }
+            Batch<S, T> batch = new Batch<>(input);
+            if (!enabled) {
+                try {
+                    List<T> output = timed(TRANSFORM_STAGE, () -> transform.apply(input));
+                    writeBatch(output);
+                    batch.future.complete(output);
+                } catch (RuntimeException e) {
+                    batch.future.completeExceptionally(e);
+                }
+                return batch.future;
+            }
+            try {
+                enqueue(transformQueue, transformDepth, TRANSFORM_STAGE, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.future.completeExceptionally(e);
+            }
+            return batch.future;
+        }
+
+        /**
+         * 더 이상 배치를 받지 않고, 이미 넘겨진 배치가 모두 저장될 때까지 대기
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!enabled) {
+                return;
+            }
+            try {
+                for (int i = 0; i < transformWorkers; i++) {
+                    transformQueue.put(Batch.poison());
+                }
+                transformDone.await();
+                for (int i = 0; i < writeWorkers; i++) {
+                    writeQueue.put(Batch.poison());
+                }
+                writeDone.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("[{}] 파이프라인 종료 대기 중 인터럽트 발생", collection);
+            }
+        }
+
+        private void transformLoop() {
+            try {
+                while (true) {
+                    Batch<S, T> batch = dequeue(transformQueue, transformDepth);
+                    if (batch.poison) {
+                        return;
+                    }
+                    List<T> output;
+                    try {
+                        output = timed(TRANSFORM_STAGE, () -> transform.apply(batch.input));
+                    } catch (RuntimeException e) {
+                        fail(TRANSFORM_STAGE, batch, e);
+                        continue;
+                    }
+                    batch.output = output != null ? output : List.of();
+                    enqueue(writeQueue, writeDepth, WRITE_STAGE, batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drainOnInterrupt(transformQueue, transformDepth);
+            } finally {
+                transformDone.countDown();
+            }
+        }
+
+        private void writeLoop() {
+            try {
+                while (true) {
+                    Batch<S, T> batch = dequeue(writeQueue, writeDepth);
+                    if (batch.poison) {
+                        return;
+                    }
+                    try {
+                        writeBatch(batch.output);
+                        batch.future.complete(batch.output);
+                    } catch (RuntimeException e) {
+                        fail(WRITE_STAGE, batch, e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drainOnInterrupt(writeQueue, writeDepth);
+            } finally {
+                writeDone.countDown();
+            }
+        }
+
+        private void writeBatch(List<T> output) {
+            if (!output.isEmpty()) {
+                timed(WRITE_STAGE, () -> {
+                    sink.accept(output);
+                    return output;
+                });
+            }
+        }
+
+        private List<T> timed(String stage, Supplier<List<T>> work) {
+            Timer.Sample sample = Timer.start(registry);
+            List<T> output = work.get();
+            sample.stop(registry.timer("collection.pipeline.stage.duration", "collection", collection, "stage", stage));
+            registry.counter("collection.pipeline.stage.items", "collection", collection, "stage", stage)
+                .increment(output != null ? output.size() : 0);
+            return output;
+        }
+
+        private void enqueue(BlockingQueue<Batch<S, T>> queue, AtomicInteger depth, String stage, Batch<S, T> batch)
+            throws InterruptedException {
+            if (!queue.offer(batch)) {
+                // 다음 단계가 밀려 큐가 가득 참: 자리가 날 때까지 대기한 시간을 역압 지표로 기록
+                Timer.Sample sample = Timer.start(registry);
+                queue.put(batch);
+                sample.stop(registry.timer("collection.pipeline.queue.wait", "collection", collection, "stage", stage));
+            }
+            depth.incrementAndGet();
+        }
+
+        private Batch<S, T> dequeue(BlockingQueue<Batch<S, T>> queue, AtomicInteger depth) throws InterruptedException {
+            Batch<S, T> batch = queue.take();
+            if (!batch.poison) {
+                depth.decrementAndGet();
+            }
+            return batch;
+        }
+
+        private void fail(String stage, Batch<S, T> batch, RuntimeException e) {
+            registry.counter("collection.pipeline.stage.failed", "collection", collection, "stage", stage).increment();
+            logger.error("[{}] 파이프라인 {} 단계 실패: {}", collection, stage, e.getMessage(), e);
+            batch.future.completeExceptionally(e);
+        }
+
+        private void drainOnInterrupt(BlockingQueue<Batch<S, T>> queue, AtomicInteger depth) {
+            List<Batch<S, T>> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            for (Batch<S, T> batch : pending) {
+                if (!batch.poison) {
+                    depth.decrementAndGet();
+                    batch.future.completeExceptionally(new InterruptedException("파이프라인이 중단되었습니다: " + collection));
+                }
+            }
+        }
+    }
+
+    /**
+     * 단계 사이를 오가는 배치. 변환 결과와 최종 완료 Future를 함께 들고 다닌다.
+     */
+    private static final class Batch<S, T> {
+
+        private final S input;
+        private final boolean poison;
+        private final CompletableFuture<List<T>> future = new CompletableFuture<>();
+        private volatile List<T> output;
+
+        private Batch(S input) {
+            this(input, false);
+        }
+
+        private Batch(S input, boolean poison) {
+            this.input = input;
+            this.poison = poison;
+        }
+
+        private static <S, T> Batch<S, T> poison() {
+            return new Batch<>(null, true);
+        }
+    }
+}
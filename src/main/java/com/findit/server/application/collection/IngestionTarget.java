@@ -0,0 +1,36 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 엔드포인트 하나의 조회/변환/저장 함수 묶음 ({@link IngestionTargets}가 만든다)
+ *
+ * @param endpoint     조회 대상 엔드포인트
+ * @param collection   수집 대상 이름 (로그/메트릭 태그, 예: backfill_lost_items)
+ * @param fetch        페이지 하나를 조회하는 함수
+ * @param itemsOf      응답에서 아이템 목록을 꺼내는 함수
+ * @param totalCountOf 응답에서 전체 건수를 꺼내는 함수
+ * @param transform    응답 페이지를 저장할 엔티티 목록으로 바꾸는 함수 (매핑 + 유효성 검증)
+ * @param sink         엔티티 목록을 저장하는 함수 (배치 업서트, 신규/갱신 건수 반환)
+ * @param <R>          페이지 응답 타입
+ * @param <T>          저장 엔티티 타입
+ */
+public record IngestionTarget<R, T>(PoliceApiEndpoint endpoint, String collection, PageQuery<R> fetch,
+    Function<R, List<?>> itemsOf, ToIntFunction<R> totalCountOf, Function<R, List<T>> transform,
+    Function<List<T>, UpsertResult> sink) {
+
+    /**
+     * 조회 기간의 한 페이지를 가져오는 함수
+     *
+     * @param <R> 페이지 응답 타입
+     */
+    @FunctionalInterface
+    public interface PageQuery<R> {
+
+        R fetch(int pageNo, String startYmd, String endYmd);
+    }
+}
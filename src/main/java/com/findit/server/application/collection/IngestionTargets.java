@@ -0,0 +1,75 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.domain.founditem.FoundItem;
+import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 {@link IngestionTarget} 생성기
+ *
+ * <p>기간 단위 작업(백필, 분산 작업 큐)이 엔드포인트 종류와 상관없이 같은 코드로 조회→변환→저장을 돌릴 수 있게
+ * 클라이언트 호출, 매핑·검증({@link ItemConverter}, 걸러진 원본은 dead-letter 보관), 배치 업서트를 엔드포인트마다
+ * 묶어 준다.</p>
+ */
+@Component
+public class IngestionTargets {
+
+    private static final int NUM_OF_ROWS = 100;
+
+    private final PoliceApiClient apiClient;
+    private final LostItemRepository lostItemRepository;
+    private final FoundItemRepository foundItemRepository;
+    private final ItemConverter converter;
+
+    public IngestionTargets(PoliceApiClient apiClient,
+        LostItemRepository lostItemRepository,
+        FoundItemRepository foundItemRepository,
+        ItemConverter converter) {
+        this.apiClient = apiClient;
+        this.lostItemRepository = lostItemRepository;
+        this.foundItemRepository = foundItemRepository;
+        this.converter = converter;
+    }
+
+    /**
+     * @return 한 페이지 결과 수 ({@link IngestionTarget#fetch()}가 요청하는 numOfRows)
+     */
+    public int numOfRows() {
+        return NUM_OF_ROWS;
+    }
+
+    /**
+     * 엔드포인트의 조회/변환/저장 묶음
+     *
+     * @param endpoint 조회 대상 엔드포인트
+     * @param job      작업 이름 (수집 대상 이름 앞에 붙음, 예: backfill → backfill_lost_items)
+     * @param priority 호출 우선순위
+     */
+    public IngestionTarget<?, ?> forEndpoint(PoliceApiEndpoint endpoint, String job, PoliceApiCallPriority priority) {
+        return endpoint == PoliceApiEndpoint.LOST_ITEMS ? lostItems(job, priority) : foundItems(job, priority);
+    }
+
+    public IngestionTarget<PoliceApiLostItemResponse, LostItem> lostItems(String job, PoliceApiCallPriority priority) {
+        return new IngestionTarget<>(PoliceApiEndpoint.LOST_ITEMS, job + "_lost_items",
+            (pageNo, startYmd, endYmd) -> apiClient.fetchLostItems(pageNo, NUM_OF_ROWS, startYmd, endYmd, priority),
+            PoliceApiLostItemResponse::getItems, PoliceApiLostItemResponse::getTotalCount,
+            response -> converter.toLostItems(response.getItems()),
+            lostItemRepository::upsertBatchWithResult);
+    }
+
+    public IngestionTarget<PoliceApiFoundItemResponse, FoundItem> foundItems(String job,
+        PoliceApiCallPriority priority) {
+        return new IngestionTarget<>(PoliceApiEndpoint.FOUND_ITEMS, job + "_found_items",
+            (pageNo, startYmd, endYmd) -> apiClient.fetchFoundItems(pageNo, NUM_OF_ROWS, startYmd, endYmd, priority),
+            PoliceApiFoundItemResponse::getItems, PoliceApiFoundItemResponse::getTotalCount,
+            response -> converter.toFoundItems(response.getItems()),
+            foundItemRepository::upsertBatchWithResult);
+    }
+}
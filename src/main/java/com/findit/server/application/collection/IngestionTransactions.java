@@ -0,0 +1,122 @@
+package com.findit.server.application.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수집 저장용 짧은 트랜잭션
+ *
+ * <p>API 호출은 트랜잭션 밖에서 하고, 조회한 페이지를 {@code collection.transaction.commit-size}건 안팎의 묶음으로
+ * 나눠 묶음마다 따로 커밋한다. 업스트림이 느려도 DB 연결과 열린 트랜잭션을 붙잡지 않아 조회 API가 쓸 연결이 남고,
+ * 오래 열린 트랜잭션이 vacuum을 막지 않는다. 묶음 하나가 실패하면 그 묶음만 롤백되고 앞서 커밋한 묶음은 남으므로,
+ * 호출하는 쪽은 거기서 멈추고 체크포인트(커밋한 페이지까지)에서 다시 시작하면 된다.</p>
+ */
+@Component
+public class IngestionTransactions {
+
+    private final TransactionTemplate template;
+    private final int commitSize;
+
+    /**
+     * 생성자
+     *
+     * @param transactionManager 트랜잭션 관리자
+     * @param commitSize         한 트랜잭션에 저장할 최대 항목 수 (페이지 하나가 이보다 크면 페이지 단위)
+     * @param timeoutSeconds     묶음 트랜잭션 하나의 제한 시간
+     */
+    public IngestionTransactions(PlatformTransactionManager transactionManager,
+        @Value("${collection.transaction.commit-size:500}") int commitSize,
+        @Value("${collection.transaction.timeout-seconds:30}") int timeoutSeconds) {
+        this.template = new TransactionTemplate(transactionManager);
+        this.template.setTimeout(Math.max(1, timeoutSeconds));
+        this.commitSize = Math.max(1, commitSize);
+    }
+
+    /**
+     * 순서를 유지한 채 항목 수 합이 커밋 크기를 넘지 않도록 묶음 (요소 하나가 커밋 크기보다 크면 단독 묶음)
+     *
+     * @param elements 페이지 또는 항목 목록
+     * @param size     요소 하나의 항목 수
+     * @return 커밋 단위 묶음 목록
+     */
+    public <T> List<List<T>> chunks(List<T> elements, ToIntFunction<T> size) {
+        List<List<T>> chunks = new ArrayList<>();
+        ChunkBuffer<T> buffer = buffer(size, chunks::add);
+        elements.forEach(buffer::add);
+        buffer.flush();
+        return chunks;
+    }
+
+    /**
+     * 요소를 하나씩 받아 커밋 크기가 차는 대로 묶음을 넘기는 버퍼 ({@link #chunks}와 같은 규칙)
+     *
+     * <p>조회가 끝나기를 기다리지 않고 페이지가 오는 대로 저장할 때 쓴다. 전체 목록을 메모리에 쌓지 않고,
+     * {@code onChunk}가 저장하는 동안 호출한 쪽(조회)도 멈춘다.</p>
+     *
+     * @param size    요소 하나의 항목 수
+     * @param onChunk 찬 묶음을 받을 함수 (예외를 던지면 {@code add}/{@code flush}가 그대로 전달)
+     * @return 묶음 버퍼
+     */
+    public <T> ChunkBuffer<T> buffer(ToIntFunction<T> size, Consumer<List<T>> onChunk) {
+        return new ChunkBuffer<>(commitSize, size, onChunk);
+    }
+
+    /**
+     * 묶음 하나를 별도 트랜잭션으로 저장 (예외가 나면 이 묶음만 롤백하고 예외를 그대로 던짐)
+     *
+     * @param work 저장 작업
+     * @return 저장 작업 결과
+     */
+    public <R> R write(Supplier<R> work) {
+        return template.execute(status -> work.get());
+    }
+
+    /**
+     * 커밋 크기 단위 묶음 버퍼 (호출 스레드 하나에서만 사용)
+     */
+    public static final class ChunkBuffer<T> {
+        private final int commitSize;
+        private final ToIntFunction<T> size;
+        private final Consumer<List<T>> onChunk;
+        private List<T> current = new ArrayList<>();
+        private int currentSize;
+
+        private ChunkBuffer(int commitSize, ToIntFunction<T> size, Consumer<List<T>> onChunk) {
+            this.commitSize = commitSize;
+            this.size = size;
+            this.onChunk = onChunk;
+        }
+
+        /**
+         * 요소를 추가하고, 넣으면 커밋 크기를 넘는 경우 먼저 모아 둔 묶음을 넘김
+         */
+        public void add(T element) {
+            int elementSize = size.applyAsInt(element);
+            if (!current.isEmpty() && currentSize + elementSize > commitSize) {
+                flush();
+            }
+            current.add(element);
+            currentSize += elementSize;
+        }
+
+        /**
+         * 모아 둔 요소가 있으면 마지막 묶음으로 넘김
+         */
+        public void flush() {
+            if (current.isEmpty()) {
+                return;
+            }
+            List<T> chunk = current;
+            current = new ArrayList<>();
+            currentSize = 0;
+            onChunk.accept(chunk);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.findit.server.application.collection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.domain.founditem.FoundItem;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.infrastructure.metrics.IngestionMetrics;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetter;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterReason;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.mapper.ApiMapper;
+import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
+import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 API 레코드를 저장할 엔티티로 변환 (매핑 → 유효성 검증)
+ *
+ * <p>매퍼가 null을 돌려주거나, 값 객체 생성에서 {@link IllegalArgumentException}이 나거나,
+ * {@link DataValidator}를 통과하지 못한 원본은 버리지 않고 사유 코드와 함께 dead-letter 테이블
+ * ({@code ingestion_dead_letters})에 보관한다. 매퍼를 고친 뒤 보관된 원본만 다시 적재할 수 있어 몇 건을 살리려고
+ * 기간 전체를 다시 조회하지 않아도 된다. 배치마다 변환 시간을 {@code ingestion.transform.duration{endpoint}}로 남기고,
+ * 걸러진 건수는 {@code api.lost_items.invalid} / {@code api.found_items.invalid}에 더한다.</p>
+ */
+@Component
+public class ItemConverter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemConverter.class);
+
+    private final LostItemMapper lostItemMapper;
+    private final FoundItemMapper foundItemMapper;
+    private final DataValidator validator;
+    private final DeadLetterRepository deadLetters;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final boolean deadLetterEnabled;
+    private final Clock clock;
+    private final Counter lostItemsInvalidCounter;
+    private final Counter foundItemsInvalidCounter;
+
+    /**
+     * 생성자
+     *
+     * @param lostItemMapper    분실물 매퍼
+     * @param foundItemMapper   습득물 매퍼
+     * @param validator         데이터 유효성 검증기
+     * @param deadLetters       적재하지 못한 원본 저장소
+     * @param objectMapper      원본 JSON 직렬화용 객체 매퍼
+     * @param registry          메트릭 레지스트리
+     * @param deadLetterEnabled 걸러진 원본을 보관할지 여부
+     */
+    @Autowired
+    public ItemConverter(LostItemMapper lostItemMapper,
+        FoundItemMapper foundItemMapper,
+        DataValidator validator,
+        DeadLetterRepository deadLetters,
+        ObjectMapper objectMapper,
+        MeterRegistry registry,
+        @Value("${collection.dead-letter.enabled:true}") boolean deadLetterEnabled) {
+        this(lostItemMapper, foundItemMapper, validator, deadLetters, objectMapper, registry, deadLetterEnabled,
+            Clock.systemUTC());
+    }
+
+    ItemConverter(LostItemMapper lostItemMapper, FoundItemMapper foundItemMapper, DataValidator validator,
+        DeadLetterRepository deadLetters, ObjectMapper objectMapper, MeterRegistry registry, boolean deadLetterEnabled,
+        Clock clock) {
+        this.lostItemMapper = lostItemMapper;
+        this.foundItemMapper = foundItemMapper;
+        this.validator = validator;
+        this.deadLetters = deadLetters;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.deadLetterEnabled = deadLetterEnabled;
+        this.clock = clock;
+        this.lostItemsInvalidCounter = registry.counter("api.lost_items.invalid");
+        this.foundItemsInvalidCounter = registry.counter("api.found_items.invalid");
+    }
+
+    /**
+     * 분실물 원본을 엔티티로 변환하고 걸러진 원본은 dead-letter에 보관
+     *
+     * @param sources API 원본 목록
+     * @return 저장할 분실물 (원본 순서 유지)
+     */
+    public List<LostItem> toLostItems(List<PoliceApiLostItem> sources) {
+        Conversion<LostItem> conversion = convertLostItems(sources);
+        deadLetter(PoliceApiEndpoint.LOST_ITEMS, sources, conversion.rejections(), lostItemsInvalidCounter);
+        return conversion.items();
+    }
+
+    /**
+     * 습득물 원본을 엔티티로 변환하고 걸러진 원본은 dead-letter에 보관
+     *
+     * @param sources API 원본 목록
+     * @return 저장할 습득물 (원본 순서 유지)
+     */
+    public List<FoundItem> toFoundItems(List<PoliceApiFoundItem> sources) {
+        Conversion<FoundItem> conversion = convertFoundItems(sources);
+        deadLetter(PoliceApiEndpoint.FOUND_ITEMS, sources, conversion.rejections(), foundItemsInvalidCounter);
+        return conversion.items();
+    }
+
+    /**
+     * 분실물 원본을 변환만 함 (걸러진 원본을 보관하지 않음, dead-letter 재처리용)
+     */
+    public Conversion<LostItem> convertLostItems(List<PoliceApiLostItem> sources) {
+        return convert(PoliceApiEndpoint.LOST_ITEMS, sources, lostItemMapper, validator::isValidLostItem,
+            PoliceApiLostItem::getLostItemId);
+    }
+
+    /**
+     * 습득물 원본을 변환만 함 (걸러진 원본을 보관하지 않음, dead-letter 재처리용)
+     */
+    public Conversion<FoundItem> convertFoundItems(List<PoliceApiFoundItem> sources) {
+        return convert(PoliceApiEndpoint.FOUND_ITEMS, sources, foundItemMapper, validator::isValidFoundItem,
+            source -> source.getAtcId() != null ? source.getAtcId() : source.getFdSn());
+    }
+
+    private <S, T> Conversion<T> convert(PoliceApiEndpoint endpoint, List<S> sources, ApiMapper<S, T> mapper,
+        Predicate<T> valid, Function<S, String> keyOf) {
+        if (sources == null || sources.isEmpty()) {
+            return new Conversion<>(List.of(), List.of());
+        }
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return convert(sources, mapper, valid, keyOf);
+        } finally {
+            sample.stop(registry.timer(IngestionMetrics.TRANSFORM_DURATION, "endpoint", endpoint.name()));
+        }
+    }
+
+    private <S, T> Conversion<T> convert(List<S> sources, ApiMapper<S, T> mapper, Predicate<T> valid,
+        Function<S, String> keyOf) {
+        // 한 번에 매핑하고 결과를 원본과 순서대로 짝지음. 값 객체 예외로 목록 매핑이 실패하면 원본별로 다시 매핑해
+        // 문제가 된 원본만 골라냄
+        List<T> mapped;
+        try {
+            mapped = mapper.mapList(sources);
+        } catch (IllegalArgumentException e) {
+            mapped = null;
+        }
+        if (mapped != null && mapped.size() != sources.size()) {
+            mapped = null;
+        }
+        List<T> items = new ArrayList<>(sources.size());
+        List<Rejection> rejections = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            S source = sources.get(i);
+            T item;
+            if (mapped != null) {
+                item = mapped.get(i);
+            } else {
+                try {
+                    item = mapper.map(source);
+                } catch (IllegalArgumentException e) {
+                    rejections.add(new Rejection(i, keyOf(keyOf, source), DeadLetterReason.INVALID_VALUE,
+                        e.getMessage()));
+                    continue;
+                }
+            }
+            if (item == null) {
+                rejections.add(new Rejection(i, keyOf(keyOf, source), DeadLetterReason.MAPPING_REJECTED,
+                    "필수 값 누락 또는 인식할 수 없는 값"));
+            } else if (!valid.test(item)) {
+                rejections.add(new Rejection(i, keyOf(keyOf, source), DeadLetterReason.VALIDATION_FAILED,
+                    "유효성 검증 실패"));
+            } else {
+                items.add(item);
+            }
+        }
+        return new Conversion<>(items, rejections);
+    }
+
+    private static <S> String keyOf(Function<S, String> keyOf, S source) {
+        return source != null ? keyOf.apply(source) : null;
+    }
+
+    private <S> void deadLetter(PoliceApiEndpoint endpoint, List<S> sources, List<Rejection> rejections,
+        Counter invalidCounter) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        invalidCounter.increment(rejections.size());
+        for (Rejection rejection : rejections) {
+            registry.counter("collection.dead_letter.recorded", "endpoint", endpoint.name(),
+                "reason", rejection.reason().name()).increment();
+        }
+        logger.warn("[dead-letter] {} {}건을 적재하지 못했습니다: {}", endpoint, rejections.size(),
+            rejections.stream().map(rejection -> rejection.reason() + ":" + rejection.recordKey()).toList());
+        if (!deadLetterEnabled) {
+            return;
+        }
+        List<DeadLetter> letters = new ArrayList<>(rejections.size());
+        for (Rejection rejection : rejections) {
+            try {
+                letters.add(DeadLetter.of(endpoint, rejection.recordKey(),
+                    objectMapper.writeValueAsString(sources.get(rejection.index())), rejection.reason(),
+                    rejection.detail()));
+            } catch (JsonProcessingException e) {
+                logger.error("[dead-letter] {} 원본 [{}] JSON 변환 오류: {}", endpoint, rejection.recordKey(),
+                    e.getMessage());
+            }
+        }
+        try {
+            deadLetters.saveAll(letters, clock.instant());
+        } catch (DataAccessException e) {
+            // 보관 실패로 정상 항목 적재까지 멈추지 않음
+            logger.error("[dead-letter] {} {}건 보관 실패: {}", endpoint, letters.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 변환 결과
+     *
+     * @param items      저장할 엔티티 (원본 순서 유지)
+     * @param rejections 걸러진 원본
+     * @param <T>        엔티티 타입
+     */
+    public record Conversion<T>(List<T> items, List<Rejection> rejections) {
+    }
+
+    /**
+     * 걸러진 원본 하나
+     *
+     * @param index     입력 목록에서의 위치
+     * @param recordKey 원본 식별자 (없으면 null)
+     * @param reason    사유
+     * @param detail    사유 상세
+     */
+    public record Rejection(int index, String recordKey, DeadLetterReason reason, String detail) {
+    }
+}
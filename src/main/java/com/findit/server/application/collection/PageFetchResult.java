@@ -0,0 +1,29 @@
+package com.findit.server.application.collection;
+
+import java.util.List;
+
+/**
+ * 페이지 단위 조회 결과
+ *
+ * @param pages        성공한 페이지 (페이지 번호 오름차순). 페이지를 {@code onPage}로 받는 조회에서는 비어 있음
+ * @param failedPages  재시도 후에도 실패한 페이지 번호
+ * @param totalCount   첫 페이지가 알려준 전체 결과 수 (알 수 없으면 0)
+ * @param fetchedItems 성공한 페이지의 아이템 수 합계
+ * @param lastPageNo   성공한 마지막 페이지 번호 (없으면 0)
+ * @param <R>          페이지 응답 타입
+ */
+public record PageFetchResult<R>(List<Page<R>> pages, List<Integer> failedPages, int totalCount, int fetchedItems,
+    int lastPageNo) {
+
+    public boolean hasFailures() {
+        return !failedPages.isEmpty();
+    }
+
+    /**
+     * @param pageNo   페이지 번호
+     * @param response 페이지 응답
+     * @param <R>      페이지 응답 타입
+     */
+    public record Page<R>(int pageNo, R response) {
+    }
+}
@@ -0,0 +1,282 @@
+package com.findit.server.application.collection;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰청 API 페이지 팬아웃 조회기
+ *
+ * <p>첫 페이지로 전체 건수(totalCount)를 확인한 뒤 나머지 페이지를 동시에 조회하고 페이지 순서대로 넘긴다.
+ * 동시에 진행 중인 요청 수는 {@code police.api.fetch.max-concurrency}로 제한하며, 페이지별 재시도는
+ * 전달받은 조회 함수({@code PoliceApiClient}의 {@code @Retryable} 메서드)가 그대로 담당한다.</p>
+ */
+@Component
+public class PoliceApiPageFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoliceApiPageFetcher.class);
+
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+
+    /**
+     * 생성자
+     *
+     * @param maxConcurrency 동시 페이지 요청 최대 수 (1 이하이면 순차 조회)
+     * @param virtualThreads 가상 스레드 사용 여부 (false면 고정 크기 스레드 풀)
+     */
+    public PoliceApiPageFetcher(
+        @Value("${police.api.fetch.max-concurrency:4}") int maxConcurrency,
+        @Value("${police.api.fetch.virtual-threads:true}") boolean virtualThreads) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.executor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("police-page-", 0).factory())
+            : Executors.newFixedThreadPool(this.maxConcurrency, platformThreadFactory());
+    }
+
+    /**
+     * 조회 기간의 모든 페이지를 가져옴
+     *
+     * @param numOfRows     한 페이지 결과 수
+     * @param maxPages      조회할 최대 페이지 수
+     * @param pageFetcher   페이지 번호로 한 페이지를 조회하는 함수
+     * @param itemsOf       응답에서 아이템 목록을 꺼내는 함수
+     * @param totalCountOf  응답에서 전체 건수를 꺼내는 함수
+     * @param <R>           페이지 응답 타입
+     * @return 페이지 순서대로 정렬된 조회 결과. 첫 페이지 조회 실패 시 예외를 그대로 전달한다.
+     */
+    public <R> PageFetchResult<R> fetchAll(int numOfRows, int maxPages, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, ToIntFunction<R> totalCountOf) {
+        return fetch(1, numOfRows, maxPages, pageFetcher, itemsOf, totalCountOf, null);
+    }
+
+    /**
+     * 조회 기간의 모든 페이지를 가져오면서, 페이지가 준비되는 대로 페이지 순서대로 {@code onPage}에 넘김
+     * (나머지 페이지를 기다리지 않고 다음 단계가 처리를 시작할 수 있도록)
+     *
+     * @param numOfRows     한 페이지 결과 수
+     * @param maxPages      조회할 최대 페이지 수
+     * @param pageFetcher   페이지 번호로 한 페이지를 조회하는 함수
+     * @param itemsOf       응답에서 아이템 목록을 꺼내는 함수
+     * @param totalCountOf  응답에서 전체 건수를 꺼내는 함수
+     * @param onPage        조회된 (비어 있지 않은) 페이지를 받을 함수
+     * @param <R>           페이지 응답 타입
+     * @return 조회 결과. 페이지 응답은 {@code onPage}로만 넘기고 결과에는 보관하지 않는다.
+     *     첫 페이지 조회 실패 시 예외를 그대로 전달한다.
+     */
+    public <R> PageFetchResult<R> fetchAll(int numOfRows, int maxPages, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, ToIntFunction<R> totalCountOf, Consumer<PageFetchResult.Page<R>> onPage) {
+        return fetchFrom(1, numOfRows, maxPages, pageFetcher, itemsOf, totalCountOf, onPage);
+    }
+
+    /**
+     * {@code firstPage}부터 마지막 페이지까지 가져옴 (체크포인트에서 이어받은 조회).
+     * {@code firstPage}로 전체 건수를 확인한 뒤 나머지 페이지는 {@link #fetchAll}과 같이 동시에 조회한다.
+     *
+     * <p>{@code onPage}는 조회 스레드에서 페이지 순서대로 호출되며, 앞 페이지가 준비되는 대로 다음 요청을 보내기 전에
+     * 넘긴다. 따라서 {@code onPage}가 막히면(파이프라인 큐가 가득 찬 경우 등) 새 요청도 멈추고, 받아 두고 아직 넘기지
+     * 못한 응답은 동시 요청 수의 두 배를 넘지 않는다. {@code onPage}가 예외를 던지면 남은 요청을 취소하고 그 예외를
+     * 그대로 전달한다.</p>
+     *
+     * @param firstPage     조회를 시작할 페이지 번호
+     * @param numOfRows     한 페이지 결과 수
+     * @param maxPages      조회할 마지막 페이지 번호 상한
+     * @param pageFetcher   페이지 번호로 한 페이지를 조회하는 함수
+     * @param itemsOf       응답에서 아이템 목록을 꺼내는 함수
+     * @param totalCountOf  응답에서 전체 건수를 꺼내는 함수
+     * @param onPage        조회된 (비어 있지 않은) 페이지를 받을 함수
+     * @param <R>           페이지 응답 타입
+     * @return 조회 결과. 페이지 응답은 {@code onPage}로만 넘기고 결과에는 보관하지 않는다.
+     *     시작 페이지 조회 실패 시 예외를 그대로 전달한다.
+     */
+    public <R> PageFetchResult<R> fetchFrom(int firstPage, int numOfRows, int maxPages, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, ToIntFunction<R> totalCountOf, Consumer<PageFetchResult.Page<R>> onPage) {
+        return fetch(firstPage, numOfRows, maxPages, pageFetcher, itemsOf, totalCountOf, Objects.requireNonNull(onPage));
+    }
+
+    private <R> PageFetchResult<R> fetch(int firstPage, int numOfRows, int maxPages, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, ToIntFunction<R> totalCountOf, Consumer<PageFetchResult.Page<R>> onPage) {
+        Pages<R> pages = new Pages<>(onPage);
+
+        int startPage = Math.max(1, firstPage);
+        R first = pageFetcher.apply(startPage);
+        List<?> firstItems = first != null ? itemsOf.apply(first) : List.of();
+        if (firstItems == null || firstItems.isEmpty()) {
+            return pages.result(0);
+        }
+        pages.add(startPage, first, firstItems.size());
+
+        int totalCount = totalCountOf.applyAsInt(first);
+        if (totalCount <= 0) {
+            // 전체 건수를 알 수 없으면 빈 페이지/마지막 페이지가 나올 때까지 순차 조회
+            fetchSequentially(startPage, numOfRows, maxPages, pageFetcher, itemsOf, firstItems.size(), pages);
+            return pages.result(0);
+        }
+
+        int lastPage = (int) Math.min((long) maxPages, ((long) totalCount + numOfRows - 1) / numOfRows);
+        if (lastPage > startPage) {
+            fetchConcurrently(startPage + 1, lastPage, pageFetcher, itemsOf, pages);
+        }
+        logger.info("[페이지 팬아웃] 전체 {}건, {}페이지 조회 (동시 {}), 실패 페이지: {}",
+            totalCount, lastPage, maxConcurrency, pages.failedPages);
+        return pages.result(totalCount);
+    }
+
+    private <R> void fetchSequentially(int startPage, int numOfRows, int maxPages, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, int firstPageSize, Pages<R> pages) {
+        int lastSize = firstPageSize;
+        for (int pageNo = startPage + 1; pageNo <= maxPages && lastSize >= numOfRows; pageNo++) {
+            R response;
+            try {
+                response = pageFetcher.apply(pageNo);
+            } catch (RuntimeException e) {
+                logger.error("[페이지 팬아웃] {}페이지 조회 실패: {}", pageNo, e.getMessage(), e);
+                pages.failedPages.add(pageNo);
+                return;
+            }
+            List<?> items = response != null ? itemsOf.apply(response) : List.of();
+            if (items == null || items.isEmpty()) {
+                return;
+            }
+            pages.add(pageNo, response, items.size());
+            lastSize = items.size();
+        }
+    }
+
+    private <R> void fetchConcurrently(int fromPage, int toPage, IntFunction<R> pageFetcher,
+        Function<R, List<?>> itemsOf, Pages<R> pages) {
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        // 앞 페이지가 늦어져도 받아 두는 응답이 한없이 쌓이지 않도록, 넘기지 못한 페이지가 이만큼이면 맨 앞을 기다림
+        int maxPending = maxConcurrency * 2;
+        Deque<PendingPage<R>> pending = new ArrayDeque<>();
+        int pageNo = fromPage;
+        try {
+            for (; pageNo <= toPage; pageNo++) {
+                deliverCompleted(pending, itemsOf, pages);
+                while (pending.size() >= maxPending) {
+                    deliver(pending.poll(), itemsOf, pages);
+                }
+                inFlight.acquire();
+                final int page = pageNo;
+                pending.add(new PendingPage<>(page, CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return pageFetcher.apply(page);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, executor)));
+            }
+            while (!pending.isEmpty()) {
+                deliver(pending.poll(), itemsOf, pages);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.forEach(pendingPage -> pendingPage.response().cancel(true));
+            logger.warn("[페이지 팬아웃] 조회 중 인터럽트 발생, {}페이지 이후 요청을 중단합니다.", pageNo);
+            while (!pending.isEmpty()) {
+                deliver(pending.poll(), itemsOf, pages);
+            }
+        } catch (RuntimeException e) {
+            // onPage가 실패하면(저장 실패 등) 받은 응답을 넘길 곳이 없으므로 남은 요청을 취소하고 예외를 그대로 전달
+            pending.forEach(pendingPage -> pendingPage.response().cancel(true));
+            throw e;
+        }
+        for (; pageNo <= toPage; pageNo++) {
+            pages.failedPages.add(pageNo);
+        }
+    }
+
+    /**
+     * 맨 앞부터 이미 완료된 페이지를 순서대로 넘김 (완료되지 않은 페이지를 만나면 멈춤)
+     */
+    private <R> void deliverCompleted(Deque<PendingPage<R>> pending, Function<R, List<?>> itemsOf, Pages<R> pages) {
+        while (!pending.isEmpty() && pending.peek().response().isDone()) {
+            deliver(pending.poll(), itemsOf, pages);
+        }
+    }
+
+    private <R> void deliver(PendingPage<R> pendingPage, Function<R, List<?>> itemsOf, Pages<R> pages) {
+        int pageNo = pendingPage.pageNo();
+        try {
+            R response = pendingPage.response().get();
+            List<?> items = response != null ? itemsOf.apply(response) : List.of();
+            if (items != null && !items.isEmpty()) {
+                pages.add(pageNo, response, items.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingPage.response().cancel(true);
+            pages.failedPages.add(pageNo);
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.error("[페이지 팬아웃] {}페이지 조회 실패: {}", pageNo, cause.getMessage(), cause);
+            pages.failedPages.add(pageNo);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "police-page-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PendingPage<R>(int pageNo, CompletableFuture<R> response) {
+    }
+
+    /**
+     * 조회 한 번의 결과 누적 (조회 스레드 전용). {@code onPage}가 없으면 페이지 응답을 결과에 보관한다.
+     */
+    private static final class Pages<R> {
+        private final Consumer<PageFetchResult.Page<R>> onPage;
+        private final List<PageFetchResult.Page<R>> retained = new ArrayList<>();
+        private final List<Integer> failedPages = new ArrayList<>();
+        private int fetchedItems;
+        private int lastPageNo;
+
+        private Pages(Consumer<PageFetchResult.Page<R>> onPage) {
+            this.onPage = onPage;
+        }
+
+        private void add(int pageNo, R response, int itemCount) {
+            PageFetchResult.Page<R> page = new PageFetchResult.Page<>(pageNo, response);
+            fetchedItems += itemCount;
+            lastPageNo = pageNo;
+            if (onPage == null) {
+                retained.add(page);
+            } else {
+                onPage.accept(page);
+            }
+        }
+
+        private PageFetchResult<R> result(int totalCount) {
+            return new PageFetchResult<>(retained, failedPages, totalCount, fetchedItems, lastPageNo);
+        }
+    }
+}
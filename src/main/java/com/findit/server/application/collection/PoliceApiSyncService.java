@@ -4,25 +4,26 @@ import com.findit.server.domain.founditem.FoundItem;
 import com.findit.server.domain.founditem.FoundItemRepository;
 import com.findit.server.domain.lostitem.LostItem;
 import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
 import com.findit.server.infrastructure.police.client.PoliceApiClient;
-import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
-import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
-import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
-import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import com.findit.server.infrastructure.police.journal.PoliceApiJournal;
+import com.findit.server.infrastructure.police.journal.PoliceApiJournalKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 경찰청 API 데이터 동기화 서비스
+ *
+ * <p>페이지 조회는 트랜잭션 밖에서 하고, 조회된 페이지는 {@link IngestionTransactions}로 커밋 크기만큼 차는 대로 커밋한다.</p>
  */
 @Service
 public class PoliceApiSyncService {
@@ -32,152 +33,217 @@ public class PoliceApiSyncService {
     private static final int DEFAULT_NUM_OF_ROWS = 100;
 
     private final PoliceApiClient policeApiClient;
+    private final PoliceApiPageFetcher pageFetcher;
     private final LostItemRepository lostItemRepository;
     private final FoundItemRepository foundItemRepository;
-    private final LostItemMapper lostItemMapper;
-    private final FoundItemMapper foundItemMapper;
+    private final ItemConverter itemConverter;
+    private final PoliceApiJournal journal;
+    private final SyncCheckpoints checkpoints;
+    private final IngestionTransactions transactions;
 
     public PoliceApiSyncService(PoliceApiClient policeApiClient,
+                               PoliceApiPageFetcher pageFetcher,
                                LostItemRepository lostItemRepository,
                                FoundItemRepository foundItemRepository,
-                               LostItemMapper lostItemMapper,
-                               FoundItemMapper foundItemMapper) {
+                               ItemConverter itemConverter,
+                               PoliceApiJournal journal,
+                               SyncCheckpoints checkpoints,
+                               IngestionTransactions transactions) {
         this.policeApiClient = policeApiClient;
+        this.pageFetcher = pageFetcher;
         this.lostItemRepository = lostItemRepository;
         this.foundItemRepository = foundItemRepository;
-        this.lostItemMapper = lostItemMapper;
-        this.foundItemMapper = foundItemMapper;
+        this.itemConverter = itemConverter;
+        this.journal = journal;
+        this.checkpoints = checkpoints;
+        this.transactions = transactions;
     }
 
-    @Transactional
     public void syncLostItems() {
         logger.info("Starting daily lost items synchronization from Police API for yesterday's data.");
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        fetchAllLostItems(yesterday);
+        String yesterday = LocalDate.now().minusDays(1).format(API_DATE_PARAM_FORMATTER);
+        fetchAllLostItems(yesterday, yesterday, DEFAULT_NUM_OF_ROWS,
+            checkpoints.open(SyncCheckpoints.SYNC_JOB, PoliceApiEndpoint.LOST_ITEMS, rangeKey(yesterday, yesterday)));
     }
 
-    @Transactional
     public void syncFoundItems() {
         logger.info("Starting daily found items synchronization from Police API for yesterday's data.");
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        fetchAllFoundItems(yesterday);
+        String yesterday = LocalDate.now().minusDays(1).format(API_DATE_PARAM_FORMATTER);
+        fetchAllFoundItems(yesterday, yesterday, DEFAULT_NUM_OF_ROWS,
+            checkpoints.open(SyncCheckpoints.SYNC_JOB, PoliceApiEndpoint.FOUND_ITEMS, rangeKey(yesterday, yesterday)));
     }
 
-    private void fetchAllLostItems(LocalDate date) {
-        String dateStr = date.format(API_DATE_PARAM_FORMATTER);
-        int pageNo = 1;
-        int totalSavedCount = 0;
-        int totalUpdatedCount = 0;
-        boolean hasMoreData = true;
-        logger.info("Fetching all lost items from Police API for period: {} to {}", dateStr, dateStr);
-
-        while (hasMoreData) {
-            try {
-                PoliceApiLostItemResponse response = policeApiClient.fetchLostItems(pageNo, DEFAULT_NUM_OF_ROWS, dateStr, dateStr);
-                if (response == null || response.getBody() == null || response.getBody().getItems() == null || response.getBody().getItems().isEmpty()) {
-                    logger.info("No more lost items found or empty response at page {}. Ending sync.", pageNo);
-                    hasMoreData = false;
-                    continue;
-                }
-
-                List<PoliceApiLostItem> apiItems = response.getBody().getItems();
-                int newInThisPage = 0;
-                int updatedInThisPage = 0;
-
-                for (PoliceApiLostItem apiItem : apiItems) {
-                    if (!StringUtils.hasText(apiItem.getLostItemId())) {
-                        logger.warn("Skipping lost item with null or empty atc_id: {}", apiItem);
-                        continue;
-                    }
-                    try {
-                        LostItem mapped = lostItemMapper.map(apiItem);
-                        if (mapped == null) {
-                            logger.debug("Skipping lost item due to incomplete data: {}", apiItem.getLostItemId());
-                            continue;
-                        }
-                        boolean exists = lostItemRepository.existsByAtcId(mapped.getAtcId());
-                        lostItemRepository.save(mapped);
-                        if (exists) {
-                            updatedInThisPage++;
-                        } else {
-                            newInThisPage++;
-                        }
-                    } catch (IllegalArgumentException ex) {
-                        logger.warn("Skipping lost item [{}] due to invalid data: {}", apiItem.getLostItemId(), ex.getMessage());
-                    }
-                }
-                totalSavedCount += newInThisPage;
-                totalUpdatedCount += updatedInThisPage;
-                logger.info("Page {}: Processed {} lost items ({} new, {} updated).", pageNo, apiItems.size(), newInThisPage, updatedInThisPage);
-
-                if (pageNo * DEFAULT_NUM_OF_ROWS >= response.getBody().getTotalCount() || apiItems.size() < DEFAULT_NUM_OF_ROWS) {
-                    hasMoreData = false;
-                }
-                pageNo++;
-            } catch (Exception e) {
-                logger.error("Error during lost items synchronization at page {}: {}", pageNo, e.getMessage(), e);
-                hasMoreData = false;
-            }
+    /**
+     * 원본 응답 저널에 기록된 모든 조회 기간을 다시 적재
+     * police.api.journal.mode=REPLAY에서 실행하면 API 쿼터를 쓰지 않고 디스크에서 재처리한다.
+     * 재처리는 항상 처음부터 다시 적재하므로 체크포인트를 남기지 않는다.
+     */
+    public void replayJournal() {
+        if (!journal.isReplaying()) {
+            logger.warn("Journal replay requested but police.api.journal.mode is {}. Skipping.", journal.getMode());
+            return;
+        }
+        List<PoliceApiJournalKey.Range> lostRanges = journal.recordedRanges(PoliceApiEndpoint.LOST_ITEMS);
+        List<PoliceApiJournalKey.Range> foundRanges = journal.recordedRanges(PoliceApiEndpoint.FOUND_ITEMS);
+        logger.info("Replaying Police API journal: {} lost ranges, {} found ranges.", lostRanges.size(), foundRanges.size());
+        for (PoliceApiJournalKey.Range range : lostRanges) {
+            fetchAllLostItems(range.startYmd(), range.endYmd(), range.numOfRows(), checkpoints.untracked());
+        }
+        for (PoliceApiJournalKey.Range range : foundRanges) {
+            fetchAllFoundItems(range.startYmd(), range.endYmd(), range.numOfRows(), checkpoints.untracked());
+        }
+    }
+
+    private static String rangeKey(String startYmd, String endYmd) {
+        return startYmd + "-" + endYmd;
+    }
+
+    private void fetchAllLostItems(String startYmd, String endYmd, int numOfRows,
+                                    SyncCheckpoints.Checkpoint checkpoint) {
+        UpsertTotals totals = new UpsertTotals();
+        logger.info("Fetching all lost items from Police API for period: {} to {}", startYmd, endYmd);
+
+        // 이전 실행이 중간에 끊겼으면 체크포인트에 기록된 마지막 저장 페이지부터 이어서 조회
+        int startPage = checkpoint.startPage();
+        checkpoint.start();
+        // 페이지가 오는 대로 커밋 크기만큼 모아 묶음마다 짧은 트랜잭션으로 저장하고, 커밋한 페이지만 체크포인트에 반영.
+        // 기간 전체를 메모리에 쌓지 않으며, 저장하는 동안은 새 페이지 요청도 멈춤
+        IngestionTransactions.ChunkBuffer<PageFetchResult.Page<PoliceApiLostItemResponse>> buffer = transactions.buffer(
+            page -> page.response().getItems().size(), chunk -> saveLostChunk(chunk, checkpoint, totals));
+        PageFetchResult<PoliceApiLostItemResponse> result;
+        try {
+            result = pageFetcher.fetchFrom(startPage, numOfRows, Integer.MAX_VALUE,
+                pageNo -> policeApiClient.fetchLostItems(pageNo, numOfRows, startYmd, endYmd),
+                PoliceApiLostItemResponse::getItems, PoliceApiLostItemResponse::getTotalCount, buffer::add);
+            buffer.flush();
+        } catch (ChunkWriteException e) {
+            // 이 묶음만 롤백됨. 이후 묶음은 저장하지 않고 멈춰 다음 실행이 마지막 커밋 페이지부터 이어받게 함
+            logger.error("Failed to save lost items for pages {}-{}; the next run resumes from the checkpoint: {}",
+                e.firstPage, e.lastPage, e.getCause().getMessage(), e.getCause());
+            checkpoint.fail();
+            return;
+        } catch (Exception e) {
+            logger.error("Error during lost items synchronization at page {}: {}", startPage, e.getMessage(), e);
+            checkpoint.fail();
+            return;
+        }
+        checkpoint.finish(result);
+        if (result.hasFailures()) {
+            logger.error("Lost items synchronization could not fetch pages {} after retries; the next run resumes from the checkpoint.",
+                result.failedPages());
+        }
+        logger.info("Finished lost items synchronization. Total new items: {}, Total updated items: {}.", totals.inserted, totals.updated);
+    }
+
+    private void saveLostChunk(List<PageFetchResult.Page<PoliceApiLostItemResponse>> chunk,
+                                SyncCheckpoints.Checkpoint checkpoint, UpsertTotals totals) {
+        int firstPage = chunk.get(0).pageNo();
+        int lastPage = chunk.get(chunk.size() - 1).pageNo();
+        // 매핑·검증에서 걸러진 원본은 사유와 함께 dead-letter로 보관되어 재조회 없이 재처리할 수 있음
+        List<LostItem> mappedItems = new ArrayList<>();
+        int fetchedInChunk = 0;
+        for (PageFetchResult.Page<PoliceApiLostItemResponse> page : chunk) {
+            mappedItems.addAll(itemConverter.toLostItems(page.response().getItems()));
+            fetchedInChunk += page.response().getItems().size();
+        }
+        // 신규/갱신 여부는 업서트 결과(RETURNING)로 받아 묶음당 한 번의 왕복으로 처리
+        UpsertResult upserted;
+        try {
+            upserted = transactions.write(() -> lostItemRepository.upsertBatchWithResult(mappedItems));
+        } catch (RuntimeException e) {
+            throw new ChunkWriteException(firstPage, lastPage, e);
+        }
+        totals.add(upserted);
+        logger.info("Pages {}-{}: Processed {} lost items ({} new, {} updated, {} unchanged).", firstPage,
+            lastPage, fetchedInChunk, upserted.inserted(), upserted.updated(), upserted.unchanged());
+        chunk.forEach(page -> checkpoint.pageCompleted(page.pageNo()));
+    }
+
+    private void fetchAllFoundItems(String startYmd, String endYmd, int numOfRows,
+                                    SyncCheckpoints.Checkpoint checkpoint) {
+        UpsertTotals totals = new UpsertTotals();
+        logger.info("Fetching all found items from Police API for period: {} to {}", startYmd, endYmd);
+
+        // 이전 실행이 중간에 끊겼으면 체크포인트에 기록된 마지막 저장 페이지부터 이어서 조회
+        int startPage = checkpoint.startPage();
+        checkpoint.start();
+        // 페이지가 오는 대로 커밋 크기만큼 모아 묶음마다 짧은 트랜잭션으로 저장하고, 커밋한 페이지만 체크포인트에 반영.
+        // 기간 전체를 메모리에 쌓지 않으며, 저장하는 동안은 새 페이지 요청도 멈춤
+        IngestionTransactions.ChunkBuffer<PageFetchResult.Page<PoliceApiFoundItemResponse>> buffer = transactions.buffer(
+            page -> page.response().getItems().size(), chunk -> saveFoundChunk(chunk, checkpoint, totals));
+        PageFetchResult<PoliceApiFoundItemResponse> result;
+        try {
+            result = pageFetcher.fetchFrom(startPage, numOfRows, Integer.MAX_VALUE,
+                pageNo -> policeApiClient.fetchFoundItems(pageNo, numOfRows, startYmd, endYmd),
+                PoliceApiFoundItemResponse::getItems, PoliceApiFoundItemResponse::getTotalCount, buffer::add);
+            buffer.flush();
+        } catch (ChunkWriteException e) {
+            // 이 묶음만 롤백됨. 이후 묶음은 저장하지 않고 멈춰 다음 실행이 마지막 커밋 페이지부터 이어받게 함
+            logger.error("Failed to save found items for pages {}-{}; the next run resumes from the checkpoint: {}",
+                e.firstPage, e.lastPage, e.getCause().getMessage(), e.getCause());
+            checkpoint.fail();
+            return;
+        } catch (Exception e) {
+            logger.error("Error during found items synchronization at page {}: {}", startPage, e.getMessage(), e);
+            checkpoint.fail();
+            return;
+        }
+        checkpoint.finish(result);
+        if (result.hasFailures()) {
+            logger.error("Found items synchronization could not fetch pages {} after retries; the next run resumes from the checkpoint.",
+                result.failedPages());
+        }
+        logger.info("Finished found items synchronization. Total new items: {}, Total updated items: {}.", totals.inserted, totals.updated);
+    }
+
+    private void saveFoundChunk(List<PageFetchResult.Page<PoliceApiFoundItemResponse>> chunk,
+                                SyncCheckpoints.Checkpoint checkpoint, UpsertTotals totals) {
+        int firstPage = chunk.get(0).pageNo();
+        int lastPage = chunk.get(chunk.size() - 1).pageNo();
+        // 매핑·검증에서 걸러진 원본은 사유와 함께 dead-letter로 보관되어 재조회 없이 재처리할 수 있음
+        List<FoundItem> mappedItems = new ArrayList<>();
+        int fetchedInChunk = 0;
+        for (PageFetchResult.Page<PoliceApiFoundItemResponse> page : chunk) {
+            mappedItems.addAll(itemConverter.toFoundItems(page.response().getItems()));
+            fetchedInChunk += page.response().getItems().size();
+        }
+        // 신규/갱신 여부는 업서트 결과(RETURNING)로 받아 묶음당 한 번의 왕복으로 처리
+        UpsertResult upserted;
+        try {
+            upserted = transactions.write(() -> foundItemRepository.upsertBatchWithResult(mappedItems));
+        } catch (RuntimeException e) {
+            throw new ChunkWriteException(firstPage, lastPage, e);
+        }
+        totals.add(upserted);
+        logger.info("Pages {}-{}: Processed {} found items ({} new, {} updated, {} unchanged).", firstPage,
+            lastPage, fetchedInChunk, upserted.inserted(), upserted.updated(), upserted.unchanged());
+        chunk.forEach(page -> checkpoint.pageCompleted(page.pageNo()));
+    }
+
+    /**
+     * 동기화 한 번의 업서트 건수 합계 (조회 스레드 전용)
+     */
+    private static final class UpsertTotals {
+        private int inserted;
+        private int updated;
+
+        private void add(UpsertResult result) {
+            inserted += result.inserted();
+            updated += result.updated();
         }
-        logger.info("Finished lost items synchronization. Total new items: {}, Total updated items: {}.", totalSavedCount, totalUpdatedCount);
     }
 
-    private void fetchAllFoundItems(LocalDate date) {
-        String dateStr = date.format(API_DATE_PARAM_FORMATTER);
-        int pageNo = 1;
-        int totalSavedCount = 0;
-        int totalUpdatedCount = 0;
-        boolean hasMoreData = true;
-        logger.info("Fetching all found items from Police API for period: {} to {}", dateStr, dateStr);
-
-        while (hasMoreData) {
-            try {
-                PoliceApiFoundItemResponse response = policeApiClient.fetchFoundItems(pageNo, DEFAULT_NUM_OF_ROWS, dateStr, dateStr);
-                if (response == null || response.getBody() == null || response.getBody().getItems() == null || response.getBody().getItems().isEmpty()) {
-                    logger.info("No more found items found or empty response at page {}. Ending sync.", pageNo);
-                    hasMoreData = false;
-                    continue;
-                }
-
-                List<PoliceApiFoundItem> apiItems = response.getBody().getItems();
-                int newInThisPage = 0;
-                int updatedInThisPage = 0;
-
-                for (PoliceApiFoundItem apiItem : apiItems) {
-                    if (!StringUtils.hasText(apiItem.getAtcId()) && !StringUtils.hasText(apiItem.getFdSn())) {
-                        logger.warn("Skipping found item with missing identifiers: {}", apiItem);
-                        continue;
-                    }
-                    try {
-                        FoundItem mapped = foundItemMapper.map(apiItem);
-                        if (mapped == null) {
-                            logger.debug("Skipping found item due to incomplete data: {}", apiItem);
-                            continue;
-                        }
-                        boolean exists = foundItemRepository.existsByAtcId(mapped.getAtcId());
-                        foundItemRepository.save(mapped);
-                        if (exists) {
-                            updatedInThisPage++;
-                        } else {
-                            newInThisPage++;
-                        }
-                    } catch (IllegalArgumentException ex) {
-                        logger.warn("Skipping found item [{}] due to invalid data: {}", apiItem.getAtcId(), ex.getMessage());
-                    }
-                }
-                totalSavedCount += newInThisPage;
-                totalUpdatedCount += updatedInThisPage;
-                logger.info("Page {}: Processed {} found items ({} new, {} updated).", pageNo, apiItems.size(), newInThisPage, updatedInThisPage);
-
-                if (pageNo * DEFAULT_NUM_OF_ROWS >= response.getBody().getTotalCount() || apiItems.size() < DEFAULT_NUM_OF_ROWS) {
-                    hasMoreData = false;
-                }
-                pageNo++;
-            } catch (Exception e) {
-                logger.error("Error during found items synchronization at page {}: {}", pageNo, e.getMessage(), e);
-                hasMoreData = false;
-            }
+    /**
+     * 묶음 저장 실패. 페이지 조회를 중단시키고 실패한 페이지 범위를 호출한 쪽에 전달한다.
+     */
+    private static final class ChunkWriteException extends RuntimeException {
+        private final int firstPage;
+        private final int lastPage;
+
+        private ChunkWriteException(int firstPage, int lastPage, RuntimeException cause) {
+            super(cause);
+            this.firstPage = firstPage;
+            this.lastPage = lastPage;
         }
-        logger.info("Finished found items synchronization. Total new items: {}, Total updated items: {}.", totalSavedCount, totalUpdatedCount);
     }
 }
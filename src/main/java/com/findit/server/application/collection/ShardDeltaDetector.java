@@ -0,0 +1,144 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.infrastructure.persistence.sync.SyncShardCount;
+import com.findit.server.infrastructure.persistence.sync.SyncShardCountRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 건수 프로브 기반 날짜 샤드 변경 감지기
+ *
+ * <p>샤드마다 {@code numOfRows=1}로 전체 건수(totalCount)만 조회해 마지막 전체 조회 때 기록한 건수와 비교하고,
+ * 건수가 바뀐 샤드만 다시 전체 조회하도록 한다. 건수가 같아도 내용이 수정됐을 수 있으므로
+ * {@code collection.delta.force-refresh-hours}가 지난 샤드는 강제로 다시 조회한다.
+ * 기록이 없는 샤드는 프로브 없이 바로 전체 조회한다. 프로브나 저장소 조회가 실패하면 안전하게 전체 조회 대상으로 본다.</p>
+ */
+@Component
+public class ShardDeltaDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardDeltaDetector.class);
+
+    /**
+     * 샤드별 판단 결과 (메트릭 태그)
+     */
+    enum Decision {
+        NEW,
+        CHANGED,
+        FORCED,
+        PROBE_FAILED,
+        UNCHANGED
+    }
+
+    private final PoliceApiClient apiClient;
+    private final SyncShardCountRepository repository;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Duration forceRefreshAfter;
+    private final Clock clock;
+
+    @Autowired
+    public ShardDeltaDetector(PoliceApiClient apiClient, SyncShardCountRepository repository, MeterRegistry registry,
+        @Value("${collection.delta.enabled:true}") boolean enabled,
+        @Value("${collection.delta.force-refresh-hours:24}") long forceRefreshHours) {
+        this(apiClient, repository, registry, enabled, Duration.ofHours(forceRefreshHours), Clock.systemUTC());
+    }
+
+    ShardDeltaDetector(PoliceApiClient apiClient, SyncShardCountRepository repository, MeterRegistry registry,
+        boolean enabled, Duration forceRefreshAfter, Clock clock) {
+        this.apiClient = apiClient;
+        this.repository = repository;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.forceRefreshAfter = forceRefreshAfter;
+        this.clock = clock;
+    }
+
+    /**
+     * 샤드를 다시 전체 조회해야 하는지 판단
+     *
+     * @param endpoint 조회 대상 엔드포인트
+     * @param shard    날짜 샤드
+     * @return 전체 조회가 필요하면 true. 감지가 꺼져 있으면 항상 true
+     */
+    public boolean needsRefresh(PoliceApiEndpoint endpoint, DateShard shard) {
+        if (!enabled) {
+            return true;
+        }
+        Decision decision = decide(endpoint, shard);
+        registry.counter("collection.delta.shards", "endpoint", endpoint.name(), "decision", decision.name())
+            .increment();
+        return decision != Decision.UNCHANGED;
+    }
+
+    /**
+     * 전체 조회를 마친 샤드의 건수를 기록 (조회 실패 페이지가 있으면 호출하지 않아야 다음 실행에서 다시 조회된다)
+     *
+     * @param endpoint   조회 대상 엔드포인트
+     * @param shard      날짜 샤드
+     * @param totalCount 전체 조회 시점의 전체 건수
+     */
+    public void markRefreshed(PoliceApiEndpoint endpoint, DateShard shard, int totalCount) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            repository.saveRefreshed(endpoint, shard.ymd(), totalCount, clock.instant());
+        } catch (DataAccessException e) {
+            logger.warn("[건수 프로브] {} 샤드 {} 건수 기록 실패: {}", endpoint, shard, e.getMessage());
+        }
+    }
+
+    private Decision decide(PoliceApiEndpoint endpoint, DateShard shard) {
+        Optional<SyncShardCount> stored;
+        try {
+            stored = repository.find(endpoint, shard.ymd());
+        } catch (DataAccessException e) {
+            logger.warn("[건수 프로브] {} 샤드 {} 기록 조회 실패, 전체 조회합니다: {}", endpoint, shard, e.getMessage());
+            return Decision.PROBE_FAILED;
+        }
+        if (stored.isEmpty()) {
+            // 비교할 기록이 없으면 어차피 전체 조회하므로 프로브로 일일 한도를 쓰지 않음
+            return Decision.NEW;
+        }
+        SyncShardCount previous = stored.get();
+        Instant now = clock.instant();
+        if (!now.isBefore(previous.refreshedAt().plus(forceRefreshAfter))) {
+            // 강제 재조회 주기가 지났으면 건수와 무관하게 전체 조회하므로 프로브를 생략
+            return Decision.FORCED;
+        }
+
+        int probed;
+        try {
+            probed = apiClient.probeTotalCount(endpoint, shard.ymd(), shard.ymd());
+        } catch (RuntimeException e) {
+            logger.warn("[건수 프로브] {} 샤드 {} 프로브 실패, 전체 조회합니다: {}", endpoint, shard, e.getMessage());
+            return Decision.PROBE_FAILED;
+        }
+        if (probed < 0) {
+            return Decision.PROBE_FAILED;
+        }
+
+        if (previous.totalCount() != probed) {
+            logger.info("[건수 프로브] {} 샤드 {} 건수 변경 {} -> {}", endpoint, shard, previous.totalCount(), probed);
+            return Decision.CHANGED;
+        }
+        try {
+            repository.touchProbed(endpoint, shard.ymd(), now);
+        } catch (DataAccessException e) {
+            logger.debug("[건수 프로브] {} 샤드 {} 확인 시각 갱신 실패: {}", endpoint, shard, e.getMessage());
+        }
+        logger.info("[건수 프로브] {} 샤드 {} 변경 없음 ({}건), 전체 조회를 건너뜁니다.", endpoint, shard, probed);
+        return Decision.UNCHANGED;
+    }
+}
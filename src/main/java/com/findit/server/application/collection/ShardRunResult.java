@@ -0,0 +1,16 @@
+package com.findit.server.application.collection;
+
+import java.util.List;
+
+/**
+ * 날짜 샤드 병렬 처리 결과
+ *
+ * @param savedItems   성공한 샤드가 저장한 건수의 합
+ * @param failedShards 처리 중 예외가 발생한 샤드
+ */
+public record ShardRunResult(int savedItems, List<DateShard> failedShards) {
+
+    public boolean hasFailures() {
+        return !failedShards.isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.infrastructure.persistence.sync.SyncState;
+import com.findit.server.infrastructure.persistence.sync.SyncStateRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncStatus;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 체크포인트 관리자 (sync_state)
+ *
+ * <p>작업/엔드포인트/샤드마다 1페이지부터 빠짐없이 저장을 마친 마지막 페이지(워터마크)와 상태를 기록한다.
+ * 배포·OOM·업스트림 장애로 실행이 중간에 끝나면 상태가 RUNNING/FAILED로 남으므로, 다음 실행은
+ * {@code collection.checkpoint.resume-within-hours} 안의 체크포인트라면 처음부터가 아니라 워터마크부터 이어서 조회한다.
+ * 체크포인트 기록이 실패해도 수집 자체는 계속 진행한다(다음 실행이 조금 더 앞에서 시작할 뿐이다).</p>
+ */
+@Component
+public class SyncCheckpoints {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncCheckpoints.class);
+
+    /** 날짜 샤드 배치 수집 ({@code collectAndSaveUniqueItems}) */
+    public static final String COLLECTION_JOB = "collection";
+    /** 기간 동기화 ({@code PoliceApiSyncService}) */
+    public static final String SYNC_JOB = "sync";
+    /** 과거 기간 백필 ({@code BackfillService}) */
+    public static final String BACKFILL_JOB = "backfill";
+
+    private final SyncStateRepository repository;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Duration resumeWithin;
+    private final Clock clock;
+
+    @Autowired
+    public SyncCheckpoints(SyncStateRepository repository, MeterRegistry registry,
+        @Value("${collection.checkpoint.enabled:true}") boolean enabled,
+        @Value("${collection.checkpoint.resume-within-hours:12}") long resumeWithinHours) {
+        this(repository, registry, enabled, Duration.ofHours(resumeWithinHours), Clock.systemUTC());
+    }
+
+    SyncCheckpoints(SyncStateRepository repository, MeterRegistry registry, boolean enabled, Duration resumeWithin,
+        Clock clock) {
+        this.repository = repository;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.resumeWithin = resumeWithin;
+        this.clock = clock;
+    }
+
+    /**
+     * 샤드의 체크포인트를 불러옴. 이어받을 수 있는 체크포인트가 없으면 1페이지부터 시작하는 체크포인트를 돌려준다.
+     *
+     * @param job      수집 작업 이름
+     * @param endpoint 조회 대상 엔드포인트
+     * @param shardKey 샤드 키
+     * @return 체크포인트 (아직 아무것도 기록하지 않은 상태, 조회를 시작할 때 {@link Checkpoint#start()} 호출)
+     */
+    public Checkpoint open(String job, PoliceApiEndpoint endpoint, String shardKey) {
+        if (!enabled) {
+            return untracked();
+        }
+        Instant now = clock.instant();
+        Optional<SyncState> stored;
+        try {
+            stored = repository.find(job, endpoint, shardKey);
+        } catch (DataAccessException e) {
+            logger.warn("[체크포인트] {} {} 샤드 {} 조회 실패, 처음부터 조회합니다: {}", job, endpoint, shardKey, e.getMessage());
+            return new Checkpoint(job, endpoint, shardKey, 0, now, false, true);
+        }
+        Optional<SyncState> resumable = stored.filter(state -> isResumable(state, now));
+        if (resumable.isEmpty()) {
+            boolean completed = stored.map(state -> state.status() == SyncStatus.COMPLETED).orElse(false);
+            return new Checkpoint(job, endpoint, shardKey, 0, now, completed, true);
+        }
+        SyncState previous = resumable.get();
+        registry.counter("collection.checkpoint.resumed", "job", job, "endpoint", endpoint.name()).increment();
+        logger.info("[체크포인트] {} {} 샤드 {} 이전 실행({}, {}페이지까지 저장)을 이어서 조회합니다.", job, endpoint, shardKey,
+            previous.status(), previous.lastPage());
+        return new Checkpoint(job, endpoint, shardKey, previous.lastPage(), previous.startedAt(), false, true);
+    }
+
+    /**
+     * 기록하지 않는 체크포인트 (저널 재처리처럼 항상 처음부터 다시 적재하는 경우)
+     */
+    public Checkpoint untracked() {
+        return new Checkpoint(null, null, null, 0, null, false, false);
+    }
+
+    private boolean isResumable(SyncState state, Instant now) {
+        return state.status() != SyncStatus.COMPLETED
+            && state.lastPage() > 0
+            && now.isBefore(state.updatedAt().plus(resumeWithin));
+    }
+
+    /**
+     * 샤드 하나의 체크포인트. 저장 완료 페이지가 순서와 상관없이 도착해도(파이프라인 저장 워커) 빠진 페이지 없이
+     * 이어진 구간까지만 워터마크를 올린다.
+     */
+    public final class Checkpoint {
+
+        private final String job;
+        private final PoliceApiEndpoint endpoint;
+        private final String shardKey;
+        private final int resumedAfter;
+        private final Instant startedAt;
+        private final boolean previouslyCompleted;
+        private final boolean tracked;
+        private final BitSet completedAhead = new BitSet();
+        private int lastPage;
+        private int totalCount;
+
+        private Checkpoint(String job, PoliceApiEndpoint endpoint, String shardKey, int resumedAfter,
+            Instant startedAt, boolean previouslyCompleted, boolean tracked) {
+            this.job = job;
+            this.endpoint = endpoint;
+            this.shardKey = shardKey;
+            this.resumedAfter = resumedAfter;
+            this.startedAt = startedAt;
+            this.previouslyCompleted = previouslyCompleted;
+            this.tracked = tracked;
+            this.lastPage = resumedAfter;
+        }
+
+        /**
+         * @return 이전 실행을 이어받았으면 true
+         */
+        public boolean isResumed() {
+            return resumedAfter > 0;
+        }
+
+        /**
+         * @return 마지막 실행이 이 샤드를 끝까지 저장했으면 true (기간이 지나도 유지)
+         */
+        public boolean isPreviouslyCompleted() {
+            return previouslyCompleted;
+        }
+
+        /**
+         * 조회를 시작할 페이지. 이어받는 경우 마지막 저장 페이지부터 다시 조회해, 그 사이 새 항목이 들어와
+         * 페이지 경계가 밀려도 빠지는 항목이 없도록 한다 (업서트라 겹친 페이지는 변경 없음으로 처리된다).
+         */
+        public int startPage() {
+            return Math.max(1, resumedAfter);
+        }
+
+        /**
+         * 조회 시작을 기록 (RUNNING)
+         */
+        public synchronized void start() {
+            persist(SyncStatus.RUNNING);
+        }
+
+        /**
+         * 페이지 저장 완료를 기록. 빠진 페이지 없이 이어진 구간이 늘어났을 때만 저장한다.
+         *
+         * @param pageNo 저장을 마친 페이지 번호
+         */
+        public synchronized void pageCompleted(int pageNo) {
+            if (pageNo <= lastPage) {
+                return;
+            }
+            completedAhead.set(pageNo);
+            int watermark = lastPage;
+            while (completedAhead.get(watermark + 1)) {
+                completedAhead.clear(watermark + 1);
+                watermark++;
+            }
+            if (watermark > lastPage) {
+                lastPage = watermark;
+                persist(SyncStatus.RUNNING);
+            }
+        }
+
+        /**
+         * 조회를 마친 결과를 기록. 실패 페이지가 있으면 FAILED로 남겨 다음 실행이 워터마크부터 이어받게 한다.
+         *
+         * @param result 페이지 조회 결과
+         */
+        public synchronized void finish(PageFetchResult<?> result) {
+            totalCount = result.totalCount();
+            persist(result.hasFailures() ? SyncStatus.FAILED : SyncStatus.COMPLETED);
+        }
+
+        /**
+         * 조회/저장 중 예외로 중단됐음을 기록
+         */
+        public synchronized void fail() {
+            persist(SyncStatus.FAILED);
+        }
+
+        private void persist(SyncStatus status) {
+            if (!tracked) {
+                return;
+            }
+            try {
+                repository.save(new SyncState(job, endpoint, shardKey, status, lastPage, totalCount, startedAt,
+                    clock.instant()));
+            } catch (DataAccessException e) {
+                logger.warn("[체크포인트] {} {} 샤드 {} 기록 실패 ({}, {}페이지): {}", job, endpoint, shardKey, status,
+                    lastPage, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.findit.server.application.collection.backfill;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 백필 진행 상황 스냅샷
+ *
+ * @param id              작업 ID
+ * @param status          작업 상태
+ * @param from            백필 시작일
+ * @param to              백필 종료일
+ * @param endpoints       대상 엔드포인트
+ * @param refresh         이전 실행에서 완료된 샤드도 다시 조회하는지 여부
+ * @param cancelRequested 취소가 요청되었는지 여부 (진행 중인 페이지를 마무리하는 동안 상태는 RUNNING)
+ * @param totalShards     전체 샤드 수 (일 수 x 엔드포인트 수)
+ * @param completedShards 이번 실행에서 저장을 마친 샤드 수
+ * @param skippedShards   이전 실행에서 이미 완료되어 건너뛴 샤드 수
+ * @param failedShards    실패한 샤드 수
+ * @param percentDone     처리한(완료/건너뜀/실패) 샤드 비율 (0~100)
+ * @param pagesFetched    조회한 페이지 수
+ * @param itemsWritten    저장(업서트)한 항목 수
+ * @param itemsInserted   새로 삽입된 항목 수
+ * @param itemsUpdated    내용이 바뀌어 갱신된 항목 수
+ * @param itemsUnchanged  내용이 같아 갱신을 건너뛴 항목 수
+ * @param itemsInvalid    매핑·검증에서 걸러진 항목 수
+ * @param pagesPerSecond  초당 조회 페이지 수 (경과 시간 기준 평균)
+ * @param itemsPerSecond  초당 저장 항목 수 (경과 시간 기준 평균)
+ * @param startedAt       시작 시각
+ * @param finishedAt      종료 시각 (진행 중이면 null)
+ * @param elapsedSeconds  경과 시간(초)
+ * @param etaSeconds      남은 예상 시간(초). 처리한 샤드가 없거나 종료되었으면 null
+ * @param failedShardKeys 실패한 샤드 (엔드포인트:yyyyMMdd)
+ */
+public record BackfillProgress(String id, BackfillStatus status, LocalDate from, LocalDate to,
+    List<PoliceApiEndpoint> endpoints, boolean refresh, boolean cancelRequested, int totalShards, int completedShards,
+    int skippedShards, int failedShards, double percentDone, long pagesFetched, long itemsWritten, long itemsInserted,
+    long itemsUpdated, long itemsUnchanged, long itemsInvalid, double pagesPerSecond, double itemsPerSecond,
+    Instant startedAt, Instant finishedAt, long elapsedSeconds, Long etaSeconds, List<String> failedShardKeys) {
+}
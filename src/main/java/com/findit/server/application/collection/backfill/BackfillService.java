@@ -0,0 +1,445 @@
+package com.findit.server.application.collection.backfill;
+
+import com.findit.server.application.collection.DateShard;
+import com.findit.server.application.collection.DateShardRunner;
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.IngestionTarget;
+import com.findit.server.application.collection.IngestionTargets;
+import com.findit.server.application.collection.PageFetchResult;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.collection.SyncCheckpoints;
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.exception.ConflictException;
+import com.findit.server.exception.InvalidRequestException;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 과거 기간 백필 서비스
+ *
+ * <p>임의의 기간을 하루 단위 샤드로 나눠 {@link DateShardRunner}로 병렬 처리하고, 샤드마다 끝 페이지까지 조회한
+ * 페이지를 {@link IngestionPipeline}으로 넘겨 배치 업서트로 저장한다. API 호출은 {@link PoliceApiCallPriority#BACKFILL}
+ * 우선순위로 나가므로 정기 동기화 몫의 쿼터는 건드리지 않고 속도 제한 안에서 토큰을 기다리며 진행한다.
+ * 샤드별 진행은 {@link SyncCheckpoints}(작업 {@code backfill})에 남아 같은 기간을 다시 실행하면 완료된 샤드는 건너뛰고
+ * 중단된 샤드는 저장을 마친 페이지부터 이어서 처리한다. 한 번에 하나의 백필만 실행한다.</p>
+ *
+ * <p>최근 실행은 작업 ID로 진행 상황(신규/갱신/검증 탈락 건수, 처리량)을 조회할 수 있고, 취소는 협조적으로
+ * 처리된다. 취소가 요청되면 아직 시작하지 않은 샤드와 페이지는 조회하지 않고, 이미 조회한 페이지만 저장한 뒤
+ * 체크포인트를 남기고 멈춘다.</p>
+ */
+@Service
+public class BackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackfillService.class);
+
+    // Retry-After가 이보다 길면 일시적인 속도 제한이 아니라 일일 쿼터 소진으로 보고 남은 샤드를 멈춤
+    private static final Duration QUOTA_EXHAUSTED_THRESHOLD = Duration.ofMinutes(5);
+
+    // 작업 ID로 조회할 수 있게 남겨 둘 최근 실행 수
+    private static final int RECENT_RUNS = 20;
+
+    private final PoliceApiClient apiClient;
+    private final PoliceApiPageFetcher pageFetcher;
+    private final DateShardRunner shardRunner;
+    private final IngestionPipeline pipeline;
+    private final SyncCheckpoints checkpoints;
+    private final IngestionTargets targets;
+    private final MeterRegistry registry;
+    private final int maxDays;
+    private final Clock clock;
+    private final ExecutorService executor;
+
+    private final Map<String, Run> recentRuns = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Run> eldest) {
+            return size() > RECENT_RUNS;
+        }
+    };
+
+    private volatile Run current;
+
+    /**
+     * 생성자
+     *
+     * @param apiClient           경찰청 API 클라이언트
+     * @param pageFetcher         페이지 팬아웃 조회기
+     * @param shardRunner         날짜 샤드 병렬 처리기
+     * @param pipeline            조회→변환→저장 단계별 수집 파이프라인
+     * @param checkpoints         페이지 단위 수집 체크포인트
+     * @param targets             엔드포인트별 조회/변환/저장 묶음
+     * @param registry            메트릭 레지스트리
+     * @param maxDays             한 번에 백필할 수 있는 최대 일 수
+     */
+    @Autowired
+    public BackfillService(PoliceApiClient apiClient,
+        PoliceApiPageFetcher pageFetcher,
+        DateShardRunner shardRunner,
+        IngestionPipeline pipeline,
+        SyncCheckpoints checkpoints,
+        IngestionTargets targets,
+        MeterRegistry registry,
+        @Value("${collection.backfill.max-days:3660}") int maxDays) {
+        this(apiClient, pageFetcher, shardRunner, pipeline, checkpoints, targets, registry, maxDays,
+            Clock.systemDefaultZone());
+    }
+
+    BackfillService(PoliceApiClient apiClient, PoliceApiPageFetcher pageFetcher, DateShardRunner shardRunner,
+        IngestionPipeline pipeline, SyncCheckpoints checkpoints, IngestionTargets targets, MeterRegistry registry,
+        int maxDays, Clock clock) {
+        this.apiClient = apiClient;
+        this.pageFetcher = pageFetcher;
+        this.shardRunner = shardRunner;
+        this.pipeline = pipeline;
+        this.checkpoints = checkpoints;
+        this.targets = targets;
+        this.registry = registry;
+        this.maxDays = Math.max(1, maxDays);
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("backfill-", 0).factory());
+
+        registerGauge("total", run -> run.totalShards);
+        registerGauge("completed", run -> run.completedShards.get());
+        registerGauge("skipped", run -> run.skippedShards.get());
+        registerGauge("failed", run -> run.failedShards.get());
+        registry.gauge("collection.backfill.eta.seconds", this, service -> {
+            Run run = service.current;
+            Long eta = run != null ? run.snapshot(clock.instant()).etaSeconds() : null;
+            return eta != null ? eta : 0;
+        });
+    }
+
+    /**
+     * 백필을 비동기로 시작
+     *
+     * @param from      시작일 (포함)
+     * @param to        종료일 (포함)
+     * @param endpoints 대상 엔드포인트 (비어 있으면 분실물/습득물 모두)
+     * @param refresh   true면 이전 실행에서 완료된 샤드도 처음부터 다시 조회 (최근 기간 재동기화)
+     * @return 시작 시점의 진행 상황
+     * @throws InvalidRequestException 기간이 잘못되었거나 너무 긴 경우
+     * @throws ConflictException       API가 비활성화되어 있거나 다른 백필이 진행 중인 경우
+     */
+    public synchronized BackfillProgress start(LocalDate from, LocalDate to, Collection<PoliceApiEndpoint> endpoints,
+        boolean refresh) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidRequestException("백필 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new InvalidRequestException("백필 기간은 최대 " + maxDays + "일까지 지정할 수 있습니다: " + days + "일");
+        }
+        if (!apiClient.isEnabled()) {
+            throw new ConflictException("Police API 비활성화 상태라 백필을 시작할 수 없습니다.");
+        }
+        if (current != null && current.status == BackfillStatus.RUNNING) {
+            throw new ConflictException("이미 진행 중인 백필이 있습니다: " + current.id);
+        }
+        List<PoliceApiEndpoint> targets = endpoints == null || endpoints.isEmpty()
+            ? List.of(PoliceApiEndpoint.values())
+            : List.copyOf(EnumSet.copyOf(endpoints));
+        List<DateShard> shards = DateShard.daily(from, to);
+        Run run = new Run(UUID.randomUUID().toString(), from, to, targets, refresh, shards.size() * targets.size(),
+            clock.instant());
+        current = run;
+        recentRuns.put(run.id, run);
+        logger.info("[백필 {}] {} ~ {} {} 시작{}: 샤드 {}개", run.id, from, to, targets, refresh ? " (재조회)" : "",
+            run.totalShards);
+        executor.execute(() -> execute(run, shards));
+        return run.snapshot(clock.instant());
+    }
+
+    /**
+     * @return 마지막(또는 진행 중인) 백필의 진행 상황
+     */
+    public Optional<BackfillProgress> progress() {
+        Run run = current;
+        return run != null ? Optional.of(run.snapshot(clock.instant())) : Optional.empty();
+    }
+
+    /**
+     * @param id 작업 ID
+     * @return 최근 실행 중 해당 작업의 진행 상황 (없거나 오래되어 정리되었으면 비어 있음)
+     */
+    public synchronized Optional<BackfillProgress> progress(String id) {
+        Run run = recentRuns.get(id);
+        return run != null ? Optional.of(run.snapshot(clock.instant())) : Optional.empty();
+    }
+
+    /**
+     * 진행 중인 백필의 취소를 요청. 조회 중인 페이지의 저장을 마친 뒤 멈추므로 바로 종료되지는 않는다.
+     *
+     * @param id 작업 ID
+     * @return 취소를 요청한 시점의 진행 상황 (작업이 없으면 비어 있음)
+     * @throws ConflictException 이미 종료된 작업인 경우
+     */
+    public synchronized Optional<BackfillProgress> cancel(String id) {
+        Run run = recentRuns.get(id);
+        if (run == null) {
+            return Optional.empty();
+        }
+        if (run.status != BackfillStatus.RUNNING) {
+            throw new ConflictException("이미 종료된 백필입니다: " + id + " (" + run.status + ")");
+        }
+        if (!run.cancelRequested) {
+            run.cancelRequested = true;
+            logger.info("[백필 {}] 취소 요청", id);
+        }
+        return Optional.of(run.snapshot(clock.instant()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void execute(Run run, List<DateShard> shards) {
+        try {
+            for (PoliceApiEndpoint endpoint : run.endpoints) {
+                backfill(run, shards, targets.forEndpoint(endpoint, "backfill", PoliceApiCallPriority.BACKFILL));
+            }
+            run.finish(run.cancelRequested ? BackfillStatus.CANCELLED
+                : run.quotaExhausted ? BackfillStatus.QUOTA_EXHAUSTED
+                : run.failedShards.get() > 0 ? BackfillStatus.COMPLETED_WITH_FAILURES : BackfillStatus.COMPLETED,
+                clock.instant());
+        } catch (RuntimeException e) {
+            logger.error("[백필 {}] 중단: {}", run.id, e.getMessage(), e);
+            run.finish(BackfillStatus.FAILED, clock.instant());
+        }
+        BackfillProgress progress = run.snapshot(clock.instant());
+        logger.info("[백필 {}] {}: 완료 {} / 건너뜀 {} / 실패 {} 샤드, {}페이지, {}건 (신규 {}, 갱신 {}, 검증 탈락 {}), {}초",
+            run.id, progress.status(), progress.completedShards(), progress.skippedShards(), progress.failedShards(),
+            progress.pagesFetched(), progress.itemsWritten(), progress.itemsInserted(), progress.itemsUpdated(),
+            progress.itemsInvalid(), progress.elapsedSeconds());
+    }
+
+    private <R, T> void backfill(Run run, List<DateShard> shards, IngestionTarget<R, T> target) {
+        try (IngestionPipeline.Run<R, T> pipelineRun = pipeline.start(target.collection(), target.transform(),
+            items -> run.upserted(target.sink().apply(items)))) {
+            shardRunner.run(target.collection(), shards, shard -> {
+                try {
+                    backfillShard(run, target, shard, pipelineRun);
+                    return 0;
+                } catch (RuntimeException e) {
+                    if (run.cancelRequested) {
+                        // 취소로 멈춘 샤드는 실패로 세지 않음. 체크포인트가 남아 다시 실행하면 이어서 처리된다
+                        return 0;
+                    }
+                    run.shardFailed(target.endpoint(), shard);
+                    throw e;
+                }
+            });
+        }
+    }
+
+    private <R, T> void backfillShard(Run run, IngestionTarget<R, T> target, DateShard shard,
+        IngestionPipeline.Run<R, T> pipelineRun) {
+        if (run.quotaExhausted || run.cancelRequested) {
+            return;
+        }
+        SyncCheckpoints.Checkpoint checkpoint = checkpoints.open(SyncCheckpoints.BACKFILL_JOB, target.endpoint(),
+            shard.ymd());
+        if (checkpoint.isPreviouslyCompleted() && !run.refresh) {
+            run.skippedShards.incrementAndGet();
+            return;
+        }
+        String ymd = shard.ymd();
+        List<CompletableFuture<List<T>>> pendingPages = new ArrayList<>();
+        checkpoint.start();
+        PageFetchResult<R> result;
+        try {
+            result = pageFetcher.fetchFrom(checkpoint.startPage(), targets.numOfRows(), Integer.MAX_VALUE,
+                page -> {
+                    // 취소되면 남은 페이지는 API를 호출하지 않고 실패 페이지로 돌려 체크포인트에서 이어받게 한다
+                    run.throwIfCancelled();
+                    return target.fetch().fetch(page, ymd, ymd);
+                }, target.itemsOf(), target.totalCountOf(),
+                page -> {
+                    run.pageFetched();
+                    int received = target.itemsOf().apply(page.response()).size();
+                    pendingPages.add(pipelineRun.submit(page.response()).whenComplete((saved, error) -> {
+                        if (error == null) {
+                            checkpoint.pageCompleted(page.pageNo());
+                            run.itemsWritten(saved.size(), received - saved.size());
+                        }
+                    }));
+                });
+        } catch (PoliceApiThrottledException e) {
+            checkpoint.fail();
+            if (e.getRetryAfter() != null && e.getRetryAfter().compareTo(QUOTA_EXHAUSTED_THRESHOLD) > 0) {
+                // 남은 샤드는 조회하지 않고 멈춤. 쿼터가 풀린 뒤 같은 기간으로 다시 실행하면 이어서 처리된다
+                run.quotaExhausted = true;
+                logger.warn("[백필 {}] 일일 쿼터 소진으로 남은 샤드를 멈춥니다 (재개 가능 시각까지 {}).", run.id,
+                    e.getRetryAfter());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            checkpoint.fail();
+            throw e;
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<List<T>> pending : pendingPages) {
+            try {
+                pending.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            checkpoint.fail();
+            throw failure;
+        }
+        checkpoint.finish(result);
+        if (result.hasFailures()) {
+            throw new IllegalStateException("조회 실패 페이지: " + result.failedPages());
+        }
+        run.completedShards.incrementAndGet();
+    }
+
+    private void registerGauge(String state, ToDoubleFunction<Run> value) {
+        registry.gauge("collection.backfill.shards", List.of(Tag.of("state", state)), this, service -> {
+            Run run = service.current;
+            return run != null ? value.applyAsDouble(run) : 0;
+        });
+    }
+
+    // 소수점 첫째 자리까지의 초당 처리량
+    private static double perSecond(long count, Duration elapsed) {
+        long millis = elapsed.toMillis();
+        return millis <= 0 ? 0.0 : Math.round(count * 10_000.0 / millis) / 10.0;
+    }
+
+    /**
+     * 백필 실행 하나의 진행 상태
+     */
+    private final class Run {
+
+        private final String id;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final List<PoliceApiEndpoint> endpoints;
+        private final boolean refresh;
+        private final int totalShards;
+        private final Instant startedAt;
+        private final AtomicInteger completedShards = new AtomicInteger();
+        private final AtomicInteger skippedShards = new AtomicInteger();
+        private final AtomicInteger failedShards = new AtomicInteger();
+        private final AtomicLong pagesFetched = new AtomicLong();
+        private final AtomicLong itemsWritten = new AtomicLong();
+        private final AtomicLong itemsInserted = new AtomicLong();
+        private final AtomicLong itemsUpdated = new AtomicLong();
+        private final AtomicLong itemsUnchanged = new AtomicLong();
+        private final AtomicLong itemsInvalid = new AtomicLong();
+        private final List<String> failedShardKeys = new ArrayList<>();
+        private volatile boolean quotaExhausted;
+        private volatile boolean cancelRequested;
+        private volatile BackfillStatus status = BackfillStatus.RUNNING;
+        private volatile Instant finishedAt;
+
+        private Run(String id, LocalDate from, LocalDate to, List<PoliceApiEndpoint> endpoints, boolean refresh,
+            int totalShards, Instant startedAt) {
+            this.id = id;
+            this.from = from;
+            this.to = to;
+            this.endpoints = endpoints;
+            this.refresh = refresh;
+            this.totalShards = totalShards;
+            this.startedAt = startedAt;
+        }
+
+        private void pageFetched() {
+            pagesFetched.incrementAndGet();
+            registry.counter("collection.backfill.pages").increment();
+        }
+
+        private void itemsWritten(int count, int invalid) {
+            itemsWritten.addAndGet(count);
+            itemsInvalid.addAndGet(Math.max(0, invalid));
+            registry.counter("collection.backfill.items").increment(count);
+        }
+
+        private void upserted(UpsertResult result) {
+            itemsInserted.addAndGet(result.inserted());
+            itemsUpdated.addAndGet(result.updated());
+            itemsUnchanged.addAndGet(result.unchanged());
+        }
+
+        private void throwIfCancelled() {
+            if (cancelRequested) {
+                throw new CancellationException("백필 취소 요청: " + id);
+            }
+        }
+
+        private void shardFailed(PoliceApiEndpoint endpoint, DateShard shard) {
+            failedShards.incrementAndGet();
+            synchronized (failedShardKeys) {
+                failedShardKeys.add(endpoint + ":" + shard.ymd());
+            }
+        }
+
+        private void finish(BackfillStatus finalStatus, Instant now) {
+            finishedAt = now;
+            status = finalStatus;
+        }
+
+        private BackfillProgress snapshot(Instant now) {
+            Instant end = finishedAt != null ? finishedAt : now;
+            Duration elapsed = Duration.between(startedAt, end);
+            long elapsedSeconds = Math.max(0, elapsed.toSeconds());
+            int completed = completedShards.get();
+            int skipped = skippedShards.get();
+            int failed = failedShards.get();
+            // 건너뛴 샤드는 시간이 거의 들지 않으므로 실제로 처리한 샤드의 평균 소요 시간으로 남은 시간을 추정
+            int processed = completed + failed;
+            int remaining = Math.max(0, totalShards - completed - skipped - failed);
+            Long etaSeconds = status == BackfillStatus.RUNNING && processed > 0
+                ? Math.round((double) elapsedSeconds * remaining / processed)
+                : null;
+            List<String> failedKeys;
+            synchronized (failedShardKeys) {
+                failedKeys = List.copyOf(failedShardKeys);
+            }
+            double percentDone = totalShards == 0 ? 100.0
+                : Math.round((completed + skipped + failed) * 1000.0 / totalShards) / 10.0;
+            long pages = pagesFetched.get();
+            long written = itemsWritten.get();
+            return new BackfillProgress(id, status, from, to, endpoints, refresh, cancelRequested, totalShards,
+                completed, skipped, failed, percentDone, pages, written, itemsInserted.get(), itemsUpdated.get(),
+                itemsUnchanged.get(), itemsInvalid.get(), perSecond(pages, elapsed), perSecond(written, elapsed),
+                startedAt, finishedAt, elapsedSeconds, etaSeconds, failedKeys);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.findit.server.application.collection.backfill;
+
+/**
+ * 백필 작업 상태
+ */
+public enum BackfillStatus {
+    /** 진행 중 */
+    RUNNING,
+    /** 모든 샤드를 저장 완료 */
+    COMPLETED,
+    /** 끝까지 진행했지만 실패 샤드가 있음 (같은 기간으로 다시 실행하면 실패 샤드만 이어서 처리) */
+    COMPLETED_WITH_FAILURES,
+    /** 일일 쿼터가 소진되어 남은 샤드를 처리하지 않고 멈춤 */
+    QUOTA_EXHAUSTED,
+    /** 취소 요청으로 남은 샤드를 처리하지 않고 멈춤 (같은 기간으로 다시 실행하면 이어서 처리) */
+    CANCELLED,
+    /** 예기치 못한 오류로 중단 */
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.findit.server.application.collection.deadletter;
+
+/**
+ * dead-letter 재처리 결과
+ *
+ * @param scanned       다시 변환한 원본 수
+ * @param resolved      변환을 통과해 적재한 원본 수
+ * @param stillRejected 이번에도 걸러진 원본 수
+ * @param inserted      새로 삽입된 행 수
+ * @param updated       내용이 바뀌어 갱신된 행 수
+ */
+public record DeadLetterReprocessResult(int scanned, int resolved, int stillRejected, int inserted, int updated) {
+
+    static final DeadLetterReprocessResult EMPTY = new DeadLetterReprocessResult(0, 0, 0, 0, 0);
+
+    DeadLetterReprocessResult plus(DeadLetterReprocessResult other) {
+        return new DeadLetterReprocessResult(scanned + other.scanned, resolved + other.resolved,
+            stillRejected + other.stillRejected, inserted + other.inserted, updated + other.updated);
+    }
+}
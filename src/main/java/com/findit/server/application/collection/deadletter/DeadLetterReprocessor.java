@@ -0,0 +1,197 @@
+package com.findit.server.application.collection.deadletter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.exception.ConflictException;
+import com.findit.server.exception.InvalidRequestException;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetter;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterCount;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterReason;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * dead-letter 일괄 재처리
+ *
+ * <p>보관된 원본 JSON을 {@code batch-size}건씩 읽어 현재 매퍼/검증기({@link ItemConverter})로 다시 변환하고,
+ * 통과한 원본은 배치 업서트로 적재한 뒤 RESOLVED로, 이번에도 걸러진 원본은 새 사유로 갱신해 대기 상태로 남긴다.
+ * API를 다시 호출하지 않으므로 매퍼 수정 후 몇 건을 살리려고 기간 전체를 재조회할 필요가 없다.
+ * 한 번에 하나의 재처리만 실행한다.</p>
+ */
+@Service
+public class DeadLetterReprocessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReprocessor.class);
+
+    private final DeadLetterRepository repository;
+    private final ItemConverter converter;
+    private final LostItemRepository lostItemRepository;
+    private final FoundItemRepository foundItemRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final int batchSize;
+    private final int defaultLimit;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 생성자
+     *
+     * @param repository          적재하지 못한 원본 저장소
+     * @param converter           원본 → 엔티티 변환기
+     * @param lostItemRepository  분실물 저장소
+     * @param foundItemRepository 습득물 저장소
+     * @param objectMapper        원본 JSON 역직렬화용 객체 매퍼
+     * @param registry            메트릭 레지스트리
+     * @param batchSize           한 번에 읽어 변환·적재할 원본 수
+     * @param defaultLimit        한 번의 재처리에서 다룰 최대 원본 수 (요청에 지정하지 않은 경우)
+     */
+    @Autowired
+    public DeadLetterReprocessor(DeadLetterRepository repository,
+        ItemConverter converter,
+        LostItemRepository lostItemRepository,
+        FoundItemRepository foundItemRepository,
+        ObjectMapper objectMapper,
+        MeterRegistry registry,
+        @Value("${collection.dead-letter.reprocess-batch-size:500}") int batchSize,
+        @Value("${collection.dead-letter.reprocess-limit:10000}") int defaultLimit) {
+        this(repository, converter, lostItemRepository, foundItemRepository, objectMapper, registry, batchSize,
+            defaultLimit, Clock.systemUTC());
+    }
+
+    DeadLetterReprocessor(DeadLetterRepository repository, ItemConverter converter,
+        LostItemRepository lostItemRepository, FoundItemRepository foundItemRepository, ObjectMapper objectMapper,
+        MeterRegistry registry, int batchSize, int defaultLimit, Clock clock) {
+        this.repository = repository;
+        this.converter = converter;
+        this.lostItemRepository = lostItemRepository;
+        this.foundItemRepository = foundItemRepository;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.batchSize = Math.max(1, batchSize);
+        this.defaultLimit = Math.max(1, defaultLimit);
+        this.clock = clock;
+    }
+
+    /**
+     * 재처리 대기 중인 원본을 현재 매퍼로 다시 변환해 적재
+     *
+     * @param endpoint 대상 엔드포인트 (null이면 모두)
+     * @param limit    최대 원본 수 (null이면 {@code collection.dead-letter.reprocess-limit})
+     * @return 재처리 결과
+     * @throws InvalidRequestException limit이 0 이하인 경우
+     * @throws ConflictException       다른 재처리가 진행 중인 경우
+     */
+    public DeadLetterReprocessResult reprocess(PoliceApiEndpoint endpoint, Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new InvalidRequestException("재처리 건수는 1 이상이어야 합니다: " + limit);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("이미 진행 중인 dead-letter 재처리가 있습니다.");
+        }
+        try {
+            int remaining = limit != null ? limit : defaultLimit;
+            DeadLetterReprocessResult total = DeadLetterReprocessResult.EMPTY;
+            for (PoliceApiEndpoint target : endpoint != null ? List.of(endpoint) : List.of(PoliceApiEndpoint.values())) {
+                DeadLetterReprocessResult result = reprocessEndpoint(target, remaining);
+                remaining -= result.scanned();
+                total = total.plus(result);
+            }
+            logger.info("[dead-letter] 재처리 완료: {}건 중 {}건 적재 (신규 {}, 갱신 {}), {}건 여전히 걸러짐",
+                total.scanned(), total.resolved(), total.inserted(), total.updated(), total.stillRejected());
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return 엔드포인트/사유별 재처리 대기 건수
+     */
+    public List<DeadLetterCount> pending() {
+        return repository.countPending();
+    }
+
+    private DeadLetterReprocessResult reprocessEndpoint(PoliceApiEndpoint endpoint, int limit) {
+        DeadLetterReprocessResult total = DeadLetterReprocessResult.EMPTY;
+        long afterId = 0;
+        // ID 순서로 이어서 읽으므로 이번에도 걸러진 원본을 같은 실행에서 다시 읽지 않음
+        while (total.scanned() < limit) {
+            List<DeadLetter> letters = repository.findPending(endpoint, afterId,
+                Math.min(batchSize, limit - total.scanned()));
+            if (letters.isEmpty()) {
+                break;
+            }
+            afterId = letters.get(letters.size() - 1).id();
+            DeadLetterReprocessResult result = endpoint == PoliceApiEndpoint.LOST_ITEMS
+                ? reprocessBatch(endpoint, letters, PoliceApiLostItem.class, converter::convertLostItems,
+                    lostItemRepository::upsertBatchWithResult)
+                : reprocessBatch(endpoint, letters, PoliceApiFoundItem.class, converter::convertFoundItems,
+                    foundItemRepository::upsertBatchWithResult);
+            total = total.plus(result);
+        }
+        return total;
+    }
+
+    private <S, T> DeadLetterReprocessResult reprocessBatch(PoliceApiEndpoint endpoint, List<DeadLetter> letters,
+        Class<S> sourceType, Function<List<S>, ItemConverter.Conversion<T>> convert,
+        Function<List<T>, UpsertResult> upsert) {
+        List<DeadLetter> readable = new ArrayList<>(letters.size());
+        List<S> sources = new ArrayList<>(letters.size());
+        List<DeadLetter> rejected = new ArrayList<>();
+        for (DeadLetter letter : letters) {
+            try {
+                sources.add(objectMapper.readValue(letter.payload(), sourceType));
+                readable.add(letter);
+            } catch (JsonProcessingException e) {
+                rejected.add(letter.withReason(DeadLetterReason.UNREADABLE_PAYLOAD, e.getOriginalMessage()));
+            }
+        }
+
+        ItemConverter.Conversion<T> conversion = convert.apply(sources);
+        Set<Integer> rejectedIndexes = new HashSet<>();
+        for (ItemConverter.Rejection rejection : conversion.rejections()) {
+            rejectedIndexes.add(rejection.index());
+            rejected.add(readable.get(rejection.index()).withReason(rejection.reason(), rejection.detail()));
+        }
+        List<Long> resolvedIds = new ArrayList<>(readable.size() - rejectedIndexes.size());
+        for (int i = 0; i < readable.size(); i++) {
+            if (!rejectedIndexes.contains(i)) {
+                resolvedIds.add(readable.get(i).id());
+            }
+        }
+
+        // 적재 후 상태를 바꾸므로 중간에 실패해도 다음 재처리에서 같은 원본을 다시 업서트할 뿐 유실되지 않음
+        UpsertResult upserted = conversion.items().isEmpty() ? UpsertResult.empty() : upsert.apply(conversion.items());
+        Instant now = clock.instant();
+        repository.markResolved(resolvedIds, now);
+        repository.markRejected(rejected, now);
+
+        registry.counter("collection.dead_letter.reprocessed", "endpoint", endpoint.name(), "outcome", "resolved")
+            .increment(resolvedIds.size());
+        registry.counter("collection.dead_letter.reprocessed", "endpoint", endpoint.name(), "outcome", "rejected")
+            .increment(rejected.size());
+        return new DeadLetterReprocessResult(letters.size(), resolvedIds.size(), rejected.size(), upserted.inserted(),
+            upserted.updated());
+    }
+}
@@ -1,12 +1,22 @@
 package com.findit.server.application.collection.founditem;
 
+import com.findit.server.application.collection.DateShard;
+import com.findit.server.application.collection.DateShardRunner;
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.IngestionTransactions;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.application.collection.PageFetchResult;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.collection.ShardDeltaDetector;
+import com.findit.server.application.collection.ShardRunResult;
+import com.findit.server.application.collection.SyncCheckpoints;
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
 import com.findit.server.domain.founditem.FoundItem;
-import com.findit.server.infrastructure.police.mapper.DataValidator;
-import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
 import com.findit.server.domain.founditem.FoundItemRepository;
 import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -15,11 +25,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.ArrayList;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,16 +44,21 @@ public class FoundItemCollectionService {
   
   private static final Logger logger = LoggerFactory.getLogger(FoundItemCollectionService.class);
   
-  // 한 번 실행 시 최대 10페이지(페이지당 100건)만 저장
-  private static final int MAX_PAGES = 10;
+  // 배치 수집 기간(일). 하루 단위 샤드로 나눠 샤드마다 끝 페이지까지 조회
+  private static final int COLLECTION_WINDOW_DAYS = 7;
+  private static final int NUM_OF_ROWS = 100;
   
   private final PoliceApiClient apiClient;
+  private final PoliceApiPageFetcher pageFetcher;
+  private final DateShardRunner shardRunner;
+  private final ShardDeltaDetector deltaDetector;
+  private final IngestionPipeline pipeline;
+  private final SyncCheckpoints checkpoints;
+  private final IngestionTransactions transactions;
   private final FoundItemRepository repository;
-  private final FoundItemMapper mapper;
-  private final DataValidator validator;
+  private final ItemConverter converter;
   private final Counter foundItemsFetchedCounter;
   private final Counter foundItemsSavedCounter;
-  private final Counter foundItemsInvalidCounter;
   private final Timer fetchTimer;
   private final ObjectMapper objectMapper;
   
@@ -50,37 +66,50 @@ public class FoundItemCollectionService {
    * 생성자
    *
    * @param apiClient    경찰청 API 클라이언트
+   * @param pageFetcher  페이지 팬아웃 조회기
+   * @param shardRunner  날짜 샤드 병렬 처리기
+   * @param deltaDetector 건수 프로브 기반 샤드 변경 감지기
+   * @param pipeline     조회→변환→저장 단계별 수집 파이프라인
+   * @param checkpoints  페이지 단위 수집 체크포인트
+   * @param transactions 커밋 크기 단위 저장 트랜잭션
    * @param repository   습득물 저장소
-   * @param mapper       습득물 매퍼
-   * @param validator    데이터 유효성 검증기
+   * @param converter    원본 → 엔티티 변환기 (걸러진 원본은 dead-letter 보관)
    * @param registry     메트릭 레지스트리
    * @param objectMapper JSON 객체 매퍼
    */
   public FoundItemCollectionService(PoliceApiClient apiClient,
+    PoliceApiPageFetcher pageFetcher,
+    DateShardRunner shardRunner,
+    ShardDeltaDetector deltaDetector,
+    IngestionPipeline pipeline,
+    SyncCheckpoints checkpoints,
+    IngestionTransactions transactions,
     FoundItemRepository repository,
-    FoundItemMapper mapper,
-    DataValidator validator,
+    ItemConverter converter,
     MeterRegistry registry,
     ObjectMapper objectMapper) {
     this.apiClient = apiClient;
+    this.pageFetcher = pageFetcher;
+    this.shardRunner = shardRunner;
+    this.deltaDetector = deltaDetector;
+    this.pipeline = pipeline;
+    this.checkpoints = checkpoints;
+    this.transactions = transactions;
     this.repository = repository;
-    this.mapper = mapper;
-    this.validator = validator;
+    this.converter = converter;
     this.objectMapper = objectMapper;
     
     // 메트릭 등록
     this.foundItemsFetchedCounter = registry.counter("api.found_items.fetched");
     this.foundItemsSavedCounter = registry.counter("api.found_items.saved");
-    this.foundItemsInvalidCounter = registry.counter("api.found_items.invalid");
     this.fetchTimer = registry.timer("api.found_items.fetch_duration");
   }
   
   /**
-   * 경찰청 API에서 새로운 습득물 데이터를 가져와 저장
+   * 경찰청 API에서 새로운 습득물 데이터를 가져와 저장 (API 호출은 트랜잭션 밖, 저장은 커밋 크기 단위)
    *
    * @return 저장된 습득물 목록
    */
-  @Transactional
   @Timed(value = "found_items.collection", description = "Time taken to collect found items")
   public List<FoundItem> fetchAndSaveNewItems() {
     if (!apiClient.isEnabled()) {
@@ -100,7 +129,7 @@ public class FoundItemCollectionService {
         
         // API 호출 및 응답 처리
         PoliceApiFoundItemResponse response = apiClient.fetchFoundItems(1, 100, startYmdStr,
-          endYmdStr);
+          endYmdStr, PoliceApiCallPriority.AD_HOC);
         try {
           String json = objectMapper.writeValueAsString(response);
           logger.info("[습득물 DTO JSON]: {}", json);
@@ -113,7 +142,7 @@ public class FoundItemCollectionService {
         
         if (!foundItems.isEmpty()) {
           foundItemsFetchedCounter.increment(foundItems.size());
-          List<FoundItem> mappedItems = mapper.mapList(foundItems);
+          List<FoundItem> mappedItems = converter.toFoundItems(foundItems);
           savedItems = saveItems(mappedItems);
           totalSaved = savedItems.size();
           foundItemsSavedCounter.increment(totalSaved);
@@ -140,14 +169,22 @@ public class FoundItemCollectionService {
    */
   private List<FoundItem> saveItems(List<FoundItem> items) {
     List<FoundItem> savedItems = new ArrayList<>();
+    // 커밋 크기 단위로 나눠 짧은 트랜잭션으로 저장. 묶음 하나가 실패하면 그 묶음만 롤백되고 앞서 커밋한 항목은 남음
+    for (List<FoundItem> chunk : transactions.chunks(items, item -> 1)) {
+      try {
+        savedItems.addAll(transactions.write(() -> saveChunk(chunk)));
+      } catch (RuntimeException e) {
+        logger.error("[습득물] 신규 수집 저장 실패로 중단합니다 (커밋된 {}건은 유지): {}", savedItems.size(), e.getMessage(), e);
+        break;
+      }
+    }
+    return savedItems;
+  }
+  
+  private List<FoundItem> saveChunk(List<FoundItem> items) {
+    List<FoundItem> savedItems = new ArrayList<>();
     
     for (FoundItem item : items) {
-      if (!validator.isValidFoundItem(item)) {
-        logger.warn("Skipping invalid found item: {}", item.getAtcId());
-        foundItemsInvalidCounter.increment();
-        continue;
-      }
-      
       // 중복 검사
       if (!repository.existsByAtcId(item.getAtcId())) {
         FoundItem savedItem = repository.save(item);
@@ -161,49 +198,119 @@ public class FoundItemCollectionService {
   /**
    * (스케줄러용) 중복 발견 전까지 습득물 데이터를 저장
    *
-   * @return 저장된 습득물 목록
+   * @return 저장한 습득물 건수
    */
-  public List<FoundItem> collectAndSaveUniqueItems() {
+  public int collectAndSaveUniqueItems() {
     if (!apiClient.isEnabled()) {
       logger.info("Police API 비활성화 상태로 습득물 배치 수집을 건너뜁니다.");
-      return new ArrayList<>();
+      return 0;
     }
-    List<FoundItem> savedItems = new ArrayList<>();
     LocalDate now = LocalDate.now();
-    String endYmd = now.format(DateTimeFormatter.BASIC_ISO_DATE);
-    String startYmd = now.minusDays(7).format(DateTimeFormatter.BASIC_ISO_DATE);
-    int page = 1;
-    while (page <= MAX_PAGES) {
-      PoliceApiFoundItemResponse response = apiClient.fetchFoundItems(page, 100, startYmd, endYmd);
-      try {
-        String json = objectMapper.writeValueAsString(response);
-        logger.info("[습득물 DTO JSON, page {}]: {}", page, json);
-      } catch (JsonProcessingException e) {
-        logger.error("습득물 DTO JSON 변환 오류: {}", e.getMessage(), e);
-      }
-      List<PoliceApiFoundItem> foundItems = response.getItems();
-      logger.info("[습득물] 페이지{} API 반환 데이터 수: {}건", page, foundItems.size());
-      if (foundItems.isEmpty()) {
-        break;
-      }
-      
-      List<FoundItem> mappedItems = mapper.mapList(foundItems);
-      List<FoundItem> validItems = mappedItems.stream()
-        .filter(validator::isValidFoundItem)
-        .toList();
-      repository.upsertBatch(validItems);
-      savedItems.addAll(validItems);
-      // 중복 등으로 저장 건수가 0이거나 최대 페이지를 모두 조회했으면 종료
-      if (validItems.isEmpty()) {
-        break;
-      }
-      page++;
+    // 기간을 하루 단위 샤드로 나눠 샤드마다 끝 페이지까지 조회하고, 샤드끼리는 병렬로 처리.
+    // 조회된 페이지는 파이프라인으로 넘겨 매핑·검증·저장이 다음 페이지 조회와 겹쳐 진행되도록 함
+    ShardRunResult result;
+    try (IngestionPipeline.Run<PoliceApiFoundItemResponse, FoundItem> run =
+      pipeline.start("found_items", this::toValidItems, repository::upsertBatch)) {
+      result = shardRunner.run("found_items", DateShard.daily(now.minusDays(COLLECTION_WINDOW_DAYS), now),
+        shard -> collectShard(shard, run));
+    }
+    if (result.hasFailures()) {
+      logger.warn("[습득물] 처리 실패 샤드: {}", result.failedShards());
     }
     
-    logger.info("[습득물] 전체 배치 저장 완료: {}건", savedItems.size());
+    logger.info("[습득물] 전체 배치 저장 완료: {}건", result.savedItems());
+    return result.savedItems();
+  }
+  
+  /**
+   * 하루 단위 샤드 하나를 끝 페이지까지 조회하여 파이프라인으로 저장 (건수 프로브 결과 변경이 없으면 건너뜀)
+   *
+   * @param shard 조회할 날짜 샤드
+   * @param run   페이지를 넘길 파이프라인 실행
+   * @return 저장한 습득물 건수
+   */
+  private int collectShard(DateShard shard,
+    IngestionPipeline.Run<PoliceApiFoundItemResponse, FoundItem> run) {
+    // 중간에 끊긴 실행이 남긴 체크포인트가 있으면 건수 프로브 없이 저장을 마친 페이지부터 이어서 조회
+    SyncCheckpoints.Checkpoint checkpoint = checkpoints.open(SyncCheckpoints.COLLECTION_JOB,
+      PoliceApiEndpoint.FOUND_ITEMS, shard.ymd());
+    if (!checkpoint.isResumed() && !deltaDetector.needsRefresh(PoliceApiEndpoint.FOUND_ITEMS, shard)) {
+      return 0;
+    }
+    String ymd = shard.ymd();
+    // 저장된 엔티티 목록은 붙잡지 않고 페이지별 건수만 남김
+    List<CompletableFuture<Integer>> pendingPages = new ArrayList<>();
+    checkpoint.start();
+    // 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지는 동시에 조회하고, 준비된 페이지부터 순서대로 파이프라인에 넘김
+    PageFetchResult<PoliceApiFoundItemResponse> result;
+    try {
+      result = pageFetcher.fetchFrom(checkpoint.startPage(), NUM_OF_ROWS, Integer.MAX_VALUE,
+        page -> apiClient.fetchFoundItems(page, NUM_OF_ROWS, ymd, ymd),
+        PoliceApiFoundItemResponse::getItems, PoliceApiFoundItemResponse::getTotalCount,
+        page -> {
+          logPage(shard, page);
+          pendingPages.add(run.submit(page.response()).thenApply(List::size).whenComplete((saved, error) -> {
+            if (error == null) {
+              checkpoint.pageCompleted(page.pageNo());
+            }
+          }));
+        });
+    } catch (RuntimeException e) {
+      checkpoint.fail();
+      throw e;
+    }
     
+    int savedItems = 0;
+    RuntimeException failure = null;
+    for (CompletableFuture<Integer> pending : pendingPages) {
+      try {
+        savedItems += pending.join();
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+      }
+    }
+    if (failure != null) {
+      // 저장 실패 페이지가 있으면 샤드 실패로 처리 (건수를 기록하지 않고, 다음 실행은 체크포인트부터 이어서 조회)
+      checkpoint.fail();
+      throw failure;
+    }
+    checkpoint.finish(result);
+    if (result.hasFailures()) {
+      // 실패 페이지가 있으면 건수를 기록하지 않아 다음 실행에서 다시 조회
+      logger.warn("[습득물] 샤드 {} 조회 실패 페이지: {}", shard, result.failedPages());
+    } else if (result.totalCount() > 0) {
+      deltaDetector.markRefreshed(PoliceApiEndpoint.FOUND_ITEMS, shard, result.totalCount());
+    } else if (!checkpoint.isResumed()) {
+      deltaDetector.markRefreshed(PoliceApiEndpoint.FOUND_ITEMS, shard, result.fetchedItems());
+    }
     return savedItems;
   }
+  
+  private void logPage(DateShard shard, PageFetchResult.Page<PoliceApiFoundItemResponse> page) {
+    // 페이지 전체 직렬화는 비용이 커서 DEBUG에서만 남김
+    if (logger.isDebugEnabled()) {
+      try {
+        logger.debug("[습득물 DTO JSON, {} page {}]: {}", shard, page.pageNo(),
+          objectMapper.writeValueAsString(page.response()));
+      } catch (JsonProcessingException e) {
+        logger.debug("습득물 DTO JSON 변환 오류: {}", e.getMessage());
+      }
+    }
+    logger.info("[습득물] 샤드 {} 페이지{} API 반환 데이터 수: {}건", shard, page.pageNo(),
+      page.response().getItems().size());
+  }
+  
+  /**
+   * 파이프라인 변환 단계: 페이지 응답을 엔티티로 매핑하고 유효한 항목만 남김 (걸러진 원본은 dead-letter 보관)
+   *
+   * @param response 페이지 응답
+   * @return 저장할 습득물 목록
+   */
+  private List<FoundItem> toValidItems(PoliceApiFoundItemResponse response) {
+    return converter.toFoundItems(response.getItems());
+  }
 
   public boolean isCollectionEnabled() {
     return apiClient.isEnabled();
@@ -1,12 +1,21 @@
 package com.findit.server.application.collection.lostitem;
 
+import com.findit.server.application.collection.DateShard;
+import com.findit.server.application.collection.DateShardRunner;
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.application.collection.PageFetchResult;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.collection.ShardDeltaDetector;
+import com.findit.server.application.collection.ShardRunResult;
+import com.findit.server.application.collection.SyncCheckpoints;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
 import com.findit.server.domain.lostitem.LostItem;
-import com.findit.server.infrastructure.police.mapper.DataValidator;
-import com.findit.server.infrastructure.police.mapper.LostItemMapper;
 import com.findit.server.domain.lostitem.LostItemRepository;
 import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -21,6 +30,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.ArrayList;
 
 /**
@@ -31,16 +42,20 @@ public class LostItemCollectionService {
   
   private static final Logger logger = LoggerFactory.getLogger(LostItemCollectionService.class);
   
-  // 한 번 실행 시 최대 10페이지(페이지당 100건)만 저장
-  private static final int MAX_PAGES = 10;
+  // 배치 수집 기간(일). 하루 단위 샤드로 나눠 샤드마다 끝 페이지까지 조회
+  private static final int COLLECTION_WINDOW_DAYS = 7;
+  private static final int NUM_OF_ROWS = 100;
   
   private final PoliceApiClient apiClient;
+  private final PoliceApiPageFetcher pageFetcher;
+  private final DateShardRunner shardRunner;
+  private final ShardDeltaDetector deltaDetector;
+  private final IngestionPipeline pipeline;
+  private final SyncCheckpoints checkpoints;
   private final LostItemRepository repository;
-  private final LostItemMapper mapper;
-  private final DataValidator validator;
+  private final ItemConverter converter;
   private final Counter lostItemsFetchedCounter;
   private final Counter lostItemsSavedCounter;
-  private final Counter lostItemsInvalidCounter;
   private final Timer fetchTimer;
   private final ObjectMapper objectMapper;
   
@@ -48,27 +63,38 @@ public class LostItemCollectionService {
    * 생성자
    *
    * @param apiClient    경찰청 API 클라이언트
+   * @param pageFetcher  페이지 팬아웃 조회기
+   * @param shardRunner  날짜 샤드 병렬 처리기
+   * @param deltaDetector 건수 프로브 기반 샤드 변경 감지기
+   * @param pipeline     조회→변환→저장 단계별 수집 파이프라인
+   * @param checkpoints  페이지 단위 수집 체크포인트
    * @param repository   분실물 저장소
-   * @param mapper       분실물 매퍼
-   * @param validator    데이터 유효성 검증기
+   * @param converter    원본 → 엔티티 변환기 (걸러진 원본은 dead-letter 보관)
    * @param registry     메트릭 레지스트리
    * @param objectMapper JSON 객체 매퍼
    */
   public LostItemCollectionService(PoliceApiClient apiClient,
+    PoliceApiPageFetcher pageFetcher,
+    DateShardRunner shardRunner,
+    ShardDeltaDetector deltaDetector,
+    IngestionPipeline pipeline,
+    SyncCheckpoints checkpoints,
     LostItemRepository repository,
-    LostItemMapper mapper,
-    DataValidator validator,
+    ItemConverter converter,
     MeterRegistry registry,
     ObjectMapper objectMapper) {
     this.apiClient = apiClient;
+    this.pageFetcher = pageFetcher;
+    this.shardRunner = shardRunner;
+    this.deltaDetector = deltaDetector;
+    this.pipeline = pipeline;
+    this.checkpoints = checkpoints;
     this.repository = repository;
-    this.mapper = mapper;
-    this.validator = validator;
+    this.converter = converter;
     
     // 메트릭 등록
     this.lostItemsFetchedCounter = registry.counter("api.lost_items.fetched");
     this.lostItemsSavedCounter = registry.counter("api.lost_items.saved");
-    this.lostItemsInvalidCounter = registry.counter("api.lost_items.invalid");
     this.fetchTimer = registry.timer("api.lost_items.fetch_duration");
     // JSON 로깅용 ObjectMapper: null일 경우 기본 인스턴스 사용
     this.objectMapper = (objectMapper != null ? objectMapper
@@ -98,7 +124,7 @@ public class LostItemCollectionService {
         String startYmdStr = LocalDate.now().minusDays(7).format(DateTimeFormatter.BASIC_ISO_DATE);
         // API 호출 및 응답 처리
         PoliceApiLostItemResponse response = apiClient.fetchLostItems(1, 100, startYmdStr,
-          endYmdStr);
+          endYmdStr, PoliceApiCallPriority.AD_HOC);
         try {
           String json = objectMapper.writeValueAsString(response);
           logger.info("[분실물 DTO JSON]: {}", json);
@@ -109,7 +135,7 @@ public class LostItemCollectionService {
         logger.info("[분실물] API에서 받은 총 데이터 수: {}건", lostItems.size());
         if (!lostItems.isEmpty()) {
           lostItemsFetchedCounter.increment(lostItems.size());
-          List<LostItem> mappedItems = mapper.mapList(lostItems);
+          List<LostItem> mappedItems = converter.toLostItems(lostItems);
           savedItems = saveItems(mappedItems);
           totalSaved = savedItems.size();
           lostItemsSavedCounter.increment(totalSaved);
@@ -138,12 +164,6 @@ public class LostItemCollectionService {
     List<LostItem> savedItems = new ArrayList<>();
     
     for (LostItem item : items) {
-      if (!validator.isValidLostItem(item)) {
-        logger.warn("Skipping invalid lost item: {}", item.getAtcId());
-        lostItemsInvalidCounter.increment();
-        continue;
-      }
-      
       // 중복 검사
       if (!repository.existsByAtcId(item.getAtcId())) {
         LostItem savedItem = repository.save(item);
@@ -157,45 +177,119 @@ public class LostItemCollectionService {
   /**
    * (스케줄러용) 중복 발견 전까지 분실물 데이터를 저장
    *
-   * @return 저장된 분실물 목록
+   * @return 저장한 분실물 건수
    */
-  public List<LostItem> collectAndSaveUniqueItems() {
+  public int collectAndSaveUniqueItems() {
     if (!apiClient.isEnabled()) {
       logger.info("Police API 비활성화 상태로 분실물 배치 수집을 건너뜁니다.");
-      return new ArrayList<>();
+      return 0;
     }
-    List<LostItem> savedItems = new ArrayList<>();
     LocalDate now = LocalDate.now();
-    String endYmd = now.format(DateTimeFormatter.BASIC_ISO_DATE);
-    String startYmd = now.minusDays(7).format(DateTimeFormatter.BASIC_ISO_DATE);
-    int page = 1;
-    while (page <= MAX_PAGES) {
-      PoliceApiLostItemResponse response = apiClient.fetchLostItems(page, 100, startYmd, endYmd);
+    // 기간을 하루 단위 샤드로 나눠 샤드마다 끝 페이지까지 조회하고, 샤드끼리는 병렬로 처리.
+    // 조회된 페이지는 파이프라인으로 넘겨 매핑·검증·저장이 다음 페이지 조회와 겹쳐 진행되도록 함
+    ShardRunResult result;
+    try (IngestionPipeline.Run<PoliceApiLostItemResponse, LostItem> run =
+      pipeline.start("lost_items", this::toValidItems, repository::upsertBatch)) {
+      result = shardRunner.run("lost_items", DateShard.daily(now.minusDays(COLLECTION_WINDOW_DAYS), now),
+        shard -> collectShard(shard, run));
+    }
+    if (result.hasFailures()) {
+      logger.warn("[분실물] 처리 실패 샤드: {}", result.failedShards());
+    }
+    
+    logger.info("[분실물] 전체 배치 저장 완료: {}건", result.savedItems());
+    return result.savedItems();
+  }
+  
+  /**
+   * 하루 단위 샤드 하나를 끝 페이지까지 조회하여 파이프라인으로 저장 (건수 프로브 결과 변경이 없으면 건너뜀)
+   *
+   * @param shard 조회할 날짜 샤드
+   * @param run   페이지를 넘길 파이프라인 실행
+   * @return 저장한 분실물 건수
+   */
+  private int collectShard(DateShard shard,
+    IngestionPipeline.Run<PoliceApiLostItemResponse, LostItem> run) {
+    // 중간에 끊긴 실행이 남긴 체크포인트가 있으면 건수 프로브 없이 저장을 마친 페이지부터 이어서 조회
+    SyncCheckpoints.Checkpoint checkpoint = checkpoints.open(SyncCheckpoints.COLLECTION_JOB,
+      PoliceApiEndpoint.LOST_ITEMS, shard.ymd());
+    if (!checkpoint.isResumed() && !deltaDetector.needsRefresh(PoliceApiEndpoint.LOST_ITEMS, shard)) {
+      return 0;
+    }
+    String ymd = shard.ymd();
+    // 저장된 엔티티 목록은 붙잡지 않고 페이지별 건수만 남김
+    List<CompletableFuture<Integer>> pendingPages = new ArrayList<>();
+    checkpoint.start();
+    // 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지는 동시에 조회하고, 준비된 페이지부터 순서대로 파이프라인에 넘김
+    PageFetchResult<PoliceApiLostItemResponse> result;
+    try {
+      result = pageFetcher.fetchFrom(checkpoint.startPage(), NUM_OF_ROWS, Integer.MAX_VALUE,
+        page -> apiClient.fetchLostItems(page, NUM_OF_ROWS, ymd, ymd),
+        PoliceApiLostItemResponse::getItems, PoliceApiLostItemResponse::getTotalCount,
+        page -> {
+          logPage(shard, page);
+          pendingPages.add(run.submit(page.response()).thenApply(List::size).whenComplete((saved, error) -> {
+            if (error == null) {
+              checkpoint.pageCompleted(page.pageNo());
+            }
+          }));
+        });
+    } catch (RuntimeException e) {
+      checkpoint.fail();
+      throw e;
+    }
+    
+    int savedItems = 0;
+    RuntimeException failure = null;
+    for (CompletableFuture<Integer> pending : pendingPages) {
       try {
-        String json = objectMapper.writeValueAsString(response);
-        logger.info("[분실물 DTO JSON, page {}]: {}", page, json);
-      } catch (JsonProcessingException e) {
-        logger.error("분실물 DTO JSON 변환 오류: {}", e.getMessage(), e);
-      }
-      List<PoliceApiLostItem> lostItems = response.getItems();
-      logger.info("[분실물] 페이지{} API 반환 데이터 수: {}건", page, lostItems.size());
-      if (lostItems.isEmpty()) {
-        break;
+        savedItems += pending.join();
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
       }
-      List<LostItem> mappedItems = mapper.mapList(lostItems);
-      // 유효성 검증
-      List<LostItem> validItems = mappedItems.stream()
-        .filter(validator::isValidLostItem)
-        .toList();
-      
-      repository.upsertBatch(validItems);
-      savedItems.addAll(validItems);
-      page++;
     }
-    
-    logger.info("[분실물] 전체 배치 저장 완료: {}건", savedItems.size());
+    if (failure != null) {
+      // 저장 실패 페이지가 있으면 샤드 실패로 처리 (건수를 기록하지 않고, 다음 실행은 체크포인트부터 이어서 조회)
+      checkpoint.fail();
+      throw failure;
+    }
+    checkpoint.finish(result);
+    if (result.hasFailures()) {
+      // 실패 페이지가 있으면 건수를 기록하지 않아 다음 실행에서 다시 조회
+      logger.warn("[분실물] 샤드 {} 조회 실패 페이지: {}", shard, result.failedPages());
+    } else if (result.totalCount() > 0) {
+      deltaDetector.markRefreshed(PoliceApiEndpoint.LOST_ITEMS, shard, result.totalCount());
+    } else if (!checkpoint.isResumed()) {
+      deltaDetector.markRefreshed(PoliceApiEndpoint.LOST_ITEMS, shard, result.fetchedItems());
+    }
     return savedItems;
   }
+  
+  private void logPage(DateShard shard, PageFetchResult.Page<PoliceApiLostItemResponse> page) {
+    // 페이지 전체 직렬화는 비용이 커서 DEBUG에서만 남김
+    if (logger.isDebugEnabled()) {
+      try {
+        logger.debug("[분실물 DTO JSON, {} page {}]: {}", shard, page.pageNo(),
+          objectMapper.writeValueAsString(page.response()));
+      } catch (JsonProcessingException e) {
+        logger.debug("분실물 DTO JSON 변환 오류: {}", e.getMessage());
+      }
+    }
+    logger.info("[분실물] 샤드 {} 페이지{} API 반환 데이터 수: {}건", shard, page.pageNo(),
+      page.response().getItems().size());
+  }
+  
+  /**
+   * 파이프라인 변환 단계: 페이지 응답을 엔티티로 매핑하고 유효한 항목만 남김 (걸러진 원본은 dead-letter 보관)
+   *
+   * @param response 페이지 응답
+   * @return 저장할 분실물 목록
+   */
+  private List<LostItem> toValidItems(PoliceApiLostItemResponse response) {
+    return converter.toLostItems(response.getItems());
+  }
 
   public boolean isCollectionEnabled() {
     return apiClient.isEnabled();
@@ -0,0 +1,27 @@
+package com.findit.server.application.collection.task;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.util.List;
+
+/**
+ * 분산 수집 작업 묶음의 진행 상황
+ *
+ * @param batchId      작업 묶음 ID
+ * @param endpoints    대상 엔드포인트 (등록 응답에만 포함, 조회 시 빈 목록)
+ * @param pending      대기 중인 작업 수 (재시도 대기 포함)
+ * @param running      처리 중인 작업 수
+ * @param done         완료된 작업 수
+ * @param failed       최대 시도 횟수를 넘겨 포기한 작업 수
+ * @param itemsWritten 저장한 건수
+ */
+public record SyncTaskBatch(String batchId, List<PoliceApiEndpoint> endpoints, int pending, int running, int done,
+    int failed, long itemsWritten) {
+
+    public int total() {
+        return pending + running + done + failed;
+    }
+
+    public boolean isFinished() {
+        return pending == 0 && running == 0;
+    }
+}
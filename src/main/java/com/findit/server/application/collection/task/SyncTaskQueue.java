@@ -0,0 +1,106 @@
+package com.findit.server.application.collection.task;
+
+import com.findit.server.exception.InvalidRequestException;
+import com.findit.server.infrastructure.persistence.task.SyncTask;
+import com.findit.server.infrastructure.persistence.task.SyncTaskRepository;
+import com.findit.server.infrastructure.persistence.task.SyncTaskStatus;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분산 수집 작업 큐 (sync_tasks)
+ *
+ * <p>기간을 {@code collection.tasks.days-per-task}일 단위 작업으로 나눠 등록하면 모든 인스턴스의
+ * {@link SyncTaskWorker}가 나눠 가져가 처리한다. 단일 인스턴스에서 도는 {@code BackfillService}와 달리 노드를 늘리면
+ * 처리량도 함께 늘어난다(업스트림 쿼터는 노드 수와 상관없이 공유된다는 점은 같다).</p>
+ */
+@Service
+public class SyncTaskQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncTaskQueue.class);
+    private static final DateTimeFormatter API_DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final SyncTaskRepository repository;
+    private final int daysPerTask;
+    private final int maxDays;
+    private final Clock clock;
+
+    @Autowired
+    public SyncTaskQueue(SyncTaskRepository repository,
+        @Value("${collection.tasks.days-per-task:1}") int daysPerTask,
+        @Value("${collection.backfill.max-days:3660}") int maxDays) {
+        this(repository, daysPerTask, maxDays, Clock.systemDefaultZone());
+    }
+
+    SyncTaskQueue(SyncTaskRepository repository, int daysPerTask, int maxDays, Clock clock) {
+        this.repository = repository;
+        this.daysPerTask = Math.max(1, daysPerTask);
+        this.maxDays = Math.max(1, maxDays);
+        this.clock = clock;
+    }
+
+    /**
+     * 기간을 작업으로 나눠 등록
+     *
+     * @param from      시작일 (포함)
+     * @param to        종료일 (포함)
+     * @param endpoints 대상 엔드포인트 (비어 있으면 전체)
+     * @return 등록한 작업 묶음
+     */
+    public SyncTaskBatch enqueue(LocalDate from, LocalDate to, Collection<PoliceApiEndpoint> endpoints) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new InvalidRequestException("작업 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new InvalidRequestException("작업 기간은 최대 " + maxDays + "일까지 지정할 수 있습니다: " + days + "일");
+        }
+        List<PoliceApiEndpoint> targets = endpoints == null || endpoints.isEmpty()
+            ? List.of(PoliceApiEndpoint.values())
+            : List.copyOf(EnumSet.copyOf(endpoints));
+
+        List<SyncTask> tasks = new ArrayList<>();
+        for (PoliceApiEndpoint endpoint : targets) {
+            // 최신 날짜부터 처리되도록 뒤에서부터 나눔
+            for (LocalDate end = to; !end.isBefore(from); end = end.minusDays(daysPerTask)) {
+                LocalDate start = end.minusDays(daysPerTask - 1L);
+                if (start.isBefore(from)) {
+                    start = from;
+                }
+                tasks.add(new SyncTask(0, null, endpoint, start.format(API_DATE_FORMATTER),
+                    end.format(API_DATE_FORMATTER), 1, 0, 0));
+            }
+        }
+        String batchId = UUID.randomUUID().toString();
+        repository.enqueue(batchId, tasks, clock.instant());
+        logger.info("[작업 큐 {}] {} ~ {} {} 작업 {}개 등록", batchId, from, to, targets, tasks.size());
+        return new SyncTaskBatch(batchId, targets, tasks.size(), 0, 0, 0, 0);
+    }
+
+    /**
+     * 작업 묶음의 진행 상황 (워커가 페이지 범위를 나눠 추가 등록한 작업 포함)
+     */
+    public SyncTaskBatch progress(String batchId) {
+        Map<SyncTaskStatus, Integer> counts = repository.countByStatus(batchId);
+        return new SyncTaskBatch(batchId, List.of(),
+            counts.getOrDefault(SyncTaskStatus.PENDING, 0),
+            counts.getOrDefault(SyncTaskStatus.RUNNING, 0),
+            counts.getOrDefault(SyncTaskStatus.DONE, 0),
+            counts.getOrDefault(SyncTaskStatus.FAILED, 0),
+            repository.sumItemsWritten(batchId));
+    }
+}
@@ -0,0 +1,291 @@
+package com.findit.server.application.collection.task;
+
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.IngestionTarget;
+import com.findit.server.application.collection.IngestionTargets;
+import com.findit.server.application.collection.PageFetchResult;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.scheduling.ClusterJobLock;
+import com.findit.server.infrastructure.persistence.task.SyncTask;
+import com.findit.server.infrastructure.persistence.task.SyncTaskRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 수집 작업 워커
+ *
+ * <p>모든 인스턴스에서 돌며 {@code collection.tasks.poll-interval-ms}마다 sync_tasks에서 빈 자리만큼 작업을 가져가
+ * ({@code FOR UPDATE SKIP LOCKED}) 가상 스레드에서 처리한다. 처리는 백필과 같이 {@link PoliceApiCallPriority#BACKFILL}
+ * 우선순위로 조회해 {@link IngestionPipeline}으로 배치 업서트한다.</p>
+ *
+ * <ul>
+ *   <li>하트비트: 처리 중인 작업의 {@code heartbeat_at}을 주기적으로 갱신한다. 인스턴스가 죽어 하트비트가
+ *   {@code collection.tasks.stale-after-seconds} 넘게 멈추면 어느 워커든 그 작업을 대기 상태로 되돌린다.</li>
+ *   <li>재시도: 실패한 작업은 시도 횟수에 비례해 미뤄 다시 대기시키고, {@code collection.tasks.max-attempts}를
+ *   넘기면 FAILED로 남긴다. 속도 제한에 걸리면 {@code Retry-After}만큼 미룬다.</li>
+ *   <li>페이지 분할: 끝 페이지가 정해지지 않은 작업은 {@code collection.tasks.pages-per-task}페이지까지만 처리하고,
+ *   첫 페이지로 알게 된 나머지 페이지 범위를 새 작업으로 등록해 다른 인스턴스가 나눠 처리하게 한다. 나머지 작업은
+ *   완료 반영과 같은 트랜잭션에서 등록해, 처리 도중 작업을 빼앗긴 워커가 같은 범위를 한 번 더 등록하지 않는다.</li>
+ * </ul>
+ */
+@Component
+public class SyncTaskWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncTaskWorker.class);
+
+    static final String TASK_JOB = "task";
+
+    private final SyncTaskRepository repository;
+    private final PoliceApiClient apiClient;
+    private final PoliceApiPageFetcher pageFetcher;
+    private final IngestionPipeline pipeline;
+    private final IngestionTargets targets;
+    private final MeterRegistry registry;
+    private final String workerId;
+    private final boolean enabled;
+    private final int concurrency;
+    private final int pagesPerTask;
+    private final int maxAttempts;
+    private final Duration staleAfter;
+    private final Duration retryBackoff;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeats;
+    private final Map<Long, SyncTask> active = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param repository          작업 큐 저장소
+     * @param apiClient           경찰청 API 클라이언트 (비활성화 상태면 작업을 가져가지 않음)
+     * @param pageFetcher         페이지 팬아웃 조회기
+     * @param pipeline            조회→변환→저장 단계별 수집 파이프라인
+     * @param targets             엔드포인트별 조회/변환/저장 묶음
+     * @param jobLock             스케줄 작업 잠금 (같은 인스턴스 식별자를 워커 ID로 사용)
+     * @param registry            메트릭 레지스트리
+     * @param enabled             워커 사용 여부
+     * @param concurrency         인스턴스당 동시에 처리할 작업 수
+     * @param pagesPerTask        끝 페이지가 정해지지 않은 작업에서 직접 처리할 페이지 수
+     * @param maxAttempts         작업당 최대 시도 횟수
+     * @param staleAfterSeconds   하트비트가 이 시간 넘게 멈춘 작업을 되찾음
+     * @param retryBackoffSeconds 실패 후 재시도까지 기다리는 시간 (시도 횟수에 비례)
+     * @param heartbeatMillis     하트비트 갱신 주기
+     */
+    @Autowired
+    public SyncTaskWorker(SyncTaskRepository repository,
+        PoliceApiClient apiClient,
+        PoliceApiPageFetcher pageFetcher,
+        IngestionPipeline pipeline,
+        IngestionTargets targets,
+        ClusterJobLock jobLock,
+        MeterRegistry registry,
+        @Value("${collection.tasks.enabled:true}") boolean enabled,
+        @Value("${collection.tasks.worker-concurrency:2}") int concurrency,
+        @Value("${collection.tasks.pages-per-task:20}") int pagesPerTask,
+        @Value("${collection.tasks.max-attempts:5}") int maxAttempts,
+        @Value("${collection.tasks.stale-after-seconds:60}") long staleAfterSeconds,
+        @Value("${collection.tasks.retry-backoff-seconds:30}") long retryBackoffSeconds,
+        @Value("${collection.tasks.heartbeat-interval-ms:15000}") long heartbeatMillis) {
+        this(repository, apiClient, pageFetcher, pipeline, targets, registry, jobLock.getNodeId(), enabled,
+            concurrency, pagesPerTask, maxAttempts, Duration.ofSeconds(staleAfterSeconds),
+            Duration.ofSeconds(retryBackoffSeconds), Duration.ofMillis(heartbeatMillis), Clock.systemUTC());
+    }
+
+    SyncTaskWorker(SyncTaskRepository repository, PoliceApiClient apiClient, PoliceApiPageFetcher pageFetcher,
+        IngestionPipeline pipeline, IngestionTargets targets, MeterRegistry registry, String workerId,
+        boolean enabled, int concurrency, int pagesPerTask, int maxAttempts, Duration staleAfter,
+        Duration retryBackoff, Duration heartbeatInterval, Clock clock) {
+        this.repository = repository;
+        this.apiClient = apiClient;
+        this.pageFetcher = pageFetcher;
+        this.pipeline = pipeline;
+        this.targets = targets;
+        this.registry = registry;
+        this.workerId = workerId;
+        this.enabled = enabled;
+        this.concurrency = Math.max(1, concurrency);
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.staleAfter = staleAfter;
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-task-", 0).factory());
+        // 스케줄러 스레드가 밀려도 하트비트가 늦어져 작업을 빼앗기지 않도록 따로 돌림
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sync-task-heartbeat").daemon().factory());
+        long heartbeatMillis = Math.max(1, heartbeatInterval.toMillis());
+        this.heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis,
+            TimeUnit.MILLISECONDS);
+        registry.gauge("collection.tasks.active", active, Map::size);
+    }
+
+    /**
+     * 죽은 워커의 작업을 되찾고, 빈 자리만큼 새 작업을 가져가 처리 시작
+     */
+    @Scheduled(
+        fixedDelayString = "${collection.tasks.poll-interval-ms:5000}",
+        initialDelayString = "${collection.tasks.initial-delay-ms:10000}")
+    public void poll() {
+        if (!enabled || !apiClient.isEnabled()) {
+            return;
+        }
+        List<SyncTask> claimed;
+        try {
+            int reclaimed = repository.reclaimStale(staleAfter, maxAttempts);
+            if (reclaimed > 0) {
+                registry.counter("collection.tasks.reclaimed").increment(reclaimed);
+                logger.warn("[작업 큐] 하트비트가 끊긴 작업 {}개를 되찾았습니다.", reclaimed);
+            }
+            claimed = repository.claim(workerId, clock.instant(), concurrency - active.size());
+        } catch (DataAccessException e) {
+            logger.warn("[작업 큐] 작업 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (SyncTask task : claimed) {
+            active.put(task.id(), task);
+            executor.execute(() -> {
+                try {
+                    process(task);
+                } finally {
+                    active.remove(task.id());
+                }
+            });
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 하트비트 갱신
+     */
+    void heartbeat() {
+        if (active.isEmpty()) {
+            return;
+        }
+        try {
+            repository.heartbeat(List.copyOf(active.keySet()), workerId);
+        } catch (DataAccessException e) {
+            logger.warn("[작업 큐] 하트비트 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리 중이던 작업은 하트비트가 끊긴 뒤 다른 인스턴스가 되찾는다
+        heartbeats.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    void process(SyncTask task) {
+        IngestionTarget<?, ?> target = targets.forEndpoint(task.endpoint(), TASK_JOB, PoliceApiCallPriority.BACKFILL);
+        try {
+            Processed processed = run(task, target);
+            List<SyncTask> remaining = processed.remaining();
+            if (!repository.complete(task, workerId, processed.written(), remaining, clock.instant())) {
+                logger.warn("[작업 큐] 작업 {}가 처리 도중 다른 워커에게 넘어가 완료와 나머지 페이지 작업을 반영하지 않았습니다.",
+                    task.id());
+            } else if (!remaining.isEmpty()) {
+                logger.info("[작업 큐] 작업 {}({} {}~{}) 나머지 페이지를 작업 {}개로 나눠 등록", task.id(), task.endpoint(),
+                    task.startYmd(), task.endYmd(), remaining.size());
+            }
+            registry.counter("collection.tasks.processed", "endpoint", task.endpoint().name(), "outcome", "done")
+                .increment();
+            registry.counter("collection.tasks.items", "endpoint", task.endpoint().name())
+                .increment(processed.written());
+        } catch (RuntimeException e) {
+            failed(task, e);
+        }
+    }
+
+    private <R, T> Processed run(SyncTask task, IngestionTarget<R, T> target) {
+        // 끝 페이지가 정해지지 않은 작업은 앞쪽 pagesPerTask 페이지만 처리하고 나머지는 작업으로 나눠 등록
+        int lastPage = task.isOpenEnded() ? task.firstPage() + pagesPerTask - 1 : task.lastPage();
+        List<CompletableFuture<List<T>>> pendingPages = new ArrayList<>();
+        PageFetchResult<R> result;
+        try (IngestionPipeline.Run<R, T> pipelineRun = pipeline.start(target.collection(), target.transform(),
+            target.sink()::apply)) {
+            result = pageFetcher.fetchFrom(task.firstPage(), targets.numOfRows(), lastPage,
+                page -> target.fetch().fetch(page, task.startYmd(), task.endYmd()), target.itemsOf(),
+                target.totalCountOf(), page -> pendingPages.add(pipelineRun.submit(page.response())));
+        }
+
+        int written = 0;
+        for (CompletableFuture<List<T>> pending : pendingPages) {
+            try {
+                written += pending.join().size();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        if (result.hasFailures()) {
+            throw new IllegalStateException("조회 실패 페이지: " + result.failedPages());
+        }
+        return new Processed(written, task.isOpenEnded() ? remainingPages(task, result, lastPage) : List.of());
+    }
+
+    private <R> List<SyncTask> remainingPages(SyncTask task, PageFetchResult<R> result, int lastPage) {
+        List<SyncTask> rest = new ArrayList<>();
+        if (result.totalCount() > 0) {
+            int totalPages = (result.totalCount() + targets.numOfRows() - 1) / targets.numOfRows();
+            for (int first = lastPage + 1; first <= totalPages; first += pagesPerTask) {
+                rest.add(new SyncTask(0, task.batchId(), task.endpoint(), task.startYmd(), task.endYmd(), first,
+                    Math.min(totalPages, first + pagesPerTask - 1), 0));
+            }
+        } else if (result.lastPageNo() == lastPage) {
+            // 전체 건수를 모르는데 상한까지 꽉 찼으면 다음 페이지부터 다시 끝이 열린 작업으로 이어감
+            rest.add(new SyncTask(0, task.batchId(), task.endpoint(), task.startYmd(), task.endYmd(), lastPage + 1,
+                0, 0));
+        }
+        return rest;
+    }
+
+    private void failed(SyncTask task, RuntimeException e) {
+        Instant now = clock.instant();
+        Duration delay = e instanceof PoliceApiThrottledException throttled && throttled.getRetryAfter() != null
+            ? throttled.getRetryAfter()
+            : retryBackoff.multipliedBy(task.attempts());
+        boolean givingUp = task.attempts() >= maxAttempts;
+        try {
+            repository.fail(task.id(), workerId, e.getClass().getSimpleName() + ": " + e.getMessage(), now,
+                now.plus(delay), maxAttempts);
+        } catch (DataAccessException dbError) {
+            // 반영하지 못해도 하트비트가 끊기면 되찾아짐
+            logger.warn("[작업 큐] 작업 {} 실패 기록 실패: {}", task.id(), dbError.getMessage());
+        }
+        registry.counter("collection.tasks.processed", "endpoint", task.endpoint().name(),
+            "outcome", givingUp ? "failed" : "retry").increment();
+        logger.error("[작업 큐] 작업 {}({} {}~{}, {}페이지~) {}번째 시도 실패{}: {}", task.id(), task.endpoint(),
+            task.startYmd(), task.endYmd(), task.firstPage(), task.attempts(),
+            givingUp ? ", 더 이상 재시도하지 않습니다" : ", " + delay.toSeconds() + "초 뒤 재시도", e.getMessage(), e);
+    }
+
+    /**
+     * 작업 하나를 처리한 결과
+     *
+     * @param written   저장한 건수
+     * @param remaining 완료와 함께 등록할 나머지 페이지 작업
+     */
+    private record Processed(int written, List<SyncTask> remaining) {
+    }
+}
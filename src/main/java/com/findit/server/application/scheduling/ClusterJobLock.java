@@ -0,0 +1,229 @@
+package com.findit.server.application.scheduling;
+
+import com.findit.server.infrastructure.persistence.lock.JobLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하도록 하는 임대(lease) 잠금 (job_locks)
+ *
+ * <p>모든 인스턴스의 스케줄러가 같은 시각에 깨어나도 {@link #runExclusively(String, Runnable)}에서 잠금을 얻은
+ * 인스턴스만 작업을 실행하고 나머지는 건너뛴다. 실행 중에는 임대 기간의 1/3마다 임대를 연장하고, 인스턴스가 죽어
+ * 연장이 멈추면 {@code scheduling.lock.lease-seconds} 뒤 다음 트리거에서 다른 인스턴스가 잠금을 가져간다.
+ * 작업이 금방 끝나도 {@code scheduling.lock.min-hold-seconds} 동안은 잠금을 유지해, 시계가 조금 어긋난 인스턴스가
+ * 같은 트리거를 뒤늦게 한 번 더 실행하지 않게 한다. 임대 시각은 DB 시계로 계산한다.</p>
+ *
+ * <p>임대 연장이 실패하면(멈춘 사이 임대가 끝나 다른 인스턴스가 가져간 경우) 작업을 실행 중인 스레드를 인터럽트해
+ * 작업을 취소한다. 작업은 인터럽트를 받으면 새 요청을 보내지 않고 멈춰야 한다.</p>
+ */
+@Component
+public class ClusterJobLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterJobLock.class);
+
+    private final JobLockRepository repository;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration lease;
+    private final Duration minHold;
+    private final ScheduledExecutorService renewer;
+
+    @Autowired
+    public ClusterJobLock(JobLockRepository repository, MeterRegistry registry,
+        @Value("${scheduling.lock.enabled:true}") boolean enabled,
+        @Value("${scheduling.lock.node-id:}") String nodeId,
+        @Value("${scheduling.lock.lease-seconds:60}") long leaseSeconds,
+        @Value("${scheduling.lock.min-hold-seconds:30}") long minHoldSeconds) {
+        this(repository, registry, enabled, nodeId, Duration.ofSeconds(leaseSeconds),
+            Duration.ofSeconds(minHoldSeconds));
+    }
+
+    ClusterJobLock(JobLockRepository repository, MeterRegistry registry, boolean enabled, String nodeId,
+        Duration lease, Duration minHold) {
+        this.repository = repository;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId.trim();
+        this.lease = lease;
+        this.minHold = minHold;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("job-lease-", 0).daemon().factory());
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행
+     *
+     * @param job  작업 이름 (job_locks 키)
+     * @param task 실행할 작업
+     * @return 이 인스턴스에서 실행했으면 true, 다른 인스턴스가 잠금을 잡고 있어 건너뛰었으면 false
+     */
+    public boolean runExclusively(String job, Runnable task) {
+        return runExclusively(job, minHold, task);
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행하고, 작업이 끝나도 시작 시각부터 {@code holdFor} 동안은 잠금을 유지
+     *
+     * <p>인스턴스마다 시작 시각이 달라 트리거가 어긋나는 고정 주기 작업은 {@code holdFor}를 주기와 같게 주면
+     * 잠금을 잡은 인스턴스가 계속 실행하고, 그 인스턴스가 멈추면 한 주기 안에 다른 인스턴스가 이어받는다.</p>
+     *
+     * @param job     작업 이름 (job_locks 키)
+     * @param holdFor 최소 잠금 유지 시간
+     * @param task    실행할 작업
+     * @return 이 인스턴스에서 실행했으면 true, 다른 인스턴스가 잠금을 잡고 있어 건너뛰었으면 false
+     */
+    public boolean runExclusively(String job, Duration holdFor, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = repository.tryAcquire(job, nodeId, lease);
+        } catch (DataAccessException e) {
+            // 잠금 상태를 알 수 없으면 여러 곳에서 동시에 돌지 않도록 이번 트리거는 건너뜀
+            registry.counter("scheduling.lock.acquire", "job", job, "outcome", "error").increment();
+            logger.warn("[스케줄 잠금] {} 잠금 획득 실패, 이번 실행을 건너뜁니다: {}", job, e.getMessage());
+            return false;
+        }
+        if (!acquired) {
+            registry.counter("scheduling.lock.acquire", "job", job, "outcome", "skipped").increment();
+            logger.debug("[스케줄 잠금] {} 다른 인스턴스가 실행 중이라 건너뜁니다.", job);
+            return false;
+        }
+        registry.counter("scheduling.lock.acquire", "job", job, "outcome", "acquired").increment();
+        Lease held = new Lease(job, Thread.currentThread());
+        long renewMillis = Math.max(1, lease.toMillis() / 3);
+        held.start(renewer.scheduleWithFixedDelay(() -> renew(held), renewMillis, renewMillis,
+            TimeUnit.MILLISECONDS));
+        try {
+            task.run();
+            return true;
+        } finally {
+            held.finish();
+            if (!held.lost) {
+                release(job, holdFor);
+            }
+        }
+    }
+
+    /**
+     * 작업 잠금을 현재 누가 잡고 있는지 조회 (임대가 끝났으면 비어 있음)
+     */
+    public Optional<String> currentHolder(String job) {
+        if (!enabled) {
+            return Optional.of(nodeId);
+        }
+        try {
+            return repository.findHolder(job);
+        } catch (DataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private void renew(Lease held) {
+        try {
+            if (!repository.renew(held.job, nodeId, lease)) {
+                registry.counter("scheduling.lock.lost", "job", held.job).increment();
+                logger.warn("[스케줄 잠금] {} 임대가 이미 만료되어 다른 인스턴스가 가져갔습니다. 실행 중인 작업을 취소합니다.",
+                    held.job);
+                held.lose();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("[스케줄 잠금] {} 임대 연장 실패: {}", held.job, e.getMessage());
+        }
+    }
+
+    private void release(String job, Duration holdFor) {
+        try {
+            repository.release(job, nodeId, holdFor);
+        } catch (DataAccessException e) {
+            // 반납하지 못해도 임대 만료 후에는 다른 인스턴스가 가져갈 수 있음
+            logger.warn("[스케줄 잠금] {} 잠금 반납 실패: {}", job, e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 실행 중인 작업 하나의 임대. 연장(renewer 스레드)과 작업 종료(작업 스레드)가 겹치지 않도록 잠금으로 보호한다.
+     */
+    private static final class Lease {
+        private final String job;
+        private final Thread runner;
+        private ScheduledFuture<?> renewal;
+        private boolean running = true;
+        private volatile boolean lost;
+
+        private Lease(String job, Thread runner) {
+            this.job = job;
+            this.runner = runner;
+        }
+
+        private synchronized void start(ScheduledFuture<?> renewal) {
+            this.renewal = renewal;
+            if (!running) {
+                renewal.cancel(false);
+            }
+        }
+
+        /**
+         * 임대를 잃음: 연장을 멈추고 아직 실행 중이면 작업 스레드를 인터럽트
+         */
+        private synchronized void lose() {
+            lost = true;
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            if (running) {
+                runner.interrupt();
+            }
+        }
+
+        /**
+         * 작업 종료: 연장을 멈추고, 임대를 잃어 보낸 인터럽트가 남아 있으면 지움 (풀 스레드 재사용 대비)
+         */
+        private synchronized void finish() {
+            running = false;
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            if (lost) {
+                Thread.interrupted();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.findit.server.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,13 +8,15 @@ import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.xml.Jaxb2RootElementHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
 
 /**
  * API 클라이언트 설정 클래스
- * 외부 API 통신을 위한 RestTemplate 설정
+ * 외부 API 통신을 위한 RestTemplate / HttpClient 설정
  */
 @Configuration
 public class ApiClientConfig {
@@ -38,4 +41,37 @@ public class ApiClientConfig {
 
         return restTemplate;
     }
+
+    /**
+     * 경찰청 API 전송용 JDK HttpClient 빈 생성
+     * HTTP/2(미지원 서버는 HTTP/1.1로 자동 전환), keep-alive 커넥션 풀, 가상 스레드 실행기 사용
+     *
+     * <p>JDK HttpClient의 커넥션 풀 크기와 keep-alive 시간은 시스템 프로퍼티로만 조정할 수 있으므로,
+     * JVM 옵션으로 이미 지정된 값이 없을 때만 설정값을 반영한다.</p>
+     *
+     * @return 설정된 HttpClient 인스턴스
+     */
+    @Bean
+    public HttpClient policeApiHttpClient(
+            @Value("${police.api.http.version:HTTP_2}") HttpClient.Version version,
+            @Value("${police.api.http.connect-timeout-ms:10000}") long connectTimeoutMs,
+            @Value("${police.api.http.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${police.api.http.max-connections:0}") int maxConnections) {
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSeconds));
+        if (maxConnections > 0) {
+            setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(maxConnections));
+        }
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.findit.server.config;
+
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer.Format;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer.Settings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 부하 테스트 프로파일 설정 클래스
+ * {@code loadtest} 프로파일에서 가상 경찰청 API 서버를 띄워 외부 API 없이 수집 파이프라인을 돌릴 수 있게 함
+ * (application-loadtest.properties에서 police.api.base-url을 이 서버로 지정)
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+  /**
+   * 가상 경찰청 API 서버 빈 생성
+   *
+   * @return 시작된 가상 서버 (컨텍스트 종료 시 close)
+   */
+  @Bean(destroyMethod = "close")
+  public SyntheticPoliceApiServer syntheticPoliceApiServer(
+    @Value("${loadtest.police-api.port:18089}") int port,
+    @Value("${loadtest.police-api.seed:42}") long seed,
+    @Value("${loadtest.police-api.items-per-day:500}") int itemsPerDay,
+    @Value("${loadtest.police-api.format:XML}") Format format,
+    @Value("${loadtest.police-api.bom-ratio:0.1}") double bomRatio,
+    @Value("${loadtest.police-api.latency-median-ms:0}") long latencyMedianMs,
+    @Value("${loadtest.police-api.latency-sigma:0.5}") double latencySigma,
+    @Value("${loadtest.police-api.throttle-ratio:0.0}") double throttleRatio,
+    @Value("${loadtest.police-api.server-error-ratio:0.0}") double serverErrorRatio,
+    @Value("${loadtest.police-api.malformed-ratio:0.01}") double malformedRatio,
+    @Value("${loadtest.police-api.daily-quota:0}") int dailyQuota) {
+    SyntheticPoliceApiServer server = new SyntheticPoliceApiServer(new Settings(seed, itemsPerDay, format, bomRatio,
+      latencyMedianMs, latencySigma, throttleRatio, serverErrorRatio, malformedRatio, dailyQuota), port);
+    server.start();
+    return server;
+  }
+}
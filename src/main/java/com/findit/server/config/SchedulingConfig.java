@@ -1,58 +1,189 @@
 package com.findit.server.config;
 
-import com.findit.server.domain.founditem.FoundItem;
-import com.findit.server.domain.lostitem.LostItem;
 import com.findit.server.application.collection.founditem.FoundItemCollectionService;
 import com.findit.server.application.collection.lostitem.LostItemCollectionService;
-import java.util.List;
+import com.findit.server.application.scheduling.ClusterJobLock;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * 스케줄링 구성 클래스 정기적인 데이터 수집 작업을 스케줄링
+ *
+ * <p>여러 인스턴스가 떠 있어도 수집은 {@link ClusterJobLock}을 얻은 한 곳에서만 실행된다.
+ * 스케줄러는 기본 단일 스레드 대신 {@code scheduling.pool-size}개 스레드(또는 가상 스레드)로 돌고, 수집 자체는
+ * 별도 작업 실행기에서 분실물/습득물을 동시에 돌려 스케줄러 스레드와 헬스 체크 갱신을 막지 않는다.</p>
  */
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
-  
+
+  static final String COLLECTION_JOB = "collect-lost-and-found";
+
   private final LostItemCollectionService lostItemService;
   private final FoundItemCollectionService foundItemService;
+  private final ClusterJobLock jobLock;
+  private final int poolSize;
+  private final boolean virtualThreads;
+  private final boolean startupCollectionEnabled;
+  private final ExecutorService jobExecutor;
+  private final AtomicBoolean collecting = new AtomicBoolean();
   private final Logger logger = LoggerFactory.getLogger(SchedulingConfig.class);
-  
+
   /*
    * 생성자
    *
    * @param lostItemService  분실물 수집 서비스
    * @param foundItemService 습득물 수집 서비스
+   * @param jobLock          인스턴스 간 스케줄 작업 잠금
+   * @param poolSize         스케줄러 스레드 수 (가상 스레드 사용 시 무시)
+   * @param virtualThreads   스케줄러/수집 작업에 가상 스레드 사용 여부
+   * @param collectOnStartup 기동 직후 수집 여부
    */
   public SchedulingConfig(LostItemCollectionService lostItemService,
-    FoundItemCollectionService foundItemService) {
+    FoundItemCollectionService foundItemService,
+    ClusterJobLock jobLock,
+    @Value("${scheduling.pool-size:4}") int poolSize,
+    @Value("${scheduling.virtual-threads:true}") boolean virtualThreads,
+    @Value("${scheduling.collect-on-startup:true}") boolean collectOnStartup) {
     this.lostItemService = lostItemService;
     this.foundItemService = foundItemService;
+    this.jobLock = jobLock;
+    this.poolSize = Math.max(1, poolSize);
+    this.virtualThreads = virtualThreads;
+    this.startupCollectionEnabled = collectOnStartup;
+    this.jobExecutor = virtualThreads
+      ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("collection-job-", 0).factory())
+      // 수집 작업 하나가 분실물/습득물 두 작업을 기다리므로 최소 3개
+      : Executors.newFixedThreadPool(3, Thread.ofPlatform().name("collection-job-", 0).factory());
   }
-  
+
   /**
-   * 매일 0,12시에 분실물/습득물 데이터를 중복 없이 저장 조회 범위: (오늘-7일)~오늘
+   * 기동 직후 수집. ready 이벤트 스레드를 붙잡지 않도록 작업 실행기에 넘기고 바로 반환한다.
    */
   @EventListener(ApplicationReadyEvent.class)
+  public void collectOnStartup() {
+    if (!startupCollectionEnabled) {
+      return;
+    }
+    submitCollection("기동");
+  }
+
+  /**
+   * 매일 0,12시에 분실물/습득물 데이터를 중복 없이 저장 조회 범위: (오늘-7일)~오늘
+   */
   @Scheduled(cron = "0 0 0,12 * * *")
   public void collectLostAndFoundItems() {
+    submitCollection("스케줄");
+  }
+
+  @PreDestroy
+  void shutdown() {
+    jobExecutor.shutdownNow();
+  }
+
+  /**
+   * {@code @Scheduled} 작업용 스케줄러 (스프링 기본값은 스레드 하나라 긴 작업이 다른 주기 작업을 밀어냄)
+   */
+  @Bean
+  public TaskScheduler taskScheduler() {
+    if (virtualThreads) {
+      SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+      scheduler.setVirtualThreads(true);
+      scheduler.setThreadNamePrefix("scheduler-");
+      return scheduler;
+    }
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduler-");
+    return scheduler;
+  }
+
+  private void submitCollection(String trigger) {
     if (!lostItemService.isCollectionEnabled() || !foundItemService.isCollectionEnabled()) {
-      logger.info("Police API 비활성화 상태로 스케줄 데이터 수집을 건너뜁니다.");
+      logger.info("Police API 비활성화 상태로 {} 데이터 수집을 건너뜁니다.", trigger);
       return;
     }
-    logger.info("[스케줄] 분실물/습득물 데이터 수집 시작");
+    // 앞선 수집(예: 기동 수집)이 아직 돌고 있으면 겹쳐 실행하지 않음. 잠금은 같은 인스턴스의 재진입을 막지 않는다
+    if (!collecting.compareAndSet(false, true)) {
+      logger.info("[{}] 이전 수집이 아직 진행 중이라 건너뜁니다.", trigger);
+      return;
+    }
+    try {
+      jobExecutor.execute(() -> {
+        try {
+          if (!jobLock.runExclusively(COLLECTION_JOB, () -> collect(trigger))) {
+            logger.info("[{}] 다른 인스턴스가 수집 중이라 건너뜁니다.", trigger);
+          }
+        } finally {
+          collecting.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      collecting.set(false);
+      logger.warn("[{}] 종료 중이라 수집을 시작하지 않습니다.", trigger);
+    }
+  }
+
+  private void collect(String trigger) {
+    logger.info("[{}] 분실물/습득물 데이터 수집 시작", trigger);
+    Future<Integer> lost = jobExecutor.submit(
+      logFailure("분실물", lostItemService::collectAndSaveUniqueItems, trigger));
+    Future<Integer> found = jobExecutor.submit(
+      logFailure("습득물", foundItemService::collectAndSaveUniqueItems, trigger));
+    try {
+      logger.info("[{}] 저장 완료: 분실물 {}건, 습득물 {}건", trigger, lost.get(), found.get());
+    } catch (ExecutionException e) {
+      // 각 작업의 오류는 이미 기록됨. 다른 쪽 작업이 끝날 때까지 기다린 뒤 종료
+      awaitQuietly(lost);
+      awaitQuietly(found);
+    } catch (InterruptedException e) {
+      // 수집 잠금의 임대를 잃어 잠금이 작업을 취소함. 다른 인스턴스가 이어받으므로 두 수집 모두 멈춤
+      lost.cancel(true);
+      found.cancel(true);
+      Thread.currentThread().interrupt();
+      logger.warn("[{}] 수집 잠금을 잃어 진행 중인 수집을 중단합니다.", trigger);
+    }
+  }
+
+  private static void awaitQuietly(Future<?> future) {
     try {
-      List<LostItem> lostSaved = lostItemService.collectAndSaveUniqueItems();
-      List<FoundItem> foundSaved = foundItemService.collectAndSaveUniqueItems();
-      logger.info("[스케줄] 저장 완료: 분실물 {}건, 습득물 {}건", lostSaved.size(), foundSaved.size());
-    } catch (Exception e) {
-      logger.error("[스케줄] 분실물/습득물 데이터 수집 중 오류: {}", e.getMessage(), e);
+      future.get();
+    } catch (ExecutionException | CancellationException e) {
+      // 이미 기록됨
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
     }
   }
+
+  private Callable<Integer> logFailure(String name, IntSupplier job, String trigger) {
+    return () -> {
+      try {
+        return job.getAsInt();
+      } catch (RuntimeException e) {
+        logger.error("[{}] {} 데이터 수집 중 오류: {}", trigger, name, e.getMessage(), e);
+        throw e;
+      }
+    };
+  }
 }
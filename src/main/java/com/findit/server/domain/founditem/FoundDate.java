@@ -1,8 +1,7 @@
 package com.findit.server.domain.founditem;
 
+import com.findit.server.domain.shared.DateScanner;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Objects;
 
 /**
@@ -10,9 +9,6 @@ import java.util.Objects;
  */
 public final class FoundDate {
 
-    private static final DateTimeFormatter BASIC_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
-    private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE;
-
     private final LocalDate value;
 
     private FoundDate(LocalDate value) {
@@ -34,14 +30,12 @@ public final class FoundDate {
     }
 
     private static LocalDate parse(String raw) {
-        try {
-            if (raw.matches("\\d{8}")) {
-                return LocalDate.parse(raw, BASIC_FORMAT);
-            }
-            return LocalDate.parse(raw, ISO_FORMAT);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("지원하지 않는 습득 일자 형식입니다: " + raw, e);
+        // yyyyMMdd 또는 yyyy-MM-dd만 허용 (존재하지 않는 날짜 포함 그 외는 거부)
+        int packed = DateScanner.scanStrict(raw);
+        if (packed == DateScanner.INVALID) {
+            throw new IllegalArgumentException("지원하지 않는 습득 일자 형식입니다: " + raw);
         }
+        return DateScanner.toLocalDate(packed);
     }
 
     public LocalDate toLocalDate() {
@@ -49,11 +43,11 @@ public final class FoundDate {
     }
 
     public String asDatabaseValue() {
-        return value.format(BASIC_FORMAT);
+        return DateScanner.basic(value);
     }
 
     public String asIsoDate() {
-        return value.format(ISO_FORMAT);
+        return DateScanner.iso(value);
     }
 
     @Override
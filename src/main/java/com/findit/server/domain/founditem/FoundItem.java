@@ -1,5 +1,6 @@
 package com.findit.server.domain.founditem;
 
+import com.findit.server.domain.shared.ContentHash;
 import com.findit.server.domain.shared.ItemCategory;
 import com.findit.server.domain.shared.ItemName;
 import com.findit.server.domain.shared.LocationName;
@@ -46,6 +47,10 @@ public class FoundItem {
     @Column(name = "fd_sn", length = 50)
     private String fdSn;
 
+    // 수집 컬럼의 내용 해시 (업서트 시 내용이 같으면 갱신을 건너뜀)
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     protected FoundItem() {
         // for JPA
     }
@@ -68,6 +73,7 @@ public class FoundItem {
         this.fdFilePathImg = normalizeOptional(imagePath);
         this.clrNm = normalizeOptional(colorName);
         this.fdSn = normalizeOptional(serialNumber);
+        refreshContentHash();
     }
 
     public static FoundItem create(FoundItemId id,
@@ -102,12 +108,14 @@ public class FoundItem {
         if (serialNumber != null) {
             this.fdSn = normalizeOptional(serialNumber);
         }
+        refreshContentHash();
     }
 
     public void updateImagePath(String imagePath) {
         if (imagePath != null) {
             this.fdFilePathImg = normalizeOptional(imagePath);
         }
+        refreshContentHash();
     }
 
     public FoundItemId getFoundItemId() {
@@ -166,6 +174,14 @@ public class FoundItem {
         return fdSn;
     }
 
+    public Long getContentHash() {
+        return contentHash;
+    }
+
+    private void refreshContentHash() {
+        this.contentHash = ContentHash.of(fdPrdtNm, prdtClNm, fdYmd, fdSbjt, fdFilePathImg, depPlace, clrNm, fdSn);
+    }
+
     private String normalizeOptional(String value) {
         if (value == null) {
             return null;
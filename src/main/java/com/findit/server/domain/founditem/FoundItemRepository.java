@@ -1,5 +1,6 @@
 package com.findit.server.domain.founditem;
 
+import com.findit.server.domain.shared.UpsertResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,6 +34,14 @@ public interface FoundItemRepository {
 
     void upsertBatch(List<FoundItem> items);
 
+    /**
+     * 배치 업서트 후 행별 신규 삽입/갱신 여부를 집계해 반환
+     *
+     * @param items 업서트할 습득물 목록 (같은 atcId가 여러 번 있으면 마지막 값 사용)
+     * @return 신규/갱신 건수
+     */
+    UpsertResult upsertBatchWithResult(List<FoundItem> items);
+
     List<FoundItem> findRecentFoundItemsByType(String itemType, String startDate);
 
     Page<FoundItem> findRecentFoundItemsByType(String itemType, String startDate, Pageable pageable);
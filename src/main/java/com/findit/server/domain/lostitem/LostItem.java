@@ -1,5 +1,6 @@
 package com.findit.server.domain.lostitem;
 
+import com.findit.server.domain.shared.ContentHash;
 import com.findit.server.domain.shared.ItemCategory;
 import com.findit.server.domain.shared.LocationName;
 import jakarta.persistence.Access;
@@ -39,6 +40,10 @@ public class LostItem {
     @Column(name = "rnum")
     private String rnum;
 
+    // 수집 컬럼의 내용 해시. rnum은 목록 내 순번이라 새 분실물이 들어올 때마다 바뀌므로 제외한다.
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     protected LostItem() {
         // for JPA
     }
@@ -57,6 +62,7 @@ public class LostItem {
         this.lstPrdtNm = normalizeOptional(productName);
         this.lstSbjt = normalizeOptional(subject);
         this.rnum = normalizeOptional(rnum);
+        refreshContentHash();
     }
 
     public static LostItem create(LostItemId id,
@@ -79,6 +85,7 @@ public class LostItem {
         if (rnum != null) {
             this.rnum = normalizeOptional(rnum);
         }
+        refreshContentHash();
     }
 
     public void updateAdditionalDetails(String productName, String subject) {
@@ -88,6 +95,7 @@ public class LostItem {
         if (subject != null) {
             this.lstSbjt = normalizeOptional(subject);
         }
+        refreshContentHash();
     }
 
     public LostItemId getLostItemId() {
@@ -134,6 +142,14 @@ public class LostItem {
         return rnum;
     }
 
+    public Long getContentHash() {
+        return contentHash;
+    }
+
+    private void refreshContentHash() {
+        this.contentHash = ContentHash.of(prdtClNm, lstPlace, lstYmd, lstPrdtNm, lstSbjt);
+    }
+
     private String normalizeOptional(String value) {
         if (value == null) {
             return null;
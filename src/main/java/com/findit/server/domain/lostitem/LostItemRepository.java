@@ -1,5 +1,6 @@
 package com.findit.server.domain.lostitem;
 
+import com.findit.server.domain.shared.UpsertResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -38,4 +39,12 @@ public interface LostItemRepository {
     Page<LostItem> findRecentLostItemsByType(String itemType, String startYmd, Pageable pageable);
 
     void upsertBatch(List<LostItem> items);
+
+    /**
+     * 배치 업서트 후 행별 신규 삽입/갱신 여부를 집계해 반환
+     *
+     * @param items 업서트할 분실물 목록 (같은 atcId가 여러 번 있으면 마지막 값 사용)
+     * @return 신규/갱신 건수
+     */
+    UpsertResult upsertBatchWithResult(List<LostItem> items);
 }
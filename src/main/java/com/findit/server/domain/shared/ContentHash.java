@@ -0,0 +1,41 @@
+package com.findit.server.domain.shared;
+
+/**
+ * 행 내용 해시 (64비트 FNV-1a).
+ * 재수집한 행의 내용이 바뀌었는지 DB에서 컬럼별 비교 없이 판단하기 위해 저장한다.
+ * JVM/실행과 무관하게 같은 입력에는 항상 같은 값을 돌려준다.
+ */
+public final class ContentHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    // 필드 경계와 null을 구분해 ("ab", "c")와 ("a", "bc"), null과 ""가 서로 다른 해시가 되도록 함
+    private static final char FIELD_SEPARATOR = '\u001f';
+    private static final char NULL_MARKER = '\u0000';
+
+    private ContentHash() {
+    }
+
+    public static long of(String... fields) {
+        long hash = OFFSET_BASIS;
+        for (String field : fields) {
+            if (field == null) {
+                hash = mix(hash, NULL_MARKER);
+            } else {
+                for (int i = 0; i < field.length(); i++) {
+                    hash = mix(hash, field.charAt(i));
+                }
+            }
+            hash = mix(hash, FIELD_SEPARATOR);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, char c) {
+        hash ^= c & 0xff;
+        hash *= PRIME;
+        hash ^= c >>> 8;
+        hash *= PRIME;
+        return hash;
+    }
+}
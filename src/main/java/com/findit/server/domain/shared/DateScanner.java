@@ -0,0 +1,195 @@
+package com.findit.server.domain.shared;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 정규식·포매터 없이 문자를 한 번 훑어 일자를 읽고 쓰는 도구.
+ * 수집하는 모든 레코드가 거치는 경로라 Matcher, 부분 문자열, 파싱 중간 객체를 만들지 않는다.
+ * 읽은 값은 {@code yyyyMMdd} 형태의 정수(일자가 없으면 일 = 0)로 돌려주고, 형식이 다르거나
+ * 존재하지 않는 날짜면 {@link #INVALID}를 돌려준다.
+ */
+public final class DateScanner {
+
+    public static final int INVALID = -1;
+
+    private DateScanner() {
+    }
+
+    /**
+     * 값 객체용 형식: {@code yyyyMMdd} 또는 {@code yyyy-MM-dd} (앞뒤 공백 없이)
+     *
+     * @param text 일자 문자열
+     * @return yyyyMMdd 정수, 형식이 다르거나 없는 날짜면 {@link #INVALID}
+     */
+    public static int scanStrict(String text) {
+        if (text.length() == 8) {
+            return date(digits(text, 0, 4), digits(text, 4, 2), digits(text, 6, 2), true);
+        }
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            return date(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2), true);
+        }
+        return INVALID;
+    }
+
+    /**
+     * API 원본용 형식: {@code yyyyMMdd}, {@code yyyy-M-d}(구분자 {@code - . /}, 월·일 한두 자리),
+     * 일자가 빠진 {@code yyyyMM}, {@code yyyy-M}, {@code yyyy-M-} (앞뒤 공백·제어 문자 무시, {@link String#trim()}과 같음)
+     *
+     * @param text 일자 문자열
+     * @return yyyyMMdd 정수 (일자가 빠졌으면 일 = 0), 형식이 다르거나 없는 날짜면 {@link #INVALID}
+     */
+    public static int scanLenient(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int length = end - start;
+        if (length < 6) {
+            return INVALID;
+        }
+        int year = digits(text, start, 4);
+        int i = start + 4;
+        char next = text.charAt(i);
+        if (isDigit(next)) {
+            if (length == 6) {
+                return date(year, digits(text, i, 2), 0, false);
+            }
+            return length == 8 ? date(year, digits(text, i, 2), digits(text, i + 2, 2), true) : INVALID;
+        }
+        if (!isSeparator(next)) {
+            return INVALID;
+        }
+        i++;
+        int month = 0;
+        int monthStart = i;
+        while (i < end && i - monthStart < 2 && isDigit(text.charAt(i))) {
+            month = month * 10 + (text.charAt(i++) - '0');
+        }
+        if (i == monthStart) {
+            return INVALID;
+        }
+        if (i == end) {
+            return date(year, month, 0, false);
+        }
+        char separator = text.charAt(i++);
+        if (!isSeparator(separator)) {
+            return INVALID;
+        }
+        if (i == end) {
+            // 연-월 뒤에 붙은 '-'만 허용 (예: 2024-05-)
+            return separator == '-' ? date(year, month, 0, false) : INVALID;
+        }
+        int day = 0;
+        int dayStart = i;
+        while (i < end && i - dayStart < 2 && isDigit(text.charAt(i))) {
+            day = day * 10 + (text.charAt(i++) - '0');
+        }
+        return i == dayStart || i != end ? INVALID : date(year, month, day, true);
+    }
+
+    /**
+     * 일자가 빠진 값에 일을 채움
+     *
+     * @return yyyyMMdd 정수, 그 달에 없는 일이면 {@link #INVALID}
+     */
+    public static int withDay(int packed, int day) {
+        return date(year(packed), month(packed), day, true);
+    }
+
+    public static boolean hasDay(int packed) {
+        return packed != INVALID && packed % 100 != 0;
+    }
+
+    public static LocalDate toLocalDate(int packed) {
+        return LocalDate.of(year(packed), month(packed), packed % 100);
+    }
+
+    /**
+     * @return {@code yyyyMMdd} 문자열
+     */
+    public static String basic(LocalDate date) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return date.format(DateTimeFormatter.BASIC_ISO_DATE);
+        }
+        char[] chars = new char[8];
+        write(chars, 0, date.getYear(), 4);
+        write(chars, 4, date.getMonthValue(), 2);
+        write(chars, 6, date.getDayOfMonth(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * @return {@code yyyy-MM-dd} 문자열
+     */
+    public static String iso(LocalDate date) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return date.toString();
+        }
+        char[] chars = new char[10];
+        write(chars, 0, date.getYear(), 4);
+        chars[4] = '-';
+        write(chars, 5, date.getMonthValue(), 2);
+        chars[7] = '-';
+        write(chars, 8, date.getDayOfMonth(), 2);
+        return new String(chars);
+    }
+
+    private static int year(int packed) {
+        return packed / 10000;
+    }
+
+    private static int month(int packed) {
+        return packed / 100 % 100;
+    }
+
+    private static int date(int year, int month, int day, boolean dayRequired) {
+        if (year < 0 || month < 1 || month > 12 || day < 0) {
+            return INVALID;
+        }
+        if (day == 0 ? dayRequired : day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /** text[start, start + count)의 숫자 값, 숫자가 아닌 문자가 있으면 -1 */
+    private static int digits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void write(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == '.' || c == '/';
+    }
+}
@@ -0,0 +1,42 @@
+package com.findit.server.domain.shared;
+
+import java.util.List;
+
+/**
+ * 배치 업서트 결과 (행별 신규 삽입/갱신/변경 없음 여부를 집계한 값)
+ *
+ * @param inserted  새로 삽입된 행 수
+ * @param updated   내용이 바뀌어 갱신한 행 수
+ * @param unchanged 내용 해시가 같아 갱신을 건너뛴 행 수
+ */
+public record UpsertResult(int inserted, int updated, int unchanged) {
+
+    private static final UpsertResult EMPTY = new UpsertResult(0, 0, 0);
+
+    public static UpsertResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param insertedFlags 실제로 쓰인 행별 결과 (true: 신규 삽입, false: 갱신)
+     * @param rowCount      업서트를 요청한 행 수 (쓰이지 않은 나머지는 변경 없음)
+     * @return 집계 결과
+     */
+    public static UpsertResult of(List<Boolean> insertedFlags, int rowCount) {
+        int inserted = (int) insertedFlags.stream().filter(Boolean::booleanValue).count();
+        int updated = insertedFlags.size() - inserted;
+        return new UpsertResult(inserted, updated, Math.max(0, rowCount - inserted - updated));
+    }
+
+    public UpsertResult plus(UpsertResult other) {
+        return new UpsertResult(inserted + other.inserted, updated + other.updated, unchanged + other.unchanged);
+    }
+
+    public int changed() {
+        return inserted + updated;
+    }
+
+    public int total() {
+        return inserted + updated + unchanged;
+    }
+}
@@ -1,7 +1,12 @@
 package com.findit.server.health;
 
+import com.findit.server.application.scheduling.ClusterJobLock;
 import com.findit.server.infrastructure.police.client.PoliceApiClient;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import com.findit.server.infrastructure.police.resilience.PoliceApiCircuitBreaker;
+import com.findit.server.infrastructure.police.resilience.PoliceApiUnavailableException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -19,21 +24,33 @@ import org.springframework.stereotype.Component;
  * 경찰청 API 헬스 체크 인디케이터
  * 외부 경찰청 API의 상태를 검사하여 헬스 정보 제공
  *
- * <p>외부 API 호출은 주기적으로 백그라운드에서 수행하고, Health 엔드포인트는 캐시된 결과를 즉시 반환한다.</p>
+ * <p>외부 API 호출은 주기적으로 백그라운드에서 수행하고, Health 엔드포인트는 캐시된 결과를 즉시 반환한다.
+ * 여러 인스턴스가 떠 있으면 {@link ClusterJobLock}을 얻은 한 곳만 외부 API를 호출하고, 나머지는 Standby로 표시한다.</p>
  */
 @Component
 public class PoliceApiHealthIndicator implements HealthIndicator {
 
+    static final String HEALTH_CHECK_JOB = "police-api-health-check";
+
     private final PoliceApiClient apiClient;
+    private final PoliceApiCircuitBreaker circuitBreaker;
+    private final ClusterJobLock jobLock;
     private final AtomicReference<Health> cachedHealth = new AtomicReference<>();
     private final Duration staleAfter;
+    private final Duration checkInterval;
     private volatile Instant lastCheckedAt = Instant.EPOCH;
 
     public PoliceApiHealthIndicator(
         PoliceApiClient apiClient,
-        @Value("${police.api.health-check.stale-after-ms:900000}") long staleAfterMillis) {
+        PoliceApiCircuitBreaker circuitBreaker,
+        ClusterJobLock jobLock,
+        @Value("${police.api.health-check.stale-after-ms:900000}") long staleAfterMillis,
+        @Value("${police.api.health-check.interval-ms:300000}") long checkIntervalMillis) {
         this.apiClient = apiClient;
+        this.circuitBreaker = circuitBreaker;
+        this.jobLock = jobLock;
         this.staleAfter = Duration.ofMillis(staleAfterMillis);
+        this.checkInterval = Duration.ofMillis(checkIntervalMillis);
         this.cachedHealth.set(buildPendingHealth());
     }
 
@@ -45,17 +62,33 @@ public class PoliceApiHealthIndicator implements HealthIndicator {
         initialDelayString = "${police.api.health-check.initial-delay-ms:0}")
     public void refreshHealth() {
         Instant checkTime = Instant.now();
-        this.cachedHealth.set(checkPoliceApi(checkTime));
+        // 인스턴스마다 주기가 어긋나므로 한 주기 동안 잠금을 유지해 잡은 인스턴스가 계속 검사하게 함
+        boolean checked = jobLock.runExclusively(HEALTH_CHECK_JOB, checkInterval,
+            () -> this.cachedHealth.set(checkPoliceApi(checkTime)));
+        if (!checked) {
+            this.cachedHealth.set(buildStandbyHealth(checkTime));
+        }
         this.lastCheckedAt = checkTime;
     }
 
     /**
-     * 경찰청 API의 헬스 상태 응답
+     * 경찰청 API의 헬스 상태 응답 (서킷 브레이커/벌크헤드 상태는 조회 시점 값으로 추가)
      *
      * @return 헬스 상태 정보
      */
     @Override
     public Health health() {
+        Health current = currentHealth();
+        return Health.status(current.getStatus())
+            .withDetails(current.getDetails())
+            .withDetail("circuitBreaker", circuitBreaker.getState().name())
+            .withDetail("consecutiveFailures", circuitBreaker.getConsecutiveFailures())
+            .withDetail("bulkheadInFlight", circuitBreaker.getInFlightCalls())
+            .withDetail("bulkheadAvailable", circuitBreaker.getAvailableBulkheadPermits())
+            .build();
+    }
+
+    private Health currentHealth() {
         Health latest = cachedHealth.get();
         if (!apiClient.isEnabled()) {
             return latest;
@@ -84,7 +117,8 @@ public class PoliceApiHealthIndicator implements HealthIndicator {
             String startYmd = now.minusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE);
             String endYmd = now.format(DateTimeFormatter.BASIC_ISO_DATE);
 
-            PoliceApiLostItemResponse response = apiClient.fetchLostItems(1, 1, startYmd, endYmd);
+            PoliceApiLostItemResponse response = apiClient.fetchLostItems(1, 1, startYmd, endYmd,
+                PoliceApiCallPriority.HEALTH_CHECK);
             if (response != null && response.getHeader() != null
                 && "00".equals(response.getHeader().getResultCode())) {
                 return baseBuilder(checkTime)
@@ -96,6 +130,18 @@ public class PoliceApiHealthIndicator implements HealthIndicator {
                 .withDetail("status", "Unavailable")
                 .withDetail("message", "Police API responded with unexpected status")
                 .build();
+        } catch (PoliceApiUnavailableException e) {
+            return baseBuilder(checkTime)
+                .withDetail("status", "Unavailable")
+                .withDetail("message", "Police API circuit is open")
+                .withDetail("retryAfterMillis", e.getRetryAfter().toMillis())
+                .build();
+        } catch (PoliceApiThrottledException e) {
+            return baseBuilder(checkTime)
+                .withDetail("status", "Throttled")
+                .withDetail("message", "Police API health check skipped by rate limiter")
+                .withDetail("retryAfterMillis", e.getRetryAfter().toMillis())
+                .build();
         } catch (Exception e) {
             return baseBuilder(checkTime)
                 .withDetail("status", "Unavailable")
@@ -113,6 +159,14 @@ public class PoliceApiHealthIndicator implements HealthIndicator {
             .build();
     }
 
+    private Health buildStandbyHealth(Instant checkTime) {
+        return baseBuilder(checkTime)
+            .withDetail("status", "Standby")
+            .withDetail("message", "Police API health check runs on another instance")
+            .withDetail("checkedBy", jobLock.currentHolder(HEALTH_CHECK_JOB).orElse("unknown"))
+            .build();
+    }
+
     private Health buildDisabledHealth(Instant checkTime) {
         return baseBuilder(checkTime)
             .withDetail("status", "Disabled")
@@ -0,0 +1,289 @@
+package com.findit.server.infrastructure.metrics;
+
+import com.findit.server.domain.shared.DateScanner;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 경로 계측 (엔드포인트별)
+ *
+ * <p>페이지 하나가 조회 → 디코딩 → 변환(매핑·검증) → 업서트를 거치는 동안의 단계별 시간, 처리량, 데이터 신선도를
+ * {@code ingestion.*} 이름과 {@code endpoint} 태그(LOST_ITEMS, FOUND_ITEMS)로 남긴다. 정기 수집, 동기화, 백필,
+ * 작업 큐, dead-letter 재처리가 모두 같은 클라이언트·변환기·저장소를 거치므로 경로와 상관없이 함께 집계된다.</p>
+ * <ul>
+ *   <li>{@code ingestion.upstream.duration{endpoint,outcome}}: 페이지 요청 하나가 끝날 때까지의 시간
+ *       (본문 디코딩 포함, 속도 제한 대기 제외)</li>
+ *   <li>{@code ingestion.decode.duration{endpoint}}: 응답 본문을 스트림에서 읽으며 디코딩한 시간.
+ *       upstream과의 차이가 대략 첫 바이트까지의 대기 시간이다.</li>
+ *   <li>{@code ingestion.pages.in_flight{endpoint}}: 진행 중인 페이지 요청 수</li>
+ *   <li>{@code ingestion.transform.duration{endpoint}}: 매핑·검증 시간 (배치 단위, {@code ItemConverter})</li>
+ *   <li>{@code ingestion.upsert.duration{endpoint}}: 배치 업서트 시간</li>
+ *   <li>{@code ingestion.rows{endpoint}}: 업서트한 행 수, {@code ingestion.rows.per_second{endpoint}}: 최근 1분 평균</li>
+ *   <li>{@code ingestion.freshness.seconds{endpoint}}: 적재된 가장 최근 습득/분실 일자(그날 0시)부터 지난 시간.
+ *       기동 시 테이블의 최댓값으로 채우며, 알 수 없으면 NaN</li>
+ * </ul>
+ */
+@Component
+public class IngestionMetrics {
+
+    public static final String UPSTREAM_DURATION = "ingestion.upstream.duration";
+    public static final String DECODE_DURATION = "ingestion.decode.duration";
+    public static final String PAGES_IN_FLIGHT = "ingestion.pages.in_flight";
+    public static final String TRANSFORM_DURATION = "ingestion.transform.duration";
+    public static final String UPSERT_DURATION = "ingestion.upsert.duration";
+    public static final String ROWS = "ingestion.rows";
+    public static final String ROWS_PER_SECOND = "ingestion.rows.per_second";
+    public static final String FRESHNESS = "ingestion.freshness.seconds";
+
+    private static final Logger logger = LoggerFactory.getLogger(IngestionMetrics.class);
+
+    private static final int RATE_WINDOW_SECONDS = 60;
+    private static final long UNKNOWN_DAY = Long.MIN_VALUE;
+
+    private final MeterRegistry registry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Map<PoliceApiEndpoint, EndpointState> states = new EnumMap<>(PoliceApiEndpoint.class);
+
+    /**
+     * 생성자
+     *
+     * @param registry     메트릭 레지스트리
+     * @param jdbcTemplate 기동 시 신선도 초깃값 조회용 (없으면 첫 적재 전까지 NaN)
+     */
+    @Autowired
+    public IngestionMetrics(MeterRegistry registry, ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        this(registry, jdbcTemplate.getIfAvailable(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * 신선도 초깃값 없이 생성 (클라이언트를 직접 만드는 테스트용)
+     */
+    public IngestionMetrics(MeterRegistry registry) {
+        this(registry, null, Clock.systemDefaultZone());
+    }
+
+    IngestionMetrics(MeterRegistry registry, JdbcTemplate jdbcTemplate, Clock clock) {
+        this.registry = registry;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        for (PoliceApiEndpoint endpoint : PoliceApiEndpoint.values()) {
+            EndpointState state = new EndpointState();
+            states.put(endpoint, state);
+            List<Tag> tags = List.of(Tag.of("endpoint", endpoint.name()));
+            registry.gauge(PAGES_IN_FLIGHT, tags, state.inFlight);
+            registry.gauge(ROWS_PER_SECOND, tags, state, this::rowsPerSecond);
+            registry.gauge(FRESHNESS, tags, state, this::freshnessSeconds);
+        }
+    }
+
+    /**
+     * 기동 후 테이블에 이미 적재된 가장 최근 일자로 신선도 초깃값을 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void seedFreshness() {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        seedFreshness(PoliceApiEndpoint.LOST_ITEMS, "SELECT MAX(lst_ymd) FROM lost_items");
+        seedFreshness(PoliceApiEndpoint.FOUND_ITEMS, "SELECT MAX(fd_ymd) FROM found_items");
+    }
+
+    /**
+     * 페이지 요청 하나를 계측 (진행 중 요청 수, 소요 시간)
+     *
+     * @param endpoint 조회 대상 엔드포인트
+     * @param call     업스트림 호출 (응답 디코딩까지)
+     * @return 호출 결과
+     */
+    public <R> R upstream(PoliceApiEndpoint endpoint, Supplier<R> call) {
+        AtomicInteger inFlight = states.get(endpoint).inFlight;
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(registry);
+        boolean success = false;
+        try {
+            R result = call.get();
+            success = true;
+            return result;
+        } finally {
+            inFlight.decrementAndGet();
+            stopUpstream(sample, endpoint, success);
+        }
+    }
+
+    /**
+     * 비동기 페이지 요청 하나를 계측 (재시도를 포함한 전체 완료까지)
+     *
+     * @param endpoint 조회 대상 엔드포인트
+     * @param call     업스트림 호출
+     * @return 호출 결과 Future
+     */
+    public <R> CompletableFuture<R> upstreamAsync(PoliceApiEndpoint endpoint, Supplier<CompletableFuture<R>> call) {
+        AtomicInteger inFlight = states.get(endpoint).inFlight;
+        inFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(registry);
+        CompletableFuture<R> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            stopUpstream(sample, endpoint, false);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            stopUpstream(sample, endpoint, error == null);
+        });
+    }
+
+    /**
+     * 응답 본문 디코더를 디코딩 시간 계측으로 감쌈
+     *
+     * @param endpoint    조회 대상 엔드포인트
+     * @param bodyDecoder 응답 본문 디코더
+     * @return 계측하는 디코더
+     */
+    public <R> Function<InputStream, R> decoding(PoliceApiEndpoint endpoint, Function<InputStream, R> bodyDecoder) {
+        Timer timer = registry.timer(DECODE_DURATION, "endpoint", endpoint.name());
+        return body -> {
+            Timer.Sample sample = Timer.start(registry);
+            try {
+                return bodyDecoder.apply(body);
+            } finally {
+                sample.stop(timer);
+            }
+        };
+    }
+
+    /**
+     * 배치 업서트 하나를 기록 (소요 시간, 행 수, 처리량, 가장 최근 일자)
+     *
+     * @param endpoint 저장 대상 엔드포인트
+     * @param rows     업서트한 행
+     * @param ymdOf    행의 습득/분실 일자 (yyyyMMdd 또는 yyyy-MM-dd)
+     * @param elapsed  업서트 소요 시간
+     */
+    public <T> void upserted(PoliceApiEndpoint endpoint, List<T> rows, Function<T, String> ymdOf, Duration elapsed) {
+        EndpointState state = states.get(endpoint);
+        registry.timer(UPSERT_DURATION, "endpoint", endpoint.name()).record(elapsed);
+        registry.counter(ROWS, "endpoint", endpoint.name()).increment(rows.size());
+        state.rate.add(clock.millis() / 1000, rows.size());
+
+        int newest = DateScanner.INVALID;
+        for (T row : rows) {
+            String ymd = ymdOf.apply(row);
+            if (ymd != null) {
+                newest = Math.max(newest, DateScanner.scanStrict(ymd));
+            }
+        }
+        if (newest != DateScanner.INVALID) {
+            state.newestDay.accumulateAndGet(DateScanner.toLocalDate(newest).toEpochDay(), Math::max);
+        }
+    }
+
+    /**
+     * @return 최근 1분 동안의 초당 업서트 행 수
+     */
+    public double rowsPerSecond(PoliceApiEndpoint endpoint) {
+        return rowsPerSecond(states.get(endpoint));
+    }
+
+    /**
+     * @return 적재된 가장 최근 일자(그날 0시)부터 지난 초. 알 수 없으면 NaN
+     */
+    public double freshnessSeconds(PoliceApiEndpoint endpoint) {
+        return freshnessSeconds(states.get(endpoint));
+    }
+
+    private double rowsPerSecond(EndpointState state) {
+        return (double) state.rate.sum(clock.millis() / 1000) / RATE_WINDOW_SECONDS;
+    }
+
+    private double freshnessSeconds(EndpointState state) {
+        long day = state.newestDay.get();
+        if (day == UNKNOWN_DAY) {
+            return Double.NaN;
+        }
+        long startOfDay = LocalDate.ofEpochDay(day).atStartOfDay(clock.getZone()).toEpochSecond();
+        return Math.max(0, clock.millis() / 1000 - startOfDay);
+    }
+
+    private void stopUpstream(Timer.Sample sample, PoliceApiEndpoint endpoint, boolean success) {
+        sample.stop(registry.timer(UPSTREAM_DURATION, "endpoint", endpoint.name(),
+            "outcome", success ? "success" : "failure"));
+    }
+
+    private void seedFreshness(PoliceApiEndpoint endpoint, String sql) {
+        try {
+            String newest = jdbcTemplate.queryForObject(sql, String.class);
+            int packed = newest != null ? DateScanner.scanStrict(newest.trim()) : DateScanner.INVALID;
+            if (packed != DateScanner.INVALID) {
+                states.get(endpoint).newestDay.accumulateAndGet(DateScanner.toLocalDate(packed).toEpochDay(),
+                    Math::max);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("[ingestion] {} 신선도 초깃값 조회 실패: {}", endpoint, e.getMessage());
+        }
+    }
+
+    private static final class EndpointState {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong newestDay = new AtomicLong(UNKNOWN_DAY);
+        private final RateWindow rate = new RateWindow(RATE_WINDOW_SECONDS);
+    }
+
+    /**
+     * 초 단위 버킷을 돌려 쓰는 고정 길이 합계 창 (업서트 배치마다 한 번 갱신되므로 잠금으로 충분)
+     */
+    private static final class RateWindow {
+        private final long[] seconds;
+        private final long[] counts;
+
+        private RateWindow(int size) {
+            this.seconds = new long[size];
+            this.counts = new long[size];
+        }
+
+        synchronized void add(long second, long count) {
+            int slot = (int) Math.floorMod(second, (long) seconds.length);
+            if (seconds[slot] != second) {
+                seconds[slot] = second;
+                counts[slot] = 0;
+            }
+            counts[slot] += count;
+        }
+
+        synchronized long sum(long now) {
+            long sum = 0;
+            for (int i = 0; i < seconds.length; i++) {
+                if (now - seconds[i] < seconds.length) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+    }
+}
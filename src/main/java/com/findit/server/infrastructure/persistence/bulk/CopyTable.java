@@ -0,0 +1,20 @@
+package com.findit.server.infrastructure.persistence.bulk;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * COPY로 적재할 테이블 정의
+ *
+ * @param name      본 테이블 이름 (스테이징 테이블은 {@code <name>_staging})
+ * @param columns   COPY할 컬럼 (순서대로 {@code values}가 값을 돌려줌)
+ * @param values    행 하나의 컬럼 값 ({@link Number}는 그대로, 나머지는 문자열로 씀)
+ * @param mergeSql  스테이징 테이블을 본 테이블에 병합하고 {@code inserted}, {@code updated} 건수를 한 행으로 돌려주는 SQL
+ * @param <T>       엔티티 타입
+ */
+public record CopyTable<T>(String name, List<String> columns, Function<T, Object[]> values, String mergeSql) {
+
+    public String stagingName() {
+        return name + "_staging";
+    }
+}
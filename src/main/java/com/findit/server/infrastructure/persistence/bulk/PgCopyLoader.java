@@ -0,0 +1,161 @@
+package com.findit.server.infrastructure.persistence.bulk;
+
+import com.findit.server.domain.shared.UpsertResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PostgreSQL COPY 기반 대량 업서트
+ *
+ * <p>행 수가 {@code collection.copy-load.min-rows} 이상이면 문장 단위 배치 업서트 대신 행을 CSV로 흘려 COPY로
+ * 스테이징 테이블({@code <table>_staging})에 싣고, 한 문장의 {@code INSERT ... SELECT ... ON CONFLICT}로 본 테이블에
+ * 병합한다. 스테이징 테이블은 연결마다 만드는 임시 테이블이라 WAL을 남기지 않고(UNLOGGED와 같음), 여러 워커가 동시에
+ * 적재해도 서로 섞이지 않는다. 커밋하면 비워지므로 트랜잭션 안에서만 쓴다.</p>
+ *
+ * <p>기준은 한 번에 실제로 넘어오는 묶음에 맞춘다: 동기화 커밋 묶음({@code collection.transaction.commit-size})과
+ * dead-letter 재처리 배치는 변환에서 일부가 걸러져도 기준을 넘어 COPY로, 페이지 하나(100건)씩 쓰는 파이프라인 경로는
+ * 기존 배치 업서트로 적재된다.</p>
+ */
+@Component
+public class PgCopyLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgCopyLoader.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int minRows;
+    private volatile Boolean postgres;
+
+    /**
+     * 생성자
+     *
+     * @param jdbcTemplate JDBC 템플릿
+     * @param enabled      COPY 적재 사용 여부
+     * @param minRows      COPY로 적재할 최소 행 수 (이보다 적으면 기존 배치 업서트)
+     */
+    public PgCopyLoader(JdbcTemplate jdbcTemplate,
+        @Value("${collection.copy-load.enabled:true}") boolean enabled,
+        @Value("${collection.copy-load.min-rows:250}") int minRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.minRows = Math.max(1, minRows);
+    }
+
+    /**
+     * COPY로 적재할지 여부 (PostgreSQL이고 트랜잭션 안이며 행 수가 기준 이상인 경우)
+     *
+     * @param rows 적재할 행 수
+     */
+    public boolean accepts(int rows) {
+        return enabled && rows >= minRows && TransactionSynchronizationManager.isActualTransactionActive()
+            && isPostgres();
+    }
+
+    /**
+     * 행을 스테이징 테이블에 COPY한 뒤 본 테이블에 병합
+     *
+     * @param table 대상 테이블 정의
+     * @param rows  적재할 행 (같은 키가 두 번 나오면 병합 문장이 실패하므로 호출하는 쪽에서 중복을 없앤 목록)
+     * @return 신규/갱신/변경 없음 건수
+     */
+    public <T> UpsertResult upsert(CopyTable<T> table, List<T> rows) {
+        if (rows.isEmpty()) {
+            return UpsertResult.empty();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<UpsertResult>) connection -> {
+            long startedAt = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + table.stagingName() + " (LIKE " + table.name()
+                    + " INCLUDING DEFAULTS) ON COMMIT DELETE ROWS");
+                // 같은 트랜잭션에서 이미 한 번 적재했다면 앞선 행이 남아 있으므로 비우고 시작
+                statement.execute("TRUNCATE " + table.stagingName());
+            }
+            long copied = copy(connection, table, rows);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(table.mergeSql())) {
+                rs.next();
+                int inserted = rs.getInt("inserted");
+                int updated = rs.getInt("updated");
+                UpsertResult result = new UpsertResult(inserted, updated,
+                    Math.max(0, (int) copied - inserted - updated));
+                logger.debug("[copy-load] {} {}행 적재 (신규 {}, 갱신 {}), {}ms", table.name(), copied, inserted,
+                    updated, (System.nanoTime() - startedAt) / 1_000_000);
+                return result;
+            }
+        });
+    }
+
+    private <T> long copy(Connection connection, CopyTable<T> table, List<T> rows) throws SQLException {
+        String sql = "COPY " + table.stagingName() + " (" + String.join(", ", table.columns())
+            + ") FROM STDIN WITH (FORMAT csv)";
+        try (PGCopyOutputStream out = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            for (T row : rows) {
+                writeRow(writer, table.values().apply(row));
+            }
+            writer.flush();
+            return out.endCopy();
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException(table.stagingName() + " COPY 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * CSV 한 행 쓰기: null은 빈 칸(NULL), 문자열은 큰따옴표로 감싸 빈 문자열과 구분한다
+     */
+    static void writeRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number) {
+                writer.write(value.toString());
+                continue;
+            }
+            String text = value.toString();
+            writer.write('"');
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+        writer.write('\n');
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class)));
+            postgres = result;
+        }
+        return result;
+    }
+}
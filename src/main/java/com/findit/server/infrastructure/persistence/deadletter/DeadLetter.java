@@ -0,0 +1,27 @@
+package com.findit.server.infrastructure.persistence.deadletter;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+
+/**
+ * 적재하지 못한 원본 레코드 하나 (ingestion_dead_letters)
+ *
+ * @param id        레코드 ID (새로 보관할 때는 0)
+ * @param endpoint  조회한 엔드포인트
+ * @param recordKey 원본의 식별자 (atcId 등, 없으면 null)
+ * @param payload   원본 레코드 JSON
+ * @param reason    적재하지 못한 사유
+ * @param detail    사유 상세 (예외 메시지 등)
+ * @param attempts  재처리 시도 횟수
+ */
+public record DeadLetter(long id, PoliceApiEndpoint endpoint, String recordKey, String payload,
+    DeadLetterReason reason, String detail, int attempts) {
+
+    public static DeadLetter of(PoliceApiEndpoint endpoint, String recordKey, String payload, DeadLetterReason reason,
+        String detail) {
+        return new DeadLetter(0, endpoint, recordKey, payload, reason, detail, 0);
+    }
+
+    public DeadLetter withReason(DeadLetterReason reason, String detail) {
+        return new DeadLetter(id, endpoint, recordKey, payload, reason, detail, attempts);
+    }
+}
@@ -0,0 +1,13 @@
+package com.findit.server.infrastructure.persistence.deadletter;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+
+/**
+ * 엔드포인트/사유별 재처리 대기 건수
+ *
+ * @param endpoint 엔드포인트
+ * @param reason   적재하지 못한 사유
+ * @param count    건수
+ */
+public record DeadLetterCount(PoliceApiEndpoint endpoint, DeadLetterReason reason, long count) {
+}
@@ -0,0 +1,15 @@
+package com.findit.server.infrastructure.persistence.deadletter;
+
+/**
+ * 원본 레코드를 적재하지 못한 사유
+ */
+public enum DeadLetterReason {
+    /** 매퍼가 null을 돌려줌 (필수 값 누락, 인식할 수 없는 날짜 등) */
+    MAPPING_REJECTED,
+    /** 값 객체 생성에서 IllegalArgumentException 발생 (길이 초과, 형식 오류 등) */
+    INVALID_VALUE,
+    /** 매핑은 되었지만 DataValidator 검증을 통과하지 못함 */
+    VALIDATION_FAILED,
+    /** 보관된 원본 JSON을 다시 읽을 수 없음 (재처리 시에만 발생) */
+    UNREADABLE_PAYLOAD
+}
@@ -0,0 +1,161 @@
+package com.findit.server.infrastructure.persistence.deadletter;
+
+import com.findit.server.domain.shared.ContentHash;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 적재하지 못한 원본 레코드 저장소 (ingestion_dead_letters)
+ *
+ * <p>같은 원본이 수집할 때마다 다시 걸러지므로 엔드포인트와 원본 JSON 해시로 한 행만 남기고, 다시 들어오면
+ * {@code occurrences}와 사유만 갱신한다. 저장은 {@code SyncStateRepository}와 같이 UPDATE 후 갱신 행이 없으면
+ * INSERT 하는 방식이다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeadLetterRepository {
+
+    private static final int MAX_DETAIL_LENGTH = 500;
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final RowMapper<DeadLetter> ROW_MAPPER = (rs, rowNum) -> new DeadLetter(
+        rs.getLong("id"),
+        PoliceApiEndpoint.valueOf(rs.getString("endpoint")),
+        rs.getString("record_key"),
+        rs.getString("payload"),
+        DeadLetterReason.valueOf(rs.getString("reason")),
+        rs.getString("detail"),
+        rs.getInt("attempts"));
+
+    private static final String UPDATE_SQL = """
+            UPDATE ingestion_dead_letters
+            SET reason = ?, detail = ?, status = 'PENDING', occurrences = occurrences + 1, last_seen_at = ?,
+                resolved_at = NULL
+            WHERE endpoint = ? AND payload_hash = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 걸러진 원본 레코드를 보관 (같은 원본이 이미 있으면 사유와 발생 횟수만 갱신)
+     *
+     * @param letters 보관할 레코드 (id/attempts는 무시)
+     * @param now     발생 시각
+     */
+    public void saveAll(Collection<DeadLetter> letters, Instant now) {
+        Timestamp timestamp = Timestamp.from(now);
+        for (DeadLetter letter : letters) {
+            long payloadHash = ContentHash.of(letter.payload());
+            if (update(letter, payloadHash, timestamp) > 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update("""
+                        INSERT INTO ingestion_dead_letters (endpoint, record_key, payload_hash, payload, reason, detail,
+                                                            status, occurrences, attempts, first_seen_at, last_seen_at)
+                        VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 1, 0, ?, ?)
+                        """, letter.endpoint().name(), truncate(letter.recordKey(), MAX_KEY_LENGTH), payloadHash,
+                    letter.payload(), letter.reason().name(), truncate(letter.detail(), MAX_DETAIL_LENGTH),
+                    timestamp, timestamp);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 같은 원본을 먼저 INSERT 한 경우
+                update(letter, payloadHash, timestamp);
+            }
+        }
+    }
+
+    /**
+     * 재처리 대기 중인 레코드를 ID 순서로 조회
+     *
+     * @param endpoint 엔드포인트 (null이면 전체)
+     * @param afterId  이 ID 이후부터 조회 (처음이면 0)
+     * @param limit    최대 개수
+     */
+    public List<DeadLetter> findPending(PoliceApiEndpoint endpoint, long afterId, int limit) {
+        String sql = """
+                SELECT id, endpoint, record_key, payload, reason, detail, attempts
+                FROM ingestion_dead_letters
+                WHERE status = 'PENDING' AND id > ?
+                """ + (endpoint != null ? " AND endpoint = ?" : "") + " ORDER BY id LIMIT ?";
+        return endpoint != null
+            ? jdbcTemplate.query(sql, ROW_MAPPER, afterId, endpoint.name(), limit)
+            : jdbcTemplate.query(sql, ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * 재처리로 적재를 마친 레코드 표시
+     */
+    public void markResolved(List<Long> ids, Instant now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(now);
+        jdbcTemplate.batchUpdate("""
+                UPDATE ingestion_dead_letters
+                SET status = 'RESOLVED', attempts = attempts + 1, resolved_at = ?
+                WHERE id = ?
+                """, ids, ids.size(), (ps, id) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setLong(2, id);
+        });
+    }
+
+    /**
+     * 재처리에서도 걸러진 레코드의 사유를 갱신하고 시도 횟수를 늘림
+     */
+    public void markRejected(List<DeadLetter> letters, Instant now) {
+        if (letters.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(now);
+        jdbcTemplate.batchUpdate("""
+                UPDATE ingestion_dead_letters
+                SET reason = ?, detail = ?, attempts = attempts + 1, last_seen_at = ?
+                WHERE id = ?
+                """, letters, letters.size(), (ps, letter) -> {
+            ps.setString(1, letter.reason().name());
+            ps.setString(2, truncate(letter.detail(), MAX_DETAIL_LENGTH));
+            ps.setTimestamp(3, timestamp);
+            ps.setLong(4, letter.id());
+        });
+    }
+
+    /**
+     * 엔드포인트/사유별 재처리 대기 건수
+     */
+    public List<DeadLetterCount> countPending() {
+        List<DeadLetterCount> counts = new ArrayList<>();
+        jdbcTemplate.query("""
+                SELECT endpoint, reason, COUNT(*) AS cnt
+                FROM ingestion_dead_letters
+                WHERE status = 'PENDING'
+                GROUP BY endpoint, reason
+                ORDER BY endpoint, reason
+                """, rs -> {
+            counts.add(new DeadLetterCount(PoliceApiEndpoint.valueOf(rs.getString("endpoint")),
+                DeadLetterReason.valueOf(rs.getString("reason")), rs.getLong("cnt")));
+        });
+        return counts;
+    }
+
+    private int update(DeadLetter letter, long payloadHash, Timestamp timestamp) {
+        return jdbcTemplate.update(UPDATE_SQL, letter.reason().name(), truncate(letter.detail(), MAX_DETAIL_LENGTH),
+            timestamp, letter.endpoint().name(), payloadHash);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,11 @@
+package com.findit.server.infrastructure.persistence.deadletter;
+
+/**
+ * dead-letter 레코드 상태
+ */
+public enum DeadLetterStatus {
+    /** 적재되지 않고 재처리를 기다림 */
+    PENDING,
+    /** 재처리로 적재 완료 */
+    RESOLVED
+}
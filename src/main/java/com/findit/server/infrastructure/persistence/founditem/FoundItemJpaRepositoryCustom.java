@@ -1,6 +1,7 @@
 package com.findit.server.infrastructure.persistence.founditem;
 
 import com.findit.server.domain.founditem.FoundItem;
+import com.findit.server.domain.shared.UpsertResult;
 import java.util.List;
 
 /**
@@ -9,7 +10,18 @@ import java.util.List;
 public interface FoundItemJpaRepositoryCustom {
     /**
      * Batch upsert for found items.
+     * On PostgreSQL, batches of at least {@code collection.copy-load.min-rows} are loaded through COPY into a
+     * staging table and merged in one statement.
      * @param items entities to insert or update
      */
     void upsertBatch(List<FoundItem> items);
+
+    /**
+     * Upserts the given rows in a single statement and reports, per row, whether it was inserted or updated.
+     * Large batches take the same COPY path as {@link #upsertBatch(List)}.
+     *
+     * @param items entities to insert or update (the last occurrence wins for duplicate ids)
+     * @return inserted/updated counts
+     */
+    UpsertResult upsertBatchWithResult(List<FoundItem> items);
 }
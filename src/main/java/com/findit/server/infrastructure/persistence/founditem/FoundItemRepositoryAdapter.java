@@ -2,6 +2,7 @@ package com.findit.server.infrastructure.persistence.founditem;
 
 import com.findit.server.domain.founditem.FoundItem;
 import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -77,6 +78,11 @@ public class FoundItemRepositoryAdapter implements FoundItemRepository {
         foundItemJpaRepository.upsertBatch(items);
     }
 
+    @Override
+    public UpsertResult upsertBatchWithResult(List<FoundItem> items) {
+        return foundItemJpaRepository.upsertBatchWithResult(items);
+    }
+
     @Override
     public List<FoundItem> findRecentFoundItemsByType(String itemType, String startDate) {
         return foundItemJpaRepository.findRecentFoundItemsByType(itemType, startDate);
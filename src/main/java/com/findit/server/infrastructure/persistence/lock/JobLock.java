@@ -0,0 +1,14 @@
+package com.findit.server.infrastructure.persistence.lock;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 잠금 (job_locks)
+ *
+ * @param name       작업 이름
+ * @param lockedBy   잠금을 잡은 인스턴스 식별자
+ * @param lockedAt   잠금을 잡은 시각
+ * @param leaseUntil 임대 만료 시각. 이 시각이 지나면 다른 인스턴스가 잠금을 가져갈 수 있다.
+ */
+public record JobLock(String name, String lockedBy, Instant lockedAt, Instant leaseUntil) {
+}
@@ -0,0 +1,111 @@
+package com.findit.server.infrastructure.persistence.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스케줄 작업 잠금 저장소
+ *
+ * <p>잠금 획득은 "비어 있거나 임대가 끝난 행"에 대한 조건부 UPDATE 한 문장이라 여러 인스턴스가 동시에 시도해도
+ * 하나만 성공한다. 행이 아직 없으면 INSERT 하고, 다른 인스턴스가 먼저 INSERT 했으면(중복 키) 실패로 본다.
+ * 세션에 묶이는 advisory lock과 달리 커넥션 풀과 무관하게 동작한다. 임대 시각은 모두 DB 시계({@code CURRENT_TIMESTAMP})로
+ * 계산하고 비교하므로 인스턴스끼리 시계가 어긋나도 살아 있는 임대를 다른 인스턴스가 가져가지 않는다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLockRepository {
+
+    private static final RowMapper<JobLock> ROW_MAPPER = (rs, rowNum) -> new JobLock(
+        rs.getString("name"),
+        rs.getString("locked_by"),
+        rs.getTimestamp("locked_at").toInstant(),
+        rs.getTimestamp("lease_until").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<JobLock> find(String name) {
+        List<JobLock> rows = jdbcTemplate.query("""
+                SELECT name, locked_by, locked_at, lease_until
+                FROM job_locks
+                WHERE name = ?
+                """, ROW_MAPPER, name);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 임대 중인 잠금을 잡고 있는 인스턴스 조회 (DB 시계 기준으로 임대가 끝났으면 비어 있음)
+     */
+    public Optional<String> findHolder(String name) {
+        List<String> rows = jdbcTemplate.queryForList("""
+                SELECT locked_by
+                FROM job_locks
+                WHERE name = ? AND lease_until > CURRENT_TIMESTAMP
+                """, String.class, name);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 임대가 끝났거나 이미 자신이 잡고 있는 잠금을 획득
+     *
+     * @param name  작업 이름
+     * @param owner 인스턴스 식별자
+     * @param lease 임대 기간 (DB 시계 기준 지금부터)
+     * @return 획득하면 true, 다른 인스턴스가 임대 중이면 false
+     */
+    public boolean tryAcquire(String name, String owner, Duration lease) {
+        int updated = jdbcTemplate.update("""
+                UPDATE job_locks
+                SET locked_by = ?, locked_at = CURRENT_TIMESTAMP, lease_until = CURRENT_TIMESTAMP + ?::interval
+                WHERE name = ? AND (lease_until <= CURRENT_TIMESTAMP OR locked_by = ?)
+                """, owner, interval(lease), name, owner);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO job_locks (name, locked_by, locked_at, lease_until)
+                    VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP + ?::interval)
+                    """, name, owner, interval(lease));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 행이 이미 있고 다른 인스턴스가 임대 중
+            return false;
+        }
+    }
+
+    /**
+     * 자신이 잡고 있는 잠금의 임대를 연장
+     *
+     * @param lease 임대 기간 (DB 시계 기준 지금부터)
+     * @return 연장하면 true, 임대가 끝나 다른 인스턴스가 가져간 경우 false
+     */
+    public boolean renew(String name, String owner, Duration lease) {
+        return jdbcTemplate.update("""
+                UPDATE job_locks
+                SET lease_until = CURRENT_TIMESTAMP + ?::interval
+                WHERE name = ? AND locked_by = ?
+                """, interval(lease), name, owner) > 0;
+    }
+
+    /**
+     * 잠금을 반납. 임대 만료 시각을 잠금을 잡은 시각 + {@code holdFor}로 당겨(이미 지났으면 지금) 그 이후에는 다른
+     * 인스턴스가 가져갈 수 있게 한다.
+     */
+    public void release(String name, String owner, Duration holdFor) {
+        jdbcTemplate.update("""
+                UPDATE job_locks
+                SET lease_until = GREATEST(locked_at + ?::interval, CURRENT_TIMESTAMP)
+                WHERE name = ? AND locked_by = ?
+                """, interval(holdFor), name, owner);
+    }
+
+    private static String interval(Duration duration) {
+        return duration.toMillis() + " milliseconds";
+    }
+}
@@ -1,6 +1,7 @@
 package com.findit.server.infrastructure.persistence.lostitem;
 
 import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.shared.UpsertResult;
 import java.util.List;
 
 /**
@@ -9,8 +10,19 @@ import java.util.List;
 public interface LostItemJpaRepositoryCustom {
     /**
      * Inserts new rows or updates existing rows matched by primary/unique key.
+     * On PostgreSQL, batches of at least {@code collection.copy-load.min-rows} are loaded through COPY into a
+     * staging table and merged in one statement.
      *
      * @param items list of {@link LostItem} entities to upsert in batch
      */
     void upsertBatch(List<LostItem> items);
+
+    /**
+     * Upserts the given rows in a single statement and reports, per row, whether it was inserted or updated.
+     * Large batches take the same COPY path as {@link #upsertBatch(List)}.
+     *
+     * @param items entities to insert or update (the last occurrence wins for duplicate ids)
+     * @return inserted/updated counts
+     */
+    UpsertResult upsertBatchWithResult(List<LostItem> items);
 }
@@ -1,7 +1,14 @@
 package com.findit.server.infrastructure.persistence.lostitem;
 
 import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.infrastructure.metrics.IngestionMetrics;
+import com.findit.server.infrastructure.persistence.bulk.CopyTable;
+import com.findit.server.infrastructure.persistence.bulk.PgCopyLoader;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -9,30 +16,97 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Repository
 @RequiredArgsConstructor
 public class LostItemJpaRepositoryImpl implements LostItemJpaRepositoryCustom {
 
+    // 배열 파라미터를 unnest로 펼쳐 한 문장으로 업서트하고, 행마다 xmax = 0(새로 삽입된 행) 여부를 돌려받는다.
+    // 내용 해시가 같은 행은 갱신하지 않으므로 RETURNING에도 나오지 않는다.
+    private static final String UPSERT_RETURNING_SQL = """
+            INSERT INTO lost_items (atc_id, prdt_cl_nm, lst_place, lst_ymd, lst_prdt_nm, lst_sbjt, rnum, content_hash)
+            SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::text[], ?::varchar[], ?::bigint[])
+            ON CONFLICT (atc_id) DO UPDATE SET
+              prdt_cl_nm  = EXCLUDED.prdt_cl_nm,
+              lst_place   = EXCLUDED.lst_place,
+              lst_ymd     = EXCLUDED.lst_ymd,
+              lst_prdt_nm = EXCLUDED.lst_prdt_nm,
+              lst_sbjt    = EXCLUDED.lst_sbjt,
+              rnum        = EXCLUDED.rnum,
+              content_hash = EXCLUDED.content_hash
+            WHERE lost_items.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            RETURNING (xmax = 0) AS inserted
+            """;
+
+    // COPY로 채운 스테이징 테이블을 한 문장으로 병합하고 신규/갱신 건수만 한 행으로 돌려받는다.
+    private static final String MERGE_FROM_STAGING_SQL = """
+            WITH merged AS (
+                INSERT INTO lost_items (atc_id, prdt_cl_nm, lst_place, lst_ymd, lst_prdt_nm, lst_sbjt, rnum, content_hash)
+                SELECT atc_id, prdt_cl_nm, lst_place, lst_ymd, lst_prdt_nm, lst_sbjt, rnum, content_hash FROM lost_items_staging
+                ON CONFLICT (atc_id) DO UPDATE SET
+                  prdt_cl_nm  = EXCLUDED.prdt_cl_nm,
+                  lst_place   = EXCLUDED.lst_place,
+                  lst_ymd     = EXCLUDED.lst_ymd,
+                  lst_prdt_nm = EXCLUDED.lst_prdt_nm,
+                  lst_sbjt    = EXCLUDED.lst_sbjt,
+                  rnum        = EXCLUDED.rnum,
+                  content_hash = EXCLUDED.content_hash
+                WHERE lost_items.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+                RETURNING (xmax = 0) AS inserted
+            )
+            SELECT count(*) FILTER (WHERE inserted) AS inserted, count(*) FILTER (WHERE NOT inserted) AS updated
+            FROM merged
+            """;
+
+    private static final CopyTable<LostItem> COPY_TABLE = new CopyTable<>("lost_items",
+        List.of("atc_id", "prdt_cl_nm", "lst_place", "lst_ymd", "lst_prdt_nm", "lst_sbjt", "rnum", "content_hash"),
+        item -> new Object[]{
+            item.getAtcId(), item.getPrdtClNm(), item.getLstPlace(), item.getLstYmd(), item.getLstPrdtNm(),
+            item.getLstSbjt(), item.getRnum(), item.getContentHash()},
+        MERGE_FROM_STAGING_SQL);
+
     private final JdbcTemplate jdbcTemplate;
+    // @DataJpaTest 등 메트릭 설정이 없는 컨텍스트에서도 저장소를 만들 수 있도록 선택 주입
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    // COPY 적재기도 같은 이유로 선택 주입 (없으면 항상 배치 업서트)
+    private final ObjectProvider<PgCopyLoader> copyLoader;
+    // 수집 경로 계측(업서트 시간, 처리량, 신선도)도 같은 이유로 선택 주입
+    private final ObjectProvider<IngestionMetrics> ingestionMetrics;
 
     @Override
     @Transactional
     public void upsertBatch(List<LostItem> items) {
         if (items.isEmpty()) return;
+        long started = System.nanoTime();
+        PgCopyLoader loader = copyLoader.getIfAvailable();
+        if (loader != null && loader.accepts(items.size())) {
+            List<LostItem> rows = lastById(items);
+            UpsertResult result = loader.upsert(COPY_TABLE, rows);
+            recordRows(rows, started, result.changed(), result.unchanged());
+            return;
+        }
         final String sql = """
-                INSERT INTO lost_items (atc_id, prdt_cl_nm, lst_place, lst_ymd, lst_prdt_nm, lst_sbjt, rnum)
-                VALUES (?, ?, ?, ?, ?, ?, ?)
+                INSERT INTO lost_items (atc_id, prdt_cl_nm, lst_place, lst_ymd, lst_prdt_nm, lst_sbjt, rnum, content_hash)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
                 ON CONFLICT (atc_id) DO UPDATE SET
                   prdt_cl_nm = EXCLUDED.prdt_cl_nm,
                   lst_place  = EXCLUDED.lst_place,
                   lst_ymd    = EXCLUDED.lst_ymd,
                   lst_prdt_nm= EXCLUDED.lst_prdt_nm,
                   lst_sbjt   = EXCLUDED.lst_sbjt,
-                  rnum       = EXCLUDED.rnum
+                  rnum       = EXCLUDED.rnum,
+                  content_hash = EXCLUDED.content_hash
+                WHERE lost_items.content_hash IS DISTINCT FROM EXCLUDED.content_hash
                 """;
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+        int[] counts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
                 LostItem item = items.get(i);
@@ -43,6 +117,7 @@ public class LostItemJpaRepositoryImpl implements LostItemJpaRepositoryCustom {
                 ps.setString(5, item.getLstPrdtNm());
                 ps.setString(6, item.getLstSbjt());
                 ps.setString(7, item.getRnum());
+                ps.setObject(8, item.getContentHash(), Types.BIGINT);
             }
 
             @Override
@@ -50,5 +125,59 @@ public class LostItemJpaRepositoryImpl implements LostItemJpaRepositoryCustom {
                 return items.size();
             }
         });
+        // 내용 해시가 같아 갱신을 건너뛴 행은 갱신 건수 0으로 돌아온다 (드라이버가 건수를 모르면 음수)
+        int skipped = (int) Arrays.stream(counts).filter(count -> count == 0).count();
+        recordRows(items, started, items.size() - skipped, skipped);
+    }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertBatchWithResult(List<LostItem> items) {
+        if (items.isEmpty()) return UpsertResult.empty();
+        long started = System.nanoTime();
+        List<LostItem> rows = lastById(items);
+        PgCopyLoader loader = copyLoader.getIfAvailable();
+        if (loader != null && loader.accepts(rows.size())) {
+            UpsertResult result = loader.upsert(COPY_TABLE, rows);
+            recordRows(rows, started, result.changed(), result.unchanged());
+            return result;
+        }
+        List<Boolean> outcomes = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_RETURNING_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", column(rows, LostItem::getAtcId)));
+            ps.setArray(2, connection.createArrayOf("varchar", column(rows, LostItem::getPrdtClNm)));
+            ps.setArray(3, connection.createArrayOf("varchar", column(rows, LostItem::getLstPlace)));
+            ps.setArray(4, connection.createArrayOf("varchar", column(rows, LostItem::getLstYmd)));
+            ps.setArray(5, connection.createArrayOf("varchar", column(rows, LostItem::getLstPrdtNm)));
+            ps.setArray(6, connection.createArrayOf("text", column(rows, LostItem::getLstSbjt)));
+            ps.setArray(7, connection.createArrayOf("varchar", column(rows, LostItem::getRnum)));
+            ps.setArray(8, connection.createArrayOf("bigint", rows.stream().map(LostItem::getContentHash).toArray(Long[]::new)));
+            return ps;
+        }, (rs, rowNum) -> rs.getBoolean("inserted"));
+        UpsertResult result = UpsertResult.of(outcomes, rows.size());
+        recordRows(rows, started, result.changed(), result.unchanged());
+        return result;
+    }
+
+    private void recordRows(List<LostItem> rows, long startedNanos, int changed, int skipped) {
+        meterRegistry.ifAvailable(registry -> {
+            registry.counter("items.upsert.rows", "table", "lost_items", "outcome", "changed").increment(changed);
+            registry.counter("items.upsert.rows", "table", "lost_items", "outcome", "skipped").increment(skipped);
+        });
+        ingestionMetrics.ifAvailable(metrics -> metrics.upserted(PoliceApiEndpoint.LOST_ITEMS, rows, LostItem::getLstYmd,
+            Duration.ofNanos(System.nanoTime() - startedNanos)));
+    }
+
+    // 한 문장 안에서 같은 atc_id를 두 번 갱신하면 ON CONFLICT가 실패하므로 마지막 값만 남긴다.
+    private static List<LostItem> lastById(List<LostItem> items) {
+        Map<String, LostItem> unique = new LinkedHashMap<>();
+        for (LostItem item : items) {
+            unique.put(item.getAtcId(), item);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static String[] column(List<LostItem> rows, Function<LostItem, String> getter) {
+        return rows.stream().map(getter).toArray(String[]::new);
     }
 }
@@ -2,6 +2,7 @@ package com.findit.server.infrastructure.persistence.lostitem;
 
 import com.findit.server.domain.lostitem.LostItem;
 import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -91,4 +92,9 @@ public class LostItemRepositoryAdapter implements LostItemRepository {
     public void upsertBatch(List<LostItem> items) {
         lostItemJpaRepository.upsertBatch(items);
     }
+
+    @Override
+    public UpsertResult upsertBatchWithResult(List<LostItem> items) {
+        return lostItemJpaRepository.upsertBatchWithResult(items);
+    }
 }
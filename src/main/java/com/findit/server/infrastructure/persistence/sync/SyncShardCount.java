@@ -0,0 +1,17 @@
+package com.findit.server.infrastructure.persistence.sync;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.time.Instant;
+
+/**
+ * 날짜 샤드별 전체 건수 스냅샷 (sync_shard_counts)
+ *
+ * @param endpoint    조회 대상 엔드포인트
+ * @param shardYmd    샤드 날짜 (yyyyMMdd)
+ * @param totalCount  마지막 전체 조회 시점의 전체 건수
+ * @param probedAt    마지막 건수 확인 시각
+ * @param refreshedAt 마지막 전체 조회 완료 시각
+ */
+public record SyncShardCount(PoliceApiEndpoint endpoint, String shardYmd, int totalCount, Instant probedAt,
+    Instant refreshedAt) {
+}
@@ -0,0 +1,74 @@
+package com.findit.server.infrastructure.persistence.sync;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 날짜 샤드별 전체 건수 스냅샷 저장소
+ *
+ * <p>PostgreSQL과 테스트용 H2에서 모두 동작하도록 UPDATE 후 갱신 행이 없으면 INSERT 하는 방식으로 저장한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncShardCountRepository {
+
+    private static final RowMapper<SyncShardCount> ROW_MAPPER = (rs, rowNum) -> new SyncShardCount(
+        PoliceApiEndpoint.valueOf(rs.getString("endpoint")),
+        rs.getString("shard_ymd"),
+        rs.getInt("total_count"),
+        rs.getTimestamp("probed_at").toInstant(),
+        rs.getTimestamp("refreshed_at").toInstant());
+
+    private static final String UPDATE_REFRESHED_SQL = """
+            UPDATE sync_shard_counts
+            SET total_count = ?, probed_at = ?, refreshed_at = ?
+            WHERE endpoint = ? AND shard_ymd = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SyncShardCount> find(PoliceApiEndpoint endpoint, String shardYmd) {
+        List<SyncShardCount> rows = jdbcTemplate.query("""
+                SELECT endpoint, shard_ymd, total_count, probed_at, refreshed_at
+                FROM sync_shard_counts
+                WHERE endpoint = ? AND shard_ymd = ?
+                """, ROW_MAPPER, endpoint.name(), shardYmd);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 전체 조회를 마친 샤드의 건수를 기록
+     */
+    public void saveRefreshed(PoliceApiEndpoint endpoint, String shardYmd, int totalCount, Instant refreshedAt) {
+        Timestamp timestamp = Timestamp.from(refreshedAt);
+        int updated = jdbcTemplate.update(UPDATE_REFRESHED_SQL, totalCount, timestamp, timestamp, endpoint.name(), shardYmd);
+        if (updated > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO sync_shard_counts (endpoint, shard_ymd, total_count, probed_at, refreshed_at)
+                    VALUES (?, ?, ?, ?, ?)
+                    """, endpoint.name(), shardYmd, totalCount, timestamp, timestamp);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 INSERT 한 경우 최신 값으로 덮어씀
+            jdbcTemplate.update(UPDATE_REFRESHED_SQL, totalCount, timestamp, timestamp, endpoint.name(), shardYmd);
+        }
+    }
+
+    /**
+     * 건수가 그대로여서 전체 조회를 건너뛴 샤드의 확인 시각만 갱신
+     */
+    public void touchProbed(PoliceApiEndpoint endpoint, String shardYmd, Instant probedAt) {
+        jdbcTemplate.update("UPDATE sync_shard_counts SET probed_at = ? WHERE endpoint = ? AND shard_ymd = ?",
+            Timestamp.from(probedAt), endpoint.name(), shardYmd);
+    }
+}
@@ -0,0 +1,20 @@
+package com.findit.server.infrastructure.persistence.sync;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.time.Instant;
+
+/**
+ * 수집 체크포인트 (sync_state)
+ *
+ * @param job        수집 작업 이름 (예: collection, sync)
+ * @param endpoint   조회 대상 엔드포인트
+ * @param shardKey   샤드 키 (날짜 샤드면 yyyyMMdd, 기간 동기화면 yyyyMMdd-yyyyMMdd)
+ * @param status     진행 상태
+ * @param lastPage   1페이지부터 빠짐없이 저장을 마친 마지막 페이지 (워터마크, 없으면 0)
+ * @param totalCount 마지막으로 확인한 전체 건수 (알 수 없으면 0)
+ * @param startedAt  이번 실행(또는 이어받은 실행)의 시작 시각
+ * @param updatedAt  마지막 갱신 시각
+ */
+public record SyncState(String job, PoliceApiEndpoint endpoint, String shardKey, SyncStatus status, int lastPage,
+    int totalCount, Instant startedAt, Instant updatedAt) {
+}
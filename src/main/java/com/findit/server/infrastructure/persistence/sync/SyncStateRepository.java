@@ -0,0 +1,74 @@
+package com.findit.server.infrastructure.persistence.sync;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 수집 체크포인트 저장소
+ *
+ * <p>{@link SyncShardCountRepository}와 같이 UPDATE 후 갱신 행이 없으면 INSERT 하는 방식으로 저장한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncStateRepository {
+
+    private static final RowMapper<SyncState> ROW_MAPPER = (rs, rowNum) -> new SyncState(
+        rs.getString("job"),
+        PoliceApiEndpoint.valueOf(rs.getString("endpoint")),
+        rs.getString("shard_key"),
+        SyncStatus.valueOf(rs.getString("status")),
+        rs.getInt("last_page"),
+        rs.getInt("total_count"),
+        rs.getTimestamp("started_at").toInstant(),
+        rs.getTimestamp("updated_at").toInstant());
+
+    private static final String UPDATE_SQL = """
+            UPDATE sync_state
+            SET status = ?, last_page = ?, total_count = ?, started_at = ?, updated_at = ?
+            WHERE job = ? AND endpoint = ? AND shard_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SyncState> find(String job, PoliceApiEndpoint endpoint, String shardKey) {
+        List<SyncState> rows = jdbcTemplate.query("""
+                SELECT job, endpoint, shard_key, status, last_page, total_count, started_at, updated_at
+                FROM sync_state
+                WHERE job = ? AND endpoint = ? AND shard_key = ?
+                """, ROW_MAPPER, job, endpoint.name(), shardKey);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 체크포인트를 저장 (없으면 새로 추가)
+     */
+    public void save(SyncState state) {
+        if (update(state) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO sync_state (job, endpoint, shard_key, status, last_page, total_count, started_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                    """, state.job(), state.endpoint().name(), state.shardKey(), state.status().name(),
+                state.lastPage(), state.totalCount(), Timestamp.from(state.startedAt()),
+                Timestamp.from(state.updatedAt()));
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 INSERT 한 경우 최신 값으로 덮어씀
+            update(state);
+        }
+    }
+
+    private int update(SyncState state) {
+        return jdbcTemplate.update(UPDATE_SQL, state.status().name(), state.lastPage(), state.totalCount(),
+            Timestamp.from(state.startedAt()), Timestamp.from(state.updatedAt()),
+            state.job(), state.endpoint().name(), state.shardKey());
+    }
+}
@@ -0,0 +1,13 @@
+package com.findit.server.infrastructure.persistence.sync;
+
+/**
+ * 수집 체크포인트 상태 (sync_state.status)
+ */
+public enum SyncStatus {
+    /** 진행 중이거나, 프로세스가 중간에 종료되어 마무리되지 못함 */
+    RUNNING,
+    /** 마지막 페이지까지 저장 완료 */
+    COMPLETED,
+    /** 조회/저장 실패 페이지가 남아 있음 */
+    FAILED
+}
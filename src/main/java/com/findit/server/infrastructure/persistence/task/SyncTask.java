@@ -0,0 +1,23 @@
+package com.findit.server.infrastructure.persistence.task;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+
+/**
+ * 분산 수집 작업 하나 (sync_tasks)
+ *
+ * @param id        작업 ID
+ * @param batchId   함께 등록된 작업 묶음 ID
+ * @param endpoint  조회 대상 엔드포인트
+ * @param startYmd  조회 시작일 (yyyyMMdd)
+ * @param endYmd    조회 종료일 (yyyyMMdd)
+ * @param firstPage 조회를 시작할 페이지
+ * @param lastPage  조회할 마지막 페이지 (0이면 끝까지, 처리하는 워커가 나머지를 작업으로 나눠 등록)
+ * @param attempts  이번 시도를 포함한 시도 횟수
+ */
+public record SyncTask(long id, String batchId, PoliceApiEndpoint endpoint, String startYmd, String endYmd,
+    int firstPage, int lastPage, int attempts) {
+
+    public boolean isOpenEnded() {
+        return lastPage <= 0;
+    }
+}
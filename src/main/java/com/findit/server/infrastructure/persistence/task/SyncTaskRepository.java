@@ -0,0 +1,209 @@
+package com.findit.server.infrastructure.persistence.task;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 분산 수집 작업 큐 저장소 (sync_tasks)
+ *
+ * <p>모든 인스턴스의 워커가 같은 테이블에서 작업을 가져간다. {@link #claim}은 {@code FOR UPDATE SKIP LOCKED}로
+ * 다른 워커가 잠근 행을 기다리지 않고 건너뛰므로 워커끼리 서로 막지 않고 겹치지 않게 작업을 나눠 갖는다.
+ * 완료/실패/하트비트는 모두 {@code claimed_by}가 자신인 RUNNING 행에만 반영해, 하트비트가 끊겨 다른 워커에게
+ * 다시 넘어간 작업을 늦게 끝난 워커가 덮어쓰지 않게 한다. 하트비트 기록과 만료 판단은 인스턴스 간 시계 차이에
+ * 흔들리지 않도록 DB 시계({@code CURRENT_TIMESTAMP})로 한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncTaskRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String NEXT_STATUS_ON_FAILURE =
+        "CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 등록
+     *
+     * @param batchId 작업 묶음 ID
+     * @param tasks   등록할 작업 (id/attempts는 무시)
+     * @param now     등록 시각 (바로 가져갈 수 있음)
+     */
+    public void enqueue(String batchId, List<SyncTask> tasks, Instant now) {
+        Timestamp timestamp = Timestamp.from(now);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO sync_tasks (batch_id, endpoint, start_ymd, end_ymd, first_page, last_page, status,
+                                        attempts, available_at, items_written, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, 0, ?, ?)
+                """, tasks, 500, (ps, task) -> {
+            ps.setString(1, batchId);
+            ps.setString(2, task.endpoint().name());
+            ps.setString(3, task.startYmd());
+            ps.setString(4, task.endYmd());
+            ps.setInt(5, task.firstPage());
+            ps.setInt(6, Math.max(0, task.lastPage()));
+            ps.setTimestamp(7, timestamp);
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+        });
+    }
+
+    /**
+     * 가져갈 수 있는 작업을 최대 {@code limit}개 잠그고 RUNNING으로 바꿔 가져감
+     *
+     * @param worker 워커(인스턴스) 식별자
+     * @param now    현재 시각 (재시도 대기 중인 작업은 제외)
+     * @param limit  최대 개수
+     * @return 가져간 작업 (시도 횟수는 이번 시도 포함)
+     */
+    @Transactional
+    public List<SyncTask> claim(String worker, Instant now, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.from(now);
+        List<SyncTask> claimed = jdbcTemplate.query("""
+                SELECT id, batch_id, endpoint, start_ymd, end_ymd, first_page, last_page, attempts
+                FROM sync_tasks
+                WHERE status = 'PENDING' AND available_at <= ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """, (rs, rowNum) -> new SyncTask(
+            rs.getLong("id"),
+            rs.getString("batch_id"),
+            PoliceApiEndpoint.valueOf(rs.getString("endpoint")),
+            rs.getString("start_ymd"),
+            rs.getString("end_ymd"),
+            rs.getInt("first_page"),
+            rs.getInt("last_page"),
+            rs.getInt("attempts") + 1), timestamp, limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE sync_tasks
+                SET status = 'RUNNING', claimed_by = ?, heartbeat_at = CURRENT_TIMESTAMP, attempts = attempts + 1,
+                    updated_at = ?
+                WHERE id = ?
+                """, claimed, claimed.size(), (ps, task) -> {
+            ps.setString(1, worker);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, task.id());
+        });
+        return claimed;
+    }
+
+    /**
+     * 처리 중인 작업의 하트비트 갱신
+     */
+    public void heartbeat(List<Long> ids, String worker) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE sync_tasks
+                SET heartbeat_at = CURRENT_TIMESTAMP
+                WHERE id = ? AND claimed_by = ? AND status = 'RUNNING'
+                """, ids, ids.size(), (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setString(2, worker);
+        });
+    }
+
+    /**
+     * 작업 완료. 끝이 열린 작업이 남긴 나머지 페이지 작업은 완료와 같은 트랜잭션에서 등록하며, 그 사이 다른 워커에게
+     * 넘어가 완료를 반영하지 못했으면 등록하지 않는다 (넘겨받은 워커가 다시 나눠 등록하므로 중복되지 않음).
+     *
+     * @param task         완료한 작업
+     * @param worker       워커(인스턴스) 식별자
+     * @param itemsWritten 저장한 건수
+     * @param remaining    이어서 처리할 나머지 페이지 작업 (없으면 빈 목록)
+     * @param now          완료 시각
+     * @return 반영했으면 true, 그 사이 다른 워커에게 넘어간 경우 false
+     */
+    @Transactional
+    public boolean complete(SyncTask task, String worker, int itemsWritten, List<SyncTask> remaining, Instant now) {
+        int updated = jdbcTemplate.update("""
+                UPDATE sync_tasks
+                SET status = 'DONE', items_written = ?, last_error = NULL, updated_at = ?
+                WHERE id = ? AND claimed_by = ? AND status = 'RUNNING'
+                """, itemsWritten, Timestamp.from(now), task.id(), worker);
+        if (updated == 0) {
+            return false;
+        }
+        if (!remaining.isEmpty()) {
+            enqueue(task.batchId(), remaining, now);
+        }
+        return true;
+    }
+
+    /**
+     * 작업 실패. 시도 횟수가 {@code maxAttempts}에 이르면 FAILED, 아니면 {@code retryAt} 이후 다시 가져갈 수 있게 한다.
+     */
+    public void fail(long id, String worker, String error, Instant now, Instant retryAt, int maxAttempts) {
+        jdbcTemplate.update("UPDATE sync_tasks SET status = " + NEXT_STATUS_ON_FAILURE + """
+                , claimed_by = NULL, available_at = ?, last_error = ?, updated_at = ?
+                WHERE id = ? AND claimed_by = ? AND status = 'RUNNING'
+                """, maxAttempts, Timestamp.from(retryAt), truncate(error), Timestamp.from(now), id, worker);
+    }
+
+    /**
+     * 하트비트가 DB 시각 기준 {@code staleAfter} 넘게 멈춘 RUNNING 작업(워커가 죽은 작업)을 다시 대기 상태로 돌림
+     *
+     * @return 되돌린(또는 시도 횟수 초과로 FAILED 처리한) 작업 수
+     */
+    public int reclaimStale(Duration staleAfter, int maxAttempts) {
+        return jdbcTemplate.update("UPDATE sync_tasks SET status = " + NEXT_STATUS_ON_FAILURE + """
+                , claimed_by = NULL, available_at = CURRENT_TIMESTAMP, last_error = 'heartbeat timeout',
+                  updated_at = CURRENT_TIMESTAMP
+                WHERE status = 'RUNNING' AND heartbeat_at < CURRENT_TIMESTAMP - ?::interval
+                """, maxAttempts, interval(staleAfter));
+    }
+
+    /**
+     * 작업 묶음의 상태별 작업 수
+     */
+    public Map<SyncTaskStatus, Integer> countByStatus(String batchId) {
+        Map<SyncTaskStatus, Integer> counts = new EnumMap<>(SyncTaskStatus.class);
+        jdbcTemplate.query("""
+                SELECT status, COUNT(*) AS cnt
+                FROM sync_tasks
+                WHERE batch_id = ?
+                GROUP BY status
+                """, rs -> {
+            counts.put(SyncTaskStatus.valueOf(rs.getString("status")), rs.getInt("cnt"));
+        }, batchId);
+        return counts;
+    }
+
+    /**
+     * 작업 묶음에서 저장한 전체 건수
+     */
+    public long sumItemsWritten(String batchId) {
+        Long sum = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(items_written), 0) FROM sync_tasks WHERE batch_id = ?", Long.class, batchId);
+        return sum != null ? sum : 0;
+    }
+
+    private static String interval(Duration duration) {
+        return duration.toMillis() + " milliseconds";
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,15 @@
+package com.findit.server.infrastructure.persistence.task;
+
+/**
+ * 분산 수집 작업 상태
+ */
+public enum SyncTaskStatus {
+    /** 대기 중 (재시도 대기 포함) */
+    PENDING,
+    /** 워커가 가져가 처리 중 */
+    RUNNING,
+    /** 처리 완료 */
+    DONE,
+    /** 최대 시도 횟수를 넘겨 포기 */
+    FAILED
+}
@@ -2,29 +2,39 @@ package com.findit.server.infrastructure.police.client;
 
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
-import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
-import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.metrics.IngestionMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.findit.server.infrastructure.police.decoder.PoliceApiDecodingException;
+import com.findit.server.infrastructure.police.decoder.PoliceApiResponseDecoder;
+import com.findit.server.infrastructure.police.journal.PoliceApiJournal;
+import com.findit.server.infrastructure.police.journal.PoliceApiJournalKey;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiRateLimiter;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import com.findit.server.infrastructure.police.resilience.PoliceApiCircuitBreaker;
+import com.findit.server.infrastructure.police.resilience.PoliceApiUnavailableException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.Set;
 import java.net.URI;
 import java.net.URISyntaxException;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
-import java.io.StringReader;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 경찰청 API 클라이언트 서비스 외부 경찰청 API와 통신하여 분실물 및 습득물 데이터를 가져옴
@@ -33,35 +43,83 @@ import java.util.List;
 public class PoliceApiClient {
   
   private static final Logger logger = LoggerFactory.getLogger(PoliceApiClient.class);
+  // 비동기 호출 재시도 정책 (@Retryable 설정과 동일)
+  private static final int ASYNC_MAX_ATTEMPTS = 3;
+  private static final long ASYNC_RETRY_DELAY_MS = 1000L;
+  // 정상 응답 resultCode (저널 기록 시에는 헤더가 없는 응답도 정상으로 간주)
+  private static final Set<String> JOURNALABLE_RESULT_CODES = Set.of("00", "0", "03", "3");
+
+  /**
+   * 동기 호출에 사용할 전송 계층
+   */
+  public enum Transport {
+    REST_TEMPLATE,
+    HTTP_CLIENT
+  }
+
   // API Operation Paths
   private final String lostItemListPath;
   private final String foundItemListPath;
   private final RestTemplate restTemplate;
+  private final PoliceApiHttpTransport httpTransport;
+  private final PoliceApiRateLimiter rateLimiter;
+  private final PoliceApiCircuitBreaker circuitBreaker;
+  private final PoliceApiJournal journal;
+  private final PoliceApiRequestCoalescer coalescer;
+  private final PoliceApiResponseDecoder decoder;
+  private final IngestionMetrics metrics;
   private final String policeApiBaseUrl;
   private final String serviceKey;
   private final boolean enabled;
+  private final Transport transport;
   
   /**
    * 생성자
    *
    * @param restTemplate      RestTemplate 인스턴스
+   * @param httpTransport     JDK HttpClient 기반 전송 계층 (비동기 호출 및 HTTP_CLIENT 모드)
+   * @param rateLimiter       일일 쿼터/호출 속도 제한기
+   * @param circuitBreaker    서킷 브레이커/벌크헤드
+   * @param journal           원본 응답 저널 (RECORD: 기록, REPLAY: 네트워크 대신 저널에서 읽음)
+   * @param coalescer         동일 요청 합치기 (single-flight)
+   * @param decoder           응답 스트리밍 디코더
+   * @param metrics           수집 경로 계측 (페이지 요청/디코딩 시간, 진행 중 요청 수)
    * @param policeApiBaseUrl  경찰청 API 기본 URL (e.g., http://apis.data.go.kr/1320000)
    * @param serviceKey        API 서비스 키
    * @param lostItemListPath  분실물 목록 API 경로
    * @param foundItemListPath 습득물 목록 API 경로
+   * @param apiEnabled        API 호출 활성화 여부
+   * @param transport         동기 호출 전송 계층 (REST_TEMPLATE / HTTP_CLIENT)
    */
   public PoliceApiClient(RestTemplate restTemplate,
+    PoliceApiHttpTransport httpTransport,
+    PoliceApiRateLimiter rateLimiter,
+    PoliceApiCircuitBreaker circuitBreaker,
+    PoliceApiJournal journal,
+    PoliceApiRequestCoalescer coalescer,
+    PoliceApiResponseDecoder decoder,
+    IngestionMetrics metrics,
     @Value("${police.api.base-url}") String policeApiBaseUrl,
     @Value("${police.api.service-key:}") String serviceKey,
     @Value("${police.api.lost-items-url}") String lostItemListPath,
     @Value("${police.api.found-items-url}") String foundItemListPath,
-    @Value("${police.api.enabled:false}") boolean apiEnabled) {
+    @Value("${police.api.enabled:false}") boolean apiEnabled,
+    @Value("${police.api.transport:REST_TEMPLATE}") Transport transport) {
     this.restTemplate = restTemplate;
+    this.httpTransport = httpTransport;
+    this.rateLimiter = rateLimiter;
+    this.circuitBreaker = circuitBreaker;
+    this.journal = journal;
+    this.coalescer = coalescer;
+    this.transport = transport != null ? transport : Transport.REST_TEMPLATE;
+    this.decoder = decoder;
+    this.metrics = metrics;
     this.policeApiBaseUrl = policeApiBaseUrl;
     this.serviceKey = serviceKey;
     this.lostItemListPath = lostItemListPath;
     this.foundItemListPath = foundItemListPath;
-    this.enabled = apiEnabled && serviceKey != null && !serviceKey.isBlank();
+    // 재생 모드에서는 네트워크를 쓰지 않으므로 서비스 키 없이도 활성화
+    this.enabled = (apiEnabled && serviceKey != null && !serviceKey.isBlank()) || journal.isReplaying();
 
     if (!this.enabled) {
       logger.warn("Police API 호출이 비활성화되었습니다. 저장된 데이터만 사용합니다.");
@@ -76,7 +134,7 @@ public class PoliceApiClient {
   }
 
   /**
-   * 경찰청 API에서 분실물 데이터 목록을 가져옴 오류 발생 시 재시도 로직 포함
+   * 경찰청 API에서 분실물 데이터 목록을 가져옴 오류 발생 시 재시도 로직 포함 (SYNC 우선순위)
    *
    * @param pageNo    페이지 번호
    * @param numOfRows 한 페이지 결과 수
@@ -87,30 +145,51 @@ public class PoliceApiClient {
   @Retryable(value = {RestClientException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
   public PoliceApiLostItemResponse fetchLostItems(int pageNo, int numOfRows, String startYmd,
     String endYmd) {
+    return doFetchLostItems(pageNo, numOfRows, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+  }
+
+  /**
+   * 호출 우선순위를 지정하여 분실물 데이터 목록을 가져옴 (재시도 로직 포함)
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @param priority  호출 우선순위 (쿼터/속도 제한 시 SYNC 우선)
+   * @return PoliceApiLostItemResponse 분실물 API 응답 객체
+   * @throws PoliceApiThrottledException 쿼터/속도 제한으로 호출이 거절된 경우
+   */
+  @Retryable(value = {RestClientException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+  public PoliceApiLostItemResponse fetchLostItems(int pageNo, int numOfRows, String startYmd,
+    String endYmd, PoliceApiCallPriority priority) {
+    return doFetchLostItems(pageNo, numOfRows, startYmd, endYmd, priority);
+  }
+
+  private PoliceApiLostItemResponse doFetchLostItems(int pageNo, int numOfRows, String startYmd,
+    String endYmd, PoliceApiCallPriority priority) {
+    PoliceApiJournalKey journalKey = new PoliceApiJournalKey(PoliceApiEndpoint.LOST_ITEMS, startYmd, endYmd, pageNo,
+      numOfRows);
+    if (journal.isReplaying()) {
+      return replay(journalKey, decoder::decodeLostItems, this::emptyLostResponse);
+    }
     if (!enabled) {
       logger.debug("Police API 비활성화 상태로 분실물 데이터를 호출하지 않습니다.");
       return buildDisabledLostResponse();
     }
+    // 같은 요청이 동시에 들어오면 업스트림 호출 하나를 공유
+    return coalescer.execute(journalKey,
+      () -> requestLostItems(journalKey, pageNo, numOfRows, startYmd, endYmd, priority),
+      response -> isNormalResult(response.getResultCode()));
+  }
+
+  private PoliceApiLostItemResponse requestLostItems(PoliceApiJournalKey journalKey, int pageNo, int numOfRows,
+    String startYmd, String endYmd, PoliceApiCallPriority priority) {
     logger.info("Fetching lost items from Police API with URL: {}",
       policeApiBaseUrl + lostItemListPath);
     
-    // serviceKey는 인코딩하지 않고, properties에 저장된 값을 그대로 사용
-    StringBuilder urlBuilder = new StringBuilder();
-    urlBuilder.append(policeApiBaseUrl).append(lostItemListPath)
-      .append("?serviceKey=").append(serviceKey)
-      .append("&pageNo=").append(pageNo)
-      .append("&numOfRows=").append(numOfRows);
-    if (startYmd != null && !startYmd.trim().isEmpty() && !"null".equalsIgnoreCase(
-      startYmd.trim())) {
-      urlBuilder.append("&START_YMD=").append(startYmd);
-    }
-    if (endYmd != null && !endYmd.trim().isEmpty() && !"null".equalsIgnoreCase(endYmd.trim())) {
-      urlBuilder.append("&END_YMD=").append(endYmd);
-    }
-    String url = urlBuilder.toString();
     URI uri;
     try {
-      uri = new URI(url);
+      uri = buildUri(lostItemListPath, pageNo, numOfRows, startYmd, endYmd);
     } catch (URISyntaxException e) {
       logger.error("Error creating URI for lost items: {}", e.getMessage(), e);
       PoliceApiLostItemResponse errorResponse = new PoliceApiLostItemResponse();
@@ -120,69 +199,29 @@ public class PoliceApiClient {
     logger.info("Fetching lost items from Police API with URL: {}", uri);
     
     try {
-      // Raw XML 응답 수신 및 로깅
-      ResponseEntity<String> xmlResponse = restTemplate.getForEntity(uri, String.class);
-      String xmlBody = xmlResponse.getBody();
-      if (xmlBody == null) xmlBody = "";
-      // BOM 제거 후 trim
-      xmlBody = xmlBody.replace("\uFEFF", "").trim();
-      logger.info("[Raw XML 분실물 응답]\n{}", xmlBody);
-      // JSON 응답 처리 (XML 대신 JSON이 반환된 경우)
-      if (xmlBody.startsWith("{")) {
-        try {
-          ObjectMapper objectMapper = new ObjectMapper();
-          JsonNode root = objectMapper.readTree(xmlBody);
-          JsonNode respNode = root.has("response") ? root.get("response") : root;
-          JsonNode headerNode = respNode.path("header");
-          PoliceApiLostItemResponse jsonResponse = new PoliceApiLostItemResponse();
-          PoliceApiLostItemResponse.Header header = new PoliceApiLostItemResponse.Header();
-          header.setResultCode(headerNode.path("resultCode").asText());
-          header.setResultMsg(headerNode.path("resultMsg").asText());
-          jsonResponse.setHeader(header);
-          // 아이템 리스트 추출
-          List<PoliceApiLostItem> itemList = new ArrayList<>();
-          JsonNode itemsNode = respNode.path("body").path("items").path("item");
-          if (itemsNode.isArray()) {
-            for (JsonNode itemNode : itemsNode) {
-              try {
-                itemList.add(objectMapper.treeToValue(itemNode, PoliceApiLostItem.class));
-              } catch (JsonProcessingException ex) {
-                logger.error("JSON 아이템 변환 오류: {}", ex.getMessage(), ex);
-              }
-            }
-          } else if (itemsNode.isObject()) {
-            try {
-              itemList.add(objectMapper.treeToValue(itemsNode, PoliceApiLostItem.class));
-            } catch (JsonProcessingException ex) {
-              logger.error("JSON 아이템 변환 오류: {}", ex.getMessage(), ex);
-            }
-          }
-          jsonResponse.setItems(itemList);
-          return jsonResponse;
-        } catch (Exception e) {
-          logger.error("JSON 파싱 오류(분실물): {}. Response JSON:\n{}", e.getMessage(), xmlBody, e);
-          PoliceApiLostItemResponse errorResponseJson = new PoliceApiLostItemResponse();
-          errorResponseJson.setItems(Collections.emptyList());
-          return errorResponseJson;
-        }
-      }
-      // 수동 JAXB 언마샬링
-      PoliceApiLostItemResponse lostItemResponse;
-      try {
-        JAXBContext jc = JAXBContext.newInstance(PoliceApiLostItemResponse.class);
-        Unmarshaller um = jc.createUnmarshaller();
-        lostItemResponse = (PoliceApiLostItemResponse) um.unmarshal(new StringReader(xmlBody));
-      } catch (JAXBException e) {
-        logger.error("XML 언마샬링 오류(분실물): {}. Response XML:\n{}", e.getMessage(), xmlBody, e);
+      // 응답 본문을 문자열로 버퍼링하지 않고 스트림에서 바로 디코딩 (BOM 제거, XML/JSON 판별 포함)
+      PoliceApiLostItemResponse lostItemResponse = circuitBreaker.execute(() -> rateLimiter.acquire(priority),
+        () -> exchange(PoliceApiEndpoint.LOST_ITEMS, uri,
+          journaling(journalKey, decoder::decodeLostItems, PoliceApiLostItemResponse::getResultCode)));
+      if (lostItemResponse == null) {
         lostItemResponse = new PoliceApiLostItemResponse();
         lostItemResponse.setItems(Collections.emptyList());
       }
+      rateLimiter.onResultCode(lostItemResponse.getResultCode());
       logger.info("Parsed lost items. Total: {}, Page: {}, Rows: {}",
         lostItemResponse.getTotalCount(), lostItemResponse.getPageNo(), lostItemResponse.getNumOfRows());
       return lostItemResponse;
+    } catch (PoliceApiThrottledException | PoliceApiUnavailableException e) {
+      throw e;
+    } catch (PoliceApiDecodingException e) {
+      logger.error("응답 디코딩 오류(분실물) (URL: {}): {}", uri, e.getMessage(), e);
+      PoliceApiLostItemResponse errorResponse = new PoliceApiLostItemResponse();
+      errorResponse.setItems(Collections.emptyList());
+      return errorResponse;
     } catch (RestClientException e) {
       logger.error("Error fetching lost items from Police API (URL: {}): {}", uri, e.getMessage(),
         e);
+      recordFailure(e);
       throw e;
     } catch (Exception e) {
       logger.error("Unexpected error fetching lost items from Police API (URL: {}): {}", uri,
@@ -194,7 +233,7 @@ public class PoliceApiClient {
   }
   
   /**
-   * 경찰청 API에서 습득물 데이터 목록을 가져옴 오류 발생 시 재시도 로직 포함
+   * 경찰청 API에서 습득물 데이터 목록을 가져옴 오류 발생 시 재시도 로직 포함 (SYNC 우선순위)
    *
    * @param pageNo    페이지 번호
    * @param numOfRows 한 페이지 결과 수
@@ -205,29 +244,50 @@ public class PoliceApiClient {
   @Retryable(value = {RestClientException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
   public PoliceApiFoundItemResponse fetchFoundItems(int pageNo, int numOfRows, String startYmd,
     String endYmd) {
+    return doFetchFoundItems(pageNo, numOfRows, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+  }
+
+  /**
+   * 호출 우선순위를 지정하여 습득물 데이터 목록을 가져옴 (재시도 로직 포함)
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @param priority  호출 우선순위 (쿼터/속도 제한 시 SYNC 우선)
+   * @return PoliceApiFoundItemResponse 습득물 API 응답 객체
+   * @throws PoliceApiThrottledException 쿼터/속도 제한으로 호출이 거절된 경우
+   */
+  @Retryable(value = {RestClientException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+  public PoliceApiFoundItemResponse fetchFoundItems(int pageNo, int numOfRows, String startYmd,
+    String endYmd, PoliceApiCallPriority priority) {
+    return doFetchFoundItems(pageNo, numOfRows, startYmd, endYmd, priority);
+  }
+
+  private PoliceApiFoundItemResponse doFetchFoundItems(int pageNo, int numOfRows, String startYmd,
+    String endYmd, PoliceApiCallPriority priority) {
+    PoliceApiJournalKey journalKey = new PoliceApiJournalKey(PoliceApiEndpoint.FOUND_ITEMS, startYmd, endYmd, pageNo,
+      numOfRows);
+    if (journal.isReplaying()) {
+      return replay(journalKey, decoder::decodeFoundItems, this::emptyFoundResponse);
+    }
     if (!enabled) {
       logger.debug("Police API 비활성화 상태로 습득물 데이터를 호출하지 않습니다.");
       return buildDisabledFoundResponse();
     }
+    // 같은 요청이 동시에 들어오면 업스트림 호출 하나를 공유
+    return coalescer.execute(journalKey,
+      () -> requestFoundItems(journalKey, pageNo, numOfRows, startYmd, endYmd, priority),
+      response -> isNormalResult(response.getResultCode()));
+  }
+
+  private PoliceApiFoundItemResponse requestFoundItems(PoliceApiJournalKey journalKey, int pageNo, int numOfRows,
+    String startYmd, String endYmd, PoliceApiCallPriority priority) {
     logger.info("Fetching found items from Police API with URL: {}", policeApiBaseUrl + foundItemListPath);
     
-    // serviceKey는 인코딩하지 않고, properties에 저장된 값을 그대로 사용
-    StringBuilder urlBuilder = new StringBuilder();
-    urlBuilder.append(policeApiBaseUrl).append(foundItemListPath)
-      .append("?serviceKey=").append(serviceKey)
-      .append("&pageNo=").append(pageNo)
-      .append("&numOfRows=").append(numOfRows);
-    if (startYmd != null && !startYmd.trim().isEmpty() && !"null".equalsIgnoreCase(
-      startYmd.trim())) {
-      urlBuilder.append("&START_YMD=").append(startYmd);
-    }
-    if (endYmd != null && !endYmd.trim().isEmpty() && !"null".equalsIgnoreCase(endYmd.trim())) {
-      urlBuilder.append("&END_YMD=").append(endYmd);
-    }
-    String url = urlBuilder.toString();
     URI uri;
     try {
-      uri = new URI(url);
+      uri = buildUri(foundItemListPath, pageNo, numOfRows, startYmd, endYmd);
     } catch (URISyntaxException e) {
       logger.error("Error creating URI for found items: {}", e.getMessage(), e);
       PoliceApiFoundItemResponse errorResponse = new PoliceApiFoundItemResponse();
@@ -237,69 +297,29 @@ public class PoliceApiClient {
     logger.info("Fetching found items from Police API with URL: {}", uri);
     
     try {
-      // Raw XML 응답 수신 및 로깅
-      ResponseEntity<String> xmlResponse = restTemplate.getForEntity(uri, String.class);
-      String xmlBody = xmlResponse.getBody();
-      if (xmlBody == null) xmlBody = "";
-      // BOM 제거 후 trim
-      xmlBody = xmlBody.replace("\uFEFF", "").trim();
-      logger.info("[Raw XML 습득물 응답]\n{}", xmlBody);
-      // JSON 응답 처리 (XML 대신 JSON이 반환된 경우)
-      if (xmlBody.startsWith("{")) {
-        try {
-          ObjectMapper objectMapper = new ObjectMapper();
-          JsonNode root = objectMapper.readTree(xmlBody);
-          JsonNode respNode = root.has("response") ? root.get("response") : root;
-          JsonNode headerNode = respNode.path("header");
-          PoliceApiFoundItemResponse jsonResponse = new PoliceApiFoundItemResponse();
-          PoliceApiFoundItemResponse.Header header = new PoliceApiFoundItemResponse.Header();
-          header.setResultCode(headerNode.path("resultCode").asText());
-          header.setResultMsg(headerNode.path("resultMsg").asText());
-          jsonResponse.setHeader(header);
-          // 아이템 리스트 추출
-          List<PoliceApiFoundItem> itemList = new ArrayList<>();
-          JsonNode itemsNode = respNode.path("body").path("items").path("item");
-          if (itemsNode.isArray()) {
-            for (JsonNode itemNode : itemsNode) {
-              try {
-                itemList.add(objectMapper.treeToValue(itemNode, PoliceApiFoundItem.class));
-              } catch (JsonProcessingException ex) {
-                logger.error("JSON 아이템 변환 오류: {}", ex.getMessage(), ex);
-              }
-            }
-          } else if (itemsNode.isObject()) {
-            try {
-              itemList.add(objectMapper.treeToValue(itemsNode, PoliceApiFoundItem.class));
-            } catch (JsonProcessingException ex) {
-              logger.error("JSON 아이템 변환 오류: {}", ex.getMessage(), ex);
-            }
-          }
-          jsonResponse.setItems(itemList);
-          return jsonResponse;
-        } catch (Exception e) {
-          logger.error("JSON 파싱 오류(습득물): {}. Response JSON:\n{}", e.getMessage(), xmlBody, e);
-          PoliceApiFoundItemResponse errorResponseJson = new PoliceApiFoundItemResponse();
-          errorResponseJson.setItems(Collections.emptyList());
-          return errorResponseJson;
-        }
-      }
-      // 수동 JAXB 언마샬링
-      PoliceApiFoundItemResponse foundItemResponse;
-      try {
-        JAXBContext jc = JAXBContext.newInstance(PoliceApiFoundItemResponse.class);
-        Unmarshaller um = jc.createUnmarshaller();
-        foundItemResponse = (PoliceApiFoundItemResponse) um.unmarshal(new StringReader(xmlBody));
-      } catch (JAXBException e) {
-        logger.error("XML 언마샬링 오류(습득물): {}. Response XML:\n{}", e.getMessage(), xmlBody, e);
+      // 응답 본문을 문자열로 버퍼링하지 않고 스트림에서 바로 디코딩 (BOM 제거, XML/JSON 판별 포함)
+      PoliceApiFoundItemResponse foundItemResponse = circuitBreaker.execute(() -> rateLimiter.acquire(priority),
+        () -> exchange(PoliceApiEndpoint.FOUND_ITEMS, uri,
+          journaling(journalKey, decoder::decodeFoundItems, PoliceApiFoundItemResponse::getResultCode)));
+      if (foundItemResponse == null) {
         foundItemResponse = new PoliceApiFoundItemResponse();
         foundItemResponse.setItems(Collections.emptyList());
       }
+      rateLimiter.onResultCode(foundItemResponse.getResultCode());
       logger.info("Parsed found items. Total: {}, Page: {}, Rows: {}",
         foundItemResponse.getTotalCount(), foundItemResponse.getPageNo(), foundItemResponse.getNumOfRows());
       return foundItemResponse;
+    } catch (PoliceApiThrottledException | PoliceApiUnavailableException e) {
+      throw e;
+    } catch (PoliceApiDecodingException e) {
+      logger.error("응답 디코딩 오류(습득물) (URL: {}): {}", uri, e.getMessage(), e);
+      PoliceApiFoundItemResponse errorResponse = new PoliceApiFoundItemResponse();
+      errorResponse.setItems(Collections.emptyList());
+      return errorResponse;
     } catch (RestClientException e) {
       logger.error("Error fetching found items from Police API (URL: {}): {}", uri, e.getMessage(),
         e);
+      recordFailure(e);
       throw e;
     } catch (Exception e) {
       logger.error("Unexpected error fetching found items from Police API (URL: {}): {}", uri,
@@ -310,6 +330,296 @@ public class PoliceApiClient {
     }
   }
 
+  /**
+   * 조회 기간의 전체 건수(totalCount)만 확인 (numOfRows=1 프로브, 재시도 로직 포함)
+   *
+   * @param endpoint 조회 대상 엔드포인트
+   * @param startYmd 검색 시작일 (YYYYMMDD)
+   * @param endYmd   검색 종료일 (YYYYMMDD)
+   * @return 전체 건수. 정상 응답(resultCode 00/03)이 아니면 -1
+   */
+  @Retryable(value = {RestClientException.class}, maxAttempts = 3, backoff = @Backoff(delay = 1000))
+  public int probeTotalCount(PoliceApiEndpoint endpoint, String startYmd, String endYmd) {
+    String resultCode;
+    int totalCount;
+    if (endpoint == PoliceApiEndpoint.LOST_ITEMS) {
+      PoliceApiLostItemResponse response = doFetchLostItems(1, 1, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+      resultCode = response != null ? response.getResultCode() : null;
+      totalCount = response != null ? response.getTotalCount() : 0;
+    } else {
+      PoliceApiFoundItemResponse response = doFetchFoundItems(1, 1, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+      resultCode = response != null ? response.getResultCode() : null;
+      totalCount = response != null ? response.getTotalCount() : 0;
+    }
+    if (!isNormalResult(resultCode)) {
+      return -1;
+    }
+    return Math.max(totalCount, 0);
+  }
+
+  /**
+   * 분실물 데이터 목록을 비동기로 가져옴 (JDK HttpClient 전송 계층 사용)
+   * RestClientException 발생 시 동기 메서드의 @Retryable과 같은 정책(3회, 1초 간격)으로 재시도
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @return 분실물 API 응답. 재시도 후에도 실패하면 RestClientException으로 예외 완료
+   */
+  public CompletableFuture<PoliceApiLostItemResponse> fetchLostItemsAsync(int pageNo, int numOfRows,
+    String startYmd, String endYmd) {
+    return fetchLostItemsAsync(pageNo, numOfRows, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+  }
+
+  /**
+   * 호출 우선순위를 지정하여 분실물 데이터 목록을 비동기로 가져옴
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @param priority  호출 우선순위
+   * @return 분실물 API 응답. 쿼터/속도 제한 시 PoliceApiThrottledException으로 예외 완료
+   */
+  public CompletableFuture<PoliceApiLostItemResponse> fetchLostItemsAsync(int pageNo, int numOfRows,
+    String startYmd, String endYmd, PoliceApiCallPriority priority) {
+    PoliceApiJournalKey journalKey = new PoliceApiJournalKey(PoliceApiEndpoint.LOST_ITEMS, startYmd, endYmd, pageNo,
+      numOfRows);
+    if (journal.isReplaying()) {
+      return CompletableFuture.completedFuture(replay(journalKey, decoder::decodeLostItems, this::emptyLostResponse));
+    }
+    if (!enabled) {
+      return CompletableFuture.completedFuture(buildDisabledLostResponse());
+    }
+    URI uri;
+    try {
+      uri = buildUri(lostItemListPath, pageNo, numOfRows, startYmd, endYmd);
+    } catch (URISyntaxException e) {
+      logger.error("Error creating URI for lost items: {}", e.getMessage(), e);
+      return CompletableFuture.completedFuture(emptyLostResponse());
+    }
+    return coalescer.executeAsync(journalKey,
+      () -> fetchAsync(PoliceApiEndpoint.LOST_ITEMS, uri,
+        journaling(journalKey, decoder::decodeLostItems, PoliceApiLostItemResponse::getResultCode),
+        PoliceApiLostItemResponse::getResultCode, this::emptyLostResponse,
+        priority, "분실물"),
+      response -> isNormalResult(response.getResultCode()));
+  }
+
+  /**
+   * 습득물 데이터 목록을 비동기로 가져옴 (JDK HttpClient 전송 계층 사용)
+   * RestClientException 발생 시 동기 메서드의 @Retryable과 같은 정책(3회, 1초 간격)으로 재시도
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @return 습득물 API 응답. 재시도 후에도 실패하면 RestClientException으로 예외 완료
+   */
+  public CompletableFuture<PoliceApiFoundItemResponse> fetchFoundItemsAsync(int pageNo, int numOfRows,
+    String startYmd, String endYmd) {
+    return fetchFoundItemsAsync(pageNo, numOfRows, startYmd, endYmd, PoliceApiCallPriority.SYNC);
+  }
+
+  /**
+   * 호출 우선순위를 지정하여 습득물 데이터 목록을 비동기로 가져옴
+   *
+   * @param pageNo    페이지 번호
+   * @param numOfRows 한 페이지 결과 수
+   * @param startYmd  검색 시작일 (YYYYMMDD, 옵션)
+   * @param endYmd    검색 종료일 (YYYYMMDD, 옵션)
+   * @param priority  호출 우선순위
+   * @return 습득물 API 응답. 쿼터/속도 제한 시 PoliceApiThrottledException으로 예외 완료
+   */
+  public CompletableFuture<PoliceApiFoundItemResponse> fetchFoundItemsAsync(int pageNo, int numOfRows,
+    String startYmd, String endYmd, PoliceApiCallPriority priority) {
+    PoliceApiJournalKey journalKey = new PoliceApiJournalKey(PoliceApiEndpoint.FOUND_ITEMS, startYmd, endYmd, pageNo,
+      numOfRows);
+    if (journal.isReplaying()) {
+      return CompletableFuture.completedFuture(replay(journalKey, decoder::decodeFoundItems, this::emptyFoundResponse));
+    }
+    if (!enabled) {
+      return CompletableFuture.completedFuture(buildDisabledFoundResponse());
+    }
+    URI uri;
+    try {
+      uri = buildUri(foundItemListPath, pageNo, numOfRows, startYmd, endYmd);
+    } catch (URISyntaxException e) {
+      logger.error("Error creating URI for found items: {}", e.getMessage(), e);
+      return CompletableFuture.completedFuture(emptyFoundResponse());
+    }
+    return coalescer.executeAsync(journalKey,
+      () -> fetchAsync(PoliceApiEndpoint.FOUND_ITEMS, uri,
+        journaling(journalKey, decoder::decodeFoundItems, PoliceApiFoundItemResponse::getResultCode),
+        PoliceApiFoundItemResponse::getResultCode, this::emptyFoundResponse,
+        priority, "습득물"),
+      response -> isNormalResult(response.getResultCode()));
+  }
+
+  /**
+   * 설정된 전송 계층으로 GET 요청을 보내고 응답 스트림을 디코딩 (요청/디코딩 시간 계측)
+   */
+  private <R> R exchange(PoliceApiEndpoint endpoint, URI uri, Function<InputStream, R> bodyDecoder) {
+    Function<InputStream, R> decode = metrics.decoding(endpoint, bodyDecoder);
+    return metrics.upstream(endpoint, () -> {
+      if (transport == Transport.HTTP_CLIENT) {
+        return httpTransport.get(uri, decode);
+      }
+      return restTemplate.execute(uri, HttpMethod.GET, null, response -> decode.apply(response.getBody()));
+    });
+  }
+
+  /**
+   * RECORD 모드면 응답 본문을 버퍼링해 디코딩한 뒤 정상 응답만 저널에 기록하는 디코더로 감쌈
+   */
+  private <R> Function<InputStream, R> journaling(PoliceApiJournalKey key, Function<InputStream, R> bodyDecoder,
+    Function<R, String> resultCodeOf) {
+    if (!journal.isRecording()) {
+      return bodyDecoder;
+    }
+    return body -> {
+      byte[] raw;
+      try {
+        raw = body != null ? body.readAllBytes() : new byte[0];
+      } catch (IOException e) {
+        throw new PoliceApiDecodingException("경찰청 API 응답 본문을 읽을 수 없습니다.", e);
+      }
+      R decoded = bodyDecoder.apply(new ByteArrayInputStream(raw));
+      String resultCode = decoded != null ? resultCodeOf.apply(decoded) : null;
+      if (decoded != null && (resultCode == null || JOURNALABLE_RESULT_CODES.contains(resultCode.trim()))) {
+        journal.append(key, raw);
+      }
+      return decoded;
+    };
+  }
+
+  /**
+   * REPLAY 모드: 저널에 기록된 원본 응답을 디코딩 (기록이 없으면 빈 응답)
+   */
+  private <R> R replay(PoliceApiJournalKey key, Function<InputStream, R> bodyDecoder, Supplier<R> emptyResponse) {
+    return journal.read(key)
+      .map(raw -> {
+        try {
+          return bodyDecoder.apply(new ByteArrayInputStream(raw));
+        } catch (PoliceApiDecodingException e) {
+          logger.error("저널 응답 디코딩 오류 ({}): {}", key, e.getMessage(), e);
+          return null;
+        }
+      })
+      .orElseGet(() -> {
+        logger.debug("저널에 기록되지 않은 요청입니다: {}", key);
+        return emptyResponse.get();
+      });
+  }
+
+  /**
+   * 비동기 호출 공통 처리: 재시도 후 디코딩 오류 등은 빈 응답으로, RestClientException은 그대로 전달
+   */
+  private <R> CompletableFuture<R> fetchAsync(PoliceApiEndpoint endpoint, URI uri,
+    Function<InputStream, R> bodyDecoder, Function<R, String> resultCodeOf, Supplier<R> emptyResponse,
+    PoliceApiCallPriority priority, String label) {
+    Function<InputStream, R> decode = metrics.decoding(endpoint, bodyDecoder);
+    return retryAsync(() -> circuitBreaker.executeAsync(() -> rateLimiter.acquire(priority),
+      () -> metrics.upstreamAsync(endpoint, () -> httpTransport.getAsync(uri, decode))
+        .whenComplete((result, error) -> {
+          if (error == null) {
+            rateLimiter.onResultCode(result != null ? resultCodeOf.apply(result) : null);
+          } else if (unwrap(error) instanceof RestClientException restClientException) {
+            recordFailure(restClientException);
+          }
+        })), uri, 1)
+      .handle((result, error) -> {
+        if (error == null) {
+          return result != null ? result : emptyResponse.get();
+        }
+        Throwable cause = unwrap(error);
+        if (cause instanceof PoliceApiThrottledException || cause instanceof PoliceApiUnavailableException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof RestClientException restClientException) {
+          logger.error("Error fetching {} from Police API (URL: {}): {}", label, uri, cause.getMessage(), cause);
+          throw restClientException;
+        }
+        logger.error("응답 처리 오류({}) (URL: {}): {}", label, uri, cause.getMessage(), cause);
+        return emptyResponse.get();
+      });
+  }
+
+  private <R> CompletableFuture<R> retryAsync(Supplier<CompletableFuture<R>> call, URI uri, int attempt) {
+    CompletableFuture<R> attemptFuture;
+    try {
+      attemptFuture = call.get();
+    } catch (RuntimeException e) {
+      attemptFuture = CompletableFuture.failedFuture(e);
+    }
+    return attemptFuture
+      .handle((result, error) -> {
+        if (error == null) {
+          return CompletableFuture.completedFuture(result);
+        }
+        Throwable cause = unwrap(error);
+        if (!(cause instanceof RestClientException) || attempt >= ASYNC_MAX_ATTEMPTS) {
+          return CompletableFuture.<R>failedFuture(cause);
+        }
+        logger.warn("Police API 비동기 호출 실패, 재시도 {}/{} (URL: {}): {}", attempt, ASYNC_MAX_ATTEMPTS - 1,
+          uri, cause.getMessage());
+        return CompletableFuture.runAsync(() -> { },
+            CompletableFuture.delayedExecutor(ASYNC_RETRY_DELAY_MS, TimeUnit.MILLISECONDS))
+          .thenCompose(ignored -> retryAsync(call, uri, attempt + 1));
+      })
+      .thenCompose(Function.identity());
+  }
+
+  /**
+   * 정상 응답(성공/데이터 없음) 여부
+   */
+  private static boolean isNormalResult(String resultCode) {
+    return resultCode != null && JOURNALABLE_RESULT_CODES.contains(resultCode.trim());
+  }
+
+  /**
+   * 429/503 응답을 속도 제한기에 반영 (Retry-After 헤더 포함)
+   */
+  private void recordFailure(RestClientException e) {
+    if (e instanceof HttpStatusCodeException statusError) {
+      int status = statusError.getStatusCode().value();
+      if (status == 429 || status == 503) {
+        HttpHeaders headers = statusError.getResponseHeaders();
+        rateLimiter.onThrottled(
+          rateLimiter.parseRetryAfter(headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null));
+      }
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  /**
+   * 목록 API 호출 URI 생성 serviceKey는 인코딩하지 않고, properties에 저장된 값을 그대로 사용
+   */
+  private URI buildUri(String operationPath, int pageNo, int numOfRows, String startYmd,
+    String endYmd) throws URISyntaxException {
+    StringBuilder urlBuilder = new StringBuilder();
+    urlBuilder.append(policeApiBaseUrl).append(operationPath)
+      .append("?serviceKey=").append(serviceKey)
+      .append("&pageNo=").append(pageNo)
+      .append("&numOfRows=").append(numOfRows);
+    if (startYmd != null && !startYmd.trim().isEmpty() && !"null".equalsIgnoreCase(
+      startYmd.trim())) {
+      urlBuilder.append("&START_YMD=").append(startYmd);
+    }
+    if (endYmd != null && !endYmd.trim().isEmpty() && !"null".equalsIgnoreCase(endYmd.trim())) {
+      urlBuilder.append("&END_YMD=").append(endYmd);
+    }
+    return new URI(urlBuilder.toString());
+  }
+
   private PoliceApiLostItemResponse buildDisabledLostResponse() {
     PoliceApiLostItemResponse response = new PoliceApiLostItemResponse();
     PoliceApiLostItemResponse.Header header = new PoliceApiLostItemResponse.Header();
@@ -329,4 +639,16 @@ public class PoliceApiClient {
     response.setItems(Collections.emptyList());
     return response;
   }
+
+  private PoliceApiLostItemResponse emptyLostResponse() {
+    PoliceApiLostItemResponse response = new PoliceApiLostItemResponse();
+    response.setItems(Collections.emptyList());
+    return response;
+  }
+
+  private PoliceApiFoundItemResponse emptyFoundResponse() {
+    PoliceApiFoundItemResponse response = new PoliceApiFoundItemResponse();
+    response.setItems(Collections.emptyList());
+    return response;
+  }
 }
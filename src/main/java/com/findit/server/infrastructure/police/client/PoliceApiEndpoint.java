@@ -0,0 +1,13 @@
+package com.findit.server.infrastructure.police.client;
+
+/**
+ * 경찰청 API 목록 조회 엔드포인트 구분
+ */
+public enum PoliceApiEndpoint {
+
+    /** 분실물 목록 (getLostGoodsInfoAccToClAreaPd) */
+    LOST_ITEMS,
+
+    /** 습득물 목록 (getLosfundInfoAccToClAreaPd) */
+    FOUND_ITEMS
+}
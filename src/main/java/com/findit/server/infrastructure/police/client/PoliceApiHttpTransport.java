@@ -0,0 +1,143 @@
+package com.findit.server.infrastructure.police.client;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * JDK {@link HttpClient} 기반 경찰청 API 전송 계층
+ *
+ * <p>커넥션 풀/keep-alive/HTTP 버전은 {@code ApiClientConfig#policeApiHttpClient}에서 설정하고, 이 클래스는
+ * 요청 단위 데드라인, gzip 응답 해제, 오류 응답의 Spring 예외 변환을 담당한다. 예외를 {@link RestClientException}
+ * 계열로 맞춰 두었기 때문에 {@code RestTemplate} 경로와 같은 재시도 조건이 그대로 적용된다.</p>
+ */
+@Component
+public class PoliceApiHttpTransport {
+
+  private static final int ERROR_BODY_LIMIT = 4096;
+
+  private final HttpClient httpClient;
+  private final Duration requestTimeout;
+
+  /**
+   * 생성자
+   *
+   * @param httpClient       공유 HttpClient
+   * @param requestTimeoutMs 요청 하나의 응답 헤더 수신까지 허용하는 시간 (ms)
+   */
+  public PoliceApiHttpTransport(@Qualifier("policeApiHttpClient") HttpClient httpClient,
+    @Value("${police.api.http.request-timeout-ms:90000}") long requestTimeoutMs) {
+    this.httpClient = httpClient;
+    this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+  }
+
+  /**
+   * GET 요청을 보내고 호출 스레드에서 응답 본문을 디코딩
+   *
+   * @param uri         요청 URI
+   * @param bodyDecoder 응답 본문 스트림 디코더
+   * @return 디코딩 결과
+   * @throws RestClientException HTTP 오류 응답 또는 I/O 오류
+   */
+  public <T> T get(URI uri, Function<InputStream, T> bodyDecoder) {
+    HttpResponse<InputStream> response;
+    try {
+      response = httpClient.send(buildRequest(uri), HttpResponse.BodyHandlers.ofInputStream());
+    } catch (IOException e) {
+      throw ioError(uri, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ResourceAccessException("Interrupted while waiting for GET " + uri);
+    }
+    return decode(uri, response, bodyDecoder);
+  }
+
+  /**
+   * GET 요청을 비동기로 보내고 응답이 도착하면 HttpClient 실행기에서 본문을 디코딩
+   *
+   * @param uri         요청 URI
+   * @param bodyDecoder 응답 본문 스트림 디코더
+   * @return 디코딩 결과. 실패 시 {@link RestClientException} 등으로 예외 완료된다.
+   */
+  public <T> CompletableFuture<T> getAsync(URI uri, Function<InputStream, T> bodyDecoder) {
+    return httpClient.sendAsync(buildRequest(uri), HttpResponse.BodyHandlers.ofInputStream())
+      .handle((response, error) -> {
+        if (error != null) {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause() : error;
+          if (cause instanceof IOException ioException) {
+            throw ioError(uri, ioException);
+          }
+          throw new ResourceAccessException("GET " + uri + " failed: " + cause.getMessage());
+        }
+        return decode(uri, response, bodyDecoder);
+      });
+  }
+
+  private HttpRequest buildRequest(URI uri) {
+    return HttpRequest.newBuilder(uri)
+      .timeout(requestTimeout)
+      .header("Accept-Encoding", "gzip")
+      .GET()
+      .build();
+  }
+
+  private <T> T decode(URI uri, HttpResponse<InputStream> response, Function<InputStream, T> bodyDecoder) {
+    try (InputStream body = bodyStream(response)) {
+      int status = response.statusCode();
+      if (status < 200 || status >= 300) {
+        throw statusError(status, response, body.readNBytes(ERROR_BODY_LIMIT));
+      }
+      return bodyDecoder.apply(body);
+    } catch (IOException e) {
+      throw ioError(uri, e);
+    } catch (UncheckedIOException e) {
+      throw ioError(uri, e.getCause());
+    }
+  }
+
+  private static InputStream bodyStream(HttpResponse<InputStream> response) throws IOException {
+    boolean gzip = response.headers().firstValue("Content-Encoding")
+      .map(encoding -> encoding.trim().equalsIgnoreCase("gzip"))
+      .orElse(false);
+    return gzip ? new GZIPInputStream(response.body()) : response.body();
+  }
+
+  private static RestClientException statusError(int status, HttpResponse<?> response, byte[] body) {
+    HttpHeaders headers = new HttpHeaders();
+    response.headers().map().forEach(headers::addAll);
+    HttpStatusCode statusCode = HttpStatusCode.valueOf(status);
+    String statusText = String.valueOf(status);
+    if (statusCode.is4xxClientError()) {
+      return HttpClientErrorException.create(statusCode, statusText, headers, body, StandardCharsets.UTF_8);
+    }
+    if (statusCode.is5xxServerError()) {
+      return HttpServerErrorException.create(statusCode, statusText, headers, body, StandardCharsets.UTF_8);
+    }
+    return new RestClientException("Unexpected HTTP status " + status + " from Police API");
+  }
+
+  private static ResourceAccessException ioError(URI uri, IOException e) {
+    return new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + e.getMessage(), e);
+  }
+}
@@ -0,0 +1,218 @@
+package com.findit.server.infrastructure.police.client;
+
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰청 API 동일 요청 합치기 (single-flight)
+ *
+ * <p>같은 키(엔드포인트, 기간, 페이지, 행 수)의 요청이 동시에 들어오면 먼저 들어온 요청 하나만 업스트림을 호출하고,
+ * 나머지는 그 결과(또는 예외)를 함께 받는다. {@code police.api.coalescing.result-ttl-ms}가 0보다 크면
+ * 정상 응답을 그 시간 동안 보관해 직후에 들어온 같은 요청에도 재사용한다.
+ * 디코딩된 응답 객체를 호출자끼리 공유하므로 호출자는 응답을 변경하지 않아야 한다.</p>
+ *
+ * <p>속도 제한 허가는 공유 호출 안에서 선두 호출자의 우선순위로 받는다. 선두 호출이 허가 단계에서 거절되면
+ * ({@link PoliceApiThrottledException}) 그 거절은 선두 호출자의 우선순위에 대한 것이므로 합류한 호출자에게 넘기지 않고,
+ * 합류한 호출자가 자기 우선순위로 새 호출을 이끈다(또는 그 사이 생긴 새 호출에 합류한다).</p>
+ */
+@Component
+public class PoliceApiRequestCoalescer {
+
+    private final boolean enabled;
+    private final Duration resultTtl;
+    private final Clock clock;
+    private final MeterRegistry registry;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Object, CachedResult> results = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PoliceApiRequestCoalescer(MeterRegistry registry,
+        @Value("${police.api.coalescing.enabled:true}") boolean enabled,
+        @Value("${police.api.coalescing.result-ttl-ms:0}") long resultTtlMs) {
+        this(registry, enabled, Duration.ofMillis(resultTtlMs), Clock.systemUTC());
+    }
+
+    PoliceApiRequestCoalescer(MeterRegistry registry, boolean enabled, Duration resultTtl, Clock clock) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.resultTtl = resultTtl.isNegative() ? Duration.ZERO : resultTtl;
+        this.clock = clock;
+        registry.gauge("police.api.coalescing.in_flight", inFlight, Map::size);
+    }
+
+    /**
+     * 같은 키의 진행 중인 요청이 있으면 그 결과를 기다리고, 없으면 직접 호출
+     *
+     * @param key       정규화된 요청 키
+     * @param call      업스트림 호출
+     * @param cacheable 결과 보관(TTL) 대상 여부
+     * @return 호출 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(Object key, Supplier<R> call, Predicate<? super R> cacheable) {
+        if (!enabled) {
+            return call.get();
+        }
+        R cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            record("joined");
+            try {
+                return (R) await(leader);
+            } catch (PoliceApiThrottledException e) {
+                record("leader_throttled");
+                return execute(key, call, cacheable);
+            }
+        }
+        record("leader");
+        try {
+            R result = call.get();
+            remember(key, result, cacheable);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * {@link #execute(Object, Supplier, Predicate)}의 비동기 버전. 동기/비동기 호출은 같은 키를 공유한다.
+     *
+     * @param key       정규화된 요청 키
+     * @param call      업스트림 비동기 호출
+     * @param cacheable 결과 보관(TTL) 대상 여부
+     * @return 호출 결과. 호출자가 취소해도 공유 중인 요청에는 영향이 없다.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> executeAsync(Object key, Supplier<CompletableFuture<R>> call,
+        Predicate<? super R> cacheable) {
+        if (!enabled) {
+            return call.get();
+        }
+        R cached = cached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            record("joined");
+            return leader.handle((result, error) -> {
+                if (error == null) {
+                    return CompletableFuture.completedFuture((R) result);
+                }
+                Throwable cause = unwrap(error);
+                if (cause instanceof PoliceApiThrottledException) {
+                    record("leader_throttled");
+                    return executeAsync(key, call, cacheable);
+                }
+                return CompletableFuture.<R>failedFuture(cause);
+            }).thenCompose(Function.identity());
+        }
+        record("leader");
+        CompletableFuture<R> upstream;
+        try {
+            upstream = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        upstream.whenComplete((result, error) -> {
+            if (error == null) {
+                remember(key, result, cacheable);
+            }
+            inFlight.remove(key, flight);
+            if (error == null) {
+                flight.complete(result);
+            } else {
+                flight.completeExceptionally(unwrap(error));
+            }
+        });
+        return flight.thenApply(result -> (R) result);
+    }
+
+    /**
+     * @return 현재 진행 중인 (합쳐질 수 있는) 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R cached(Object key) {
+        if (resultTtl.isZero()) {
+            return null;
+        }
+        CachedResult cached = results.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(cached.expiresAt())) {
+            results.remove(key, cached);
+            return null;
+        }
+        record("cache_hit");
+        return (R) cached.value();
+    }
+
+    private <R> void remember(Object key, R result, Predicate<? super R> cacheable) {
+        if (resultTtl.isZero() || result == null || !cacheable.test(result)) {
+            return;
+        }
+        Instant now = clock.instant();
+        results.put(key, new CachedResult(result, now.plus(resultTtl)));
+        // 만료된 항목 정리 (키 수가 페이지 수 수준이라 전체 순회 비용은 작음)
+        results.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+    }
+
+    private void record(String outcome) {
+        registry.counter("police.api.coalescing.requests", "outcome", outcome).increment();
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private record CachedResult(Object value, Instant expiresAt) {
+    }
+}
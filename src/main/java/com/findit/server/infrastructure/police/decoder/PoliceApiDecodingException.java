@@ -0,0 +1,15 @@
+package com.findit.server.infrastructure.police.decoder;
+
+/**
+ * 경찰청 API 응답 본문을 해석할 수 없을 때 발생하는 예외
+ */
+public class PoliceApiDecodingException extends RuntimeException {
+
+    public PoliceApiDecodingException(String message) {
+        super(message);
+    }
+
+    public PoliceApiDecodingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
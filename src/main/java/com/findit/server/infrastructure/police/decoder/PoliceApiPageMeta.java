@@ -0,0 +1,27 @@
+package com.findit.server.infrastructure.police.decoder;
+
+/**
+ * 경찰청 API 응답 한 페이지의 헤더/페이지 정보
+ *
+ * @param resultCode 결과 코드 (정상: "00")
+ * @param resultMsg  결과 메시지
+ * @param totalCount 전체 결과 수
+ * @param pageNo     페이지 번호
+ * @param numOfRows  한 페이지 결과 수
+ */
+public record PoliceApiPageMeta(
+    String resultCode,
+    String resultMsg,
+    int totalCount,
+    int pageNo,
+    int numOfRows
+) {
+
+    public static PoliceApiPageMeta empty() {
+        return new PoliceApiPageMeta(null, null, 0, 0, 0);
+    }
+
+    public boolean hasHeader() {
+        return resultCode != null || resultMsg != null;
+    }
+}
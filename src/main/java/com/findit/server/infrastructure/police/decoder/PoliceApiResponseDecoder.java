@@ -0,0 +1,478 @@
+package com.findit.server.infrastructure.police.decoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰청 API 응답 스트리밍 디코더
+ *
+ * <p>응답 본문을 문자열로 버퍼링하지 않고 {@link InputStream}에서 직접 읽는다. 선두 BOM을 건너뛰고 첫 바이트로
+ * XML/JSON을 판별한 뒤, StAX 또는 Jackson 스트리밍 파서로 아이템을 하나씩 방출한다. 파서 팩토리와 필드 매핑 표는
+ * 한 번만 만들어 모든 호출이 공유한다. 분류·보관 기관·보관 상태·색상처럼 값 종류가 적은 필드만 {@link StringDictionary}로
+ * 정규화해 페이지마다 같은 문자열을 새로 들고 있지 않게 한다. 일자·주소·전화는 값이 계속 늘어나 사전만 채우므로
+ * 정규화하지 않는다.</p>
+ */
+@Component
+public class PoliceApiResponseDecoder {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().build();
+
+    private static final ItemSchema<PoliceApiLostItem> LOST_ITEM_SCHEMA = lostItemSchema();
+    private static final ItemSchema<PoliceApiFoundItem> FOUND_ITEM_SCHEMA = foundItemSchema();
+
+    private final StringDictionary dictionary;
+
+    /**
+     * 자체 문자열 사전으로 생성 (테스트·벤치마크에서 직접 만들 때)
+     */
+    public PoliceApiResponseDecoder() {
+        this(new StringDictionary());
+    }
+
+    /**
+     * 생성자
+     *
+     * @param dictionary 값 종류가 적은 필드를 정규화할 문자열 사전
+     */
+    @Autowired
+    public PoliceApiResponseDecoder(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * 분실물 응답 본문을 응답 DTO로 디코딩
+     *
+     * @param body 응답 본문 스트림 (null 허용)
+     * @return 분실물 응답 DTO
+     */
+    public PoliceApiLostItemResponse decodeLostItems(InputStream body) {
+        List<PoliceApiLostItem> items = new ArrayList<>();
+        PoliceApiPageMeta meta = streamLostItems(body, items::add);
+
+        PoliceApiLostItemResponse response = new PoliceApiLostItemResponse();
+        if (meta.hasHeader()) {
+            PoliceApiLostItemResponse.Header header = new PoliceApiLostItemResponse.Header();
+            header.setResultCode(meta.resultCode());
+            header.setResultMsg(meta.resultMsg());
+            response.setHeader(header);
+        }
+        PoliceApiLostItemResponse.Body responseBody = new PoliceApiLostItemResponse.Body();
+        responseBody.setItems(items);
+        responseBody.setTotalCount(meta.totalCount());
+        responseBody.setPageNo(meta.pageNo());
+        responseBody.setNumOfRows(meta.numOfRows());
+        response.setBody(responseBody);
+        return response;
+    }
+
+    /**
+     * 습득물 응답 본문을 응답 DTO로 디코딩
+     *
+     * @param body 응답 본문 스트림 (null 허용)
+     * @return 습득물 응답 DTO
+     */
+    public PoliceApiFoundItemResponse decodeFoundItems(InputStream body) {
+        List<PoliceApiFoundItem> items = new ArrayList<>();
+        PoliceApiPageMeta meta = streamFoundItems(body, items::add);
+
+        PoliceApiFoundItemResponse response = new PoliceApiFoundItemResponse();
+        if (meta.hasHeader()) {
+            PoliceApiFoundItemResponse.Header header = new PoliceApiFoundItemResponse.Header();
+            header.setResultCode(meta.resultCode());
+            header.setResultMsg(meta.resultMsg());
+            response.setHeader(header);
+        }
+        PoliceApiFoundItemResponse.Body responseBody = new PoliceApiFoundItemResponse.Body();
+        responseBody.setItems(items);
+        responseBody.setTotalCount(meta.totalCount());
+        responseBody.setPageNo(meta.pageNo());
+        responseBody.setNumOfRows(meta.numOfRows());
+        response.setBody(responseBody);
+        return response;
+    }
+
+    /**
+     * 분실물 응답 본문을 읽으며 아이템을 하나씩 전달
+     *
+     * @param body 응답 본문 스트림 (null 허용)
+     * @param sink 디코딩된 아이템을 받을 콜백
+     * @return 응답 헤더/페이지 정보
+     */
+    public PoliceApiPageMeta streamLostItems(InputStream body, Consumer<PoliceApiLostItem> sink) {
+        return decode(body, LOST_ITEM_SCHEMA, sink);
+    }
+
+    /**
+     * 습득물 응답 본문을 읽으며 아이템을 하나씩 전달
+     *
+     * @param body 응답 본문 스트림 (null 허용)
+     * @param sink 디코딩된 아이템을 받을 콜백
+     * @return 응답 헤더/페이지 정보
+     */
+    public PoliceApiPageMeta streamFoundItems(InputStream body, Consumer<PoliceApiFoundItem> sink) {
+        return decode(body, FOUND_ITEM_SCHEMA, sink);
+    }
+
+    private <T> PoliceApiPageMeta decode(InputStream body, ItemSchema<T> schema, Consumer<T> sink) {
+        if (body == null) {
+            return PoliceApiPageMeta.empty();
+        }
+        try {
+            PushbackInputStream stream = skipBom(body);
+            int first = skipWhitespace(stream);
+            if (first == -1) {
+                return PoliceApiPageMeta.empty();
+            }
+            if (first == '{') {
+                return decodeJson(stream, schema, sink);
+            }
+            if (first == '<') {
+                return decodeXml(stream, schema, sink);
+            }
+            throw new PoliceApiDecodingException(
+                "XML/JSON이 아닌 응답입니다. 첫 문자: '" + (char) first + "'");
+        } catch (IOException e) {
+            throw new PoliceApiDecodingException("응답 본문을 읽는 중 오류: " + e.getMessage(), e);
+        } catch (XMLStreamException e) {
+            throw new PoliceApiDecodingException("XML 파싱 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private PushbackInputStream skipBom(InputStream body) throws IOException {
+        PushbackInputStream stream = new PushbackInputStream(new BufferedInputStream(body, BUFFER_SIZE), 3);
+        byte[] head = new byte[3];
+        int read = stream.readNBytes(head, 0, head.length);
+        boolean utf8Bom = read == 3
+            && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF;
+        if (!utf8Bom && read > 0) {
+            stream.unread(head, 0, read);
+        }
+        return stream;
+    }
+
+    /**
+     * 선행 공백을 건너뛰고 첫 유효 바이트를 되돌려 놓은 뒤 그 값을 반환
+     */
+    private int skipWhitespace(PushbackInputStream stream) throws IOException {
+        int b;
+        do {
+            b = stream.read();
+        } while (b == ' ' || b == '\t' || b == '\r' || b == '\n');
+        if (b != -1) {
+            stream.unread(b);
+        }
+        return b;
+    }
+
+    // ---------------------------------------------------------------- XML (StAX)
+
+    private <T> PoliceApiPageMeta decodeXml(InputStream stream, ItemSchema<T> schema, Consumer<T> sink)
+        throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(stream);
+        try {
+            MetaBuilder meta = new MetaBuilder();
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "item" -> sink.accept(readXmlItem(reader, schema));
+                    // 공공데이터포털 공통 오류 응답(OpenAPI_ServiceResponse)도 헤더 정보로 취급
+                    case "resultCode", "returnReasonCode" -> meta.resultCode = readXmlText(reader);
+                    case "resultMsg", "returnAuthMsg" -> meta.resultMsg = readXmlText(reader);
+                    case "totalCount" -> meta.totalCount = parseInt(readXmlText(reader));
+                    case "pageNo" -> meta.pageNo = parseInt(readXmlText(reader));
+                    case "numOfRows" -> meta.numOfRows = parseInt(readXmlText(reader));
+                    default -> {
+                        // 컨테이너 요소(response, header, body, items)는 그대로 내려간다
+                    }
+                }
+            }
+            return meta.build();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private <T> T readXmlItem(XMLStreamReader reader, ItemSchema<T> schema) throws XMLStreamException {
+        T item = schema.newItem();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                Field<T> field = schema.field(reader.getLocalName());
+                String value = readXmlText(reader);
+                if (field != null) {
+                    set(item, field, value);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return item;
+            }
+        }
+        throw new XMLStreamException("item 요소가 닫히지 않았습니다.");
+    }
+
+    /**
+     * 현재 요소의 텍스트를 읽고 종료 태그까지 이동한다. 예상치 못한 하위 요소는 무시한다.
+     */
+    private String readXmlText(XMLStreamReader reader) throws XMLStreamException {
+        String single = null;
+        StringBuilder multiple = null;
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                    if (depth == 1) {
+                        if (single == null) {
+                            single = reader.getText();
+                        } else {
+                            if (multiple == null) {
+                                multiple = new StringBuilder(single);
+                            }
+                            multiple.append(reader.getText());
+                        }
+                    }
+                }
+                case XMLStreamConstants.END_DOCUMENT ->
+                    throw new XMLStreamException("요소가 닫히기 전에 문서가 끝났습니다.");
+                default -> {
+                }
+            }
+        }
+        if (multiple != null) {
+            return multiple.toString();
+        }
+        return single != null ? single : "";
+    }
+
+    // ---------------------------------------------------------------- JSON (Jackson streaming)
+
+    private <T> PoliceApiPageMeta decodeJson(InputStream stream, ItemSchema<T> schema, Consumer<T> sink)
+        throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PoliceApiDecodingException("JSON 응답 최상위 값이 객체가 아닙니다.");
+            }
+            MetaBuilder meta = new MetaBuilder();
+            readJsonObject(parser, schema, sink, meta);
+            return meta.build();
+        }
+    }
+
+    /**
+     * response/header/body/items 컨테이너를 재귀적으로 내려가며 헤더 값과 item 목록을 찾는다.
+     */
+    private <T> void readJsonObject(JsonParser parser, ItemSchema<T> schema, Consumer<T> sink,
+        MetaBuilder meta) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "item" -> readJsonItems(parser, token, schema, sink);
+                case "resultCode" -> meta.resultCode = jsonText(parser, token);
+                case "resultMsg" -> meta.resultMsg = jsonText(parser, token);
+                case "totalCount" -> meta.totalCount = jsonInt(parser, token);
+                case "pageNo" -> meta.pageNo = jsonInt(parser, token);
+                case "numOfRows" -> meta.numOfRows = jsonInt(parser, token);
+                default -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        readJsonObject(parser, schema, sink, meta);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * item 값은 배열(여러 건), 객체(1건), 빈 문자열(0건) 중 하나로 내려온다.
+     */
+    private <T> void readJsonItems(JsonParser parser, JsonToken token, ItemSchema<T> schema,
+        Consumer<T> sink) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            sink.accept(readJsonItem(parser, schema));
+        } else if (token == JsonToken.START_ARRAY) {
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (element == JsonToken.START_OBJECT) {
+                    sink.accept(readJsonItem(parser, schema));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private <T> T readJsonItem(JsonParser parser, ItemSchema<T> schema) throws IOException {
+        T item = schema.newItem();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Field<T> field = schema.field(parser.currentName());
+            JsonToken token = parser.nextToken();
+            if (token.isScalarValue()) {
+                if (field != null) {
+                    set(item, field, jsonText(parser, token));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    private String jsonText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private int jsonInt(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt(0);
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    private <T> void set(T item, Field<T> field, String value) {
+        field.setter().accept(item, field.canonical() ? dictionary.canonicalize(value) : value);
+    }
+
+    private static int parseInt(String raw) {
+        if (raw == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ItemSchema<PoliceApiLostItem> lostItemSchema() {
+        Map<String, Field<PoliceApiLostItem>> fields = new HashMap<>();
+        fields.put("atcId", Field.of(PoliceApiLostItem::setLostItemId));
+        fields.put("lstPrdtNm", Field.of(PoliceApiLostItem::setLostItemName));
+        fields.put("prdtClNm", Field.canonical(PoliceApiLostItem::setLostItemCategory));
+        fields.put("lstPlace", Field.of(PoliceApiLostItem::setLostPlace));
+        fields.put("lstYmd", Field.of(PoliceApiLostItem::setLostDate));
+        fields.put("csteSteNm", Field.canonical(PoliceApiLostItem::setStatus));
+        fields.put("fdFilePathImg", Field.of(PoliceApiLostItem::setLostItemImageUrl));
+        fields.put("lstSbjt", Field.of(PoliceApiLostItem::setLostItemDescription));
+        fields.put("orgNm", Field.canonical(PoliceApiLostItem::setLostItemContactInfo));
+        fields.put("tel", Field.of(PoliceApiLostItem::setLostItemTelephone));
+        fields.put("clrNm", Field.canonical(PoliceApiLostItem::setLostItemColor));
+        fields.put("rnum", Field.of(PoliceApiLostItem::setLostItemRnum));
+        return new ItemSchema<>(PoliceApiLostItem::new, Map.copyOf(fields));
+    }
+
+    private static ItemSchema<PoliceApiFoundItem> foundItemSchema() {
+        Map<String, Field<PoliceApiFoundItem>> fields = new HashMap<>();
+        fields.put("atcId", Field.of(PoliceApiFoundItem::setAtcId));
+        fields.put("fdPrdtNm", Field.of(PoliceApiFoundItem::setFdPrdtNm));
+        fields.put("prdtClNm", Field.canonical(PoliceApiFoundItem::setPrdtClNm));
+        fields.put("fdPlace", Field.of(PoliceApiFoundItem::setFdPlace));
+        fields.put("fdYmd", Field.of(PoliceApiFoundItem::setFdYmd));
+        fields.put("depPlace", Field.canonical(PoliceApiFoundItem::setDepPlace));
+        fields.put("addr", Field.of(PoliceApiFoundItem::setAddr));
+        fields.put("tel", Field.of(PoliceApiFoundItem::setTel));
+        fields.put("csteSteNm", Field.canonical(PoliceApiFoundItem::setCsteSteNm));
+        fields.put("fdFilePathImg", Field.of(PoliceApiFoundItem::setFdFilePathImg));
+        fields.put("fdSbjt", Field.of(PoliceApiFoundItem::setFdSbjt));
+        fields.put("clrNm", Field.canonical(PoliceApiFoundItem::setClrNm));
+        fields.put("fdSn", Field.of(PoliceApiFoundItem::setFdSn));
+        return new ItemSchema<>(PoliceApiFoundItem::new, Map.copyOf(fields));
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    /**
+     * 아이템 타입별 생성자와 필드명 → setter 매핑. XML 요소명과 JSON 필드명이 같으므로 두 형식이 공유한다.
+     */
+    private static final class ItemSchema<T> {
+        private final Supplier<T> factory;
+        private final Map<String, Field<T>> fields;
+
+        private ItemSchema(Supplier<T> factory, Map<String, Field<T>> fields) {
+            this.factory = factory;
+            this.fields = fields;
+        }
+
+        T newItem() {
+            return factory.get();
+        }
+
+        Field<T> field(String name) {
+            return fields.get(name);
+        }
+    }
+
+    /**
+     * 필드 setter와 문자열 사전 정규화 여부
+     */
+    private record Field<T>(BiConsumer<T, String> setter, boolean canonical) {
+
+        static <T> Field<T> of(BiConsumer<T, String> setter) {
+            return new Field<>(setter, false);
+        }
+
+        static <T> Field<T> canonical(BiConsumer<T, String> setter) {
+            return new Field<>(setter, true);
+        }
+    }
+
+    private static final class MetaBuilder {
+        private String resultCode;
+        private String resultMsg;
+        private int totalCount;
+        private int pageNo;
+        private int numOfRows;
+
+        PoliceApiPageMeta build() {
+            return new PoliceApiPageMeta(resultCode, resultMsg, totalCount, pageNo, numOfRows);
+        }
+    }
+}
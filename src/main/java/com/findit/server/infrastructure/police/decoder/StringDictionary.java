@@ -0,0 +1,127 @@
+package com.findit.server.infrastructure.police.decoder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 데이터 문자열 사전 (정규화)
+ *
+ * <p>물품 분류, 보관 장소(경찰서), 색상, 보관 상태처럼 값 종류가 적은 필드는 한 번 동기화에 같은 값이 수천 번
+ * 반복된다. 디코더와 매퍼가 이 사전을 거쳐 같은 내용의 문자열을 하나의 인스턴스로 맞추면 페이지마다 새로 만든 복사본은
+ * 곧바로 버려지고, 엔티티와 캐시는 같은 인스턴스를 공유한다.</p>
+ *
+ * <p>사전은 {@code police.api.string-dictionary.max-entries}개까지 채우고(동시에 등록하는 스레드 수만큼 넘을 수 있음),
+ * 가득 차면 새 값은 등록하지 않고 그대로 돌려준다(먼저 들어온 값 유지, 삭제 없음). {@code max-length}보다 긴 값은
+ * 자유 텍스트로 보고 사전에 넣지 않는다.
+ * {@code max-entries}를 0으로 두면 정규화하지 않는다. 메트릭 {@code police.api.string_dictionary.lookups{result}}
+ * (hit, miss, skipped)로 적중률을, {@code police.api.string_dictionary.size}로 등록된 값 수를 확인한다.</p>
+ */
+@Component
+public class StringDictionary {
+
+    static final int DEFAULT_MAX_ENTRIES = 20_000;
+    static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final int maxEntries;
+    private final int maxLength;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    @Autowired
+    public StringDictionary(MeterRegistry registry,
+        @Value("${police.api.string-dictionary.max-entries:20000}") int maxEntries,
+        @Value("${police.api.string-dictionary.max-length:64}") int maxLength) {
+        this(maxEntries, maxLength);
+        registerLookups(registry, "hit", hits);
+        registerLookups(registry, "miss", misses);
+        registerLookups(registry, "skipped", skipped);
+        registry.gauge("police.api.string_dictionary.size", entries, Map::size);
+    }
+
+    /**
+     * 메트릭 없이 기본 크기로 생성 (디코더/매퍼를 직접 만드는 테스트·벤치마크용)
+     */
+    public StringDictionary() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    }
+
+    StringDictionary(int maxEntries, int maxLength) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxLength = Math.max(0, maxLength);
+    }
+
+    /**
+     * 같은 내용의 문자열이 사전에 있으면 그 인스턴스를, 없으면 등록한 뒤 입력을 그대로 반환
+     *
+     * @param value 입력 문자열 (null 허용)
+     * @return 정규화된 문자열 (사전이 가득 찼거나 값이 길면 입력 그대로)
+     */
+    public String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            skipped.increment();
+            return value;
+        }
+        String canonical = entries.get(value);
+        if (canonical != null) {
+            hits.increment();
+            return canonical;
+        }
+        // 크기 확인과 등록이 원자적이지 않아 엄격한 상한은 아님: 최대 maxEntries + 동시에 등록하는 스레드 수까지 찰 수 있음
+        if (entries.size() >= maxEntries) {
+            skipped.increment();
+            return value;
+        }
+        canonical = entries.putIfAbsent(value, value);
+        if (canonical != null) {
+            hits.increment();
+            return canonical;
+        }
+        misses.increment();
+        return value;
+    }
+
+    /**
+     * @return 등록된 값 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return 사전에서 찾은 조회 수
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return 새로 등록한 조회 수
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return 사전이 가득 찼거나 값이 길어 정규화하지 않은 조회 수
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    private static void registerLookups(MeterRegistry registry, String result, LongAdder count) {
+        FunctionCounter.builder("police.api.string_dictionary.lookups", count, LongAdder::sum)
+            .tag("result", result)
+            .register(registry);
+    }
+}
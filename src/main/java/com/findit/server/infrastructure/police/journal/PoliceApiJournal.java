@@ -0,0 +1,417 @@
+package com.findit.server.infrastructure.police.journal;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰청 API 원본 응답 저널
+ *
+ * <p>매핑 전 응답 본문을 엔드포인트/조회 기간/페이지 키로 압축(Deflate)해 세그먼트 파일에 순차 기록한다.
+ * 같은 키가 다시 기록되면 마지막 레코드가 유효하다. 인덱스는 기동 시 세그먼트를 스캔해 메모리에 다시 만들고,
+ * 마지막 세그먼트 끝의 잘린 레코드는 잘라낸다.</p>
+ *
+ * <p>레코드 형식: {@code magic(int) | keyLength(int) | key(UTF-8) | rawLength(int) | payloadLength(int)
+ * | crc32(int) | payload(deflate)}</p>
+ *
+ * <ul>
+ *   <li>OFF: 사용하지 않음 (파일을 만들지 않음)</li>
+ *   <li>RECORD: 정상 응답을 네트워크에서 받은 그대로 기록</li>
+ *   <li>REPLAY: 네트워크 대신 저널에서 응답을 읽음</li>
+ * </ul>
+ */
+@Component
+public class PoliceApiJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoliceApiJournal.class);
+
+    private static final int MAGIC = 0x504A524E;
+    private static final int FIXED_HEADER_BYTES = 20;
+    private static final int MAX_KEY_BYTES = 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pjl";
+
+    /**
+     * 저널 동작 모드
+     */
+    public enum Mode {
+        OFF,
+        RECORD,
+        REPLAY
+    }
+
+    private final Mode mode;
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final boolean mmapReads;
+    private final int compressionLevel;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, FileChannel> channels = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+    // 아래 상태는 this 모니터로 보호 (append)
+    private int activeSegmentId;
+    private long activeSize;
+
+    /**
+     * 생성자
+     *
+     * @param directory        세그먼트 파일 디렉터리
+     * @param mode             저널 모드
+     * @param segmentSizeBytes 세그먼트 최대 크기 (초과 시 새 세그먼트로 전환)
+     * @param mmapReads        봉인된 세그먼트를 메모리 매핑으로 읽을지 여부
+     * @param compressionLevel Deflate 압축 레벨 (0~9)
+     */
+    public PoliceApiJournal(
+        @Value("${police.api.journal.dir:./data/police-journal}") String directory,
+        @Value("${police.api.journal.mode:OFF}") Mode mode,
+        @Value("${police.api.journal.segment-size-bytes:67108864}") long segmentSizeBytes,
+        @Value("${police.api.journal.mmap-reads:true}") boolean mmapReads,
+        @Value("${police.api.journal.compression-level:6}") int compressionLevel) {
+        this.mode = mode != null ? mode : Mode.OFF;
+        this.directory = Paths.get(directory);
+        this.segmentSizeBytes = Math.min(Integer.MAX_VALUE, Math.max(1024, segmentSizeBytes));
+        this.mmapReads = mmapReads;
+        this.compressionLevel = Math.min(Deflater.BEST_COMPRESSION, Math.max(Deflater.NO_COMPRESSION, compressionLevel));
+        if (this.mode != Mode.OFF) {
+            try {
+                open();
+            } catch (IOException e) {
+                throw new UncheckedIOException("경찰청 API 저널을 열 수 없습니다: " + directory, e);
+            }
+            logger.info("경찰청 API 저널 {} 모드: {} (세그먼트 {}개, 레코드 {}건)", this.mode, this.directory.toAbsolutePath(),
+                channels.size(), index.size());
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isRecording() {
+        return mode == Mode.RECORD;
+    }
+
+    public boolean isReplaying() {
+        return mode == Mode.REPLAY;
+    }
+
+    /**
+     * 원본 응답 본문을 기록
+     *
+     * @param key  레코드 키
+     * @param body 응답 본문 (압축 해제된 원본 바이트)
+     */
+    public void append(PoliceApiJournalKey key, byte[] body) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        byte[] keyBytes = key.encode().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = deflate(body);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer record = ByteBuffer.allocate(FIXED_HEADER_BYTES + keyBytes.length + payload.length)
+            .putInt(MAGIC)
+            .putInt(keyBytes.length)
+            .put(keyBytes)
+            .putInt(body.length)
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .put(payload)
+            .flip();
+
+        try {
+            synchronized (this) {
+                if (activeSize > 0 && activeSize + record.remaining() > segmentSizeBytes) {
+                    rollSegment();
+                }
+                FileChannel channel = channels.get(activeSegmentId);
+                long offset = activeSize;
+                int length = record.remaining();
+                while (record.hasRemaining()) {
+                    channel.write(record, offset + (length - record.remaining()));
+                }
+                activeSize += length;
+                index.put(key.encode(), new Location(activeSegmentId, offset, length));
+            }
+        } catch (IOException e) {
+            logger.error("경찰청 API 저널 기록 실패 ({}): {}", key, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기록된 원본 응답 본문을 읽음
+     *
+     * @param key 레코드 키
+     * @return 응답 본문. 기록이 없거나 손상된 경우 빈 값
+     */
+    public Optional<byte[]> read(PoliceApiJournalKey key) {
+        Location location = index.get(key.encode());
+        if (location == null) {
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer record = readRecord(location);
+            record.getInt();
+            int keyLength = record.getInt();
+            record.position(record.position() + keyLength);
+            int rawLength = record.getInt();
+            int payloadLength = record.getInt();
+            int expectedCrc = record.getInt();
+            byte[] payload = new byte[payloadLength];
+            record.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                logger.error("경찰청 API 저널 레코드 CRC 불일치: {}", key);
+                return Optional.empty();
+            }
+            return Optional.of(inflate(payload, rawLength));
+        } catch (IOException | DataFormatException e) {
+            logger.error("경찰청 API 저널 레코드 읽기 실패 ({}): {}", key, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 엔드포인트별로 기록된 조회 기간 목록 (시작일 오름차순)
+     */
+    public List<PoliceApiJournalKey.Range> recordedRanges(PoliceApiEndpoint endpoint) {
+        return index.keySet().stream()
+            .map(PoliceApiJournalKey::decode)
+            .filter(key -> key.endpoint() == endpoint)
+            .map(PoliceApiJournalKey::range)
+            .distinct()
+            .sorted(Comparator.comparing(PoliceApiJournalKey.Range::startYmd)
+                .thenComparing(PoliceApiJournalKey.Range::endYmd))
+            .toList();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (FileChannel channel : channels.values()) {
+            try {
+                channel.force(false);
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("경찰청 API 저널 세그먼트 닫기 실패: {}", e.getMessage());
+            }
+        }
+        channels.clear();
+        mappedSegments.clear();
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        TreeMap<Integer, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Integer id = segmentId(path);
+                if (id != null) {
+                    segments.put(id, path);
+                }
+            });
+        }
+        if (segments.isEmpty()) {
+            activeSegmentId = 1;
+            channels.put(activeSegmentId, openChannel(activeSegmentId, true));
+            activeSize = 0;
+            return;
+        }
+        int lastId = segments.lastKey();
+        for (Map.Entry<Integer, Path> segment : segments.entrySet()) {
+            boolean last = segment.getKey() == lastId;
+            FileChannel channel = openChannel(segment.getKey(), last && mode == Mode.RECORD);
+            channels.put(segment.getKey(), channel);
+            long validSize = scan(segment.getKey(), channel, last);
+            if (last) {
+                if (validSize < channel.size() && mode == Mode.RECORD) {
+                    logger.warn("경찰청 API 저널 세그먼트 {}의 잘린 레코드 {}바이트를 제거합니다.", segment.getKey(),
+                        channel.size() - validSize);
+                    channel.truncate(validSize);
+                }
+                activeSegmentId = segment.getKey();
+                activeSize = validSize;
+            }
+        }
+    }
+
+    /**
+     * 세그먼트를 처음부터 읽어 인덱스를 채우고 마지막 유효 위치를 반환. 마지막 세그먼트는 CRC까지 검증한다.
+     */
+    private long scan(int segmentId, FileChannel channel, boolean verifyPayload) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer prefix = ByteBuffer.allocate(8);
+        while (position + FIXED_HEADER_BYTES <= size) {
+            prefix.clear();
+            readFully(channel, prefix, position);
+            prefix.flip();
+            int magic = prefix.getInt();
+            int keyLength = prefix.getInt();
+            if (magic != MAGIC || keyLength <= 0 || keyLength > MAX_KEY_BYTES
+                || position + FIXED_HEADER_BYTES + keyLength > size) {
+                break;
+            }
+            ByteBuffer header = ByteBuffer.allocate(keyLength + 12);
+            readFully(channel, header, position + 8);
+            header.flip();
+            byte[] keyBytes = new byte[keyLength];
+            header.get(keyBytes);
+            header.getInt();
+            int payloadLength = header.getInt();
+            int expectedCrc = header.getInt();
+            long recordLength = (long) FIXED_HEADER_BYTES + keyLength + payloadLength;
+            if (payloadLength < 0 || position + recordLength > size) {
+                break;
+            }
+            if (verifyPayload) {
+                ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+                readFully(channel, payload, position + FIXED_HEADER_BYTES + keyLength);
+                CRC32 crc = new CRC32();
+                crc.update(payload.flip());
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+            }
+            index.put(new String(keyBytes, StandardCharsets.UTF_8),
+                new Location(segmentId, position, (int) recordLength));
+            position += recordLength;
+        }
+        return position;
+    }
+
+    private void rollSegment() throws IOException {
+        FileChannel sealed = channels.get(activeSegmentId);
+        sealed.force(false);
+        activeSegmentId++;
+        activeSize = 0;
+        channels.put(activeSegmentId, openChannel(activeSegmentId, true));
+    }
+
+    private ByteBuffer readRecord(Location location) throws IOException {
+        FileChannel channel = channels.get(location.segmentId());
+        if (channel == null) {
+            throw new IOException("세그먼트를 찾을 수 없습니다: " + location.segmentId());
+        }
+        boolean sealed = !isRecording() || location.segmentId() != currentSegmentId();
+        if (mmapReads && sealed) {
+            MappedByteBuffer mapped = mappedSegments.computeIfAbsent(location.segmentId(), id -> map(channel));
+            return mapped.slice((int) location.offset(), location.length());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        readFully(channel, buffer, location.offset());
+        return buffer.flip();
+    }
+
+    private synchronized int currentSegmentId() {
+        return activeSegmentId;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FileChannel openChannel(int segmentId, boolean writable) throws IOException {
+        Path path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+        if (writable) {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    private static Integer segmentId(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("세그먼트가 예상보다 짧습니다.");
+            }
+            offset += read;
+        }
+    }
+
+    private byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] payload, int rawLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            byte[] out = new byte[rawLength];
+            int position = 0;
+            while (position < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(out, position, rawLength - position);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 예상보다 짧습니다.");
+                }
+                position += read;
+            }
+            return out;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record Location(int segmentId, long offset, int length) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.findit.server.infrastructure.police.journal;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+
+/**
+ * 저널 레코드 키: 엔드포인트 + 조회 기간 + 페이지
+ *
+ * @param endpoint  조회 엔드포인트
+ * @param startYmd  검색 시작일 (YYYYMMDD, 없으면 빈 문자열)
+ * @param endYmd    검색 종료일 (YYYYMMDD, 없으면 빈 문자열)
+ * @param pageNo    페이지 번호
+ * @param numOfRows 한 페이지 결과 수
+ */
+public record PoliceApiJournalKey(PoliceApiEndpoint endpoint, String startYmd, String endYmd, int pageNo,
+                                  int numOfRows) {
+
+    private static final char SEPARATOR = '|';
+
+    public PoliceApiJournalKey {
+        startYmd = normalize(startYmd);
+        endYmd = normalize(endYmd);
+    }
+
+    /**
+     * 조회 기간
+     */
+    public Range range() {
+        return new Range(startYmd, endYmd, numOfRows);
+    }
+
+    String encode() {
+        return endpoint.name() + SEPARATOR + startYmd + SEPARATOR + endYmd + SEPARATOR + pageNo + SEPARATOR + numOfRows;
+    }
+
+    static PoliceApiJournalKey decode(String encoded) {
+        String[] parts = encoded.split("\\|", -1);
+        if (parts.length != 5) {
+            throw new IllegalArgumentException("잘못된 저널 키: " + encoded);
+        }
+        return new PoliceApiJournalKey(PoliceApiEndpoint.valueOf(parts[0]), parts[1], parts[2],
+            Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+    }
+
+    private static String normalize(String ymd) {
+        if (ymd == null || ymd.isBlank() || "null".equalsIgnoreCase(ymd.trim())) {
+            return "";
+        }
+        return ymd.trim();
+    }
+
+    /**
+     * 저널에 기록된 조회 기간 (재적재 단위)
+     *
+     * @param startYmd  검색 시작일
+     * @param endYmd    검색 종료일
+     * @param numOfRows 기록 당시 한 페이지 결과 수
+     */
+    public record Range(String startYmd, String endYmd, int numOfRows) {
+    }
+}
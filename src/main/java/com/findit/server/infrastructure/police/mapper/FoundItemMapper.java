@@ -3,33 +3,41 @@ package com.findit.server.infrastructure.police.mapper;
 import com.findit.server.domain.founditem.FoundDate;
 import com.findit.server.domain.founditem.FoundItem;
 import com.findit.server.domain.founditem.FoundItemId;
+import com.findit.server.domain.shared.DateScanner;
 import com.findit.server.domain.shared.ItemCategory;
 import com.findit.server.domain.shared.ItemName;
 import com.findit.server.domain.shared.LocationName;
+import com.findit.server.infrastructure.police.decoder.StringDictionary;
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 경찰청 API 습득물 데이터를 내부 애그리게이트로 변환하는 매퍼.
+ * 분류·보관 장소·색상은 {@link StringDictionary}로 정규화해 엔티티끼리 같은 문자열 인스턴스를 공유한다.
  */
 @Component
 public class FoundItemMapper implements ApiMapper<PoliceApiFoundItem, FoundItem> {
 
     private static final Logger logger = LoggerFactory.getLogger(FoundItemMapper.class);
 
-    private static final Pattern YYYY_MM_DD_PATTERN = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})");
-    private static final Pattern YYYY_MM_PATTERN = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-]?");
-    private static final Pattern YYYYMMDD_PATTERN = Pattern.compile("(\\d{4})(\\d{2})(\\d{2})");
-    private static final Pattern YYYYMM_PATTERN = Pattern.compile("(\\d{4})(\\d{2})");
+    private final StringDictionary dictionary;
 
-    private static final DateTimeFormatter TARGET_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /**
+     * 자체 문자열 사전으로 생성 (테스트·벤치마크에서 직접 만들 때)
+     */
+    public FoundItemMapper() {
+        this(new StringDictionary());
+    }
+
+    @Autowired
+    public FoundItemMapper(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
 
     @Override
     public FoundItem map(PoliceApiFoundItem source) {
@@ -43,20 +51,19 @@ public class FoundItemMapper implements ApiMapper<PoliceApiFoundItem, FoundItem>
             return null;
         }
 
-        String normalizedDate = normalizeDateString(source.getFdYmd());
-        if (normalizedDate == null) {
+        if (isBlank(source.getFdYmd())) {
             return null;
         }
 
         return FoundItem.create(
             FoundItemId.of(identifier),
             ItemName.of(source.getFdPrdtNm()),
-            ItemCategory.of(source.getPrdtClNm()),
-            FoundDate.of(normalizedDate),
-            LocationName.of(source.getDepPlace()),
+            ItemCategory.of(dictionary.canonicalize(source.getPrdtClNm())),
+            toFoundDate(source.getFdYmd()),
+            LocationName.of(dictionary.canonicalize(source.getDepPlace())),
             source.getFdSbjt(),
             source.getFdFilePathImg(),
-            source.getClrNm(),
+            dictionary.canonicalize(source.getClrNm()),
             source.getFdSn()
         );
     }
@@ -75,66 +82,25 @@ public class FoundItemMapper implements ApiMapper<PoliceApiFoundItem, FoundItem>
         return value == null || value.trim().isEmpty();
     }
 
-    private String normalizeDateString(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
-        }
-
-        String trimmed = dateStr.trim();
-        LocalDate date = tryParseDate(trimmed);
-        if (date != null) {
-            return date.format(TARGET_DATE_FORMATTER);
-        }
-
-        logger.warn("인식할 수 없는 날짜 형식: {}", trimmed);
-        return trimmed.length() > 10 ? trimmed.substring(0, 10) : trimmed;
-    }
-
-    private LocalDate tryParseDate(String raw) {
-        Matcher ymdMatcher = YYYY_MM_DD_PATTERN.matcher(raw);
-        if (ymdMatcher.matches()) {
-            return buildDate(ymdMatcher.group(1), ymdMatcher.group(2), ymdMatcher.group(3));
-        }
-
-        Matcher ymMatcher = YYYY_MM_PATTERN.matcher(raw);
-        if (ymMatcher.matches()) {
-            LocalDate date = buildDate(ymMatcher.group(1), ymMatcher.group(2), String.valueOf(LocalDate.now().getDayOfMonth()));
-            if (date != null) {
-                logger.info("일자가 누락된 날짜를 보정: {} → {}", raw, date.format(TARGET_DATE_FORMATTER));
-            }
-            return date;
-        }
-
-        Matcher compactMatcher = YYYYMMDD_PATTERN.matcher(raw);
-        if (compactMatcher.matches()) {
-            return buildDate(compactMatcher.group(1), compactMatcher.group(2), compactMatcher.group(3));
-        }
-
-        Matcher compactYmMatcher = YYYYMM_PATTERN.matcher(raw);
-        if (compactYmMatcher.matches()) {
-            LocalDate date = buildDate(compactYmMatcher.group(1), compactYmMatcher.group(2), String.valueOf(LocalDate.now().getDayOfMonth()));
-            if (date != null) {
-                logger.info("일자가 누락된 날짜를 보정: {} → {}", raw, date.format(TARGET_DATE_FORMATTER));
+    /**
+     * 원본 습득 일자를 값 객체로 변환. 일자가 빠진 연-월 값은 오늘 날짜의 일로 보정하고,
+     * 인식할 수 없는 값은 앞 10자만 남겨 값 객체 검증에 맡긴다(실패하면 예외로 걸러짐).
+     */
+    private FoundDate toFoundDate(String raw) {
+        int packed = DateScanner.scanLenient(raw);
+        if (packed != DateScanner.INVALID && !DateScanner.hasDay(packed)) {
+            int filled = DateScanner.withDay(packed, LocalDate.now().getDayOfMonth());
+            if (filled != DateScanner.INVALID) {
+                logger.info("일자가 누락된 날짜를 보정: {} → {}", raw.trim(), DateScanner.toLocalDate(filled));
             }
-            return date;
+            packed = filled;
         }
-
-        try {
-            return LocalDate.parse(raw, DateTimeFormatter.ISO_LOCAL_DATE);
-        } catch (Exception ignored) {
-            return null;
+        if (packed != DateScanner.INVALID) {
+            return FoundDate.of(DateScanner.toLocalDate(packed));
         }
-    }
 
-    private LocalDate buildDate(String year, String month, String day) {
-        try {
-            int y = Integer.parseInt(year);
-            int m = Integer.parseInt(month);
-            int d = Integer.parseInt(day);
-            return LocalDate.of(y, m, d);
-        } catch (Exception e) {
-            logger.warn("유효하지 않은 날짜 값: {}-{}-{}", year, month, day);
-            return null;
-        }
+        String trimmed = raw.trim();
+        logger.warn("인식할 수 없는 날짜 형식: {}", trimmed);
+        return FoundDate.of(trimmed.length() > 10 ? trimmed.substring(0, 10) : trimmed);
     }
 }
@@ -5,15 +5,32 @@ import com.findit.server.domain.lostitem.LostItem;
 import com.findit.server.domain.lostitem.LostItemId;
 import com.findit.server.domain.shared.ItemCategory;
 import com.findit.server.domain.shared.LocationName;
+import com.findit.server.infrastructure.police.decoder.StringDictionary;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
  * 경찰청 API 분실물 데이터를 내부 엔티티로 매핑하는 매퍼
+ * 분류는 {@link StringDictionary}로 정규화해 엔티티끼리 같은 문자열 인스턴스를 공유한다.
  */
 @Component
 public class LostItemMapper implements ApiMapper<PoliceApiLostItem, LostItem> {
 
+    private final StringDictionary dictionary;
+
+    /**
+     * 자체 문자열 사전으로 생성 (테스트·벤치마크에서 직접 만들 때)
+     */
+    public LostItemMapper() {
+        this(new StringDictionary());
+    }
+
+    @Autowired
+    public LostItemMapper(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
     @Override
     public LostItem map(PoliceApiLostItem source) {
         if (source == null) {
@@ -28,7 +45,7 @@ public class LostItemMapper implements ApiMapper<PoliceApiLostItem, LostItem> {
 
         return LostItem.create(
             LostItemId.of(source.getLostItemId()),
-            ItemCategory.of(source.getLostItemCategory()),
+            ItemCategory.of(dictionary.canonicalize(source.getLostItemCategory())),
             LocationName.of(source.getLostPlace()),
             LostDate.of(lostDate),
             source.getLostItemName(),
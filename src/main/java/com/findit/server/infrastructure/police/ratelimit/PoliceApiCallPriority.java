@@ -0,0 +1,22 @@
+package com.findit.server.infrastructure.police.ratelimit;
+
+/**
+ * 경찰청 API 호출 우선순위
+ *
+ * <p>일일 쿼터와 토큰이 부족할 때 정기 동기화(SYNC)가 먼저 사용하고, 백필(BACKFILL)은 SYNC를 기다렸다가,
+ * 나머지 호출은 대기 없이 거절된다.</p>
+ */
+public enum PoliceApiCallPriority {
+
+    /** 스케줄 수집/동기화 등 데이터 적재 호출 */
+    SYNC,
+
+    /** 과거 기간 대량 백필 호출. SYNC 몫의 쿼터는 쓰지 않고, 토큰이 생길 때까지 대기하되 대기 중인 SYNC에 양보한다. */
+    BACKFILL,
+
+    /** 수동 실행 등 즉시성 호출 */
+    AD_HOC,
+
+    /** 헬스 체크 호출 */
+    HEALTH_CHECK
+}
@@ -0,0 +1,303 @@
+package com.findit.server.infrastructure.police.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰청(data.go.kr) API 호출 속도/쿼터 제한기
+ *
+ * <ul>
+ *   <li>일일 쿼터: 자정(기본 Asia/Seoul) 기준으로 사용량을 집계하고, 쿼터의 일부는 정기 동기화(SYNC) 몫으로 남겨둔다.</li>
+ *   <li>토큰 버킷: 초당 허용 호출 수를 429/Retry-After/오류 resultCode에 따라 곱셈 감소, 정상 응답마다 덧셈 증가(AIMD)한다.</li>
+ *   <li>우선순위: SYNC는 토큰이 생길 때까지 최대 {@code max-wait-ms} 대기하고, BACKFILL은 같은 방식으로 대기하되
+ *   SYNC 몫의 쿼터는 쓰지 않으며 대기 중인 SYNC가 있으면 물러난다. 그 외 호출은 대기 없이 거절된다.</li>
+ * </ul>
+ *
+ * <p>거절 시 {@link PoliceApiThrottledException}을 던지며, 이는 재시도 대상이 아니다.</p>
+ */
+@Component
+public class PoliceApiRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoliceApiRateLimiter.class);
+
+    private static final Set<String> SUCCESS_CODES = Set.of("00", "0", "03", "3");
+    // LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR: 일일 트래픽 초과
+    private static final Set<String> QUOTA_EXCEEDED_CODES = Set.of("22");
+    // 서비스 키/권한 오류는 호출 속도와 무관하므로 속도 조절에 반영하지 않음
+    private static final Set<String> CONFIGURATION_ERROR_CODES = Set.of("12", "20", "30", "31", "32");
+    private static final Duration DEFAULT_THROTTLE_PAUSE = Duration.ofSeconds(1);
+    private static final Duration SYNC_YIELD_PAUSE = Duration.ofMillis(50);
+
+    private final boolean enabled;
+    private final long dailyQuota;
+    private final double syncReserveRatio;
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double burst;
+    private final Duration maxWait;
+    private final Clock clock;
+    private final AtomicInteger waitingSync = new AtomicInteger();
+    private final MeterRegistry registry;
+
+    // 아래 상태는 this 모니터로 보호
+    private double tokens;
+    private double rate;
+    private long lastRefillNanos;
+    private LocalDate quotaDay;
+    private long usedToday;
+    private boolean exhaustedToday;
+    private long pausedUntilNanos;
+
+    @Autowired
+    public PoliceApiRateLimiter(MeterRegistry registry,
+        @Value("${police.api.rate-limit.enabled:true}") boolean enabled,
+        @Value("${police.api.rate-limit.daily-quota:10000}") long dailyQuota,
+        @Value("${police.api.rate-limit.sync-reserve-ratio:0.2}") double syncReserveRatio,
+        @Value("${police.api.rate-limit.initial-permits-per-second:5}") double initialRate,
+        @Value("${police.api.rate-limit.min-permits-per-second:0.5}") double minRate,
+        @Value("${police.api.rate-limit.max-permits-per-second:20}") double maxRate,
+        @Value("${police.api.rate-limit.burst:5}") double burst,
+        @Value("${police.api.rate-limit.max-wait-ms:60000}") long maxWaitMs,
+        @Value("${police.api.rate-limit.zone:Asia/Seoul}") String zone) {
+        this(registry, enabled, dailyQuota, syncReserveRatio, initialRate, minRate, maxRate, burst,
+            Duration.ofMillis(maxWaitMs), Clock.system(ZoneId.of(zone)));
+    }
+
+    PoliceApiRateLimiter(MeterRegistry registry, boolean enabled, long dailyQuota, double syncReserveRatio,
+        double initialRate, double minRate, double maxRate, double burst, Duration maxWait, Clock clock) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.dailyQuota = dailyQuota;
+        this.syncReserveRatio = Math.min(1.0, Math.max(0.0, syncReserveRatio));
+        this.minRate = minRate;
+        this.maxRate = Math.max(minRate, maxRate);
+        this.increaseStep = Math.max(0.05, this.maxRate / 100.0);
+        this.decreaseFactor = 0.5;
+        this.burst = Math.max(1.0, burst);
+        this.maxWait = maxWait;
+        this.clock = clock;
+        this.rate = Math.min(this.maxRate, Math.max(minRate, initialRate));
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.quotaDay = LocalDate.now(clock);
+
+        registry.gauge("police.api.rate_limit.permits_per_second", this, PoliceApiRateLimiter::currentRate);
+        registry.gauge("police.api.rate_limit.quota_used", this, limiter -> limiter.usedToday());
+        registry.gauge("police.api.rate_limit.quota_remaining", this, limiter -> limiter.remainingToday());
+    }
+
+    /**
+     * 호출 한 건에 대한 허가를 받음. SYNC/BACKFILL은 최대 {@code maxWait}까지 대기하고 그 외는 즉시 판정한다.
+     *
+     * @param priority 호출 우선순위
+     * @throws PoliceApiThrottledException 쿼터 소진, 속도 제한, 우선순위 양보로 거절된 경우
+     */
+    public void acquire(PoliceApiCallPriority priority) {
+        if (!enabled) {
+            return;
+        }
+        boolean sync = priority == PoliceApiCallPriority.SYNC;
+        boolean waits = sync || priority == PoliceApiCallPriority.BACKFILL;
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        if (sync) {
+            waitingSync.incrementAndGet();
+        }
+        try {
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    rollOverDay();
+                    if (exhaustedToday) {
+                        throw reject(priority, "경찰청 API 일일 쿼터가 소진되었습니다.", untilNextDay());
+                    }
+                    if (usedToday >= allowance(priority)) {
+                        throw reject(priority, "경찰청 API 일일 쿼터 한도에 도달했습니다. (" + priority + ")", untilNextDay());
+                    }
+                    long now = System.nanoTime();
+                    refill(now);
+                    if (!sync && waitingSync.get() > 0) {
+                        if (!waits) {
+                            throw reject(priority, "정기 동기화 호출이 대기 중이라 요청을 양보합니다.", Duration.ZERO);
+                        }
+                        // 백필은 대기 중인 정기 동기화가 토큰을 먼저 가져가도록 잠시 물러났다가 다시 시도
+                        waitNanos = SYNC_YIELD_PAUSE.toNanos();
+                    } else if (now - pausedUntilNanos < 0) {
+                        waitNanos = pausedUntilNanos - now;
+                    } else if (tokens >= 1.0) {
+                        tokens -= 1.0;
+                        usedToday++;
+                        return;
+                    } else {
+                        waitNanos = (long) Math.ceil((1.0 - tokens) / rate * 1_000_000_000L);
+                    }
+                }
+                if (!waits || System.nanoTime() + waitNanos - deadline > 0) {
+                    throw reject(priority, "경찰청 API 호출 속도 제한에 걸렸습니다.", Duration.ofNanos(waitNanos));
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PoliceApiThrottledException("호출 허가 대기 중 인터럽트되었습니다.", Duration.ZERO);
+                }
+            }
+        } finally {
+            if (sync) {
+                waitingSync.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 응답 헤더의 resultCode를 반영 (정상이면 속도 증가, 쿼터 초과면 당일 차단, 그 외 오류면 속도 감소)
+     *
+     * @param resultCode 응답 resultCode (헤더가 없으면 null)
+     */
+    public void onResultCode(String resultCode) {
+        if (!enabled) {
+            return;
+        }
+        String code = resultCode != null ? resultCode.trim() : null;
+        if (code == null || code.isEmpty() || SUCCESS_CODES.contains(code)) {
+            onSuccess();
+        } else if (QUOTA_EXCEEDED_CODES.contains(code)) {
+            onQuotaExhausted();
+        } else if (!CONFIGURATION_ERROR_CODES.contains(code)) {
+            onThrottled(null);
+        }
+    }
+
+    /**
+     * 정상 응답 반영: 허용 속도를 조금씩 올림
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * 429 등 속도 제한 응답 반영: 허용 속도를 절반으로 줄이고 Retry-After(없으면 1초) 동안 호출을 멈춤
+     *
+     * @param retryAfter 서버가 알려준 대기 시간 (없으면 null)
+     */
+    public void onThrottled(Duration retryAfter) {
+        if (!enabled) {
+            return;
+        }
+        Duration pause = retryAfter != null && !retryAfter.isNegative() ? retryAfter : DEFAULT_THROTTLE_PAUSE;
+        double reducedRate;
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+            rate = Math.max(minRate, rate * decreaseFactor);
+            tokens = 0.0;
+            long resumeAt = now + pause.toNanos();
+            if (resumeAt - pausedUntilNanos > 0) {
+                pausedUntilNanos = resumeAt;
+            }
+            reducedRate = rate;
+        }
+        registry.counter("police.api.rate_limit.throttled").increment();
+        logger.warn("경찰청 API 속도 제한 응답 수신: {}ms 동안 호출 중단, 허용 속도 {}/s로 감소", pause.toMillis(),
+            String.format("%.2f", reducedRate));
+    }
+
+    /**
+     * 일일 쿼터 초과 응답 반영: 다음 날까지 모든 호출을 거절
+     */
+    public void onQuotaExhausted() {
+        synchronized (this) {
+            rollOverDay();
+            exhaustedToday = true;
+        }
+        logger.error("경찰청 API 일일 쿼터 초과 응답 수신: {} 후 재개", untilNextDay());
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (초 단위 또는 HTTP-date)
+     *
+     * @param header Retry-After 헤더 값
+     * @return 대기 시간, 해석할 수 없으면 null
+     */
+    public Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식 시도
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(clock), at);
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    public synchronized long usedToday() {
+        rollOverDay();
+        return usedToday;
+    }
+
+    public synchronized long remainingToday() {
+        rollOverDay();
+        return exhaustedToday ? 0 : Math.max(0, dailyQuota - usedToday);
+    }
+
+    private long allowance(PoliceApiCallPriority priority) {
+        if (priority == PoliceApiCallPriority.SYNC) {
+            return dailyQuota;
+        }
+        return (long) Math.floor(dailyQuota * (1.0 - syncReserveRatio));
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        if (elapsedSeconds > 0) {
+            tokens = Math.min(burst, tokens + elapsedSeconds * rate);
+        }
+        lastRefillNanos = now;
+    }
+
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(quotaDay)) {
+            quotaDay = today;
+            usedToday = 0;
+            exhaustedToday = false;
+        }
+    }
+
+    private Duration untilNextDay() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(clock.getZone()));
+    }
+
+    private PoliceApiThrottledException reject(PoliceApiCallPriority priority, String message, Duration retryAfter) {
+        registry.counter("police.api.rate_limit.rejected", "priority", priority.name()).increment();
+        return new PoliceApiThrottledException(message, retryAfter);
+    }
+}
@@ -0,0 +1,25 @@
+package com.findit.server.infrastructure.police.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 경찰청 API 호출이 쿼터/속도 제한으로 거절되었을 때 발생하는 예외
+ *
+ * <p>{@code RestClientException} 계열이 아니므로 {@code @Retryable} 재시도 대상이 아니다.</p>
+ */
+public class PoliceApiThrottledException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PoliceApiThrottledException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 다시 시도해볼 수 있을 때까지 남은 시간 (알 수 없으면 {@link Duration#ZERO})
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,257 @@
+package com.findit.server.infrastructure.police.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 경찰청 API 서킷 브레이커 + 벌크헤드
+ *
+ * <ul>
+ *   <li>CLOSED: 연속 실패가 {@code failure-threshold}에 도달하면 OPEN으로 전환</li>
+ *   <li>OPEN: {@code open-duration-ms} 동안 모든 호출을 즉시 거절</li>
+ *   <li>HALF_OPEN: 프로브 호출 1건만 허용하고, 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ *
+ * <p>실패로 보는 것은 업스트림 장애(I/O 오류, 5xx)뿐이며, 4xx·속도 제한 거절·디코딩 오류는 상태를 바꾸지 않는다.
+ * 벌크헤드는 동시에 진행 중인 업스트림 호출 수를 {@code max-concurrent-calls}로 제한한다.</p>
+ */
+@Component
+public class PoliceApiCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoliceApiCircuitBreaker.class);
+
+    /**
+     * 서킷 상태 (게이지 값: CLOSED=0, HALF_OPEN=1, OPEN=2)
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int maxConcurrentCalls;
+    private final Duration bulkheadMaxWait;
+    private final Semaphore bulkhead;
+    private final Clock clock;
+    private final MeterRegistry registry;
+
+    // 아래 상태는 this 모니터로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt = Instant.EPOCH;
+    private boolean probeInFlight;
+
+    @Autowired
+    public PoliceApiCircuitBreaker(MeterRegistry registry,
+        @Value("${police.api.circuit-breaker.failure-threshold:5}") int failureThreshold,
+        @Value("${police.api.circuit-breaker.open-duration-ms:60000}") long openDurationMs,
+        @Value("${police.api.bulkhead.max-concurrent-calls:8}") int maxConcurrentCalls,
+        @Value("${police.api.bulkhead.max-wait-ms:10000}") long bulkheadMaxWaitMs) {
+        this(registry, failureThreshold, Duration.ofMillis(openDurationMs), maxConcurrentCalls,
+            Duration.ofMillis(bulkheadMaxWaitMs), Clock.systemUTC());
+    }
+
+    PoliceApiCircuitBreaker(MeterRegistry registry, int failureThreshold, Duration openDuration,
+        int maxConcurrentCalls, Duration bulkheadMaxWait, Clock clock) {
+        this.registry = registry;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.bulkheadMaxWait = bulkheadMaxWait;
+        this.bulkhead = new Semaphore(this.maxConcurrentCalls, true);
+        this.clock = clock;
+
+        registry.gauge("police.api.circuit.state", this, breaker -> breaker.getState().ordinal());
+        registry.gauge("police.api.bulkhead.available", bulkhead, Semaphore::availablePermits);
+        registry.gauge("police.api.bulkhead.in_flight", this, PoliceApiCircuitBreaker::getInFlightCalls);
+    }
+
+    /**
+     * 서킷/벌크헤드 허가를 받은 뒤 호출을 실행
+     *
+     * @param admission 서킷 허가 후, 벌크헤드 진입 전에 실행할 검사 (예: 속도 제한기)
+     * @param call      업스트림 호출
+     * @return 호출 결과
+     * @throws PoliceApiUnavailableException 서킷이 열려 있거나 벌크헤드 대기 시간이 초과된 경우
+     */
+    public <T> T execute(Runnable admission, Supplier<T> call) {
+        Permit permit = acquire(admission);
+        try {
+            T result = call.get();
+            permit.complete(null);
+            return result;
+        } catch (RuntimeException e) {
+            permit.complete(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출 버전. 벌크헤드 허가는 Future가 완료될 때 반환된다.
+     *
+     * @param admission 서킷 허가 후, 벌크헤드 진입 전에 실행할 검사 (예: 속도 제한기)
+     * @param call      업스트림 비동기 호출
+     * @return 호출 결과. 거절 시 {@link PoliceApiUnavailableException}으로 예외 완료
+     */
+    public <T> CompletableFuture<T> executeAsync(Runnable admission, Supplier<CompletableFuture<T>> call) {
+        Permit permit;
+        try {
+            permit = acquire(admission);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permit.complete(e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> permit.complete(unwrap(error)));
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public int getAvailableBulkheadPermits() {
+        return bulkhead.availablePermits();
+    }
+
+    public int getInFlightCalls() {
+        return maxConcurrentCalls - bulkhead.availablePermits();
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private Permit acquire(Runnable admission) {
+        boolean probe = acquireCircuitPermission();
+        boolean bulkheadAcquired = false;
+        try {
+            admission.run();
+            if (!bulkhead.tryAcquire(bulkheadMaxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                registry.counter("police.api.circuit.rejected", "reason", "bulkhead").increment();
+                throw new PoliceApiUnavailableException(
+                    "경찰청 API 동시 호출 한도(" + maxConcurrentCalls + ")를 초과했습니다.", Duration.ZERO);
+            }
+            bulkheadAcquired = true;
+            return new Permit(probe);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PoliceApiUnavailableException("벌크헤드 대기 중 인터럽트되었습니다.", Duration.ZERO);
+        } finally {
+            if (!bulkheadAcquired) {
+                releaseProbe(probe);
+            }
+        }
+    }
+
+    /**
+     * @return HALF_OPEN 프로브 호출이면 true
+     */
+    private synchronized boolean acquireCircuitPermission() {
+        if (state == State.OPEN) {
+            Instant retryAt = openedAt.plus(openDuration);
+            Instant now = clock.instant();
+            if (now.isBefore(retryAt)) {
+                registry.counter("police.api.circuit.rejected", "reason", "open").increment();
+                throw new PoliceApiUnavailableException("경찰청 API 서킷이 열려 있습니다.", Duration.between(now, retryAt));
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                registry.counter("police.api.circuit.rejected", "reason", "half_open").increment();
+                throw new PoliceApiUnavailableException("경찰청 API 서킷 복구 확인 중입니다.", Duration.ZERO);
+            }
+            probeInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void onOutcome(boolean probe, Throwable error) {
+        if (probe) {
+            probeInFlight = false;
+        }
+        if (error == null || !isUpstreamFailure(error)) {
+            if (error == null || error instanceof HttpClientErrorException) {
+                // 업스트림이 응답했으므로 정상으로 간주
+                consecutiveFailures = 0;
+                if (state == State.HALF_OPEN && probe) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openedAt = clock.instant();
+            if (state != State.OPEN) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void transitionTo(State next) {
+        logger.warn("경찰청 API 서킷 상태 변경: {} -> {} (연속 실패 {}회)", state, next, consecutiveFailures);
+        state = next;
+        registry.counter("police.api.circuit.transitions", "to", next.name()).increment();
+    }
+
+    private static boolean isUpstreamFailure(Throwable error) {
+        return error instanceof RestClientException && !(error instanceof HttpClientErrorException);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 서킷/벌크헤드 허가. 호출이 끝나면 정확히 한 번 {@link #complete(Throwable)}로 반환한다.
+     */
+    private final class Permit {
+
+        private final boolean probe;
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        void complete(Throwable error) {
+            bulkhead.release();
+            onOutcome(probe, error);
+        }
+    }
+}
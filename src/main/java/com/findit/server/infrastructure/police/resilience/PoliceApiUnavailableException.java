@@ -0,0 +1,25 @@
+package com.findit.server.infrastructure.police.resilience;
+
+import java.time.Duration;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 경찰청 API 호출을 즉시 거절할 때 발생하는 예외
+ *
+ * <p>{@code RestClientException} 계열이 아니므로 {@code @Retryable} 재시도 대상이 아니다.</p>
+ */
+public class PoliceApiUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PoliceApiUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 다시 시도해볼 수 있을 때까지 남은 시간 (알 수 없으면 {@link Duration#ZERO})
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,488 @@
+package com.findit.server.infrastructure.police.synthetic;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 경찰청 분실물/습득물 목록 API를 흉내 내는 로컬 서버 (부하 테스트/오프라인 회귀 테스트용)
+ *
+ * <p>실제 API와 같은 경로·쿼리 파라미터(serviceKey, pageNo, numOfRows, START_YMD, END_YMD)를 받아
+ * XML 또는 JSON 페이지를 만들어 응답한다. 데이터는 (엔드포인트, 날짜, 순번)과 시드로 결정되므로
+ * 같은 요청에는 항상 같은 페이지가 돌아온다. 설정에 따라 다음과 같은 실제 API의 특이 동작을 재현한다.</p>
+ * <ul>
+ *   <li>UTF-8 BOM과 선행 공백, 실제 형식과 맞지 않는 Content-Type</li>
+ *   <li>로그 정규분포 응답 지연</li>
+ *   <li>429(Retry-After)/503 응답, 일일 쿼터 초과 시 resultCode 22</li>
+ *   <li>식별자 누락, 잘못된 날짜 등 비정상 레코드</li>
+ * </ul>
+ */
+public final class SyntheticPoliceApiServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticPoliceApiServer.class);
+
+    public static final String LOST_ITEMS_PATH = "/LostGoodsInfoInqireService/getLostGoodsInfoAccToClAreaPd";
+    public static final String FOUND_ITEMS_PATH = "/LosfundInfoInqireService/getLosfundInfoAccToClAreaPd";
+
+    private static final DateTimeFormatter YMD = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long MAX_LATENCY_MS = 30_000L;
+    private static final int DEFAULT_WINDOW_DAYS = 7;
+
+    private static final List<String> CATEGORIES = List.of(
+        "지갑 > 남성용지갑", "지갑 > 여성용지갑", "휴대폰 > 스마트폰", "전자기기 > 태블릿", "전자기기 > 무선이어폰",
+        "가방 > 백팩", "가방 > 여성용가방", "귀금속 > 반지", "도서용품 > 학습서적", "의류 > 남성의류",
+        "카드 > 신용(체크)카드", "증명서 > 신분증", "현금 > 현금", "쇼핑백 > 쇼핑백", "기타물품 > 기타");
+    private static final List<String> ITEM_NAMES = List.of(
+        "검정색 반지갑", "아이폰 15 프로", "갤럭시 S24", "에어팟 프로", "아이패드 미니", "노트북 가방",
+        "학생증", "체크카드", "현금 5만원", "우산", "텀블러", "손목시계", "백팩", "안경", "자동차 키");
+    private static final List<String> PLACES = List.of(
+        "서울특별시 강남구 역삼동", "서울특별시 마포구 서교동", "부산광역시 해운대구 우동", "인천광역시 중구 운서동",
+        "대구광역시 중구 동인동", "지하철 2호선 강남역", "KTX 서울역", "버스 472번", "택시", "경기도 성남시 분당구");
+    private static final List<String> DEPOSIT_PLACES = List.of(
+        "강남경찰서", "마포경찰서", "해운대경찰서", "인천공항경찰단", "서울교통공사 유실물센터", "코레일 유실물센터",
+        "분당경찰서", "대구중부경찰서");
+    private static final List<String> COLORS = List.of("검정색", "흰색", "회색", "파랑색", "빨강색", "베이지색", "(기타)");
+
+    /**
+     * 응답 형식
+     */
+    public enum Format {
+        XML,
+        JSON,
+        /** 요청마다 XML/JSON 무작위 */
+        MIXED
+    }
+
+    /**
+     * 서버 동작 설정
+     *
+     * @param seed             데이터/장애 주입 난수 시드
+     * @param itemsPerDay      엔드포인트별 하루 건수
+     * @param format           응답 형식
+     * @param bomRatio         BOM과 선행 공백을 붙일 응답 비율 (0~1)
+     * @param latencyMedianMs  응답 지연 중앙값 (ms, 0이면 지연 없음)
+     * @param latencySigma     응답 지연 로그 정규분포 표준편차 (클수록 꼬리가 길어짐)
+     * @param throttleRatio    429(Retry-After: 1) 응답 비율
+     * @param serverErrorRatio 503 응답 비율
+     * @param malformedRatio   비정상 레코드 비율
+     * @param dailyQuota       정상 응답 한도 (초과 시 resultCode 22, 0이면 무제한)
+     */
+    public record Settings(long seed, int itemsPerDay, Format format, double bomRatio, long latencyMedianMs,
+        double latencySigma, double throttleRatio, double serverErrorRatio, double malformedRatio, int dailyQuota) {
+
+        public static Settings defaults() {
+            return new Settings(42L, 500, Format.XML, 0.1, 0, 0.5, 0.0, 0.0, 0.01, 0);
+        }
+
+        public Settings withItemsPerDay(int itemsPerDay) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+
+        public Settings withFormat(Format format) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+
+        public Settings withBomRatio(double bomRatio) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+
+        public Settings withLatency(long latencyMedianMs, double latencySigma) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+
+        public Settings withFaults(double throttleRatio, double serverErrorRatio, double malformedRatio) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+
+        public Settings withDailyQuota(int dailyQuota) {
+            return new Settings(seed, itemsPerDay, format, bomRatio, latencyMedianMs, latencySigma, throttleRatio,
+                serverErrorRatio, malformedRatio, dailyQuota);
+        }
+    }
+
+    private final Settings settings;
+    private final int requestedPort;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicLong quotaExceeded = new AtomicLong();
+    private final AtomicLong itemsServed = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param settings 서버 동작 설정
+     * @param port     수신 포트 (0이면 임의 포트)
+     */
+    public SyntheticPoliceApiServer(Settings settings, int port) {
+        this.settings = settings;
+        this.requestedPort = port;
+    }
+
+    /**
+     * 서버 시작
+     *
+     * @return 실제 수신 포트
+     */
+    public synchronized int start() {
+        if (server != null) {
+            return getPort();
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", requestedPort), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("가상 경찰청 API 서버를 시작할 수 없습니다 (port " + requestedPort + ")", e);
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("synthetic-police-api-", 0).factory());
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("가상 경찰청 API 서버 시작: port {}, {}", getPort(), settings);
+        return getPort();
+    }
+
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : requestedPort;
+    }
+
+    /**
+     * @return 경찰청 API 기본 URL 대신 쓸 주소 (예: http://127.0.0.1:18089)
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getServedCount() {
+        return served.get();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    public long getServerErrorCount() {
+        return serverErrors.get();
+    }
+
+    public long getQuotaExceededCount() {
+        return quotaExceeded.get();
+    }
+
+    public long getItemsServedCount() {
+        return itemsServed.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            logger.info("가상 경찰청 API 서버 종료: 요청 {}건, 정상 {}건, 429 {}건, 503 {}건, 쿼터 초과 {}건, 아이템 {}건",
+                requests.get(), served.get(), throttled.get(), serverErrors.get(), quotaExceeded.get(),
+                itemsServed.get());
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long requestNo = requests.incrementAndGet();
+            SplittableRandom random = new SplittableRandom(settings.seed() ^ (requestNo * 0x9E3779B97F4A7C15L));
+            String path = exchange.getRequestURI().getPath();
+            boolean lost = path.contains("LostGoods");
+            if (!lost && !path.contains("Losfund")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            sleep(latency(random));
+            double roll = random.nextDouble();
+            if (roll < settings.throttleRatio()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+            if (roll < settings.throttleRatio() + settings.serverErrorRatio()) {
+                serverErrors.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            boolean json = settings.format() == Format.JSON
+                || (settings.format() == Format.MIXED && random.nextBoolean());
+            String body;
+            if (settings.dailyQuota() > 0 && served.get() >= settings.dailyQuota()) {
+                quotaExceeded.incrementAndGet();
+                body = header(json, "22", "LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.");
+            } else {
+                served.incrementAndGet();
+                body = page(query, lost, json);
+            }
+            if (random.nextDouble() < settings.bomRatio()) {
+                body = "\uFEFF \r\n" + body;
+            }
+            send(exchange, body, json, random);
+        }
+    }
+
+    private String page(Map<String, String> query, boolean lost, boolean json) {
+        int pageNo = Math.max(1, parseInt(query.get("pageNo"), 1));
+        int numOfRows = Math.max(1, parseInt(query.get("numOfRows"), 10));
+        LocalDate end = parseDate(query.get("END_YMD"), LocalDate.now());
+        LocalDate start = parseDate(query.get("START_YMD"), end.minusDays(DEFAULT_WINDOW_DAYS));
+        long days = start.isAfter(end) ? 0 : end.toEpochDay() - start.toEpochDay() + 1;
+        long totalCount = days * settings.itemsPerDay();
+
+        StringBuilder items = new StringBuilder(numOfRows * 400);
+        long from = (long) (pageNo - 1) * numOfRows;
+        long to = Math.min(totalCount, from + numOfRows);
+        for (long index = from; index < to; index++) {
+            // 최신 날짜부터 내려가며 하루에 itemsPerDay건
+            LocalDate date = end.minusDays(index / settings.itemsPerDay());
+            int sequence = (int) (index % settings.itemsPerDay()) + 1;
+            Map<String, String> fields = lost ? lostItem(date, sequence, index + 1) : foundItem(date, sequence, index + 1);
+            appendItem(items, fields, json, index > from);
+        }
+        itemsServed.addAndGet(Math.max(0, to - from));
+
+        if (json) {
+            return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"},"
+                + "\"body\":{\"items\":{\"item\":[" + items + "]},\"numOfRows\":" + numOfRows
+                + ",\"pageNo\":" + pageNo + ",\"totalCount\":" + totalCount + "}}}";
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+            + "<body><items>" + items + "</items><numOfRows>" + numOfRows + "</numOfRows><pageNo>" + pageNo
+            + "</pageNo><totalCount>" + totalCount + "</totalCount></body></response>";
+    }
+
+    private Map<String, String> lostItem(LocalDate date, int sequence, long rnum) {
+        SplittableRandom random = itemRandom('L', date, sequence);
+        String ymd = date.format(YMD);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("atcId", "L" + ymd + String.format("%06d", sequence));
+        fields.put("lstPrdtNm", pick(random, ITEM_NAMES));
+        fields.put("prdtClNm", pick(random, CATEGORIES));
+        fields.put("lstPlace", pick(random, PLACES));
+        fields.put("lstYmd", ymd);
+        fields.put("lstSbjt", pick(random, PLACES) + "에서 " + pick(random, ITEM_NAMES) + "을(를) 분실하였습니다.");
+        fields.put("clrNm", pick(random, COLORS));
+        fields.put("rnum", String.valueOf(rnum));
+        return malform(random, fields, "lstYmd");
+    }
+
+    private Map<String, String> foundItem(LocalDate date, int sequence, long rnum) {
+        SplittableRandom random = itemRandom('F', date, sequence);
+        String ymd = date.format(YMD);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("atcId", "F" + ymd + String.format("%06d", sequence));
+        fields.put("fdPrdtNm", pick(random, ITEM_NAMES));
+        fields.put("prdtClNm", pick(random, CATEGORIES));
+        fields.put("fdYmd", date.toString());
+        fields.put("depPlace", pick(random, DEPOSIT_PLACES));
+        fields.put("fdSbjt", pick(random, COLORS) + " " + pick(random, ITEM_NAMES) + "을(를) 습득하여 보관중입니다.");
+        fields.put("fdFilePathImg", "https://www.lost112.go.kr/lostnfs/images/sub/img02_no_img.gif");
+        fields.put("clrNm", pick(random, COLORS));
+        fields.put("fdSn", String.valueOf(1 + random.nextInt(3)));
+        fields.put("rnum", String.valueOf(rnum));
+        return malform(random, fields, "fdYmd");
+    }
+
+    /**
+     * malformedRatio 비율로 레코드를 망가뜨림 (식별자 누락, 잘못된 날짜, 제어 문자/과도한 길이)
+     */
+    private Map<String, String> malform(SplittableRandom random, Map<String, String> fields, String dateField) {
+        if (random.nextDouble() >= settings.malformedRatio()) {
+            return fields;
+        }
+        switch (random.nextInt(3)) {
+            case 0 -> fields.put("atcId", "");
+            case 1 -> fields.put(dateField, "2024-13-45");
+            default -> fields.put("prdtClNm", "분류\u0007없음 " + "가".repeat(300));
+        }
+        return fields;
+    }
+
+    private SplittableRandom itemRandom(char endpoint, LocalDate date, int sequence) {
+        long key = (date.toEpochDay() * 1_000_003L + sequence) * 31 + endpoint;
+        return new SplittableRandom(settings.seed() * 0x2545F4914F6CDD1DL + key);
+    }
+
+    private static void appendItem(StringBuilder out, Map<String, String> fields, boolean json, boolean separator) {
+        if (json) {
+            if (separator) {
+                out.append(',');
+            }
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append('"').append(field.getKey()).append("\":\"").append(escapeJson(field.getValue())).append('"');
+            }
+            out.append('}');
+            return;
+        }
+        out.append("<item>");
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            out.append('<').append(field.getKey()).append('>')
+                .append(escapeXml(field.getValue()))
+                .append("</").append(field.getKey()).append('>');
+        }
+        out.append("</item>");
+    }
+
+    private static String header(boolean json, String resultCode, String resultMsg) {
+        if (json) {
+            return "{\"response\":{\"header\":{\"resultCode\":\"" + resultCode + "\",\"resultMsg\":\"" + resultMsg
+                + "\"}}}";
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header><resultCode>" + resultCode
+            + "</resultCode><resultMsg>" + resultMsg + "</resultMsg></header></response>";
+    }
+
+    private void send(HttpExchange exchange, String body, boolean json, SplittableRandom random) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        // 실제 API처럼 JSON 응답에도 text/xml 또는 text/html을 붙이는 경우를 섞음
+        String contentType = json && random.nextBoolean() ? "application/json;charset=UTF-8"
+            : (random.nextBoolean() ? "text/xml;charset=UTF-8" : "text/html;charset=UTF-8");
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private long latency(SplittableRandom random) {
+        if (settings.latencyMedianMs() <= 0) {
+            return 0;
+        }
+        // Box-Muller로 표준 정규 난수를 만들어 로그 정규분포 지연 계산
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble()))
+            * Math.cos(2 * Math.PI * random.nextDouble());
+        double latency = settings.latencyMedianMs() * Math.exp(settings.latencySigma() * gaussian);
+        return Math.min(MAX_LATENCY_MS, Math.round(latency));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(pair.substring(0, separator),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static LocalDate parseDate(String value, LocalDate defaultValue) {
+        try {
+            return value != null && !value.isBlank() ? LocalDate.parse(value.trim(), YMD) : defaultValue;
+        } catch (DateTimeParseException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String escapeXml(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                // XML 1.0에서 허용되지 않는 제어 문자는 공백으로 치환
+                default -> escaped.append(c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? ' ' : c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.findit.server.presentation.admin;
+
+import com.findit.server.application.collection.backfill.BackfillProgress;
+import com.findit.server.application.collection.backfill.BackfillService;
+import com.findit.server.application.common.ApiResponse;
+import com.findit.server.exception.ResourceNotFoundException;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/backfill")
+@RequiredArgsConstructor
+@Tag(name = "Backfill", description = "과거 데이터 백필 API")
+public class BackfillController {
+
+    private final BackfillService backfillService;
+
+    @PostMapping
+    @Operation(summary = "백필 시작", description = "지정한 기간의 분실물/습득물 데이터를 하루 단위로 나눠 병렬로 적재합니다. 같은 기간을 다시 실행하면 완료된 날짜는 건너뜁니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "백필 시작", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 진행 중인 백필이 있음")
+    })
+    public ResponseEntity<ApiResponse<BackfillProgress>> startBackfill(
+            @Parameter(description = "시작일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "대상 엔드포인트 (LOST_ITEMS, FOUND_ITEMS). 생략하면 모두", required = false) @RequestParam(required = false) List<PoliceApiEndpoint> endpoints,
+            @Parameter(description = "true면 이전에 완료된 날짜도 다시 조회 (최근 기간 재동기화)", required = false) @RequestParam(defaultValue = "false") boolean refresh) {
+        BackfillProgress progress = backfillService.start(from, to, endpoints, refresh);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Backfill started", progress));
+    }
+
+    @GetMapping
+    @Operation(summary = "백필 진행 상황 조회", description = "마지막(또는 진행 중인) 백필의 샤드 진행률, 처리 건수, 남은 예상 시간을 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "실행된 백필이 없음")
+    })
+    public ResponseEntity<ApiResponse<BackfillProgress>> getBackfillProgress() {
+        BackfillProgress progress = backfillService.progress()
+                .orElseThrow(() -> new ResourceNotFoundException("실행된 백필 작업이 없습니다."));
+        return ResponseEntity.ok(ApiResponse.success(progress));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "백필 작업 조회", description = "작업 ID로 최근 백필의 진행률, 신규/갱신/검증 탈락 건수, 초당 처리량을 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업이 없음")
+    })
+    public ResponseEntity<ApiResponse<BackfillProgress>> getBackfill(
+            @Parameter(description = "작업 ID", required = true) @PathVariable String id) {
+        BackfillProgress progress = backfillService.progress(id)
+                .orElseThrow(() -> new ResourceNotFoundException("백필 작업을 찾을 수 없습니다: " + id));
+        return ResponseEntity.ok(ApiResponse.success(progress));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "백필 취소", description = "진행 중인 백필의 취소를 요청합니다. 이미 조회한 페이지는 저장한 뒤 멈추며, 같은 기간으로 다시 실행하면 이어서 처리합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "취소 요청됨", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업이 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 종료된 작업")
+    })
+    public ResponseEntity<ApiResponse<BackfillProgress>> cancelBackfill(
+            @Parameter(description = "작업 ID", required = true) @PathVariable String id) {
+        BackfillProgress progress = backfillService.cancel(id)
+                .orElseThrow(() -> new ResourceNotFoundException("백필 작업을 찾을 수 없습니다: " + id));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Backfill cancellation requested", progress));
+    }
+}
@@ -0,0 +1,50 @@
+package com.findit.server.presentation.admin;
+
+import com.findit.server.application.collection.deadletter.DeadLetterReprocessResult;
+import com.findit.server.application.collection.deadletter.DeadLetterReprocessor;
+import com.findit.server.application.common.ApiResponse;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterCount;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+@RequiredArgsConstructor
+@Tag(name = "Dead Letters", description = "적재하지 못한 원본 레코드 API")
+public class DeadLetterController {
+
+    private final DeadLetterReprocessor deadLetterReprocessor;
+
+    @GetMapping
+    @Operation(summary = "재처리 대기 건수 조회", description = "매핑·검증에서 걸러져 보관된 원본 레코드 중 재처리를 기다리는 건수를 엔드포인트/사유별로 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<List<DeadLetterCount>>> getPendingDeadLetters() {
+        return ResponseEntity.ok(ApiResponse.success(deadLetterReprocessor.pending()));
+    }
+
+    @PostMapping("/reprocess")
+    @Operation(summary = "일괄 재처리", description = "보관된 원본 레코드를 현재 매퍼로 다시 변환해 통과한 레코드만 적재합니다. 경찰청 API는 호출하지 않습니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "재처리 완료", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 건수"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 진행 중인 재처리가 있음")
+    })
+    public ResponseEntity<ApiResponse<DeadLetterReprocessResult>> reprocessDeadLetters(
+            @Parameter(description = "대상 엔드포인트 (LOST_ITEMS, FOUND_ITEMS). 생략하면 모두", required = false) @RequestParam(required = false) PoliceApiEndpoint endpoint,
+            @Parameter(description = "최대 재처리 건수. 생략하면 설정값(collection.dead-letter.reprocess-limit)", required = false) @RequestParam(required = false) Integer limit) {
+        DeadLetterReprocessResult result = deadLetterReprocessor.reprocess(endpoint, limit);
+        return ResponseEntity.ok(ApiResponse.success("Dead letters reprocessed", result));
+    }
+}
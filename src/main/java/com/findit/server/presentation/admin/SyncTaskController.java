@@ -0,0 +1,60 @@
+package com.findit.server.presentation.admin;
+
+import com.findit.server.application.collection.task.SyncTaskBatch;
+import com.findit.server.application.collection.task.SyncTaskQueue;
+import com.findit.server.application.common.ApiResponse;
+import com.findit.server.exception.ResourceNotFoundException;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/sync-tasks")
+@RequiredArgsConstructor
+@Tag(name = "Sync Tasks", description = "분산 수집 작업 큐 API")
+public class SyncTaskController {
+
+    private final SyncTaskQueue syncTaskQueue;
+
+    @PostMapping
+    @Operation(summary = "분산 수집 작업 등록", description = "지정한 기간을 작업으로 나눠 큐에 등록합니다. 모든 인스턴스의 워커가 작업을 나눠 가져가 처리합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "작업 등록", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    public ResponseEntity<ApiResponse<SyncTaskBatch>> enqueueTasks(
+            @Parameter(description = "시작일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "대상 엔드포인트 (LOST_ITEMS, FOUND_ITEMS). 생략하면 모두", required = false) @RequestParam(required = false) List<PoliceApiEndpoint> endpoints) {
+        SyncTaskBatch batch = syncTaskQueue.enqueue(from, to, endpoints);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Sync tasks enqueued", batch));
+    }
+
+    @GetMapping("/{batchId}")
+    @Operation(summary = "작업 묶음 진행 상황 조회", description = "등록한 작업 묶음의 상태별 작업 수와 저장 건수를 조회합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 묶음이 없음")
+    })
+    public ResponseEntity<ApiResponse<SyncTaskBatch>> getBatchProgress(
+            @Parameter(description = "작업 묶음 ID", required = true) @PathVariable String batchId) {
+        SyncTaskBatch batch = syncTaskQueue.progress(batchId);
+        if (batch.total() == 0) {
+            throw new ResourceNotFoundException("작업 묶음을 찾을 수 없습니다: " + batchId);
+        }
+        return ResponseEntity.ok(ApiResponse.success(batch));
+    }
+}
@@ -0,0 +1,9 @@
+-- Per-day totalCount snapshot used to skip re-fetching unchanged date shards
+CREATE TABLE IF NOT EXISTS sync_shard_counts (
+    endpoint VARCHAR(20) NOT NULL,
+    shard_ymd VARCHAR(8) NOT NULL,
+    total_count INTEGER NOT NULL,
+    probed_at TIMESTAMP NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (endpoint, shard_ymd)
+);
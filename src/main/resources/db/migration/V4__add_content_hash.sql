@@ -0,0 +1,3 @@
+-- Hash of the ingested columns; batch upserts skip rows whose hash is unchanged
+ALTER TABLE lost_items ADD COLUMN content_hash BIGINT;
+ALTER TABLE found_items ADD COLUMN content_hash BIGINT;
@@ -0,0 +1,12 @@
+-- Per job/endpoint/shard ingestion checkpoint so an interrupted run resumes after the last saved page
+CREATE TABLE IF NOT EXISTS sync_state (
+    job VARCHAR(20) NOT NULL,
+    endpoint VARCHAR(20) NOT NULL,
+    shard_key VARCHAR(32) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    last_page INTEGER NOT NULL,
+    total_count INTEGER NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (job, endpoint, shard_key)
+);
@@ -0,0 +1,7 @@
+-- Lease-based lock per scheduled job so that only one instance runs it at a time
+CREATE TABLE IF NOT EXISTS job_locks (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    locked_by VARCHAR(128) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    lease_until TIMESTAMP NOT NULL
+);
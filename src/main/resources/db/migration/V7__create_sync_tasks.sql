@@ -0,0 +1,22 @@
+-- Shard work items for the distributed ingestion queue; workers on every instance claim rows with FOR UPDATE SKIP LOCKED
+CREATE TABLE IF NOT EXISTS sync_tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    batch_id VARCHAR(36) NOT NULL,
+    endpoint VARCHAR(20) NOT NULL,
+    start_ymd VARCHAR(8) NOT NULL,
+    end_ymd VARCHAR(8) NOT NULL,
+    first_page INTEGER NOT NULL,
+    last_page INTEGER NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    claimed_by VARCHAR(128),
+    heartbeat_at TIMESTAMP,
+    available_at TIMESTAMP NOT NULL,
+    items_written INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tasks_claim ON sync_tasks (status, available_at, id);
+CREATE INDEX IF NOT EXISTS idx_sync_tasks_batch ON sync_tasks (batch_id);
@@ -0,0 +1,19 @@
+-- Raw API records rejected by mapping/validation, kept with a reason code so they can be reprocessed without refetching
+CREATE TABLE IF NOT EXISTS ingestion_dead_letters (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    endpoint VARCHAR(20) NOT NULL,
+    record_key VARCHAR(100),
+    payload_hash BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    reason VARCHAR(32) NOT NULL,
+    detail VARCHAR(500),
+    status VARCHAR(16) NOT NULL,
+    occurrences INTEGER NOT NULL DEFAULT 1,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    first_seen_at TIMESTAMP NOT NULL,
+    last_seen_at TIMESTAMP NOT NULL,
+    resolved_at TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_dead_letters_payload ON ingestion_dead_letters (endpoint, payload_hash);
+CREATE INDEX IF NOT EXISTS idx_dead_letters_pending ON ingestion_dead_letters (status, endpoint, id);
@@ -0,0 +1,61 @@
+package com.findit.server.application.collection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateShardRunnerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DateShardRunner runner = new DateShardRunner(registry, 2, true);
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void splitsWindowIntoDailyShardsNewestFirst() {
+        List<DateShard> shards = DateShard.daily(LocalDate.of(2024, 4, 29), LocalDate.of(2024, 5, 2));
+
+        assertEquals(List.of("20240502", "20240501", "20240430", "20240429"),
+            shards.stream().map(DateShard::ymd).toList());
+        assertTrue(DateShard.daily(LocalDate.of(2024, 5, 2), LocalDate.of(2024, 5, 1)).isEmpty());
+    }
+
+    @Test
+    void runsShardsWithBoundedWorkersAndIsolatesFailures() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<DateShard> shards = DateShard.daily(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 6));
+
+        ShardRunResult result = runner.run("test_items", shards, shard -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (shard.date().getDayOfMonth() == 3) {
+                throw new IllegalStateException("upstream down");
+            }
+            return 2;
+        });
+
+        assertTrue(maxInFlight.get() <= 2);
+        assertEquals(List.of(new DateShard(LocalDate.of(2024, 5, 3))), result.failedShards());
+        assertEquals(10, result.savedItems());
+        assertEquals(10.0, registry.counter("collection.shard.items", "collection", "test_items").count());
+        assertEquals(1.0, registry.counter("collection.shard.failed", "collection", "test_items").count());
+        assertEquals(0.0, registry.get("collection.shard.remaining").gauge().value());
+    }
+}
@@ -0,0 +1,81 @@
+package com.findit.server.application.collection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionPipelineTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final IngestionPipeline pipeline = new IngestionPipeline(registry, true, 2, 2, 1);
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void transformsAndWritesEveryBatchAndReportsFailuresPerBatch() {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        try (IngestionPipeline.Run<Integer, String> run = pipeline.start("test_items",
+            page -> page == 3 ? fail("bad page") : List.of("p" + page + "-a", "p" + page + "-b"),
+            written::addAll)) {
+            for (int page = 1; page <= 6; page++) {
+                futures.add(run.submit(page));
+            }
+        }
+
+        assertEquals(List.of("p1-a", "p1-b"), futures.get(0).join());
+        CompletionException failure = assertThrows(CompletionException.class, () -> futures.get(2).join());
+        assertEquals("bad page", failure.getCause().getMessage());
+        assertEquals(10, written.size());
+        assertEquals(10.0, registry.get("collection.pipeline.stage.items").tag("stage", "write").counter().count());
+        assertEquals(1.0, registry.get("collection.pipeline.stage.failed").tag("stage", "transform").counter().count());
+        assertEquals(0.0, registry.get("collection.pipeline.queue.depth").tag("stage", "transform").gauge().value());
+    }
+
+    @Test
+    void blocksProducerWhenWriterFallsBehind() throws Exception {
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        AtomicInteger submitted = new AtomicInteger();
+        IngestionPipeline.Run<Integer, Integer> run = pipeline.start("slow_items", List::of, batch -> {
+            try {
+                releaseWriter.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread producer = Thread.ofVirtual().start(() -> {
+            for (int i = 0; i < 20; i++) {
+                run.submit(i);
+                submitted.incrementAndGet();
+            }
+        });
+
+        // 저장 1 + 저장 큐 2 + 변환 워커 2 + 변환 큐 2 = 7개를 넘으면 생산자가 막혀야 함
+        producer.join(300);
+        assertTrue(producer.isAlive());
+        assertTrue(submitted.get() <= 8, "submitted " + submitted.get());
+
+        releaseWriter.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        run.close();
+        assertEquals(20, submitted.get());
+    }
+
+    private static List<String> fail(String message) {
+        throw new IllegalStateException(message);
+    }
+}
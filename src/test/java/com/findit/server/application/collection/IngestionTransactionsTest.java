@@ -0,0 +1,67 @@
+package com.findit.server.application.collection;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngestionTransactionsTest {
+
+    @Test
+    void groupsPagesUpToCommitSizeKeepingOversizedPagesAlone() {
+        IngestionTransactions transactions = new IngestionTransactions(Mockito.mock(PlatformTransactionManager.class),
+            200, 30);
+
+        List<List<Integer>> chunks = transactions.chunks(List.of(100, 100, 100, 300, 50), size -> size);
+
+        assertEquals(List.of(List.of(100, 100), List.of(100), List.of(300), List.of(50)), chunks);
+        assertTrue(transactions.chunks(List.<Integer>of(), size -> size).isEmpty());
+    }
+
+    @Test
+    void bufferHandsOverEachChunkAsSoonAsItIsFull() {
+        IngestionTransactions transactions = new IngestionTransactions(Mockito.mock(PlatformTransactionManager.class),
+            200, 30);
+        List<List<Integer>> chunks = new ArrayList<>();
+        IngestionTransactions.ChunkBuffer<Integer> buffer = transactions.buffer(size -> size, chunks::add);
+
+        buffer.add(100);
+        buffer.add(100);
+        assertTrue(chunks.isEmpty());
+        buffer.add(100);
+        assertEquals(List.of(List.of(100, 100)), chunks);
+        buffer.add(300);
+        buffer.flush();
+        buffer.flush();
+
+        assertEquals(List.of(List.of(100, 100), List.of(100), List.of(300)), chunks);
+    }
+
+    @Test
+    void commitsEachChunkAndRollsBackOnlyTheFailedOne() {
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        TransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        IngestionTransactions transactions = new IngestionTransactions(transactionManager, 500, 30);
+
+        assertEquals(3, transactions.write(() -> 3));
+        verify(transactionManager).commit(status);
+        verify(transactionManager, never()).rollback(any());
+
+        IllegalStateException failure = new IllegalStateException("write failed");
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> transactions.write(() -> {
+            throw failure;
+        })));
+        verify(transactionManager).rollback(status);
+    }
+}
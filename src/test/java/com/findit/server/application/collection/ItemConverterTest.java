@@ -0,0 +1,93 @@
+package com.findit.server.application.collection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetter;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterReason;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
+import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ItemConverterTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DeadLetterRepository deadLetters;
+
+    @BeforeEach
+    void setUp() {
+        deadLetters = Mockito.mock(DeadLetterRepository.class);
+    }
+
+    @Test
+    void keepsValidItemsAndDeadLettersRejectedOnesWithReason() throws Exception {
+        // 분류명이 너무 길면 값 객체 생성에서 예외가 나 목록 매핑 전체가 실패하지만, 해당 원본만 걸러져야 함
+        PoliceApiLostItem tooLong = lostItem("LONG", "x".repeat(101));
+        List<PoliceApiLostItem> sources = List.of(lostItem("OK", "전자기기"), lostItem("MISSING", null), tooLong);
+
+        List<LostItem> items = converter(true).toLostItems(sources);
+
+        assertEquals(List.of("OK"), items.stream().map(LostItem::getAtcId).toList());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeadLetter>> saved = ArgumentCaptor.forClass(List.class);
+        verify(deadLetters).saveAll(saved.capture(), eq(NOW));
+        List<DeadLetter> letters = saved.getValue();
+        assertEquals(List.of("MISSING", "LONG"), letters.stream().map(DeadLetter::recordKey).toList());
+        assertEquals(List.of(DeadLetterReason.MAPPING_REJECTED, DeadLetterReason.INVALID_VALUE),
+            letters.stream().map(DeadLetter::reason).toList());
+        assertEquals(PoliceApiEndpoint.LOST_ITEMS, letters.get(1).endpoint());
+        // 원본 JSON으로 다시 읽을 수 있어야 재처리할 수 있음
+        PoliceApiLostItem stored = objectMapper.readValue(letters.get(1).payload(), PoliceApiLostItem.class);
+        assertEquals(tooLong.getLostItemCategory(), stored.getLostItemCategory());
+        assertEquals("20240501", stored.getLostDate());
+        assertEquals(1.0, registry.get("collection.dead_letter.recorded").tag("reason", "INVALID_VALUE")
+            .counter().count());
+        // 걸러진 건수는 기존 무효 항목 카운터에도 잡혀야 함
+        assertEquals(2.0, registry.get("api.lost_items.invalid").counter().count());
+        assertEquals(0.0, registry.get("api.found_items.invalid").counter().count());
+    }
+
+    @Test
+    void doesNotStoreRejectedItemsWhenDisabled() {
+        List<LostItem> items = converter(false).toLostItems(List.of(lostItem("MISSING", null)));
+
+        assertTrue(items.isEmpty());
+        verify(deadLetters, never()).saveAll(anyCollection(), any());
+    }
+
+    private ItemConverter converter(boolean deadLetterEnabled) {
+        return new ItemConverter(new LostItemMapper(), new FoundItemMapper(), new DataValidator(), deadLetters,
+            objectMapper, registry, deadLetterEnabled, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static PoliceApiLostItem lostItem(String id, String category) {
+        PoliceApiLostItem item = new PoliceApiLostItem();
+        item.setLostItemId(id);
+        item.setLostItemCategory(category);
+        item.setLostPlace("서울");
+        item.setLostDate("20240501");
+        return item;
+    }
+}
@@ -0,0 +1,173 @@
+package com.findit.server.application.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiPageFetcherTest {
+
+    private final PoliceApiPageFetcher fetcher = new PoliceApiPageFetcher(3, true);
+
+    @AfterEach
+    void tearDown() {
+        fetcher.shutdown();
+    }
+
+    @Test
+    void fansOutRemainingPagesAndKeepsPageOrder() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        PageFetchResult<FakePage> result = fetcher.fetchAll(10, 100, pageNo -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return FakePage.of(pageNo, pageNo < 5 ? 10 : 5, 45);
+        }, FakePage::items, FakePage::totalCount);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), result.pages().stream().map(PageFetchResult.Page::pageNo).toList());
+        assertTrue(result.failedPages().isEmpty());
+        assertEquals(45, result.totalCount());
+        assertTrue(maxInFlight.get() <= 3, "동시 요청 수가 제한을 넘으면 안 됨: " + maxInFlight.get());
+    }
+
+    @Test
+    void recordsFailedPagesWithoutDroppingOthers() {
+        PageFetchResult<FakePage> result = fetcher.fetchAll(10, 100, pageNo -> {
+            if (pageNo == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return FakePage.of(pageNo, 10, 40);
+        }, FakePage::items, FakePage::totalCount);
+
+        assertEquals(List.of(1, 2, 4), result.pages().stream().map(PageFetchResult.Page::pageNo).toList());
+        assertEquals(List.of(3), result.failedPages());
+    }
+
+    @Test
+    void walksSequentiallyWhenTotalCountIsUnknown() {
+        List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+
+        PageFetchResult<FakePage> result = fetcher.fetchAll(10, 5, pageNo -> {
+            requested.add(pageNo);
+            return FakePage.of(pageNo, pageNo < 3 ? 10 : 4, 0);
+        }, FakePage::items, FakePage::totalCount);
+
+        assertEquals(List.of(1, 2, 3), requested);
+        assertEquals(3, result.pages().size());
+    }
+
+    @Test
+    void respectsMaxPages() {
+        PageFetchResult<FakePage> result = fetcher.fetchAll(10, 2,
+            pageNo -> FakePage.of(pageNo, 10, 1000), FakePage::items, FakePage::totalCount);
+
+        assertEquals(2, result.pages().size());
+    }
+
+    @Test
+    void resumesFromGivenPage() {
+        List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> delivered = new ArrayList<>();
+
+        PageFetchResult<FakePage> result = fetcher.fetchFrom(3, 10, 100, pageNo -> {
+            requested.add(pageNo);
+            return FakePage.of(pageNo, pageNo < 5 ? 10 : 5, 45);
+        }, FakePage::items, FakePage::totalCount, page -> delivered.add(page.pageNo()));
+
+        assertEquals(List.of(3, 4, 5), delivered);
+        assertFalse(requested.contains(1));
+        assertFalse(requested.contains(2));
+        assertEquals(45, result.totalCount());
+        assertEquals(25, result.fetchedItems());
+        assertEquals(5, result.lastPageNo());
+        // 페이지를 넘겨받는 조회는 응답을 결과에 보관하지 않음
+        assertTrue(result.pages().isEmpty());
+    }
+
+    @Test
+    void handsPagesOverBeforeLastPageIsRequested() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        fetcher.fetchAll(10, 100, pageNo -> {
+            events.add("fetch " + pageNo);
+            return FakePage.of(pageNo, 10, 100);
+        }, FakePage::items, FakePage::totalCount, page -> events.add("page " + page.pageNo()));
+
+        assertTrue(events.indexOf("page 2") < events.indexOf("fetch 10"), events.toString());
+        assertEquals(IntStream.rangeClosed(1, 10).mapToObj(pageNo -> "page " + pageNo).toList(),
+            events.stream().filter(event -> event.startsWith("page")).toList());
+    }
+
+    @Test
+    void blockedConsumerStopsFurtherRequests() throws Exception {
+        List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<PageFetchResult<FakePage>> fetching = CompletableFuture.supplyAsync(
+            () -> fetcher.fetchAll(10, 100, pageNo -> {
+                requested.add(pageNo);
+                return FakePage.of(pageNo, 10, 100);
+            }, FakePage::items, FakePage::totalCount, page -> {
+                if (page.pageNo() == 2) {
+                    // 파이프라인 큐가 가득 찬 상황
+                    consumerBlocked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }));
+        assertTrue(consumerBlocked.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        // 동시 요청 3, 대기 페이지 상한 6: 2페이지를 넘기지 못하는 동안 7페이지 이후는 요청하지 않음
+        assertTrue(requested.stream().allMatch(pageNo -> pageNo <= 7), requested.toString());
+        release.countDown();
+        PageFetchResult<FakePage> result = fetching.get(5, TimeUnit.SECONDS);
+        assertEquals(10, result.lastPageNo());
+        assertEquals(100, result.fetchedItems());
+    }
+
+    @Test
+    void failingConsumerAbortsTheFetch() {
+        List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+        IllegalStateException failure = new IllegalStateException("write failed");
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> fetcher.fetchAll(10, 1000, pageNo -> {
+            requested.add(pageNo);
+            return FakePage.of(pageNo, 10, 1000);
+        }, FakePage::items, FakePage::totalCount, page -> {
+            if (page.pageNo() == 2) {
+                throw failure;
+            }
+        })));
+
+        // 저장이 실패하면 남은 페이지를 끝까지 요청하지 않음
+        assertTrue(requested.size() < 100, requested.toString());
+    }
+
+    private record FakePage(List<Integer> items, int totalCount) {
+
+        static FakePage of(int pageNo, int size, int totalCount) {
+            return new FakePage(IntStream.range(0, size).map(i -> pageNo * 100 + i).boxed().toList(), totalCount);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.infrastructure.persistence.sync.SyncShardCount;
+import com.findit.server.infrastructure.persistence.sync.SyncShardCountRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardDeltaDetectorTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+    private static final DateShard SHARD = new DateShard(LocalDate.of(2024, 5, 7));
+    private static final PoliceApiEndpoint ENDPOINT = PoliceApiEndpoint.FOUND_ITEMS;
+
+    private PoliceApiClient apiClient;
+    private SyncShardCountRepository repository;
+    private SimpleMeterRegistry registry;
+    private ShardDeltaDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = Mockito.mock(PoliceApiClient.class);
+        repository = Mockito.mock(SyncShardCountRepository.class);
+        registry = new SimpleMeterRegistry();
+        detector = new ShardDeltaDetector(apiClient, repository, registry, true, Duration.ofHours(24),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void skipsShardWhoseCountIsUnchangedWithinRefreshWindow() {
+        stored(120, NOW.minus(Duration.ofHours(12)));
+        when(apiClient.probeTotalCount(ENDPOINT, "20240507", "20240507")).thenReturn(120);
+
+        assertFalse(detector.needsRefresh(ENDPOINT, SHARD));
+        verify(repository).touchProbed(ENDPOINT, "20240507", NOW);
+        assertEquals(1.0, registry.counter("collection.delta.shards", "endpoint", ENDPOINT.name(),
+            "decision", "UNCHANGED").count());
+    }
+
+    @Test
+    void refreshesNewShardWithoutProbing() {
+        when(repository.find(ENDPOINT, "20240507")).thenReturn(Optional.empty());
+
+        assertTrue(detector.needsRefresh(ENDPOINT, SHARD));
+        verify(apiClient, never()).probeTotalCount(any(), anyString(), anyString());
+        assertEquals(1.0, registry.counter("collection.delta.shards", "endpoint", ENDPOINT.name(),
+            "decision", "NEW").count());
+    }
+
+    @Test
+    void refreshesChangedShard() {
+        when(apiClient.probeTotalCount(ENDPOINT, "20240507", "20240507")).thenReturn(120);
+        stored(100, NOW.minus(Duration.ofHours(1)));
+
+        assertTrue(detector.needsRefresh(ENDPOINT, SHARD));
+        assertEquals(1.0, registry.counter("collection.delta.shards", "endpoint", ENDPOINT.name(),
+            "decision", "CHANGED").count());
+    }
+
+    @Test
+    void refreshesStaleShardWithoutProbing() {
+        stored(120, NOW.minus(Duration.ofHours(25)));
+
+        assertTrue(detector.needsRefresh(ENDPOINT, SHARD));
+        verify(apiClient, never()).probeTotalCount(any(), anyString(), anyString());
+        assertEquals(1.0, registry.counter("collection.delta.shards", "endpoint", ENDPOINT.name(),
+            "decision", "FORCED").count());
+    }
+
+    @Test
+    void refreshesWhenProbeFailsAndRecordsCountAfterFullFetch() {
+        stored(120, NOW.minus(Duration.ofHours(1)));
+        when(apiClient.probeTotalCount(any(), anyString(), anyString()))
+            .thenThrow(new ResourceAccessException("timeout"))
+            .thenReturn(-1);
+
+        assertTrue(detector.needsRefresh(ENDPOINT, SHARD));
+        assertTrue(detector.needsRefresh(ENDPOINT, SHARD));
+
+        detector.markRefreshed(ENDPOINT, SHARD, 130);
+        verify(repository).saveRefreshed(ENDPOINT, "20240507", 130, NOW);
+    }
+
+    @Test
+    void probesNothingWhenDisabled() {
+        ShardDeltaDetector disabled = new ShardDeltaDetector(apiClient, repository, registry, false,
+            Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertTrue(disabled.needsRefresh(ENDPOINT, SHARD));
+        disabled.markRefreshed(ENDPOINT, SHARD, 10);
+
+        verify(apiClient, never()).probeTotalCount(any(), anyString(), anyString());
+        verify(repository, never()).saveRefreshed(any(), anyString(), anyInt(), any());
+    }
+
+    private void stored(int totalCount, Instant refreshedAt) {
+        when(repository.find(ENDPOINT, "20240507"))
+            .thenReturn(Optional.of(new SyncShardCount(ENDPOINT, "20240507", totalCount, refreshedAt, refreshedAt)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.findit.server.application.collection;
+
+import com.findit.server.infrastructure.persistence.sync.SyncState;
+import com.findit.server.infrastructure.persistence.sync.SyncStateRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncStatus;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncCheckpointsTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+    private static final PoliceApiEndpoint ENDPOINT = PoliceApiEndpoint.LOST_ITEMS;
+    private static final String JOB = SyncCheckpoints.COLLECTION_JOB;
+
+    private SyncStateRepository repository;
+    private SimpleMeterRegistry registry;
+    private SyncCheckpoints checkpoints;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(SyncStateRepository.class);
+        registry = new SimpleMeterRegistry();
+        checkpoints = new SyncCheckpoints(repository, registry, true, Duration.ofHours(12),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void advancesWatermarkOnlyOverContiguousPages() {
+        when(repository.find(JOB, ENDPOINT, "20240507")).thenReturn(Optional.empty());
+        SyncCheckpoints.Checkpoint checkpoint = checkpoints.open(JOB, ENDPOINT, "20240507");
+        assertFalse(checkpoint.isResumed());
+        assertEquals(1, checkpoint.startPage());
+
+        checkpoint.start();
+        checkpoint.pageCompleted(2);
+        checkpoint.pageCompleted(1);
+        checkpoint.pageCompleted(4);
+        checkpoint.finish(new PageFetchResult<>(List.of(), List.of(3), 40, 20, 4));
+
+        ArgumentCaptor<SyncState> saved = ArgumentCaptor.forClass(SyncState.class);
+        verify(repository, atLeastOnce()).save(saved.capture());
+        assertEquals(List.of(0, 2, 2), saved.getAllValues().stream().map(SyncState::lastPage).toList());
+        SyncState last = saved.getValue();
+        assertEquals(SyncStatus.FAILED, last.status());
+        assertEquals(40, last.totalCount());
+    }
+
+    @Test
+    void resumesRecentUnfinishedCheckpointFromLastSavedPage() {
+        stored(SyncStatus.RUNNING, 7, NOW.minus(Duration.ofHours(1)));
+
+        SyncCheckpoints.Checkpoint checkpoint = checkpoints.open(JOB, ENDPOINT, "20240507");
+
+        assertTrue(checkpoint.isResumed());
+        assertEquals(7, checkpoint.startPage());
+        assertEquals(1.0, registry.counter("collection.checkpoint.resumed", "job", JOB,
+            "endpoint", ENDPOINT.name()).count());
+    }
+
+    @Test
+    void startsOverWhenCheckpointIsCompletedOrStale() {
+        stored(SyncStatus.COMPLETED, 7, NOW.minus(Duration.ofHours(1)));
+        assertFalse(checkpoints.open(JOB, ENDPOINT, "20240507").isResumed());
+
+        stored(SyncStatus.FAILED, 7, NOW.minus(Duration.ofHours(13)));
+        assertFalse(checkpoints.open(JOB, ENDPOINT, "20240507").isResumed());
+    }
+
+    @Test
+    void untrackedCheckpointNeverWrites() {
+        SyncCheckpoints.Checkpoint checkpoint = checkpoints.untracked();
+        checkpoint.start();
+        checkpoint.pageCompleted(1);
+        checkpoint.fail();
+
+        verify(repository, never()).save(any());
+    }
+
+    private void stored(SyncStatus status, int lastPage, Instant updatedAt) {
+        when(repository.find(JOB, ENDPOINT, "20240507")).thenReturn(Optional.of(
+            new SyncState(JOB, ENDPOINT, "20240507", status, lastPage, 120, updatedAt, updatedAt)));
+    }
+}
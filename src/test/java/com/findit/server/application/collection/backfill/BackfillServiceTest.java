@@ -0,0 +1,195 @@
+package com.findit.server.application.collection.backfill;
+
+import com.findit.server.application.collection.DateShardRunner;
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.IngestionTargets;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.collection.SyncCheckpoints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.exception.ConflictException;
+import com.findit.server.exception.InvalidRequestException;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncState;
+import com.findit.server.infrastructure.persistence.sync.SyncStateRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncStatus;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
+import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackfillServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PoliceApiClient apiClient;
+    private LostItemRepository lostItemRepository;
+    private SyncStateRepository syncStateRepository;
+    private PoliceApiLostItemResponse response;
+    private BackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = Mockito.mock(PoliceApiClient.class);
+        lostItemRepository = Mockito.mock(LostItemRepository.class);
+        syncStateRepository = Mockito.mock(SyncStateRepository.class);
+        PoliceApiLostItem item = new PoliceApiLostItem();
+        item.setLostItemId("MOCK_ID");
+        item.setLostItemCategory("전자기기");
+        item.setLostPlace("서울");
+        item.setLostDate("20240501");
+        PoliceApiLostItem invalidItem = new PoliceApiLostItem();
+        response = new PoliceApiLostItemResponse();
+        // 두 건 중 한 건만 매핑·검증을 통과
+        response.setItems(List.of(item, invalidItem));
+        when(apiClient.isEnabled()).thenReturn(true);
+        when(apiClient.fetchLostItems(anyInt(), anyInt(), anyString(), anyString(), eq(PoliceApiCallPriority.BACKFILL)))
+            .thenReturn(response);
+        when(lostItemRepository.upsertBatchWithResult(anyList())).thenReturn(new UpsertResult(1, 0, 0));
+
+        service = new BackfillService(apiClient, new PoliceApiPageFetcher(2, true),
+            new DateShardRunner(registry, 2, true), new IngestionPipeline(registry, true, 4, 1, 1),
+            new SyncCheckpoints(syncStateRepository, registry, true, 12),
+            new IngestionTargets(apiClient, lostItemRepository, Mockito.mock(FoundItemRepository.class),
+                new ItemConverter(new LostItemMapper(), new FoundItemMapper(), new DataValidator(),
+                    Mockito.mock(DeadLetterRepository.class), new ObjectMapper(), registry, true)),
+            registry, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void backfillsEveryShardAndReportsProgress() throws InterruptedException {
+        service.start(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3), List.of(PoliceApiEndpoint.LOST_ITEMS),
+            false);
+        BackfillProgress progress = awaitFinished();
+
+        assertEquals(BackfillStatus.COMPLETED, progress.status());
+        assertEquals(3, progress.totalShards());
+        assertEquals(3, progress.completedShards());
+        assertEquals(3, progress.itemsWritten());
+        assertEquals(3, progress.itemsInserted());
+        assertEquals(0, progress.itemsUpdated());
+        assertEquals(3, progress.itemsInvalid());
+        assertEquals(100.0, progress.percentDone());
+        assertEquals(progress, service.progress(progress.id()).orElseThrow());
+        verify(lostItemRepository, times(3)).upsertBatchWithResult(anyList());
+        verify(apiClient, never()).fetchFoundItems(anyInt(), anyInt(), anyString(), anyString(), any());
+        assertEquals(3.0, registry.get("collection.backfill.shards").tag("state", "completed").gauge().value());
+    }
+
+    @Test
+    void skipsShardsCompletedByEarlierRun() throws InterruptedException {
+        Instant earlier = Instant.parse("2024-06-01T00:00:00Z");
+        when(syncStateRepository.find(SyncCheckpoints.BACKFILL_JOB, PoliceApiEndpoint.LOST_ITEMS, "20240502"))
+            .thenReturn(Optional.of(new SyncState(SyncCheckpoints.BACKFILL_JOB, PoliceApiEndpoint.LOST_ITEMS,
+                "20240502", SyncStatus.COMPLETED, 1, 1, earlier, earlier)));
+
+        service.start(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3), List.of(PoliceApiEndpoint.LOST_ITEMS),
+            false);
+        BackfillProgress progress = awaitFinished();
+
+        assertEquals(2, progress.completedShards());
+        assertEquals(1, progress.skippedShards());
+        verify(apiClient, never()).fetchLostItems(anyInt(), anyInt(), eq("20240502"), anyString(),
+            eq(PoliceApiCallPriority.BACKFILL));
+    }
+
+    @Test
+    void refreshRefetchesShardsCompletedByEarlierRun() throws InterruptedException {
+        Instant earlier = Instant.parse("2024-06-01T00:00:00Z");
+        when(syncStateRepository.find(SyncCheckpoints.BACKFILL_JOB, PoliceApiEndpoint.LOST_ITEMS, "20240502"))
+            .thenReturn(Optional.of(new SyncState(SyncCheckpoints.BACKFILL_JOB, PoliceApiEndpoint.LOST_ITEMS,
+                "20240502", SyncStatus.COMPLETED, 1, 1, earlier, earlier)));
+
+        service.start(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3), List.of(PoliceApiEndpoint.LOST_ITEMS),
+            true);
+        BackfillProgress progress = awaitFinished();
+
+        assertTrue(progress.refresh());
+        assertEquals(3, progress.completedShards());
+        assertEquals(0, progress.skippedShards());
+        verify(apiClient).fetchLostItems(anyInt(), anyInt(), eq("20240502"), anyString(),
+            eq(PoliceApiCallPriority.BACKFILL));
+    }
+
+    @Test
+    void cancelStopsBeforeRemainingShards() throws InterruptedException {
+        // 최근 날짜부터 샤드 2개가 동시에 조회 중일 때 취소하면 남은 가장 이른 날짜 샤드는 조회하지 않음
+        CountDownLatch inFlight = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiClient.fetchLostItems(anyInt(), anyInt(), anyString(), anyString(), eq(PoliceApiCallPriority.BACKFILL)))
+            .thenAnswer(invocation -> {
+                inFlight.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+                return response;
+            });
+
+        String id = service.start(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3),
+            List.of(PoliceApiEndpoint.LOST_ITEMS), false).id();
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+        assertTrue(service.cancel(id).orElseThrow().cancelRequested());
+        release.countDown();
+        BackfillProgress progress = awaitFinished();
+
+        assertEquals(BackfillStatus.CANCELLED, progress.status());
+        assertEquals(2, progress.completedShards());
+        assertEquals(0, progress.failedShards());
+        verify(apiClient, never()).fetchLostItems(anyInt(), anyInt(), eq("20240501"), anyString(), any());
+        assertThrows(ConflictException.class, () -> service.cancel(id));
+        assertTrue(service.cancel("unknown").isEmpty());
+    }
+
+    @Test
+    void rejectsInvalidOrTooLongRange() {
+        assertThrows(InvalidRequestException.class,
+            () -> service.start(LocalDate.of(2024, 5, 3), LocalDate.of(2024, 5, 1), List.of(), false));
+        assertThrows(InvalidRequestException.class,
+            () -> service.start(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1), List.of(), false));
+        assertTrue(service.progress().isEmpty());
+    }
+
+    private BackfillProgress awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            BackfillProgress progress = service.progress().orElseThrow();
+            if (progress.status() != BackfillStatus.RUNNING) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        fail("백필이 제한 시간 안에 끝나지 않았습니다.");
+        return null;
+    }
+}
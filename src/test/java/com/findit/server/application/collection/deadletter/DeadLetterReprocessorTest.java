@@ -0,0 +1,100 @@
+package com.findit.server.application.collection.deadletter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.UpsertResult;
+import com.findit.server.exception.InvalidRequestException;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetter;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterReason;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
+import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DeadLetterReprocessorTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+
+    private DeadLetterRepository deadLetters;
+    private LostItemRepository lostItemRepository;
+    private FoundItemRepository foundItemRepository;
+    private DeadLetterReprocessor reprocessor;
+
+    @BeforeEach
+    void setUp() {
+        deadLetters = Mockito.mock(DeadLetterRepository.class);
+        lostItemRepository = Mockito.mock(LostItemRepository.class);
+        foundItemRepository = Mockito.mock(FoundItemRepository.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ItemConverter converter = new ItemConverter(new LostItemMapper(), new FoundItemMapper(), new DataValidator(),
+            deadLetters, objectMapper, registry, true);
+        reprocessor = new DeadLetterReprocessor(deadLetters, converter, lostItemRepository, foundItemRepository,
+            objectMapper, registry, 500, 10000, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void loadsRecordsThatNowConvertAndKeepTheRestPending() {
+        DeadLetter fixed = letter(1, "OK", """
+            {"atcId":"OK","prdtClNm":"전자기기","lstPlace":"서울","lstYmd":"20240501"}""");
+        DeadLetter stillMissing = letter(2, "MISSING", """
+            {"atcId":"MISSING","lstPlace":"서울","lstYmd":"20240501"}""");
+        DeadLetter unreadable = letter(3, "BROKEN", "{not json");
+        when(deadLetters.findPending(eq(PoliceApiEndpoint.LOST_ITEMS), eq(0L), anyInt()))
+            .thenReturn(List.of(fixed, stillMissing, unreadable));
+        when(deadLetters.findPending(eq(PoliceApiEndpoint.LOST_ITEMS), eq(3L), anyInt())).thenReturn(List.of());
+        when(lostItemRepository.upsertBatchWithResult(any())).thenReturn(new UpsertResult(1, 0, 0));
+
+        DeadLetterReprocessResult result = reprocessor.reprocess(PoliceApiEndpoint.LOST_ITEMS, null);
+
+        assertEquals(new DeadLetterReprocessResult(3, 1, 2, 1, 0), result);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LostItem>> upserted = ArgumentCaptor.forClass(List.class);
+        verify(lostItemRepository).upsertBatchWithResult(upserted.capture());
+        assertEquals(List.of("OK"), upserted.getValue().stream().map(LostItem::getAtcId).toList());
+        verify(deadLetters).markResolved(List.of(1L), NOW);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeadLetter>> rejected = ArgumentCaptor.forClass(List.class);
+        verify(deadLetters).markRejected(rejected.capture(), eq(NOW));
+        assertEquals(List.of(3L, 2L), rejected.getValue().stream().map(DeadLetter::id).toList());
+        assertEquals(List.of(DeadLetterReason.UNREADABLE_PAYLOAD, DeadLetterReason.MAPPING_REJECTED),
+            rejected.getValue().stream().map(DeadLetter::reason).toList());
+        // 재처리 중 다시 걸러진 원본을 새로 보관하지 않음
+        verify(deadLetters, Mockito.never()).saveAll(any(), any());
+        verifyNoInteractions(foundItemRepository);
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThrows(InvalidRequestException.class, () -> reprocessor.reprocess(null, 0));
+        verify(deadLetters, Mockito.never()).findPending(any(), anyLong(), anyInt());
+    }
+
+    private static DeadLetter letter(long id, String key, String payload) {
+        return new DeadLetter(id, PoliceApiEndpoint.LOST_ITEMS, key, payload, DeadLetterReason.MAPPING_REJECTED,
+            null, 0);
+    }
+}
@@ -82,7 +82,7 @@ class FoundItemCollectionServiceTest {
         Mockito.when(dataValidator.isValidFoundItem(any())).thenReturn(true);
         Mockito.when(foundItemRepository.existsByAtcId(anyString())).thenReturn(false);
 
-        int saved = foundItemCollectionService.collectAndSaveUniqueItems().size();
+        int saved = foundItemCollectionService.collectAndSaveUniqueItems();
         assertTrue(saved >= 0);
     }
 }
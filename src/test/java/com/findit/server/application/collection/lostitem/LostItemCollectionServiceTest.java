@@ -1,20 +1,31 @@
 package com.findit.server.application.collection.lostitem;
 
+import com.findit.server.application.collection.DateShardRunner;
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.application.collection.ShardDeltaDetector;
+import com.findit.server.application.collection.SyncCheckpoints;
 import com.findit.server.domain.lostitem.LostDate;
 import com.findit.server.domain.lostitem.LostItem;
 import com.findit.server.domain.lostitem.LostItemId;
 import com.findit.server.domain.lostitem.LostItemRepository;
 import com.findit.server.domain.shared.ItemCategory;
 import com.findit.server.domain.shared.LocationName;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncShardCountRepository;
+import com.findit.server.infrastructure.persistence.sync.SyncStateRepository;
 import com.findit.server.infrastructure.police.client.PoliceApiClient;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
 import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
 import com.findit.server.infrastructure.police.mapper.LostItemMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -36,10 +47,16 @@ class LostItemCollectionServiceTest {
   @Mock
   private LostItemRepository repository;
   @Mock
+  private SyncShardCountRepository shardCountRepository;
+  @Mock
+  private SyncStateRepository syncStateRepository;
+  @Mock
   private LostItemMapper mapper;
   @Mock
   private DataValidator validator;
   @Mock
+  private DeadLetterRepository deadLetterRepository;
+  @Mock
   private MeterRegistry registry;
   @Mock
   private Counter fetchedCounter;
@@ -59,9 +76,14 @@ class LostItemCollectionServiceTest {
 
     lostItemCollectionService = new LostItemCollectionService(
       policeApiClient,
+      new PoliceApiPageFetcher(1, false),
+      new DateShardRunner(new SimpleMeterRegistry(), 1, false),
+      new ShardDeltaDetector(policeApiClient, shardCountRepository, new SimpleMeterRegistry(), true, 24),
+      new IngestionPipeline(new SimpleMeterRegistry(), true, 4, 1, 1),
+      new SyncCheckpoints(syncStateRepository, new SimpleMeterRegistry(), true, 12),
       repository,
-      mapper,
-      validator,
+      new ItemConverter(mapper, Mockito.mock(FoundItemMapper.class), validator, deadLetterRepository,
+        new ObjectMapper(), new SimpleMeterRegistry(), true),
       registry,
       new ObjectMapper()
     );
@@ -99,7 +121,7 @@ class LostItemCollectionServiceTest {
     Mockito.when(validator.isValidLostItem(any())).thenReturn(true);
     Mockito.when(repository.existsByAtcId(anyString())).thenReturn(false);
 
-    int saved = lostItemCollectionService.collectAndSaveUniqueItems().size();
+    int saved = lostItemCollectionService.collectAndSaveUniqueItems();
     assertTrue(saved > 0);
   }
 }
@@ -0,0 +1,140 @@
+package com.findit.server.application.collection.task;
+
+import com.findit.server.application.collection.IngestionPipeline;
+import com.findit.server.application.collection.IngestionTargets;
+import com.findit.server.application.collection.ItemConverter;
+import com.findit.server.application.collection.PoliceApiPageFetcher;
+import com.findit.server.domain.founditem.FoundItemRepository;
+import com.findit.server.domain.lostitem.LostDate;
+import com.findit.server.domain.lostitem.LostItem;
+import com.findit.server.domain.lostitem.LostItemId;
+import com.findit.server.domain.lostitem.LostItemRepository;
+import com.findit.server.domain.shared.ItemCategory;
+import com.findit.server.domain.shared.LocationName;
+import com.findit.server.infrastructure.persistence.deadletter.DeadLetterRepository;
+import com.findit.server.infrastructure.persistence.task.SyncTask;
+import com.findit.server.infrastructure.persistence.task.SyncTaskRepository;
+import com.findit.server.infrastructure.police.client.PoliceApiClient;
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import com.findit.server.infrastructure.police.mapper.DataValidator;
+import com.findit.server.infrastructure.police.mapper.FoundItemMapper;
+import com.findit.server.infrastructure.police.mapper.LostItemMapper;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncTaskWorkerTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+    private static final String WORKER = "node-a";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SyncTaskRepository repository;
+    private PoliceApiClient apiClient;
+    private LostItemRepository lostItemRepository;
+    private SyncTaskWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(SyncTaskRepository.class);
+        apiClient = Mockito.mock(PoliceApiClient.class);
+        lostItemRepository = Mockito.mock(LostItemRepository.class);
+        LostItemMapper lostItemMapper = Mockito.mock(LostItemMapper.class);
+        DataValidator validator = Mockito.mock(DataValidator.class);
+        when(lostItemMapper.mapList(anyList())).thenReturn(List.of(LostItem.create(LostItemId.of("MOCK_ID"),
+            ItemCategory.of("전자기기"), LocationName.of("서울"), LostDate.of("20240501"), null, null, null)));
+        when(validator.isValidLostItem(any())).thenReturn(true);
+
+        IngestionPipeline pipeline = new IngestionPipeline(registry, true, 4, 1, 1);
+        ItemConverter converter = new ItemConverter(lostItemMapper, Mockito.mock(FoundItemMapper.class), validator,
+            Mockito.mock(DeadLetterRepository.class), new ObjectMapper(), registry, true);
+        IngestionTargets targets = new IngestionTargets(apiClient, lostItemRepository,
+            Mockito.mock(FoundItemRepository.class), converter);
+        worker = new SyncTaskWorker(repository, apiClient, new PoliceApiPageFetcher(2, true), pipeline, targets,
+            registry, WORKER, true, 2, 2, 3, Duration.ofSeconds(60), Duration.ofSeconds(30),
+            Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void processesLeadingPagesAndEnqueuesTheRest() {
+        // 전체 550건 = 6페이지, 작업당 2페이지 → 1~2페이지 처리 후 3~4, 5~6페이지 작업 등록
+        when(apiClient.fetchLostItems(anyInt(), anyInt(), eq("20240501"), eq("20240501"),
+            eq(PoliceApiCallPriority.BACKFILL))).thenReturn(page(550));
+        SyncTask task = new SyncTask(7, "batch-1", PoliceApiEndpoint.LOST_ITEMS, "20240501", "20240501", 1, 0, 1);
+
+        worker.process(task);
+
+        verify(apiClient, Mockito.times(2)).fetchLostItems(anyInt(), anyInt(), anyString(), anyString(), any());
+        // 나머지 페이지 작업은 따로 등록하지 않고 완료와 함께 넘겨 한 트랜잭션에서 등록
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SyncTask>> enqueued = ArgumentCaptor.forClass(List.class);
+        verify(repository).complete(eq(task), eq(WORKER), eq(2), enqueued.capture(), eq(NOW));
+        verify(repository, never()).enqueue(anyString(), anyList(), any());
+        assertEquals(List.of(3, 5), enqueued.getValue().stream().map(SyncTask::firstPage).toList());
+        assertEquals(List.of(4, 6), enqueued.getValue().stream().map(SyncTask::lastPage).toList());
+        assertEquals(1.0, registry.get("collection.tasks.processed").tag("outcome", "done").counter().count());
+    }
+
+    @Test
+    void boundedTaskDoesNotSplitFurther() {
+        when(apiClient.fetchLostItems(anyInt(), anyInt(), anyString(), anyString(), any())).thenReturn(page(550));
+        SyncTask task = new SyncTask(8, "batch-1", PoliceApiEndpoint.LOST_ITEMS, "20240501", "20240501", 3, 4, 1);
+
+        worker.process(task);
+
+        verify(apiClient).fetchLostItems(eq(3), anyInt(), anyString(), anyString(), any());
+        verify(apiClient).fetchLostItems(eq(4), anyInt(), anyString(), anyString(), any());
+        verify(repository).complete(task, WORKER, 2, List.of(), NOW);
+        verify(repository, never()).enqueue(anyString(), anyList(), any());
+    }
+
+    @Test
+    void failedTaskIsRetriedWithBackoffProportionalToAttempts() {
+        when(apiClient.fetchLostItems(anyInt(), anyInt(), anyString(), anyString(), any()))
+            .thenThrow(new IllegalStateException("upstream down"));
+        SyncTask task = new SyncTask(9, "batch-1", PoliceApiEndpoint.LOST_ITEMS, "20240501", "20240501", 1, 0, 2);
+
+        worker.process(task);
+
+        verify(repository).fail(eq(9L), eq(WORKER), anyString(), eq(NOW), eq(NOW.plusSeconds(60)), eq(3));
+        verify(repository, never()).complete(any(), anyString(), anyInt(), anyList(), any());
+        assertEquals(1.0, registry.get("collection.tasks.processed").tag("outcome", "retry").counter().count());
+    }
+
+    private static PoliceApiLostItemResponse page(int totalCount) {
+        PoliceApiLostItem item = new PoliceApiLostItem();
+        item.setLostItemId("MOCK_ID");
+        PoliceApiLostItemResponse response = new PoliceApiLostItemResponse();
+        response.setItems(List.of(item));
+        response.getBody().setTotalCount(totalCount);
+        return response;
+    }
+}
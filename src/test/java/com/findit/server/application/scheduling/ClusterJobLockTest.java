@@ -0,0 +1,202 @@
+package com.findit.server.application.scheduling;
+
+import com.findit.server.infrastructure.persistence.lock.JobLock;
+import com.findit.server.infrastructure.persistence.lock.JobLockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterJobLockTest {
+
+    private static final String JOB = "collect";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 임대 시각은 DB 시계로만 계산하므로 인스턴스별 시계 없이 저장소(DB)의 시계 하나만 둠
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-08T00:00:00Z"));
+    private final InMemoryJobLockRepository repository = new InMemoryJobLockRepository(clock);
+    private final ClusterJobLock nodeA = new ClusterJobLock(repository, registry, true, "node-a",
+        Duration.ofSeconds(60), Duration.ofSeconds(30));
+    private final ClusterJobLock nodeB = new ClusterJobLock(repository, registry, true, "node-b",
+        Duration.ofSeconds(60), Duration.ofSeconds(30));
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    void runsOnOneNodePerTrigger() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(nodeA.runExclusively(JOB, runs::incrementAndGet));
+        clock.advance(Duration.ofSeconds(5));
+        assertFalse(nodeB.runExclusively(JOB, runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+        assertEquals(Optional.of("node-a"), nodeB.currentHolder(JOB));
+        assertEquals(1.0, registry.get("scheduling.lock.acquire").tag("outcome", "skipped").counter().count());
+
+        // 최소 유지 시간이 지나면 다음 트리거는 어느 인스턴스든 실행할 수 있음
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(nodeB.runExclusively(JOB, runs::incrementAndGet));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void takesOverAfterHolderStopsRenewing() {
+        // 실행 도중 죽은 인스턴스가 남긴 잠금
+        assertTrue(repository.tryAcquire(JOB, "node-dead", Duration.ofSeconds(60)));
+
+        AtomicInteger runs = new AtomicInteger();
+        assertFalse(nodeB.runExclusively(JOB, runs::incrementAndGet));
+        clock.advance(Duration.ofSeconds(61));
+        assertTrue(nodeB.runExclusively(JOB, runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void renewsLeaseWhileTaskRuns() {
+        ClusterJobLock shortLease = new ClusterJobLock(repository, registry, true, "node-c",
+            Duration.ofMillis(30), Duration.ZERO);
+        try {
+            assertTrue(shortLease.runExclusively(JOB, () -> {
+                try {
+                    Thread.sleep(150);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        } finally {
+            shortLease.shutdown();
+        }
+        assertTrue(repository.renewals.get() > 0);
+    }
+
+    @Test
+    void cancelsTaskWhenLeaseIsLost() {
+        ClusterJobLock shortLease = new ClusterJobLock(repository, registry, true, "node-c",
+            Duration.ofMillis(30), Duration.ZERO);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        try {
+            assertTrue(shortLease.runExclusively(JOB, () -> {
+                // 멈춘 사이 임대가 끝나 다른 인스턴스가 가져감
+                repository.steal(JOB, "node-d");
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }));
+        } finally {
+            shortLease.shutdown();
+        }
+
+        assertTrue(interrupted.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(1.0, registry.get("scheduling.lock.lost").counter().count());
+        // 가져간 인스턴스의 잠금은 반납하지 않음
+        assertEquals(Optional.of("node-d"), nodeA.currentHolder(JOB));
+    }
+
+    private static final class InMemoryJobLockRepository extends JobLockRepository {
+
+        private final Clock databaseClock;
+        private final Map<String, JobLock> locks = new ConcurrentHashMap<>();
+        private final AtomicInteger renewals = new AtomicInteger();
+
+        private InMemoryJobLockRepository(Clock databaseClock) {
+            super(null);
+            this.databaseClock = databaseClock;
+        }
+
+        @Override
+        public Optional<JobLock> find(String name) {
+            return Optional.ofNullable(locks.get(name));
+        }
+
+        @Override
+        public Optional<String> findHolder(String name) {
+            Instant now = databaseClock.instant();
+            return find(name).filter(lock -> lock.leaseUntil().isAfter(now)).map(JobLock::lockedBy);
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(String name, String owner, Duration lease) {
+            Instant now = databaseClock.instant();
+            JobLock current = locks.get(name);
+            if (current != null && current.leaseUntil().isAfter(now) && !current.lockedBy().equals(owner)) {
+                return false;
+            }
+            locks.put(name, new JobLock(name, owner, now, now.plus(lease)));
+            return true;
+        }
+
+        @Override
+        public synchronized boolean renew(String name, String owner, Duration lease) {
+            JobLock current = locks.get(name);
+            if (current == null || !current.lockedBy().equals(owner)) {
+                return false;
+            }
+            renewals.incrementAndGet();
+            locks.put(name, new JobLock(name, owner, current.lockedAt(), databaseClock.instant().plus(lease)));
+            return true;
+        }
+
+        @Override
+        public synchronized void release(String name, String owner, Duration holdFor) {
+            JobLock current = locks.get(name);
+            if (current != null && current.lockedBy().equals(owner)) {
+                Instant heldUntil = current.lockedAt().plus(holdFor);
+                Instant now = databaseClock.instant();
+                locks.put(name, new JobLock(name, owner, current.lockedAt(), heldUntil.isAfter(now) ? heldUntil : now));
+            }
+        }
+
+        synchronized void steal(String name, String owner) {
+            Instant now = databaseClock.instant();
+            locks.put(name, new JobLock(name, owner, now, now.plus(Duration.ofSeconds(60))));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
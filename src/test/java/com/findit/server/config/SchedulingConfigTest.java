@@ -0,0 +1,79 @@
+package com.findit.server.config;
+
+import com.findit.server.application.collection.founditem.FoundItemCollectionService;
+import com.findit.server.application.collection.lostitem.LostItemCollectionService;
+import com.findit.server.application.scheduling.ClusterJobLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchedulingConfigTest {
+
+    private LostItemCollectionService lostItemService;
+    private FoundItemCollectionService foundItemService;
+    private SchedulingConfig config;
+
+    @BeforeEach
+    void setUp() {
+        lostItemService = Mockito.mock(LostItemCollectionService.class);
+        foundItemService = Mockito.mock(FoundItemCollectionService.class);
+        when(lostItemService.isCollectionEnabled()).thenReturn(true);
+        when(foundItemService.isCollectionEnabled()).thenReturn(true);
+        ClusterJobLock jobLock = new ClusterJobLock(null, new SimpleMeterRegistry(), false, "node-a", 60, 30);
+        config = new SchedulingConfig(lostItemService, foundItemService, jobLock, 2, true, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        config.shutdown();
+    }
+
+    @Test
+    void runsLostAndFoundCollectionConcurrentlyOffTheCallingThread() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(lostItemService.collectAndSaveUniqueItems()).thenAnswer(invocation -> awaitOther(bothStarted));
+        when(foundItemService.collectAndSaveUniqueItems()).thenAnswer(invocation -> awaitOther(bothStarted));
+
+        config.collectOnStartup();
+
+        // 순차 실행이면 먼저 시작한 작업이 다른 작업을 기다리다 끝나지 못함
+        assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+        verify(lostItemService, timeout(5000)).collectAndSaveUniqueItems();
+        verify(foundItemService, timeout(5000)).collectAndSaveUniqueItems();
+    }
+
+    @Test
+    void skipsTriggerWhileEarlierCollectionIsRunning() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(lostItemService.collectAndSaveUniqueItems()).thenAnswer(invocation -> {
+            release.await();
+            return 0;
+        });
+        when(foundItemService.collectAndSaveUniqueItems()).thenReturn(0);
+
+        config.collectOnStartup();
+        verify(lostItemService, timeout(5000)).collectAndSaveUniqueItems();
+        config.collectLostAndFoundItems();
+        release.countDown();
+
+        Thread.sleep(100);
+        verify(lostItemService, times(1)).collectAndSaveUniqueItems();
+    }
+
+    private static int awaitOther(CountDownLatch bothStarted) throws InterruptedException {
+        bothStarted.countDown();
+        assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+        return 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.findit.server.domain.shared.LocationName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class LostItemTest {
 
@@ -50,4 +51,17 @@ class LostItemTest {
         assertEquals("20240527", lostItem.getLstYmd());
         assertEquals("2", lostItem.getRnum());
     }
+
+    @Test
+    void contentHashIgnoresRnumAndTracksContentChanges() {
+        LostItem first = LostItem.create(LostItemId.of("L20240526001"), ItemCategory.of("전자기기"),
+            LocationName.of("서울시 강남구 역삼동"), LostDate.of("20240526"), "노트북", "맥북 프로", "1");
+        LostItem shifted = LostItem.create(LostItemId.of("L20240526001"), ItemCategory.of("전자기기"),
+            LocationName.of("서울시 강남구 역삼동"), LostDate.of("20240526"), "노트북", "맥북 프로", "7");
+
+        assertEquals(first.getContentHash(), shifted.getContentHash());
+
+        shifted.updateAdditionalDetails(null, "맥북 에어");
+        assertNotEquals(first.getContentHash(), shifted.getContentHash());
+    }
 }
@@ -0,0 +1,56 @@
+package com.findit.server.domain.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateScannerTest {
+
+    @Test
+    void scansApiDateFormats() {
+        assertEquals(20240501, DateScanner.scanLenient("20240501"));
+        assertEquals(20240501, DateScanner.scanLenient(" 2024-05-01 "));
+        assertEquals(20240501, DateScanner.scanLenient("2024.5.1"));
+        assertEquals(20241231, DateScanner.scanLenient("2024/12-31"));
+        assertEquals(20240229, DateScanner.scanLenient("2024-02-29"));
+    }
+
+    @Test
+    void returnsYearMonthWithoutDay() {
+        for (String raw : new String[]{"202405", "2024-05", "2024.5", "2024-05-"}) {
+            int packed = DateScanner.scanLenient(raw);
+            assertEquals(20240500, packed, raw);
+            assertFalse(DateScanner.hasDay(packed), raw);
+        }
+        assertEquals(20240531, DateScanner.withDay(20240500, 31));
+        assertEquals(DateScanner.INVALID, DateScanner.withDay(20240600, 31));
+    }
+
+    @Test
+    void rejectsMalformedOrNonexistentDates() {
+        for (String raw : new String[]{"", "2024", "2024051", "2024-05.", "2024-5-1x", "2024-123-1", "2024--01",
+            "2023-02-29", "20241301", "2024-05-00", "abcd-05-01", "2024-05-01T10:00"}) {
+            assertEquals(DateScanner.INVALID, DateScanner.scanLenient(raw), raw);
+        }
+    }
+
+    @Test
+    void strictScanAcceptsOnlyBasicAndIsoDates() {
+        assertEquals(20240501, DateScanner.scanStrict("20240501"));
+        assertEquals(20240501, DateScanner.scanStrict("2024-05-01"));
+        assertEquals(DateScanner.INVALID, DateScanner.scanStrict("2024.05.01"));
+        assertEquals(DateScanner.INVALID, DateScanner.scanStrict("2024-5-1"));
+        assertEquals(DateScanner.INVALID, DateScanner.scanStrict("20240431"));
+    }
+
+    @Test
+    void formatsBasicAndIsoDates() {
+        LocalDate date = LocalDate.of(987, 3, 4);
+
+        assertEquals("09870304", DateScanner.basic(date));
+        assertEquals("0987-03-04", DateScanner.iso(date));
+        assertEquals(LocalDate.of(2024, 5, 1), DateScanner.toLocalDate(20240501));
+    }
+}
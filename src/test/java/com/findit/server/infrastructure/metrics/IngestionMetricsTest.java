@@ -0,0 +1,103 @@
+package com.findit.server.infrastructure.metrics;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionMetricsTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void upstreamRecordsOutcomeAndReleasesInFlight() {
+        IngestionMetrics metrics = new IngestionMetrics(registry);
+
+        String body = metrics.upstream(PoliceApiEndpoint.LOST_ITEMS, () -> {
+            assertEquals(1.0, inFlight(PoliceApiEndpoint.LOST_ITEMS));
+            return "ok";
+        });
+        assertThrows(IllegalStateException.class, () -> metrics.upstream(PoliceApiEndpoint.LOST_ITEMS, () -> {
+            throw new IllegalStateException("timeout");
+        }));
+
+        assertEquals("ok", body);
+        assertEquals(1, upstreamCount(PoliceApiEndpoint.LOST_ITEMS, "success"));
+        assertEquals(1, upstreamCount(PoliceApiEndpoint.LOST_ITEMS, "failure"));
+        assertEquals(0.0, inFlight(PoliceApiEndpoint.LOST_ITEMS));
+    }
+
+    @Test
+    void asyncUpstreamCompletesWithFuture() {
+        IngestionMetrics metrics = new IngestionMetrics(registry);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> result = metrics.upstreamAsync(PoliceApiEndpoint.FOUND_ITEMS, () -> pending);
+        assertEquals(1.0, inFlight(PoliceApiEndpoint.FOUND_ITEMS));
+
+        pending.completeExceptionally(new IllegalStateException("reset"));
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0.0, inFlight(PoliceApiEndpoint.FOUND_ITEMS));
+        assertEquals(1, upstreamCount(PoliceApiEndpoint.FOUND_ITEMS, "failure"));
+    }
+
+    @Test
+    void decodingIsTimedPerEndpoint() {
+        IngestionMetrics metrics = new IngestionMetrics(registry);
+        Function<InputStream, String> decoder = metrics.decoding(PoliceApiEndpoint.FOUND_ITEMS, body -> "decoded");
+
+        assertEquals("decoded", decoder.apply(new ByteArrayInputStream(new byte[0])));
+        assertEquals(1, registry.get(IngestionMetrics.DECODE_DURATION)
+            .tag("endpoint", "FOUND_ITEMS").timer().count());
+    }
+
+    @Test
+    void upsertUpdatesRowsThroughputAndFreshness() {
+        Instant now = Instant.parse("2024-05-03T03:00:00Z"); // 2024-05-03 12:00 KST
+        IngestionMetrics metrics = new IngestionMetrics(registry, null, Clock.fixed(now, SEOUL));
+
+        metrics.upserted(PoliceApiEndpoint.LOST_ITEMS, List.of("20240501", "2024-05-02", "bad", "20240430"),
+            Function.identity(), Duration.ofMillis(40));
+        metrics.upserted(PoliceApiEndpoint.LOST_ITEMS, List.of("20240502", "20240502"),
+            Function.identity(), Duration.ofMillis(20));
+
+        assertEquals(2, registry.get(IngestionMetrics.UPSERT_DURATION)
+            .tag("endpoint", "LOST_ITEMS").timer().count());
+        assertEquals(6.0, registry.get(IngestionMetrics.ROWS).tag("endpoint", "LOST_ITEMS").counter().count());
+        assertEquals(6.0 / 60, metrics.rowsPerSecond(PoliceApiEndpoint.LOST_ITEMS), 1e-9);
+        // 2024-05-02 00:00 KST부터 36시간
+        assertEquals(36 * 3600.0, registry.get(IngestionMetrics.FRESHNESS)
+            .tag("endpoint", "LOST_ITEMS").gauge().value());
+        assertEquals(0.0, metrics.rowsPerSecond(PoliceApiEndpoint.FOUND_ITEMS));
+    }
+
+    @Test
+    void freshnessIsUnknownUntilFirstUpsert() {
+        IngestionMetrics metrics = new IngestionMetrics(registry);
+
+        assertTrue(Double.isNaN(metrics.freshnessSeconds(PoliceApiEndpoint.FOUND_ITEMS)));
+    }
+
+    private double inFlight(PoliceApiEndpoint endpoint) {
+        return registry.get(IngestionMetrics.PAGES_IN_FLIGHT).tag("endpoint", endpoint.name()).gauge().value();
+    }
+
+    private long upstreamCount(PoliceApiEndpoint endpoint, String outcome) {
+        return registry.get(IngestionMetrics.UPSTREAM_DURATION)
+            .tag("endpoint", endpoint.name()).tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.findit.server.infrastructure.persistence.bulk;
+
+import com.findit.server.application.collection.IngestionTransactions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PgCopyLoaderTest {
+
+    @Test
+    void writesNullAsEmptyFieldAndQuotesText() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        PgCopyLoader.writeRow(writer, new Object[]{"F001", null, "", "검정 \"가죽\" 지갑,\n2개", 42L});
+
+        // COPY csv에서 따옴표 없는 빈 칸은 NULL, ""는 빈 문자열
+        assertEquals("\"F001\",,\"\",\"검정 \"\"가죽\"\" 지갑,\n2개\",42\n", writer.toString());
+    }
+
+    @Test
+    void fallsBackToBatchUpsertBelowThresholdOrOutsideTransaction() {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        PgCopyLoader loader = new PgCopyLoader(jdbcTemplate, true, 2000);
+        PgCopyLoader disabled = new PgCopyLoader(jdbcTemplate, false, 1);
+
+        assertFalse(loader.accepts(1999));
+        // 트랜잭션 밖에서는 커밋마다 스테이징 테이블이 비워지므로 쓰지 않음
+        assertFalse(loader.accepts(5000));
+        assertFalse(disabled.accepts(5000));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void syncCommitChunksTakeCopyPathWithShippedSettings() throws IOException {
+        // 테스트 클래스패스의 application.properties가 아니라 배포 설정을 읽음
+        Properties shipped = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of("src/main/resources/application.properties"),
+            StandardCharsets.UTF_8)) {
+            shipped.load(reader);
+        }
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(Mockito.<ConnectionCallback<Boolean>>any())).thenReturn(true);
+        PgCopyLoader loader = new PgCopyLoader(jdbcTemplate,
+            Boolean.parseBoolean(shipped.getProperty("collection.copy-load.enabled")),
+            intProperty(shipped, "collection.copy-load.min-rows"));
+        IngestionTransactions transactions = new IngestionTransactions(Mockito.mock(PlatformTransactionManager.class),
+            intProperty(shipped, "collection.transaction.commit-size"), 30);
+        // PoliceApiSyncService처럼 100건짜리 페이지를 커밋 묶음으로 모으고, 변환에서 10%가 걸러진 경우
+        List<List<Integer>> chunks = transactions.chunks(Collections.nCopies(20, 100), size -> size);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            for (List<Integer> chunk : chunks) {
+                int rows = chunk.stream().mapToInt(Integer::intValue).sum() * 9 / 10;
+                assertTrue(loader.accepts(rows), "sync chunk of " + rows + " rows");
+            }
+            assertTrue(loader.accepts(intProperty(shipped, "collection.dead-letter.reprocess-batch-size") * 9 / 10));
+            // 페이지 하나씩 쓰는 파이프라인 경로는 기존 배치 업서트
+            assertFalse(loader.accepts(100));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private static int intProperty(Properties properties, String key) {
+        return Integer.parseInt(properties.getProperty(key).trim());
+    }
+}
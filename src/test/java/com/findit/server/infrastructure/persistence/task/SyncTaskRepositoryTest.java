@@ -0,0 +1,54 @@
+package com.findit.server.infrastructure.persistence.task;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncTaskRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-08T03:00:00Z");
+    private static final SyncTask TASK =
+        new SyncTask(7, "batch-1", PoliceApiEndpoint.LOST_ITEMS, "20240501", "20240501", 1, 0, 1);
+    private static final List<SyncTask> REMAINING =
+        List.of(new SyncTask(0, "batch-1", PoliceApiEndpoint.LOST_ITEMS, "20240501", "20240501", 3, 4, 0));
+
+    private JdbcTemplate jdbcTemplate;
+    private SyncTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        repository = new SyncTaskRepository(jdbcTemplate);
+    }
+
+    @Test
+    void completeEnqueuesRemainingPagesWhenStillOwned() {
+        when(jdbcTemplate.update(contains("SET status = 'DONE'"), any(Object[].class))).thenReturn(1);
+
+        assertTrue(repository.complete(TASK, "node-a", 200, REMAINING, NOW));
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO sync_tasks"), eq(REMAINING), anyInt(), any());
+    }
+
+    @Test
+    void completeSkipsRemainingPagesWhenTaskWasReclaimed() {
+        when(jdbcTemplate.update(contains("SET status = 'DONE'"), any(Object[].class))).thenReturn(0);
+
+        assertFalse(repository.complete(TASK, "node-a", 200, REMAINING, NOW));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), eq(REMAINING), anyInt(), any());
+    }
+}
@@ -1,10 +1,29 @@
 package com.findit.server.infrastructure.police.client;
 
+import com.findit.server.infrastructure.metrics.IngestionMetrics;
+import com.findit.server.infrastructure.police.decoder.PoliceApiResponseDecoder;
 import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
 import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import com.findit.server.infrastructure.police.journal.PoliceApiJournal;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiCallPriority;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiRateLimiter;
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import com.findit.server.infrastructure.police.resilience.PoliceApiCircuitBreaker;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer.Settings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PoliceApiClientTest {
@@ -15,11 +34,19 @@ class PoliceApiClientTest {
     void disabledClientSkipsRemoteCalls() {
         PoliceApiClient client = new PoliceApiClient(
                 restTemplate,
+                new PoliceApiHttpTransport(HttpClient.newHttpClient(), 1000),
+                new PoliceApiRateLimiter(new SimpleMeterRegistry(), true, 100, 0.2, 5, 0.5, 20, 5, 1000, "Asia/Seoul"),
+                new PoliceApiCircuitBreaker(new SimpleMeterRegistry(), 5, 60000, 8, 1000),
+                new PoliceApiJournal("build/police-journal-test", PoliceApiJournal.Mode.OFF, 1 << 20, false, 6),
+                new PoliceApiRequestCoalescer(new SimpleMeterRegistry(), true, 0),
+                new PoliceApiResponseDecoder(),
+                new IngestionMetrics(new SimpleMeterRegistry()),
                 "http://localhost",
                 "",
                 "/lost",
                 "/found",
-                false
+                false,
+                PoliceApiClient.Transport.REST_TEMPLATE
         );
 
         assertFalse(client.isEnabled());
@@ -33,5 +60,82 @@ class PoliceApiClientTest {
         assertNotNull(foundResponse);
         assertEquals("API_DISABLED", foundResponse.getHeader().getResultCode());
         assertTrue(foundResponse.getItems().isEmpty());
+
+        assertEquals("API_DISABLED", client.fetchLostItemsAsync(1, 1, null, null).join().getHeader().getResultCode());
+        assertEquals("API_DISABLED", client.fetchFoundItemsAsync(1, 1, null, null).join().getHeader().getResultCode());
+    }
+
+    @Test
+    void syncCallerJoiningRejectedAdHocLeaderLeadsItsOwnCall() throws Exception {
+        CountDownLatch adHocAcquiring = new CountDownLatch(1);
+        CountDownLatch releaseAdHoc = new CountDownLatch(1);
+        // AD_HOC 호출은 허가 단계에서 붙잡아 두었다가 거절, 그 외는 바로 허가
+        PoliceApiRateLimiter rateLimiter = new PoliceApiRateLimiter(new SimpleMeterRegistry(), false, 100, 0.2, 5,
+            0.5, 20, 5, 1000, "Asia/Seoul") {
+            @Override
+            public void acquire(PoliceApiCallPriority priority) {
+                if (priority == PoliceApiCallPriority.AD_HOC) {
+                    adHocAcquiring.countDown();
+                    try {
+                        releaseAdHoc.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new PoliceApiThrottledException("rejected", Duration.ZERO);
+                }
+            }
+        };
+        SimpleMeterRegistry coalescingRegistry = new SimpleMeterRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (SyntheticPoliceApiServer server = new SyntheticPoliceApiServer(
+            Settings.defaults().withItemsPerDay(5).withFaults(0, 0, 0), 0)) {
+            server.start();
+            PoliceApiClient client = new PoliceApiClient(
+                    restTemplate,
+                    new PoliceApiHttpTransport(HttpClient.newHttpClient(), 5000),
+                    rateLimiter,
+                    new PoliceApiCircuitBreaker(new SimpleMeterRegistry(), 5, 60000, 8, 1000),
+                    new PoliceApiJournal("build/police-journal-test", PoliceApiJournal.Mode.OFF, 1 << 20, false, 6),
+                    new PoliceApiRequestCoalescer(coalescingRegistry, true, 0),
+                    new PoliceApiResponseDecoder(),
+                    new IngestionMetrics(new SimpleMeterRegistry()),
+                    server.getBaseUrl(),
+                    "test",
+                    SyntheticPoliceApiServer.LOST_ITEMS_PATH,
+                    SyntheticPoliceApiServer.FOUND_ITEMS_PATH,
+                    true,
+                    PoliceApiClient.Transport.HTTP_CLIENT
+            );
+
+            Future<PoliceApiLostItemResponse> adHoc = executor.submit(
+                () -> client.fetchLostItems(1, 10, "20240501", "20240501", PoliceApiCallPriority.AD_HOC));
+            assertTrue(adHocAcquiring.await(5, TimeUnit.SECONDS));
+            Future<PoliceApiLostItemResponse> sync = executor.submit(
+                () -> client.fetchLostItems(1, 10, "20240501", "20240501", PoliceApiCallPriority.SYNC));
+
+            // 같은 페이지이므로 SYNC 호출은 진행 중인 AD_HOC 호출에 합류
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescing(coalescingRegistry, "joined") < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1.0, coalescing(coalescingRegistry, "joined"));
+            releaseAdHoc.countDown();
+
+            // AD_HOC 거절은 SYNC 호출에 넘어가지 않고, SYNC 호출이 자기 허가로 새 호출을 이끎
+            ExecutionException rejected = assertThrows(ExecutionException.class, () -> adHoc.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(PoliceApiThrottledException.class, rejected.getCause());
+            PoliceApiLostItemResponse response = sync.get(5, TimeUnit.SECONDS);
+            assertEquals("00", response.getResultCode());
+            assertEquals(5, response.getItems().size());
+            assertEquals(1.0, coalescing(coalescingRegistry, "leader_throttled"));
+            assertEquals(2.0, coalescing(coalescingRegistry, "leader"));
+        } finally {
+            releaseAdHoc.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static double coalescing(SimpleMeterRegistry registry, String outcome) {
+        return registry.counter("police.api.coalescing.requests", "outcome", outcome).count();
     }
 }
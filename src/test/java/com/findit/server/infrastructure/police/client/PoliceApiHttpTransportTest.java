@@ -0,0 +1,95 @@
+package com.findit.server.infrastructure.police.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiHttpTransportTest {
+
+    private HttpServer server;
+    private PoliceApiHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = gzip("<response>ok</response>");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip".equals(acceptEncoding) ? "gzip" : "identity");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/limited", exchange -> {
+            exchange.getResponseHeaders().add("Retry-After", "2");
+            exchange.sendResponseHeaders(429, -1);
+            exchange.close();
+        });
+        server.createContext("/down", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        transport = new PoliceApiHttpTransport(HttpClient.newHttpClient(), 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void decodesGzipBodyOnBlockingAndAsyncPaths() {
+        assertEquals("<response>ok</response>", transport.get(uri("/gzip"), PoliceApiHttpTransportTest::read));
+        assertEquals("<response>ok</response>", transport.getAsync(uri("/gzip"), PoliceApiHttpTransportTest::read).join());
+    }
+
+    @Test
+    void mapsErrorStatusesToRestClientExceptions() {
+        HttpClientErrorException limited = assertThrows(HttpClientErrorException.TooManyRequests.class,
+            () -> transport.get(uri("/limited"), PoliceApiHttpTransportTest::read));
+        assertEquals("2", limited.getResponseHeaders().getFirst("Retry-After"));
+
+        CompletionException async = assertThrows(CompletionException.class,
+            () -> transport.getAsync(uri("/down"), PoliceApiHttpTransportTest::read).join());
+        assertInstanceOf(HttpServerErrorException.ServiceUnavailable.class, async.getCause());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+
+    private static String read(InputStream body) {
+        try {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
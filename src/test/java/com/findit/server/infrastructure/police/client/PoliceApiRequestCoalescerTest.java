@@ -0,0 +1,156 @@
+package com.findit.server.infrastructure.police.client;
+
+import com.findit.server.infrastructure.police.ratelimit.PoliceApiThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiRequestCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentIdenticalCallsShareOneUpstreamRequest() throws Exception {
+        PoliceApiRequestCoalescer coalescer = new PoliceApiRequestCoalescer(registry, true, 0);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> coalescer.execute("lost|20240501|1", () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return "page-1";
+                }, result -> true)));
+            }
+            waitUntil(() -> registry.counter("police.api.coalescing.requests", "outcome", "joined").count() == 3);
+            CompletableFuture<String> asyncJoiner = coalescer.executeAsync("lost|20240501|1",
+                () -> CompletableFuture.completedFuture("unexpected"), result -> true);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("page-1", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals("page-1", asyncJoiner.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void followersReceiveLeaderFailureAndNextCallRetries() throws Exception {
+        PoliceApiRequestCoalescer coalescer = new PoliceApiRequestCoalescer(registry, true, 0);
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.executeAsync("found|20240501|2", () -> upstream, result -> true);
+        CompletableFuture<String> follower = coalescer.executeAsync("found|20240501|2",
+            () -> CompletableFuture.completedFuture("unexpected"), result -> true);
+        upstream.completeExceptionally(new ResourceAccessException("timeout"));
+
+        assertInstanceOf(ResourceAccessException.class,
+            assertThrows(Exception.class, leader::join).getCause());
+        assertInstanceOf(ResourceAccessException.class,
+            assertThrows(Exception.class, follower::join).getCause());
+        assertEquals("retried", coalescer.execute("found|20240501|2", () -> "retried", result -> true));
+    }
+
+    @Test
+    void followerOfThrottledLeaderLeadsItsOwnCall() {
+        PoliceApiRequestCoalescer coalescer = new PoliceApiRequestCoalescer(registry, true, 0);
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.executeAsync("lost|20240501|1", () -> upstream, result -> true);
+        CompletableFuture<String> follower = coalescer.executeAsync("lost|20240501|1",
+            () -> CompletableFuture.completedFuture("own permit"), result -> true);
+        // 선두 호출자의 우선순위로 받은 허가가 거절됨
+        upstream.completeExceptionally(new PoliceApiThrottledException("rejected", Duration.ZERO));
+
+        assertInstanceOf(PoliceApiThrottledException.class, assertThrows(Exception.class, leader::join).getCause());
+        assertEquals("own permit", follower.join());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void cachesCacheableResultsForTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-05-08T00:00:00Z"));
+        PoliceApiRequestCoalescer coalescer = new PoliceApiRequestCoalescer(registry, true, Duration.ofSeconds(2),
+            clock);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        assertEquals("ok-1", coalescer.execute("key", () -> "ok-" + upstreamCalls.incrementAndGet(), result -> true));
+        assertEquals("ok-1", coalescer.execute("key", () -> "ok-" + upstreamCalls.incrementAndGet(), result -> true));
+        clock.advance(Duration.ofSeconds(2));
+        assertEquals("ok-2", coalescer.execute("key", () -> "ok-" + upstreamCalls.incrementAndGet(), result -> true));
+
+        assertEquals("error-3", coalescer.execute("other", () -> "error-" + upstreamCalls.incrementAndGet(),
+            result -> false));
+        assertEquals("error-4", coalescer.execute("other", () -> "error-" + upstreamCalls.incrementAndGet(),
+            result -> false));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
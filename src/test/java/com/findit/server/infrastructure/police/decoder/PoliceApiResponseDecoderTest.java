@@ -0,0 +1,127 @@
+package com.findit.server.infrastructure.police.decoder;
+
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItemResponse;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiResponseDecoderTest {
+
+    private final PoliceApiResponseDecoder decoder = new PoliceApiResponseDecoder();
+
+    @Test
+    void decodesXmlWithBomAndLeadingWhitespace() {
+        String xml = "\uFEFF  \n<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+            + "<body><items>"
+            + "<item><atcId>F1</atcId><fdPrdtNm>지갑</fdPrdtNm><prdtClNm>지갑 &gt; 남성용</prdtClNm>"
+            + "<fdYmd>2024-05-01</fdYmd><depPlace>강남경찰서</depPlace><fdSn>1</fdSn><unknown><x>1</x></unknown></item>"
+            + "<item><atcId>F2</atcId><fdPrdtNm><![CDATA[휴대폰]]></fdPrdtNm></item>"
+            + "</items><numOfRows>10</numOfRows><pageNo>1</pageNo><totalCount>2</totalCount></body></response>";
+
+        PoliceApiFoundItemResponse response = decoder.decodeFoundItems(stream(xml));
+
+        assertEquals("00", response.getResultCode());
+        assertEquals(2, response.getTotalCount());
+        assertEquals(1, response.getPageNo());
+        assertEquals(10, response.getNumOfRows());
+        assertEquals(2, response.getItems().size());
+        PoliceApiFoundItem first = response.getItems().get(0);
+        assertEquals("F1", first.getAtcId());
+        assertEquals("지갑 > 남성용", first.getPrdtClNm());
+        assertEquals("강남경찰서", first.getDepPlace());
+        assertEquals("휴대폰", response.getItems().get(1).getFdPrdtNm());
+    }
+
+    @Test
+    void decodesJsonArrayAndSingleObjectItems() {
+        String array = "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"OK\"},"
+            + "\"body\":{\"items\":{\"item\":[{\"atcId\":\"L1\",\"lstYmd\":\"20240501\",\"rnum\":1},"
+            + "{\"atcId\":\"L2\",\"nested\":{\"a\":[1,2]}}]},\"totalCount\":\"2\",\"pageNo\":1,\"numOfRows\":100}}}";
+        String single = "{\"response\":{\"body\":{\"items\":{\"item\":{\"atcId\":\"L3\"}},\"totalCount\":1}}}";
+
+        PoliceApiLostItemResponse arrayResponse = decoder.decodeLostItems(stream(array));
+        assertEquals("00", arrayResponse.getResultCode());
+        assertEquals(2, arrayResponse.getTotalCount());
+        assertEquals(2, arrayResponse.getItems().size());
+        assertEquals("1", arrayResponse.getItems().get(0).getLostItemRnum());
+        assertEquals("L2", arrayResponse.getItems().get(1).getLostItemId());
+
+        PoliceApiLostItemResponse singleResponse = decoder.decodeLostItems(stream(single));
+        assertNull(singleResponse.getHeader());
+        assertEquals(1, singleResponse.getItems().size());
+        assertEquals("L3", singleResponse.getItems().get(0).getLostItemId());
+    }
+
+    @Test
+    void emptyJsonItemsAndEmptyBodyYieldNoItems() {
+        String emptyItems = "{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"items\":\"\",\"totalCount\":0}}}";
+
+        assertTrue(decoder.decodeLostItems(stream(emptyItems)).getItems().isEmpty());
+        assertTrue(decoder.decodeLostItems(stream("")).getItems().isEmpty());
+        assertTrue(decoder.decodeLostItems(null).getItems().isEmpty());
+    }
+
+    @Test
+    void streamsItemsOneByOne() {
+        String xml = "<response><body><items><item><atcId>F1</atcId></item><item><atcId>F2</atcId></item>"
+            + "</items><totalCount>2</totalCount></body></response>";
+        List<String> ids = new ArrayList<>();
+
+        PoliceApiPageMeta meta = decoder.streamFoundItems(stream(xml), item -> ids.add(item.getAtcId()));
+
+        assertEquals(List.of("F1", "F2"), ids);
+        assertEquals(2, meta.totalCount());
+    }
+
+    @Test
+    void serviceErrorEnvelopeIsReportedAsHeader() {
+        String xml = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>"
+            + "<returnAuthMsg>LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR</returnAuthMsg>"
+            + "<returnReasonCode>22</returnReasonCode></cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+        PoliceApiLostItemResponse response = decoder.decodeLostItems(stream(xml));
+
+        assertEquals("22", response.getResultCode());
+        assertTrue(response.getItems().isEmpty());
+    }
+
+    @Test
+    void nonXmlOrJsonBodyIsRejected() {
+        assertThrows(PoliceApiDecodingException.class, () -> decoder.decodeFoundItems(stream("SERVICE ERROR")));
+        assertThrows(PoliceApiDecodingException.class, () -> decoder.decodeFoundItems(stream("<response><body>")));
+    }
+
+    @Test
+    void lowCardinalityFieldsShareOneInstanceAcrossItems() {
+        String json = "{\"response\":{\"body\":{\"items\":{\"item\":["
+            + "{\"atcId\":\"F1\",\"fdPrdtNm\":\"지갑\",\"prdtClNm\":\"지갑 > 남성용\",\"depPlace\":\"강남경찰서\",\"clrNm\":\"검정\","
+            + "\"fdYmd\":\"2024-05-07\",\"addr\":\"서울 강남구\"},"
+            + "{\"atcId\":\"F2\",\"fdPrdtNm\":\"지갑\",\"prdtClNm\":\"지갑 > 남성용\",\"depPlace\":\"강남경찰서\",\"clrNm\":\"검정\","
+            + "\"fdYmd\":\"2024-05-07\",\"addr\":\"서울 강남구\"}"
+            + "]}}}}";
+
+        List<PoliceApiFoundItem> items = decoder.decodeFoundItems(stream(json)).getItems();
+        List<PoliceApiFoundItem> again = decoder.decodeFoundItems(stream(json)).getItems();
+
+        assertSame(items.get(0).getPrdtClNm(), items.get(1).getPrdtClNm());
+        assertSame(items.get(0).getDepPlace(), again.get(1).getDepPlace());
+        assertSame(items.get(0).getClrNm(), again.get(0).getClrNm());
+        // 물품명은 자유 텍스트, 일자·주소는 값이 계속 늘어나므로 정규화하지 않음
+        assertNotSame(items.get(0).getFdPrdtNm(), items.get(1).getFdPrdtNm());
+        assertNotSame(items.get(0).getFdYmd(), items.get(1).getFdYmd());
+        assertNotSame(items.get(0).getAddr(), items.get(1).getAddr());
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
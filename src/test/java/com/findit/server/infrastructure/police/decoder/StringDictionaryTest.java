@@ -0,0 +1,67 @@
+package com.findit.server.infrastructure.police.decoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringDictionaryTest {
+
+    @Test
+    void returnsFirstInstanceForEqualStrings() {
+        StringDictionary dictionary = new StringDictionary(10, 64);
+        String first = new String("강남경찰서");
+        String second = new String("강남경찰서");
+
+        assertSame(first, dictionary.canonicalize(first));
+        assertSame(first, dictionary.canonicalize(second));
+        assertNull(dictionary.canonicalize(null));
+        assertEquals(1, dictionary.size());
+        assertEquals(1, dictionary.hits());
+        assertEquals(1, dictionary.misses());
+    }
+
+    @Test
+    void stopsAdmittingWhenFullAndSkipsLongValues() {
+        StringDictionary dictionary = new StringDictionary(2, 5);
+        dictionary.canonicalize("검정");
+        dictionary.canonicalize("흰색");
+        String overflow = new String("빨강");
+        String known = new String("검정");
+
+        assertSame(overflow, dictionary.canonicalize(overflow));
+        assertNotSame(known, dictionary.canonicalize(known));
+        assertEquals(2, dictionary.size());
+
+        String longValue = "서울특별시 강남구";
+        assertSame(longValue, dictionary.canonicalize(longValue));
+        assertEquals(2, dictionary.skipped());
+    }
+
+    @Test
+    void zeroEntriesDisablesCanonicalization() {
+        StringDictionary dictionary = new StringDictionary(0, 64);
+        String value = new String("지갑");
+
+        assertSame(value, dictionary.canonicalize(value));
+        assertSame(value, dictionary.canonicalize(value));
+        assertEquals(0, dictionary.size());
+        assertEquals(2, dictionary.skipped());
+    }
+
+    @Test
+    void exposesLookupCountersAndSize() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        StringDictionary dictionary = new StringDictionary(registry, 10, 64);
+        dictionary.canonicalize("지갑");
+        dictionary.canonicalize(new String("지갑"));
+        dictionary.canonicalize(new String("지갑"));
+
+        assertEquals(2.0, registry.get("police.api.string_dictionary.lookups").tag("result", "hit")
+            .functionCounter().count());
+        assertEquals(1.0, registry.get("police.api.string_dictionary.lookups").tag("result", "miss")
+            .functionCounter().count());
+        assertEquals(1.0, registry.get("police.api.string_dictionary.size").gauge().value());
+    }
+}
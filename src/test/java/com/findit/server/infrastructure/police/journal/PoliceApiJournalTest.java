@@ -0,0 +1,93 @@
+package com.findit.server.infrastructure.police.journal;
+
+import com.findit.server.infrastructure.police.client.PoliceApiEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsAndReplaysAcrossSegmentsWithMemoryMappedReads() {
+        PoliceApiJournal recorder = journal(PoliceApiJournal.Mode.RECORD);
+        for (int page = 1; page <= 20; page++) {
+            recorder.append(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", page), body(page));
+        }
+        recorder.append(key(PoliceApiEndpoint.FOUND_ITEMS, "20240502", 1), body(99));
+        recorder.append(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 3), body(333));
+        recorder.close();
+
+        PoliceApiJournal replay = journal(PoliceApiJournal.Mode.REPLAY);
+        assertTrue(segmentCount() > 1);
+        assertEquals(21, replay.size());
+        assertArrayEquals(body(7), replay.read(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 7)).orElseThrow());
+        assertArrayEquals(body(333), replay.read(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 3)).orElseThrow());
+        assertTrue(replay.read(key(PoliceApiEndpoint.LOST_ITEMS, "20240503", 1)).isEmpty());
+        assertEquals(List.of(new PoliceApiJournalKey.Range("20240502", "20240502", 100)),
+            replay.recordedRanges(PoliceApiEndpoint.FOUND_ITEMS));
+        replay.close();
+    }
+
+    @Test
+    void truncatesTornTailOnReopen() throws IOException {
+        PoliceApiJournal recorder = journal(PoliceApiJournal.Mode.RECORD);
+        recorder.append(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 1), body(1));
+        recorder.append(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 2), body(2));
+        recorder.close();
+
+        Path segment = lastSegment();
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        PoliceApiJournal reopened = journal(PoliceApiJournal.Mode.RECORD);
+        assertEquals(1, reopened.size());
+        reopened.append(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 2), body(22));
+        assertArrayEquals(body(22), reopened.read(key(PoliceApiEndpoint.LOST_ITEMS, "20240501", 2)).orElseThrow());
+        reopened.close();
+    }
+
+    private PoliceApiJournal journal(PoliceApiJournal.Mode mode) {
+        return new PoliceApiJournal(directory.toString(), mode, 2048, true, 6);
+    }
+
+    private static PoliceApiJournalKey key(PoliceApiEndpoint endpoint, String ymd, int page) {
+        return new PoliceApiJournalKey(endpoint, ymd, ymd, page, 100);
+    }
+
+    private static byte[] body(int seed) {
+        StringBuilder xml = new StringBuilder("<response><body><items>");
+        for (int i = 0; i < 20; i++) {
+            xml.append("<item><atcId>F").append(seed).append('-').append(i).append("</atcId><fdPrdtNm>지갑</fdPrdtNm></item>");
+        }
+        return xml.append("</items></body></response>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long segmentCount() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+    }
+}
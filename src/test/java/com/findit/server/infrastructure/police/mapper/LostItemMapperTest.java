@@ -0,0 +1,35 @@
+package com.findit.server.infrastructure.police.mapper;
+
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LostItemMapperTest {
+
+    private final LostItemMapper mapper = new LostItemMapper();
+
+    @Test
+    void acceptsBasicAndIsoLostDates() {
+        assertEquals("20240501", mapper.map(lostItem(" 20240501 ")).getLstYmd());
+        assertEquals("20240501", mapper.map(lostItem("2024-05-01")).getLstYmd());
+    }
+
+    @Test
+    void rejectsOtherLostDateFormats() {
+        // 분실 일자는 습득 일자와 달리 yyyyMMdd, yyyy-MM-dd만 받음
+        for (String raw : new String[] {"2024.5.1", "2024/05/01", "2024-5-1", "202405", "20240431"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> mapper.map(lostItem(raw)));
+            assertEquals("지원하지 않는 분실 일자 형식입니다: " + raw, e.getMessage());
+        }
+    }
+
+    private static PoliceApiLostItem lostItem(String lostDate) {
+        PoliceApiLostItem item = new PoliceApiLostItem();
+        item.setLostItemId("L1");
+        item.setLostItemCategory("전자기기");
+        item.setLostPlace("서울");
+        item.setLostDate(lostDate);
+        return item;
+    }
+}
@@ -0,0 +1,119 @@
+package com.findit.server.infrastructure.police.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiRateLimiterTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-01T03:00:00Z"));
+
+    @Test
+    void reservesPartOfDailyQuotaForSync() {
+        PoliceApiRateLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire(PoliceApiCallPriority.AD_HOC);
+        }
+        assertThrows(PoliceApiThrottledException.class, () -> limiter.acquire(PoliceApiCallPriority.HEALTH_CHECK));
+
+        limiter.acquire(PoliceApiCallPriority.SYNC);
+        limiter.acquire(PoliceApiCallPriority.SYNC);
+        assertEquals(0, limiter.remainingToday());
+        assertThrows(PoliceApiThrottledException.class, () -> limiter.acquire(PoliceApiCallPriority.SYNC));
+    }
+
+    @Test
+    void backfillWaitsForTokensButLeavesSyncReserve() {
+        PoliceApiRateLimiter limiter = new PoliceApiRateLimiter(new SimpleMeterRegistry(), true, 10, 0.2, 50, 1, 50, 1,
+            Duration.ofSeconds(1), clock);
+
+        // 버스트 1: 두 번째 호출부터는 토큰이 찰 때까지 기다렸다가 통과
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire(PoliceApiCallPriority.BACKFILL);
+        }
+        assertThrows(PoliceApiThrottledException.class, () -> limiter.acquire(PoliceApiCallPriority.BACKFILL));
+        assertEquals(2, limiter.remainingToday());
+    }
+
+    @Test
+    void quotaResetsAtMidnightAndQuotaErrorBlocksRestOfDay() {
+        PoliceApiRateLimiter limiter = limiter(100);
+        limiter.acquire(PoliceApiCallPriority.SYNC);
+
+        limiter.onResultCode("22");
+        PoliceApiThrottledException rejected = assertThrows(PoliceApiThrottledException.class,
+            () -> limiter.acquire(PoliceApiCallPriority.SYNC));
+        assertEquals(Duration.ofHours(12), rejected.getRetryAfter());
+
+        clock.advance(Duration.ofHours(12));
+        limiter.acquire(PoliceApiCallPriority.SYNC);
+        assertEquals(1, limiter.usedToday());
+    }
+
+    @Test
+    void throttlingHalvesRateAndPausesCalls() {
+        PoliceApiRateLimiter limiter = limiter(100);
+        double before = limiter.currentRate();
+
+        limiter.onThrottled(limiter.parseRetryAfter("30"));
+
+        assertEquals(before / 2, limiter.currentRate(), 1e-9);
+        PoliceApiThrottledException rejected = assertThrows(PoliceApiThrottledException.class,
+            () -> limiter.acquire(PoliceApiCallPriority.AD_HOC));
+        assertTrue(rejected.getRetryAfter().toSeconds() > 25);
+
+        limiter.onResultCode("00");
+        assertTrue(limiter.currentRate() > before / 2);
+    }
+
+    @Test
+    void parsesRetryAfterSecondsAndHttpDate() {
+        PoliceApiRateLimiter limiter = limiter(100);
+
+        assertEquals(Duration.ofSeconds(120), limiter.parseRetryAfter("120"));
+        assertEquals(Duration.ofSeconds(90), limiter.parseRetryAfter("Wed, 01 May 2024 03:01:30 GMT"));
+        assertNull(limiter.parseRetryAfter("soon"));
+    }
+
+    private PoliceApiRateLimiter limiter(long dailyQuota) {
+        return new PoliceApiRateLimiter(new SimpleMeterRegistry(), true, dailyQuota, 0.2, 1000, 1, 2000, 100,
+            Duration.ofMillis(100), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
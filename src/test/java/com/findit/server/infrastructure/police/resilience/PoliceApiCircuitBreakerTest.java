@@ -0,0 +1,104 @@
+package com.findit.server.infrastructure.police.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoliceApiCircuitBreakerTest {
+
+    private static final Runnable NO_ADMISSION = () -> { };
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-01T00:00:00Z"));
+    private final PoliceApiCircuitBreaker breaker = new PoliceApiCircuitBreaker(
+        new SimpleMeterRegistry(), 3, Duration.ofSeconds(30), 1, Duration.ZERO, clock);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndClosesAfterSuccessfulProbe() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ResourceAccessException.class, () -> breaker.execute(NO_ADMISSION, this::timeout));
+        }
+        assertEquals(PoliceApiCircuitBreaker.State.OPEN, breaker.getState());
+        PoliceApiUnavailableException rejected = assertThrows(PoliceApiUnavailableException.class,
+            () -> breaker.execute(NO_ADMISSION, () -> "ok"));
+        assertEquals(Duration.ofSeconds(30), rejected.getRetryAfter());
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(PoliceApiCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals("ok", breaker.execute(NO_ADMISSION, () -> "ok"));
+        assertEquals(PoliceApiCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedProbeReopensAndClientErrorsDoNotCount() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(HttpClientErrorException.class, () -> breaker.execute(NO_ADMISSION, () -> {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+            }));
+        }
+        assertEquals(PoliceApiCircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ResourceAccessException.class, () -> breaker.execute(NO_ADMISSION, this::timeout));
+        }
+        clock.advance(Duration.ofSeconds(31));
+        assertThrows(ResourceAccessException.class, () -> breaker.execute(NO_ADMISSION, this::timeout));
+        assertEquals(PoliceApiCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void bulkheadRejectsWhileAsyncCallIsInFlight() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = breaker.executeAsync(NO_ADMISSION, () -> pending);
+
+        assertEquals(1, breaker.getInFlightCalls());
+        assertThrows(PoliceApiUnavailableException.class, () -> breaker.execute(NO_ADMISSION, () -> "second"));
+
+        pending.complete("done");
+        assertEquals("done", first.join());
+        assertEquals(0, breaker.getInFlightCalls());
+        assertEquals("third", breaker.execute(NO_ADMISSION, () -> "third"));
+    }
+
+    private String timeout() {
+        throw new ResourceAccessException("Read timed out");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
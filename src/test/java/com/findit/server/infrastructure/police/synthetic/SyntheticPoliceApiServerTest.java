@@ -0,0 +1,101 @@
+package com.findit.server.infrastructure.police.synthetic;
+
+import com.findit.server.infrastructure.police.client.PoliceApiHttpTransport;
+import com.findit.server.infrastructure.police.decoder.PoliceApiPageMeta;
+import com.findit.server.infrastructure.police.decoder.PoliceApiResponseDecoder;
+import com.findit.server.infrastructure.police.dto.PoliceApiFoundItem;
+import com.findit.server.infrastructure.police.dto.PoliceApiLostItem;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer.Format;
+import com.findit.server.infrastructure.police.synthetic.SyntheticPoliceApiServer.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticPoliceApiServerTest {
+
+    private final PoliceApiResponseDecoder decoder = new PoliceApiResponseDecoder();
+    private final PoliceApiHttpTransport transport = new PoliceApiHttpTransport(HttpClient.newHttpClient(), 5000);
+    private SyntheticPoliceApiServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void servesDeterministicXmlPagesWithBomAndGzip() {
+        server = start(Settings.defaults().withItemsPerDay(30).withBomRatio(1.0).withFaults(0, 0, 0));
+
+        List<PoliceApiFoundItem> first = new ArrayList<>();
+        PoliceApiPageMeta meta = transport.get(uri(SyntheticPoliceApiServer.FOUND_ITEMS_PATH, 2, 25, "20240501", "20240503"),
+            body -> decoder.streamFoundItems(body, first::add));
+        List<PoliceApiFoundItem> again = new ArrayList<>();
+        transport.get(uri(SyntheticPoliceApiServer.FOUND_ITEMS_PATH, 2, 25, "20240501", "20240503"),
+            body -> decoder.streamFoundItems(body, again::add));
+
+        assertEquals("00", meta.resultCode());
+        assertEquals(90, meta.totalCount());
+        assertEquals(2, meta.pageNo());
+        assertEquals(25, first.size());
+        // 26번째 아이템 = 5월 3일(30건) 중 26번째
+        assertEquals("F20240503000026", first.get(0).getAtcId());
+        assertEquals("2024-05-02", first.get(5).getFdYmd());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getAtcId(), again.get(i).getAtcId());
+            assertEquals(first.get(i).getFdPrdtNm(), again.get(i).getFdPrdtNm());
+        }
+    }
+
+    @Test
+    void servesJsonLastPageAndMalformedRecords() {
+        server = start(Settings.defaults().withItemsPerDay(10).withFormat(Format.JSON).withFaults(0, 0, 1.0));
+
+        List<PoliceApiLostItem> items = new ArrayList<>();
+        PoliceApiPageMeta meta = transport.get(uri(SyntheticPoliceApiServer.LOST_ITEMS_PATH, 3, 4, "20240501", "20240501"),
+            body -> decoder.streamLostItems(body, items::add));
+
+        assertEquals(10, meta.totalCount());
+        assertEquals(2, items.size());
+        assertTrue(items.stream().allMatch(item -> item.getLostItemId().isEmpty()
+            || "2024-13-45".equals(item.getLostDate())
+            || item.getLostItemCategory().length() > 300));
+        assertEquals(2, server.getItemsServedCount());
+    }
+
+    @Test
+    void injectsThrottlingAndQuotaExhaustion() {
+        server = start(Settings.defaults().withFaults(1.0, 0, 0));
+        HttpClientErrorException limited = assertThrows(HttpClientErrorException.TooManyRequests.class,
+            () -> transport.get(uri(SyntheticPoliceApiServer.LOST_ITEMS_PATH, 1, 10, "20240501", "20240501"),
+                body -> decoder.streamLostItems(body, item -> { })));
+        assertEquals("1", limited.getResponseHeaders().getFirst("Retry-After"));
+        assertEquals(1, server.getThrottledCount());
+        server.close();
+
+        server = start(Settings.defaults().withDailyQuota(1));
+        URI uri = uri(SyntheticPoliceApiServer.LOST_ITEMS_PATH, 1, 10, "20240501", "20240501");
+        assertEquals("00", transport.get(uri, body -> decoder.streamLostItems(body, item -> { })).resultCode());
+        assertEquals("22", transport.get(uri, body -> decoder.streamLostItems(body, item -> { })).resultCode());
+        assertEquals(1, server.getQuotaExceededCount());
+    }
+
+    private static SyntheticPoliceApiServer start(Settings settings) {
+        SyntheticPoliceApiServer started = new SyntheticPoliceApiServer(settings, 0);
+        started.start();
+        return started;
+    }
+
+    private URI uri(String path, int pageNo, int numOfRows, String startYmd, String endYmd) {
+        return URI.create(server.getBaseUrl() + path + "?serviceKey=test&pageNo=" + pageNo + "&numOfRows=" + numOfRows
+            + "&START_YMD=" + startYmd + "&END_YMD=" + endYmd);
+    }
+}